@@ -0,0 +1,93 @@
+package com.cradlepoint.jsonapiary.benchmarks;
+
+import com.cradlepoint.jsonapiary.JsonApiModule;
+import com.cradlepoint.jsonapiary.benchmarks.pojos.Device;
+import com.cradlepoint.jsonapiary.envelopes.JsonApiEnvelope;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes, and deserializes, documents of 1000 devices (as a list, and as a chain of owners all but one of which
+ * are "included"), normalized per resource. Run with the GC profiler ("-prof gc"): its "gc.alloc.rate.norm" is then
+ * the bytes allocated per resource, the figure the allocation budgets of the library's AllocationBudgetTests gate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(AllocationBenchmarks.RESOURCES)
+public class AllocationBenchmarks {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    static final int RESOURCES = 1000;
+
+    private ObjectMapper objectMapper;
+
+    private JsonApiEnvelope<List<Device>> listEnvelope;
+
+    private JsonApiEnvelope<Device> chainEnvelope;
+
+    private byte[] listJson;
+
+    private byte[] chainJson;
+
+    ///////////
+    // Setup //
+    ///////////
+
+    @Setup
+    public void setup() throws IOException {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JsonApiModule(Device.class));
+
+        List<Device> list = new ArrayList<Device>(RESOURCES);
+        Device[] chain = new Device[RESOURCES];
+        for(int i = 0; i < RESOURCES; i++) {
+            list.add(new Device((long) i));
+            chain[i] = new Device((long) i);
+            if(i > 0) {
+                chain[i - 1].setOwner(chain[i]);
+            }
+        }
+        listEnvelope = new JsonApiEnvelope<List<Device>>(list);
+        chainEnvelope = new JsonApiEnvelope<Device>(chain[0]);
+
+        listJson = objectMapper.writeValueAsBytes(listEnvelope);
+        chainJson = objectMapper.writeValueAsBytes(chainEnvelope);
+    }
+
+    ////////////////
+    // Benchmarks //
+    ////////////////
+
+    @Benchmark
+    public byte[] serializeList() throws IOException {
+        return objectMapper.writeValueAsBytes(listEnvelope);
+    }
+
+    @Benchmark
+    public byte[] serializeIncludedChain() throws IOException {
+        return objectMapper.writeValueAsBytes(chainEnvelope);
+    }
+
+    @Benchmark
+    public JsonApiEnvelope deserializeList() throws IOException {
+        return objectMapper.readValue(listJson, JsonApiEnvelope.class);
+    }
+
+    @Benchmark
+    public JsonApiEnvelope deserializeIncludedChain() throws IOException {
+        return objectMapper.readValue(chainJson, JsonApiEnvelope.class);
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.cradlepoint.jsonapiary.benchmarks;
+
+import com.cradlepoint.jsonapiary.JsonApiModule;
+import com.cradlepoint.jsonapiary.benchmarks.pojos.Device;
+import com.cradlepoint.jsonapiary.benchmarks.pojos.DeviceReport;
+import com.cradlepoint.jsonapiary.envelopes.JsonApiEnvelope;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deserializes a JsonAPI document holding a single resource, or a list of them, with 5 (Device) or 20 (DeviceReport)
+ * attributes, against plain Jackson reading the same POJOs from their plain JSON form: the ratio of the two is the
+ * JsonAPI overhead.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeserializationBenchmarks {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    @Param({ "1", "10000" })
+    private int resources;
+
+    @Param({ "5", "20" })
+    private int attributes;
+
+    private ObjectMapper jsonApiObjectMapper;
+
+    private ObjectMapper jacksonObjectMapper;
+
+    private byte[] jsonApiJson;
+
+    private byte[] jacksonJson;
+
+    private JavaType jacksonType;
+
+    ///////////
+    // Setup //
+    ///////////
+
+    @Setup
+    public void setup() throws IOException {
+        jsonApiObjectMapper = new ObjectMapper();
+        jsonApiObjectMapper.registerModule(new JsonApiModule(Device.class, DeviceReport.class));
+        jacksonObjectMapper = new ObjectMapper();
+
+        // A single resource is the primary data on its own, more than one make up a list //
+        Class<?> type = attributes == 5 ? Device.class : DeviceReport.class;
+        List<Object> list = new ArrayList<Object>(resources);
+        for(long id = 0; id < resources; id++) {
+            list.add(attributes == 5 ? new Device(id) : new DeviceReport(id));
+        }
+        Object data = resources == 1 ? list.get(0) : list;
+        jacksonType = resources == 1 ?
+                jacksonObjectMapper.constructType(type) :
+                jacksonObjectMapper.getTypeFactory().constructCollectionType(List.class, type);
+
+        jsonApiJson = jsonApiObjectMapper.writeValueAsBytes(new JsonApiEnvelope<Object>(data));
+        jacksonJson = jacksonObjectMapper.writeValueAsBytes(data);
+    }
+
+    ////////////////
+    // Benchmarks //
+    ////////////////
+
+    @Benchmark
+    public JsonApiEnvelope jsonApi() throws IOException {
+        return jsonApiObjectMapper.readValue(jsonApiJson, JsonApiEnvelope.class);
+    }
+
+    @Benchmark
+    public Object jackson() throws IOException {
+        return jacksonObjectMapper.readValue(jacksonJson, jacksonType);
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.cradlepoint.jsonapiary.benchmarks;
+
+import com.cradlepoint.jsonapiary.JsonApiModule;
+import com.cradlepoint.jsonapiary.benchmarks.pojos.Device;
+import com.cradlepoint.jsonapiary.benchmarks.pojos.Gateway;
+import com.cradlepoint.jsonapiary.envelopes.JsonApiEnvelope;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes out, and reads back in, resources of a subclass (Gateway) whose JsonAPI members are partly inherited from
+ * its superclass (Device), each owned by the previous one, against plain Jackson doing the same with the same POJOs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HierarchyBenchmarks {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    @Param({ "1", "10000" })
+    private int resources;
+
+    private ObjectMapper jsonApiObjectMapper;
+
+    private ObjectMapper jacksonObjectMapper;
+
+    private Object data;
+
+    private JsonApiEnvelope<Object> envelope;
+
+    private byte[] jsonApiJson;
+
+    private byte[] jacksonJson;
+
+    private JavaType jacksonType;
+
+    ///////////
+    // Setup //
+    ///////////
+
+    @Setup
+    public void setup() throws IOException {
+        jsonApiObjectMapper = new ObjectMapper();
+        jsonApiObjectMapper.registerModule(new JsonApiModule(Device.class, Gateway.class));
+        jacksonObjectMapper = new ObjectMapper();
+
+        // A single resource is the primary data on its own, more than one make up a list //
+        List<Gateway> list = new ArrayList<Gateway>(resources);
+        for(long id = 0; id < resources; id++) {
+            Gateway gateway = new Gateway(id);
+            if(id > 0) {
+                // Owners stay plain Devices, so that the nested plain Jackson form stays flat //
+                gateway.setOwner(new Device(id - 1));
+            }
+            list.add(gateway);
+        }
+        data = resources == 1 ? list.get(0) : list;
+        envelope = new JsonApiEnvelope<Object>(data);
+        jacksonType = resources == 1 ?
+                jacksonObjectMapper.constructType(Gateway.class) :
+                jacksonObjectMapper.getTypeFactory().constructCollectionType(List.class, Gateway.class);
+
+        jsonApiJson = jsonApiObjectMapper.writeValueAsBytes(envelope);
+        jacksonJson = jacksonObjectMapper.writeValueAsBytes(data);
+    }
+
+    ////////////////
+    // Benchmarks //
+    ////////////////
+
+    @Benchmark
+    public byte[] jsonApiWrite() throws IOException {
+        return jsonApiObjectMapper.writeValueAsBytes(envelope);
+    }
+
+    @Benchmark
+    public byte[] jacksonWrite() throws IOException {
+        return jacksonObjectMapper.writeValueAsBytes(data);
+    }
+
+    @Benchmark
+    public JsonApiEnvelope jsonApiRead() throws IOException {
+        return jsonApiObjectMapper.readValue(jsonApiJson, JsonApiEnvelope.class);
+    }
+
+    @Benchmark
+    public Object jacksonRead() throws IOException {
+        return jacksonObjectMapper.readValue(jacksonJson, jacksonType);
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.cradlepoint.jsonapiary.benchmarks;
+
+import com.cradlepoint.jsonapiary.JsonApiModule;
+import com.cradlepoint.jsonapiary.benchmarks.pojos.Account;
+import com.cradlepoint.jsonapiary.benchmarks.pojos.Device;
+import com.cradlepoint.jsonapiary.envelopes.JsonApiEnvelope;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes out, and reads back in, an account relating to "fanOut" devices, each of them the head of a chain of "depth"
+ * devices linked through their owner: every one of the 1 + fanOut * depth resources ends up in the "included" section
+ * (all reachable ones, or those along the "devices.owner.owner..." include path). Plain Jackson writes and reads the
+ * same object graph nested, as the baseline.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IncludeExpansionBenchmarks {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    @Param({ "1", "10", "100" })
+    private int fanOut;
+
+    @Param({ "1", "4", "16" })
+    private int depth;
+
+    private ObjectMapper jsonApiObjectMapper;
+
+    private ObjectWriter includePathWriter;
+
+    private ObjectMapper jacksonObjectMapper;
+
+    private Account account;
+
+    private JsonApiEnvelope<Account> envelope;
+
+    private byte[] jsonApiJson;
+
+    private byte[] jacksonJson;
+
+    ///////////
+    // Setup //
+    ///////////
+
+    @Setup
+    public void setup() throws IOException {
+        jsonApiObjectMapper = new ObjectMapper();
+        jsonApiObjectMapper.registerModule(new JsonApiModule(Account.class, Device.class));
+        jacksonObjectMapper = new ObjectMapper();
+
+        List<Device> devices = new ArrayList<Device>(fanOut);
+        for(int i = 0; i < fanOut; i++) {
+            Device head = new Device((long) i * depth);
+            Device device = head;
+            for(int j = 1; j < depth; j++) {
+                Device owner = new Device((long) i * depth + j);
+                device.setOwner(owner);
+                device = owner;
+            }
+            devices.add(head);
+        }
+        account = new Account(0, devices);
+        envelope = new JsonApiEnvelope<Account>(account);
+
+        StringBuilder includePath = new StringBuilder("devices");
+        for(int j = 1; j < depth; j++) {
+            includePath.append(".owner");
+        }
+        includePathWriter = jsonApiObjectMapper.writer()
+                .withAttribute(JsonApiEnvelope.INCLUDE_ATTRIBUTE, includePath.toString());
+
+        jsonApiJson = jsonApiObjectMapper.writeValueAsBytes(envelope);
+        jacksonJson = jacksonObjectMapper.writeValueAsBytes(account);
+    }
+
+    ////////////////
+    // Benchmarks //
+    ////////////////
+
+    @Benchmark
+    public byte[] jsonApiWrite() throws IOException {
+        return jsonApiObjectMapper.writeValueAsBytes(envelope);
+    }
+
+    @Benchmark
+    public byte[] jsonApiWriteIncludePath() throws IOException {
+        return includePathWriter.writeValueAsBytes(envelope);
+    }
+
+    @Benchmark
+    public byte[] jacksonWrite() throws IOException {
+        return jacksonObjectMapper.writeValueAsBytes(account);
+    }
+
+    @Benchmark
+    public JsonApiEnvelope jsonApiRead() throws IOException {
+        return jsonApiObjectMapper.readValue(jsonApiJson, JsonApiEnvelope.class);
+    }
+
+    @Benchmark
+    public Account jacksonRead() throws IOException {
+        return jacksonObjectMapper.readValue(jacksonJson, Account.class);
+    }
+
+}
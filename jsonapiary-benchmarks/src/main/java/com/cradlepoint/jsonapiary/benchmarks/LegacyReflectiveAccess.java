@@ -0,0 +1,105 @@
+package com.cradlepoint.jsonapiary.benchmarks;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A copy of the pre-descriptor member access path (Field.get(...), then an exception-driven getter/setter search),
+ * kept as the baseline the compiled accessors are measured against.
+ */
+class LegacyReflectiveAccess {
+
+    /////////////////
+    // Constructor //
+    /////////////////
+
+    /**
+     * Private void constructor
+     */
+    private LegacyReflectiveAccess() { }
+
+    ////////////////////
+    // Public Methods //
+    ////////////////////
+
+    public static Object fetchFieldValue(
+            Object object,
+            Field field) {
+        try {
+            return field.get(object);
+        } catch (IllegalAccessException e) {
+            // Noop...
+        }
+
+        Class type = object.getClass();
+        while(type != null) {
+            for(String methodName : generateGetterNames(field)) {
+                try {
+                    Method getter = type.getDeclaredMethod(methodName);
+                    return getter.invoke(object);
+                } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+                    // Noop...
+                }
+            }
+            type = type.getSuperclass();
+        }
+
+        throw new IllegalStateException("Unable to access value for field: " + field.getName());
+    }
+
+    public static void setObjectOnField(
+            Field field,
+            Object fieldValue,
+            Object onto) {
+        try {
+            field.set(onto, fieldValue);
+            return;
+        } catch (IllegalAccessException e) {
+            // Non-public field... look for a setter!
+        }
+
+        List<Method> completeMethods = new ArrayList<Method>();
+        Class type = onto.getClass();
+        while (type != null) {
+            for(Method method : type.getDeclaredMethods()) {
+                completeMethods.add(method);
+            }
+            type = type.getSuperclass();
+        }
+
+        for(Method method : completeMethods) {
+            if(method.getName().equals("set" + field.getName().substring(0, 1).toUpperCase() + field.getName().substring(1))) {
+                try {
+                    method.invoke(onto, fieldValue);
+                    return;
+                } catch(IllegalAccessException | InvocationTargetException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+
+        throw new IllegalStateException("Unable to set value for field: " + field.getName());
+    }
+
+    /////////////////////
+    // Private Methods //
+    /////////////////////
+
+    private static List<String> generateGetterNames(
+            Field field) {
+        List<String> getterNames = new ArrayList<String>();
+
+        String fieldName = field.getName();
+        getterNames.add("get" + fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1));
+
+        if(field.getType() == boolean.class || field.getType() == Boolean.class) {
+            getterNames.add("is" + fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1));
+        }
+
+        return getterNames;
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.cradlepoint.jsonapiary.benchmarks;
+
+import com.cradlepoint.jsonapiary.benchmarks.pojos.Device;
+import com.cradlepoint.jsonapiary.descriptors.MemberDescriptor;
+import com.cradlepoint.jsonapiary.descriptors.ResourceDescriptor;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading/writing every attribute of a resource through the legacy reflective path against the
+ * pre-resolved MethodHandle accessors held by the ResourceDescriptor.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemberAccessBenchmarks {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    private Device device;
+
+    private List<Field> attributeFields;
+
+    private List<MemberDescriptor> attributeMembers;
+
+    ///////////
+    // Setup //
+    ///////////
+
+    @Setup
+    public void setup() {
+        device = new Device(42L);
+
+        attributeMembers = ResourceDescriptor.forType(Device.class).getAttributes();
+        attributeFields = new ArrayList<Field>();
+        for(MemberDescriptor member : attributeMembers) {
+            attributeFields.add(member.getField());
+        }
+    }
+
+    ////////////////
+    // Benchmarks //
+    ////////////////
+
+    @Benchmark
+    public void legacyReflectiveGetters(Blackhole blackhole) {
+        for(Field field : attributeFields) {
+            blackhole.consume(LegacyReflectiveAccess.fetchFieldValue(device, field));
+        }
+    }
+
+    @Benchmark
+    public void descriptorGetters(Blackhole blackhole) {
+        for(MemberDescriptor member : attributeMembers) {
+            blackhole.consume(member.getValue(device));
+        }
+    }
+
+    @Benchmark
+    public Device legacyReflectiveSetters() {
+        for(Field field : attributeFields) {
+            LegacyReflectiveAccess.setObjectOnField(field, LegacyReflectiveAccess.fetchFieldValue(device, field), device);
+        }
+        return device;
+    }
+
+    @Benchmark
+    public Device descriptorSetters() {
+        for(MemberDescriptor member : attributeMembers) {
+            member.setValue(device, member.getValue(device));
+        }
+        return device;
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.cradlepoint.jsonapiary.benchmarks;
+
+import com.cradlepoint.jsonapiary.JsonApiModule;
+import com.cradlepoint.jsonapiary.benchmarks.pojos.Device;
+import com.cradlepoint.jsonapiary.envelopes.JsonApiEnvelope;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deserializes documents whose relationships form a deep (circular) chain of devices, and a wide one where every
+ * device shares the same owner. Every resource is created once and every relationship is linked by (type, id), so the
+ * time per document should grow linearly with the number of devices.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RelationshipResolutionBenchmarks {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    @Param({ "1000", "10000", "100000" })
+    private int devices;
+
+    private ObjectMapper objectMapper;
+
+    private String deepChainJson;
+
+    private String sharedOwnerJson;
+
+    ///////////
+    // Setup //
+    ///////////
+
+    @Setup
+    public void setup() {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JsonApiModule(Device.class));
+
+        // Device 0 is the primary data, every device is owned by the next one and the last by device 0 //
+        StringBuilder deepChain = new StringBuilder("{\"data\":");
+        appendDevice(deepChain, 0, 1);
+        deepChain.append(",\"included\":[");
+        for(int i = 1; i < devices; i++) {
+            if(i > 1) {
+                deepChain.append(',');
+            }
+            appendDevice(deepChain, i, (i + 1) % devices);
+        }
+        deepChainJson = deepChain.append("]}").toString();
+
+        // Every primary device is owned by the one included device //
+        StringBuilder sharedOwner = new StringBuilder("{\"data\":[");
+        for(int i = 1; i < devices; i++) {
+            if(i > 1) {
+                sharedOwner.append(',');
+            }
+            appendDevice(sharedOwner, i, 0);
+        }
+        sharedOwner.append("],\"included\":[");
+        appendDevice(sharedOwner, 0, 0);
+        sharedOwnerJson = sharedOwner.append("]}").toString();
+    }
+
+    ////////////////
+    // Benchmarks //
+    ////////////////
+
+    @Benchmark
+    public JsonApiEnvelope deepChain() throws IOException {
+        return objectMapper.readValue(deepChainJson, JsonApiEnvelope.class);
+    }
+
+    @Benchmark
+    public JsonApiEnvelope sharedOwner() throws IOException {
+        return objectMapper.readValue(sharedOwnerJson, JsonApiEnvelope.class);
+    }
+
+    /////////////////////
+    // Private Methods //
+    /////////////////////
+
+    private static void appendDevice(
+            StringBuilder json,
+            int id,
+            int ownerId) {
+        json.append("{\"type\":\"devices\",\"id\":\"").append(id)
+                .append("\",\"attributes\":{\"name\":\"device-").append(id).append("\",\"online\":true}")
+                .append(",\"relationships\":{\"owner\":{\"data\":{\"type\":\"devices\",\"id\":\"")
+                .append(ownerId).append("\"}}}}");
+    }
+
+}
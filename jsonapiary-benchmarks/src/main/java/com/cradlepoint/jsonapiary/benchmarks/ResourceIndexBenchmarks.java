@@ -0,0 +1,84 @@
+package com.cradlepoint.jsonapiary.benchmarks;
+
+import com.cradlepoint.jsonapiary.benchmarks.pojos.Device;
+import com.cradlepoint.jsonapiary.deserializers.helpers.ResourceIndex;
+import com.cradlepoint.jsonapiary.deserializers.helpers.ResourceKey;
+import com.cradlepoint.jsonapiary.types.ResourceLinkage;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Indexes, and then looks up, the resources of a document with 100k included resources: the legacy
+ * HashMap<ResourceLinkage, Object> (boxed ids, Objects.hash(...)) against the open-addressing ResourceIndex keyed by
+ * primitive specialized ResourceKeys.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResourceIndexBenchmarks {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    private static final int INCLUDED = 100000;
+
+    private Device[] devices;
+
+    ///////////
+    // Setup //
+    ///////////
+
+    @Setup
+    public void setup() {
+        devices = new Device[INCLUDED];
+        for(int i = 0; i < INCLUDED; i++) {
+            devices[i] = new Device((long) i);
+        }
+    }
+
+    ////////////////
+    // Benchmarks //
+    ////////////////
+
+    @Benchmark
+    public void hashMapOfResourceLinkages(Blackhole blackhole) {
+        Map<ResourceLinkage, Object> resources = new HashMap<ResourceLinkage, Object>();
+        for(long id = 0; id < INCLUDED; id++) {
+            resources.put(new ResourceLinkage(id, Device.class), devices[(int) id]);
+        }
+        for(long id = 0; id < INCLUDED; id++) {
+            blackhole.consume(resources.get(new ResourceLinkage(id, Device.class)));
+        }
+    }
+
+    @Benchmark
+    public void resourceIndex(Blackhole blackhole) {
+        ResourceIndex resources = new ResourceIndex();
+        for(long id = 0; id < INCLUDED; id++) {
+            resources.putIfAbsent(ResourceKey.of(Device.class, id), devices[(int) id]);
+        }
+        for(long id = 0; id < INCLUDED; id++) {
+            blackhole.consume(resources.get(ResourceKey.of(Device.class, id)));
+        }
+    }
+
+    @Benchmark
+    public void presizedResourceIndex(Blackhole blackhole) {
+        ResourceIndex resources = new ResourceIndex(INCLUDED);
+        for(long id = 0; id < INCLUDED; id++) {
+            resources.putIfAbsent(ResourceKey.of(Device.class, id), devices[(int) id]);
+        }
+        for(long id = 0; id < INCLUDED; id++) {
+            blackhole.consume(resources.get(ResourceKey.of(Device.class, id)));
+        }
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.cradlepoint.jsonapiary.benchmarks;
+
+import com.cradlepoint.jsonapiary.JsonApiModule;
+import com.cradlepoint.jsonapiary.benchmarks.pojos.Device;
+import com.cradlepoint.jsonapiary.benchmarks.pojos.DeviceReport;
+import com.cradlepoint.jsonapiary.envelopes.JsonApiEnvelope;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes a single resource, and a list of them, with 5 (Device) or 20 (DeviceReport) attributes as a JsonAPI
+ * document, against plain Jackson serializing the very same POJOs: the ratio of the two is the JsonAPI overhead.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmarks {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    @Param({ "1", "10000" })
+    private int resources;
+
+    @Param({ "5", "20" })
+    private int attributes;
+
+    private ObjectMapper jsonApiObjectMapper;
+
+    private ObjectMapper jacksonObjectMapper;
+
+    private Object data;
+
+    private JsonApiEnvelope<Object> envelope;
+
+    ///////////
+    // Setup //
+    ///////////
+
+    @Setup
+    public void setup() {
+        jsonApiObjectMapper = new ObjectMapper();
+        jsonApiObjectMapper.registerModule(new JsonApiModule(Device.class, DeviceReport.class));
+        jacksonObjectMapper = new ObjectMapper();
+
+        // A single resource is the primary data on its own, more than one make up a list //
+        List<Object> list = new ArrayList<Object>(resources);
+        for(long id = 0; id < resources; id++) {
+            list.add(attributes == 5 ? new Device(id) : new DeviceReport(id));
+        }
+        data = resources == 1 ? list.get(0) : list;
+        envelope = new JsonApiEnvelope<Object>(data);
+    }
+
+    ////////////////
+    // Benchmarks //
+    ////////////////
+
+    @Benchmark
+    public byte[] jsonApi() throws IOException {
+        return jsonApiObjectMapper.writeValueAsBytes(envelope);
+    }
+
+    @Benchmark
+    public byte[] jackson() throws IOException {
+        return jacksonObjectMapper.writeValueAsBytes(data);
+    }
+
+}
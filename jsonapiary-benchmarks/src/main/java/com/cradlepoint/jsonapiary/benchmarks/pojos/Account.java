@@ -0,0 +1,70 @@
+package com.cradlepoint.jsonapiary.benchmarks.pojos;
+
+import com.cradlepoint.jsonapiary.annotations.JsonApiAttribute;
+import com.cradlepoint.jsonapiary.annotations.JsonApiId;
+import com.cradlepoint.jsonapiary.annotations.JsonApiRelationship;
+import com.cradlepoint.jsonapiary.annotations.JsonApiType;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+@JsonApiType("accounts")
+public class Account {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    @JsonApiId
+    @JsonProperty("id")
+    private Long id;
+
+    @JsonApiAttribute
+    @JsonProperty("name")
+    private String name;
+
+    @JsonApiRelationship
+    @JsonProperty("devices")
+    private List<Device> devices;
+
+    /////////////////
+    // Constructor //
+    /////////////////
+
+    public Account() { }
+
+    public Account(long id, List<Device> devices) {
+        this.id = id;
+        this.name = "account-" + id;
+        this.devices = devices;
+    }
+
+    /////////////////////////
+    // Getters and Setters //
+    /////////////////////////
+
+    public Long getId() {
+        return this.id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public List<Device> getDevices() {
+        return this.devices;
+    }
+
+    public void setDevices(List<Device> devices) {
+        this.devices = devices;
+    }
+
+}
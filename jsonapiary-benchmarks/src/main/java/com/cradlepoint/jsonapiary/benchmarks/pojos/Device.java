@@ -0,0 +1,133 @@
+package com.cradlepoint.jsonapiary.benchmarks.pojos;
+
+import com.cradlepoint.jsonapiary.annotations.JsonApiAttribute;
+import com.cradlepoint.jsonapiary.annotations.JsonApiId;
+import com.cradlepoint.jsonapiary.annotations.JsonApiMeta;
+import com.cradlepoint.jsonapiary.annotations.JsonApiRelationship;
+import com.cradlepoint.jsonapiary.annotations.JsonApiType;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+@JsonApiType("devices")
+public class Device {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    @JsonApiId
+    @JsonProperty("id")
+    private Long id;
+
+    @JsonApiAttribute
+    @JsonProperty("name")
+    private String name;
+
+    @JsonApiAttribute
+    @JsonProperty("serial")
+    private String serial;
+
+    @JsonApiAttribute
+    @JsonProperty("firmware")
+    private String firmware;
+
+    @JsonApiAttribute
+    @JsonProperty("online")
+    private Boolean online;
+
+    @JsonApiAttribute
+    @JsonProperty("uptime")
+    private Long uptime;
+
+    @JsonApiMeta
+    @JsonProperty("revision")
+    private Integer revision;
+
+    @JsonApiRelationship
+    @JsonProperty("owner")
+    private Device owner;
+
+    /////////////////
+    // Constructor //
+    /////////////////
+
+    public Device() { }
+
+    public Device(long id) {
+        this.id = id;
+        this.name = "device-" + id;
+        this.serial = "SN" + (1000000 + id);
+        this.firmware = "7.2." + (id % 10);
+        this.online = (id % 2) == 0;
+        this.uptime = id * 3600;
+        this.revision = (int) (id % 7);
+    }
+
+    /////////////////////////
+    // Getters and Setters //
+    /////////////////////////
+
+    public Long getId() {
+        return this.id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getSerial() {
+        return this.serial;
+    }
+
+    public void setSerial(String serial) {
+        this.serial = serial;
+    }
+
+    public String getFirmware() {
+        return this.firmware;
+    }
+
+    public void setFirmware(String firmware) {
+        this.firmware = firmware;
+    }
+
+    public Boolean isOnline() {
+        return this.online;
+    }
+
+    public void setOnline(Boolean online) {
+        this.online = online;
+    }
+
+    public Long getUptime() {
+        return this.uptime;
+    }
+
+    public void setUptime(Long uptime) {
+        this.uptime = uptime;
+    }
+
+    public Integer getRevision() {
+        return this.revision;
+    }
+
+    public void setRevision(Integer revision) {
+        this.revision = revision;
+    }
+
+    public Device getOwner() {
+        return this.owner;
+    }
+
+    public void setOwner(Device owner) {
+        this.owner = owner;
+    }
+
+}
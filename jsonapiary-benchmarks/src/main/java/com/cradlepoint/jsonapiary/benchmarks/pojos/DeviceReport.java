@@ -0,0 +1,301 @@
+package com.cradlepoint.jsonapiary.benchmarks.pojos;
+
+import com.cradlepoint.jsonapiary.annotations.JsonApiAttribute;
+import com.cradlepoint.jsonapiary.annotations.JsonApiId;
+import com.cradlepoint.jsonapiary.annotations.JsonApiType;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+@JsonApiType("reports")
+public class DeviceReport {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    @JsonApiId
+    @JsonProperty("id")
+    private Long id;
+
+    @JsonApiAttribute
+    @JsonProperty("name")
+    private String name;
+
+    @JsonApiAttribute
+    @JsonProperty("serial")
+    private String serial;
+
+    @JsonApiAttribute
+    @JsonProperty("firmware")
+    private String firmware;
+
+    @JsonApiAttribute
+    @JsonProperty("online")
+    private Boolean online;
+
+    @JsonApiAttribute
+    @JsonProperty("uptime")
+    private Long uptime;
+
+    @JsonApiAttribute
+    @JsonProperty("model")
+    private String model;
+
+    @JsonApiAttribute
+    @JsonProperty("macAddress")
+    private String macAddress;
+
+    @JsonApiAttribute
+    @JsonProperty("ipAddress")
+    private String ipAddress;
+
+    @JsonApiAttribute
+    @JsonProperty("carrier")
+    private String carrier;
+
+    @JsonApiAttribute
+    @JsonProperty("signalStrength")
+    private Integer signalStrength;
+
+    @JsonApiAttribute
+    @JsonProperty("temperature")
+    private Double temperature;
+
+    @JsonApiAttribute
+    @JsonProperty("cpuLoad")
+    private Double cpuLoad;
+
+    @JsonApiAttribute
+    @JsonProperty("memoryUsed")
+    private Long memoryUsed;
+
+    @JsonApiAttribute
+    @JsonProperty("memoryTotal")
+    private Long memoryTotal;
+
+    @JsonApiAttribute
+    @JsonProperty("rxBytes")
+    private Long rxBytes;
+
+    @JsonApiAttribute
+    @JsonProperty("txBytes")
+    private Long txBytes;
+
+    @JsonApiAttribute
+    @JsonProperty("location")
+    private String location;
+
+    @JsonApiAttribute
+    @JsonProperty("timezone")
+    private String timezone;
+
+    @JsonApiAttribute
+    @JsonProperty("lastSeen")
+    private Long lastSeen;
+
+    @JsonApiAttribute
+    @JsonProperty("rebootCount")
+    private Integer rebootCount;
+
+    /////////////////
+    // Constructor //
+    /////////////////
+
+    public DeviceReport() { }
+
+    public DeviceReport(long id) {
+        this.id = id;
+        this.name = "device-" + id;
+        this.serial = "SN" + (1000000 + id);
+        this.firmware = "7.2." + (id % 10);
+        this.online = (id % 2) == 0;
+        this.uptime = id * 3600;
+        this.model = "IBR" + (900 + id % 3 * 100);
+        this.macAddress = String.format("00:30:44:%02X:%02X:%02X", (id >> 16) & 0xFF, (id >> 8) & 0xFF, id & 0xFF);
+        this.ipAddress = "10.0." + ((id >> 8) & 0xFF) + "." + (id & 0xFF);
+        this.carrier = (id % 2) == 0 ? "Verizon" : "AT&T";
+        this.signalStrength = (int) (-50 - id % 60);
+        this.temperature = 35.0 + (id % 20) / 2.0;
+        this.cpuLoad = (id % 100) / 100.0;
+        this.memoryUsed = id * 1024;
+        this.memoryTotal = 268435456L;
+        this.rxBytes = id * 1500;
+        this.txBytes = id * 700;
+        this.location = "site-" + (id % 50);
+        this.timezone = "UTC";
+        this.lastSeen = 1500000000000L + id;
+        this.rebootCount = (int) (id % 5);
+    }
+
+    /////////////////////////
+    // Getters and Setters //
+    /////////////////////////
+
+    public Long getId() {
+        return this.id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getSerial() {
+        return this.serial;
+    }
+
+    public void setSerial(String serial) {
+        this.serial = serial;
+    }
+
+    public String getFirmware() {
+        return this.firmware;
+    }
+
+    public void setFirmware(String firmware) {
+        this.firmware = firmware;
+    }
+
+    public Boolean isOnline() {
+        return this.online;
+    }
+
+    public void setOnline(Boolean online) {
+        this.online = online;
+    }
+
+    public Long getUptime() {
+        return this.uptime;
+    }
+
+    public void setUptime(Long uptime) {
+        this.uptime = uptime;
+    }
+
+    public String getModel() {
+        return this.model;
+    }
+
+    public void setModel(String model) {
+        this.model = model;
+    }
+
+    public String getMacAddress() {
+        return this.macAddress;
+    }
+
+    public void setMacAddress(String macAddress) {
+        this.macAddress = macAddress;
+    }
+
+    public String getIpAddress() {
+        return this.ipAddress;
+    }
+
+    public void setIpAddress(String ipAddress) {
+        this.ipAddress = ipAddress;
+    }
+
+    public String getCarrier() {
+        return this.carrier;
+    }
+
+    public void setCarrier(String carrier) {
+        this.carrier = carrier;
+    }
+
+    public Integer getSignalStrength() {
+        return this.signalStrength;
+    }
+
+    public void setSignalStrength(Integer signalStrength) {
+        this.signalStrength = signalStrength;
+    }
+
+    public Double getTemperature() {
+        return this.temperature;
+    }
+
+    public void setTemperature(Double temperature) {
+        this.temperature = temperature;
+    }
+
+    public Double getCpuLoad() {
+        return this.cpuLoad;
+    }
+
+    public void setCpuLoad(Double cpuLoad) {
+        this.cpuLoad = cpuLoad;
+    }
+
+    public Long getMemoryUsed() {
+        return this.memoryUsed;
+    }
+
+    public void setMemoryUsed(Long memoryUsed) {
+        this.memoryUsed = memoryUsed;
+    }
+
+    public Long getMemoryTotal() {
+        return this.memoryTotal;
+    }
+
+    public void setMemoryTotal(Long memoryTotal) {
+        this.memoryTotal = memoryTotal;
+    }
+
+    public Long getRxBytes() {
+        return this.rxBytes;
+    }
+
+    public void setRxBytes(Long rxBytes) {
+        this.rxBytes = rxBytes;
+    }
+
+    public Long getTxBytes() {
+        return this.txBytes;
+    }
+
+    public void setTxBytes(Long txBytes) {
+        this.txBytes = txBytes;
+    }
+
+    public String getLocation() {
+        return this.location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public String getTimezone() {
+        return this.timezone;
+    }
+
+    public void setTimezone(String timezone) {
+        this.timezone = timezone;
+    }
+
+    public Long getLastSeen() {
+        return this.lastSeen;
+    }
+
+    public void setLastSeen(Long lastSeen) {
+        this.lastSeen = lastSeen;
+    }
+
+    public Integer getRebootCount() {
+        return this.rebootCount;
+    }
+
+    public void setRebootCount(Integer rebootCount) {
+        this.rebootCount = rebootCount;
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.cradlepoint.jsonapiary.benchmarks.pojos;
+
+import com.cradlepoint.jsonapiary.annotations.JsonApiAttribute;
+import com.cradlepoint.jsonapiary.annotations.JsonApiType;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+@JsonApiType("gateways")
+public class Gateway extends Device {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    @JsonApiAttribute
+    @JsonProperty("modem")
+    private String modem;
+
+    @JsonApiAttribute
+    @JsonProperty("carrier")
+    private String carrier;
+
+    /////////////////
+    // Constructor //
+    /////////////////
+
+    public Gateway() { }
+
+    public Gateway(long id) {
+        super(id);
+        this.modem = "LP" + (id % 6);
+        this.carrier = (id % 2) == 0 ? "Verizon" : "AT&T";
+    }
+
+    /////////////////////////
+    // Getters and Setters //
+    /////////////////////////
+
+    public String getModem() {
+        return this.modem;
+    }
+
+    public void setModem(String modem) {
+        this.modem = modem;
+    }
+
+    public String getCarrier() {
+        return this.carrier;
+    }
+
+    public void setCarrier(String carrier) {
+        this.carrier = carrier;
+    }
+
+}
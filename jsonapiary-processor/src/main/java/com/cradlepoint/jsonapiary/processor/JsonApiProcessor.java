@@ -0,0 +1,234 @@
+package com.cradlepoint.jsonapiary.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * Generates a JsonApiResourceSerializer/JsonApiResourceDeserializer pair for every @JsonApiType class, plus a
+ * JsonApiGeneratedRegistry (listed in META-INF/services) the JsonApiModule picks up at runtime. Classes the generated
+ * code cannot reach directly (e.g. private members without getters) are reported and left on the reflective path.
+ *
+ * The registry class name defaults to "JsonApiaryGeneratedRegistry" in the package of the first annotated class, and
+ * can be set with the "-Ajsonapiary.registry=com.example.MyRegistry" compiler option.
+ *
+ * Every @JsonApiType class (reflective ones included) is also listed, with its resolved "type" value, in the
+ * META-INF/jsonapiary/types index JsonApiModule.fromTypeIndex() registers from. Two classes with the same "type"
+ * value fail the build.
+ */
+public class JsonApiProcessor extends AbstractProcessor {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    static final String REGISTRY_OPTION = "jsonapiary.registry";
+
+    private static final String DEFAULT_REGISTRY_NAME = "JsonApiaryGeneratedRegistry";
+
+    private static final String REGISTRY_SERVICE = "META-INF/services/com.cradlepoint.jsonapiary.JsonApiGeneratedRegistry";
+
+    private static final String TYPE_INDEX = "META-INF/jsonapiary/types";
+
+    private ResourceModelBuilder resourceModelBuilder;
+
+    private JsonApiSourceWriter sourceWriter;
+
+    private Map<String, ResourceModel> resources;
+
+    // Every @JsonApiType class by its "type" value //
+    private Map<String, TypeElement> indexedTypes;
+
+    private boolean registryWritten;
+
+    ///////////////////////////////
+    // AbstractProcessor Methods //
+    ///////////////////////////////
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnvironment) {
+        super.init(processingEnvironment);
+        resourceModelBuilder = new ResourceModelBuilder(processingEnvironment);
+        sourceWriter = new JsonApiSourceWriter(processingEnvironment.getTypeUtils());
+        resources = new TreeMap<String, ResourceModel>();
+        indexedTypes = new TreeMap<String, TypeElement>();
+        registryWritten = false;
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(ResourceModelBuilder.JSON_API_TYPE);
+    }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        return Collections.singleton(REGISTRY_OPTION);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(
+            Set<? extends TypeElement> annotations,
+            RoundEnvironment roundEnvironment) {
+        TypeElement jsonApiType = processingEnv.getElementUtils().getTypeElement(ResourceModelBuilder.JSON_API_TYPE);
+        if(jsonApiType == null) {
+            // JsonAPIary is not on the compile class path //
+            return false;
+        }
+
+        // Generate the serializer/deserializer pairs //
+        boolean foundNewTypes = false;
+        for(Element element : roundEnvironment.getElementsAnnotatedWith(jsonApiType)) {
+            if(!(element instanceof TypeElement)) {
+                continue;
+            }
+            foundNewTypes = true;
+
+            TypeElement typeElement = (TypeElement) element;
+            indexType(typeElement);
+            try {
+                ResourceModel resource = resourceModelBuilder.build(typeElement);
+                writeSource(
+                        resource.qualify(resource.getSerializerName()),
+                        sourceWriter.generateSerializer(resource),
+                        typeElement);
+                writeSource(
+                        resource.qualify(resource.getDeserializerName()),
+                        sourceWriter.generateDeserializer(resource),
+                        typeElement);
+                resources.put(typeElement.getQualifiedName().toString(), resource);
+            } catch(UnsupportedTypeException e) {
+                String issue = "JsonAPIary will fall back to reflection for " + typeElement.getQualifiedName() +
+                        ": " + e.getMessage();
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, issue, typeElement);
+            }
+        }
+
+        // Write the registry and type index once every @JsonApiType class has been seen (the round after the last) //
+        if(!foundNewTypes && !registryWritten && !indexedTypes.isEmpty()) {
+            registryWritten = true;
+            if(!resources.isEmpty()) {
+                writeRegistry();
+            }
+            writeTypeIndex();
+        } else if(foundNewTypes && registryWritten) {
+            String issue = "Found @JsonApiType classes after the JsonAPIary registry was written; they will not " +
+                    "be registered.";
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, issue);
+        }
+
+        return false;
+    }
+
+    /////////////////////
+    // Private Methods //
+    /////////////////////
+
+    /**
+     * Adds the passed in @JsonApiType class to the type index, reporting an error if another class already has its
+     * "type" value
+     * @param typeElement
+     */
+    private void indexType(TypeElement typeElement) {
+        String typeName = resourceModelBuilder.resolveTypeName(typeElement);
+        TypeElement existingElement = indexedTypes.get(typeName);
+        if(existingElement == null) {
+            indexedTypes.put(typeName, typeElement);
+        } else if(!existingElement.equals(typeElement)) {
+            String issue = "Found two types that generate the same JsonAPI \"type\" value of " + typeName +
+                    " ... those types being: " + existingElement.getQualifiedName() + " and " +
+                    typeElement.getQualifiedName() + " ...! JsonAPIary only supports ONE class per type value.";
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, issue, typeElement);
+        }
+    }
+
+    private void writeRegistry() {
+        List<ResourceModel> resourceList = new ArrayList<ResourceModel>(resources.values());
+        String registryName = processingEnv.getOptions().get(REGISTRY_OPTION);
+        if(registryName == null || registryName.isEmpty()) {
+            registryName = resourceList.get(0).qualify(DEFAULT_REGISTRY_NAME);
+        }
+
+        List<Element> originatingElements = new ArrayList<Element>();
+        for(ResourceModel resource : resourceList) {
+            originatingElements.add(resource.getTypeElement());
+        }
+        Element[] originatingElementArray = originatingElements.toArray(new Element[0]);
+
+        writeSource(registryName, sourceWriter.generateRegistry(registryName, resourceList), originatingElementArray);
+
+        try {
+            FileObject serviceFile = processingEnv.getFiler().createResource(
+                    StandardLocation.CLASS_OUTPUT, "", REGISTRY_SERVICE, originatingElementArray);
+            Writer writer = serviceFile.openWriter();
+            try {
+                writer.write(registryName);
+                writer.write("\n");
+            } finally {
+                writer.close();
+            }
+        } catch(IOException e) {
+            String issue = "Unable to write " + REGISTRY_SERVICE + ": " + e.getMessage();
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, issue);
+        }
+    }
+
+    /**
+     * Writes the type index: one "type value=binary class name" line per @JsonApiType class
+     */
+    private void writeTypeIndex() {
+        Element[] originatingElements = indexedTypes.values().toArray(new Element[0]);
+        try {
+            FileObject indexFile = processingEnv.getFiler().createResource(
+                    StandardLocation.CLASS_OUTPUT, "", TYPE_INDEX, originatingElements);
+            Writer writer = indexFile.openWriter();
+            try {
+                writer.write("# Generated by the jsonapiary-processor\n");
+                for(Map.Entry<String, TypeElement> indexedType : indexedTypes.entrySet()) {
+                    writer.write(indexedType.getKey());
+                    writer.write("=");
+                    writer.write(processingEnv.getElementUtils().getBinaryName(indexedType.getValue()).toString());
+                    writer.write("\n");
+                }
+            } finally {
+                writer.close();
+            }
+        } catch(IOException e) {
+            String issue = "Unable to write " + TYPE_INDEX + ": " + e.getMessage();
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, issue);
+        }
+    }
+
+    private void writeSource(
+            String qualifiedName,
+            String source,
+            Element ... originatingElements) {
+        try {
+            JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(qualifiedName, originatingElements);
+            Writer writer = sourceFile.openWriter();
+            try {
+                writer.write(source);
+            } finally {
+                writer.close();
+            }
+        } catch(IOException e) {
+            String issue = "Unable to write generated JsonAPIary source " + qualifiedName + ": " + e.getMessage();
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, issue);
+        }
+    }
+
+}
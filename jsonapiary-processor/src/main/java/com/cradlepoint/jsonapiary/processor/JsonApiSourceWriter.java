@@ -0,0 +1,487 @@
+package com.cradlepoint.jsonapiary.processor;
+
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+import java.util.List;
+
+/**
+ * Renders the Java source of the generated serializers, deserializers and registry. Generated code only uses fully
+ * qualified names, so it cannot clash with the user's own imports.
+ */
+class JsonApiSourceWriter {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    private static final String HEADER = "// Generated by the jsonapiary-processor. Do not edit!\n";
+
+    private static final String CONTEXT = "com.cradlepoint.jsonapiary.enums.JsonApiObjectContext";
+
+    private static final String DECLARATION = "com.cradlepoint.jsonapiary.descriptors.MemberDeclaration";
+
+    private final Types types;
+
+    /////////////////
+    // Constructor //
+    /////////////////
+
+    /**
+     * Constructor
+     * @param types
+     */
+    JsonApiSourceWriter(Types types) {
+        this.types = types;
+    }
+
+    ////////////////////
+    // Public Methods //
+    ////////////////////
+
+    /**
+     * Generates a serializer calling the getters directly, with every key pre-encoded as a SerializedString
+     * @param resource
+     * @return
+     */
+    public String generateSerializer(ResourceModel resource) {
+        String type = resource.getQualifiedName();
+        StringBuilder source = new StringBuilder(HEADER);
+        appendPackage(source, resource.getPackageName());
+
+        source.append("public final class ").append(resource.getSerializerName())
+                .append(" extends com.cradlepoint.jsonapiary.serializers.JsonApiResourceSerializer<").append(type).append("> {\n\n");
+
+        // Pre-encoded keys //
+        source.append("    private static final com.fasterxml.jackson.core.io.SerializedString TYPE_NAME =\n")
+                .append("            new com.fasterxml.jackson.core.io.SerializedString(").append(literal(resource.getTypeName())).append(");\n");
+        appendKeys(source, "ATTRIBUTE", resource.getAttributes());
+        appendKeys(source, "LINK", resource.getLinks());
+        appendKeys(source, "META", resource.getMetas());
+        appendKeys(source, "RELATIONSHIP", resource.getRelationships());
+        source.append("    private static final com.fasterxml.jackson.core.SerializableString[] NO_KEYS =\n")
+                .append("            new com.fasterxml.jackson.core.SerializableString[0];\n");
+        source.append("\n");
+
+        // Declarations of the attributes and meta, which their Jackson serializers are resolved from //
+        appendDeclarations(source, "ATTRIBUTE", resource.getAttributes());
+        appendDeclarations(source, "META", resource.getMetas());
+        source.append("    private static final ").append(DECLARATION).append("[] NO_DECLARATIONS =\n")
+                .append("            new ").append(DECLARATION).append("[0];\n");
+        source.append("\n");
+
+        source.append("    public ").append(resource.getSerializerName()).append("() {\n")
+                .append("        super(").append(type).append(".class);\n")
+                .append("    }\n\n");
+
+        source.append("    @Override\n")
+                .append("    public com.fasterxml.jackson.core.SerializableString getTypeName() {\n")
+                .append("        return TYPE_NAME;\n")
+                .append("    }\n\n");
+
+        source.append("    @Override\n")
+                .append("    public Object getId(").append(type).append(" resource) {\n")
+                .append("        return ").append(resource.getId().getGetterExpression()).append(";\n")
+                .append("    }\n\n");
+
+        source.append("    @Override\n")
+                .append("    public com.fasterxml.jackson.core.SerializableString[] getMemberKeys(").append(CONTEXT).append(" memberContext) {\n")
+                .append("        switch(memberContext) {\n");
+        appendMemberKeysCase(source, "ATTRIBUTE", resource.getAttributes());
+        appendMemberKeysCase(source, "LINK", resource.getLinks());
+        appendMemberKeysCase(source, "META", resource.getMetas());
+        appendMemberKeysCase(source, "RELATIONSHIP", resource.getRelationships());
+        source.append("            default:\n")
+                .append("                return NO_KEYS;\n")
+                .append("        }\n")
+                .append("    }\n\n");
+
+        source.append("    @Override\n")
+                .append("    public ").append(DECLARATION).append("[] getMemberDeclarations(")
+                .append(CONTEXT).append(" memberContext) {\n")
+                .append("        switch(memberContext) {\n");
+        appendMemberDeclarationsCase(source, "ATTRIBUTE", resource.getAttributes());
+        appendMemberDeclarationsCase(source, "META", resource.getMetas());
+        source.append("            default:\n")
+                .append("                return NO_DECLARATIONS;\n")
+                .append("        }\n")
+                .append("    }\n\n");
+
+        source.append("    @Override\n")
+                .append("    public void serializeMembers(\n")
+                .append("            ").append(type).append(" resource,\n")
+                .append("            ").append(CONTEXT).append(" memberContext,\n")
+                .append("            com.cradlepoint.jsonapiary.serializers.JsonApiMemberWriter memberWriter) throws java.io.IOException {\n")
+                .append("        switch(memberContext) {\n");
+        appendWriteCase(source, "ATTRIBUTE", resource.getAttributes(), true);
+        appendWriteCase(source, "LINK", resource.getLinks(), false);
+        appendWriteCase(source, "META", resource.getMetas(), true);
+        appendWriteCase(source, "RELATIONSHIP", resource.getRelationships(), false);
+        source.append("            default:\n")
+                .append("                break;\n")
+                .append("        }\n")
+                .append("    }\n\n");
+
+        source.append("}\n");
+        return source.toString();
+    }
+
+    /**
+     * Generates a deserializer constructing the type and calling the setters directly, switching on the JsonAPI keys
+     * @param resource
+     * @return
+     */
+    public String generateDeserializer(ResourceModel resource) {
+        String type = resource.getQualifiedName();
+        StringBuilder source = new StringBuilder(HEADER);
+        appendPackage(source, resource.getPackageName());
+
+        source.append("public final class ").append(resource.getDeserializerName())
+                .append(" extends com.cradlepoint.jsonapiary.deserializers.JsonApiResourceDeserializer<").append(type).append("> {\n\n");
+
+        // Generic member types are read through (cached) TypeReferences //
+        appendTypeReferences(source, "ATTRIBUTE", resource.getAttributes());
+        appendTypeReferences(source, "LINK", resource.getLinks());
+        appendTypeReferences(source, "META", resource.getMetas());
+
+        source.append("    public ").append(resource.getDeserializerName()).append("() {\n")
+                .append("        super(").append(type).append(".class);\n")
+                .append("    }\n\n");
+
+        source.append("    @Override\n")
+                .append("    public ").append(type).append(" createInstance() {\n");
+        if(resource.isInstantiable()) {
+            source.append("        return new ").append(type).append("();\n");
+        } else {
+            source.append("        throw new IllegalStateException(")
+                    .append(literal("No public default void constructor found on type: " + type)).append(");\n");
+        }
+        source.append("    }\n\n");
+
+        MemberModel id = resource.getId();
+        source.append("    @Override\n")
+                .append("    public Class<?> getIdType() {\n");
+        if(resource.isIdField()) {
+            source.append("        return ").append(types.erasure(id.getValueType())).append(".class;\n");
+        } else {
+            source.append("        return null;\n");
+        }
+        source.append("    }\n\n");
+
+        source.append("    @Override\n")
+                .append("    public void setId(").append(type).append(" resource, Object id) {\n");
+        if(id.getSetterStatement() != null) {
+            source.append("        ").append(id.generateSetter(cast(id.getValueType(), "id"))).append("\n");
+        } else {
+            source.append("        throw new IllegalStateException(").append(literal("The @JsonApiId field is both " +
+                    "not accessable (not public), AND a \"setter\" Method count not be found on type: " + type)).append(");\n");
+        }
+        source.append("    }\n\n");
+
+        source.append("    @Override\n")
+                .append("    public boolean deserializeMember(\n")
+                .append("            ").append(type).append(" resource,\n")
+                .append("            ").append(CONTEXT).append(" memberContext,\n")
+                .append("            String key,\n")
+                .append("            com.fasterxml.jackson.core.JsonParser jsonParser,\n")
+                .append("            com.fasterxml.jackson.databind.DeserializationContext deserializationContext) throws java.io.IOException {\n")
+                .append("        switch(memberContext) {\n");
+        appendReadCase(source, "ATTRIBUTE", resource.getAttributes());
+        appendReadCase(source, "LINK", resource.getLinks());
+        appendReadCase(source, "META", resource.getMetas());
+        source.append("            default:\n")
+                .append("                return false;\n")
+                .append("        }\n")
+                .append("    }\n\n");
+
+        source.append("    @Override\n")
+                .append("    @SuppressWarnings(\"unchecked\")\n")
+                .append("    public boolean setRelationship(").append(type).append(" resource, String key, Object relationship) {\n")
+                .append("        switch(key) {\n");
+        for(MemberModel member : resource.getRelationships()) {
+            source.append("            case ").append(literal(member.getKey())).append(":\n");
+            if(member.getSetterStatement() == null || member.getValueType().getKind() == TypeKind.ARRAY ||
+                    member.getValueType().getKind().isPrimitive()) {
+                // Out of the generated code's reach: set (or fail) just as the reflective path does //
+                source.append("                setRelationshipReflectively(resource, key, relationship);\n");
+            } else {
+                source.append("                ").append(member.generateSetter(cast(member.getValueType(), "relationship"))).append("\n");
+            }
+            source.append("                return true;\n");
+        }
+        source.append("            default:\n")
+                .append("                return false;\n")
+                .append("        }\n")
+                .append("    }\n\n");
+
+        source.append("}\n");
+        return source.toString();
+    }
+
+    /**
+     * Generates the registry handing every generated serializer/deserializer to the JsonApiModule
+     * @param qualifiedName
+     * @param resources
+     * @return
+     */
+    public String generateRegistry(
+            String qualifiedName,
+            List<ResourceModel> resources) {
+        int lastDot = qualifiedName.lastIndexOf('.');
+        String packageName = lastDot < 0 ? "" : qualifiedName.substring(0, lastDot);
+        String simpleName = qualifiedName.substring(lastDot + 1);
+
+        StringBuilder source = new StringBuilder(HEADER);
+        appendPackage(source, packageName);
+
+        String serializerType = "com.cradlepoint.jsonapiary.serializers.JsonApiResourceSerializer<?>";
+        String deserializerType = "com.cradlepoint.jsonapiary.deserializers.JsonApiResourceDeserializer<?>";
+
+        source.append("public final class ").append(simpleName)
+                .append(" implements com.cradlepoint.jsonapiary.JsonApiGeneratedRegistry {\n\n");
+
+        source.append("    @Override\n")
+                .append("    public java.util.List<").append(serializerType).append("> getSerializers() {\n")
+                .append("        java.util.List<").append(serializerType).append("> serializers =\n")
+                .append("                new java.util.ArrayList<").append(serializerType).append(">(")
+                .append(resources.size()).append(");\n");
+        for(ResourceModel resource : resources) {
+            source.append("        serializers.add(new ").append(resource.qualify(resource.getSerializerName())).append("());\n");
+        }
+        source.append("        return serializers;\n")
+                .append("    }\n\n");
+
+        source.append("    @Override\n")
+                .append("    public java.util.List<").append(deserializerType).append("> getDeserializers() {\n")
+                .append("        java.util.List<").append(deserializerType).append("> deserializers =\n")
+                .append("                new java.util.ArrayList<").append(deserializerType).append(">(")
+                .append(resources.size()).append(");\n");
+        for(ResourceModel resource : resources) {
+            source.append("        deserializers.add(new ").append(resource.qualify(resource.getDeserializerName())).append("());\n");
+        }
+        source.append("        return deserializers;\n")
+                .append("    }\n\n");
+
+        source.append("}\n");
+        return source.toString();
+    }
+
+    /////////////////////
+    // Private Methods //
+    /////////////////////
+
+    private static void appendPackage(
+            StringBuilder source,
+            String packageName) {
+        if(!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+    }
+
+    private static void appendKeys(
+            StringBuilder source,
+            String group,
+            List<MemberModel> members) {
+        for(int i = 0; i < members.size(); i++) {
+            source.append("    private static final com.fasterxml.jackson.core.io.SerializedString ").append(group).append("_").append(i)
+                    .append(" =\n            new com.fasterxml.jackson.core.io.SerializedString(")
+                    .append(literal(members.get(i).getKey())).append(");\n");
+        }
+        if(!members.isEmpty()) {
+            source.append("    private static final com.fasterxml.jackson.core.SerializableString[] ").append(group)
+                    .append("_KEYS = {");
+            for(int i = 0; i < members.size(); i++) {
+                source.append(i == 0 ? " " : ", ").append(group).append("_").append(i);
+            }
+            source.append(" };\n");
+        }
+    }
+
+    private void appendDeclarations(
+            StringBuilder source,
+            String group,
+            List<MemberModel> members) {
+        if(members.isEmpty()) {
+            return;
+        }
+
+        source.append("    private static final ").append(DECLARATION).append("[] ").append(group)
+                .append("_DECLARATIONS = {\n");
+        for(MemberModel member : members) {
+            source.append("            new ").append(DECLARATION).append("(\n")
+                    .append("                    ").append(literal(member.getKey())).append(",\n")
+                    .append("                    ").append(member.getDeclaringClassExpression()).append(",\n")
+                    .append("                    ").append(literal(member.getName())).append(",\n")
+                    .append("                    ").append(member.isField()).append(",\n")
+                    .append("                    ").append(typeExpression(member.getValueType())).append("),\n");
+        }
+        source.append("    };\n");
+    }
+
+    private static void appendMemberDeclarationsCase(
+            StringBuilder source,
+            String group,
+            List<MemberModel> members) {
+        if(!members.isEmpty()) {
+            source.append("            case ").append(group).append(":\n")
+                    .append("                return ").append(group).append("_DECLARATIONS;\n");
+        }
+    }
+
+    private static void appendMemberKeysCase(
+            StringBuilder source,
+            String group,
+            List<MemberModel> members) {
+        if(!members.isEmpty()) {
+            source.append("            case ").append(group).append(":\n")
+                    .append("                return ").append(group).append("_KEYS;\n");
+        }
+    }
+
+    private static void appendWriteCase(
+            StringBuilder source,
+            String group,
+            List<MemberModel> members,
+            boolean declared) {
+        if(members.isEmpty()) {
+            return;
+        }
+
+        source.append("            case ").append(group).append(": {\n");
+        for(int i = 0; i < members.size(); i++) {
+            String key = group + "_" + i;
+            source.append("                if(memberWriter.isSelected(").append(key).append(")) {\n")
+                    .append("                    memberWriter.writeMember(").append(key).append(", ")
+                    .append(members.get(i).getGetterExpression());
+            if(declared) {
+                // Attributes and meta are handed over with their declarations, for their Jackson serializers //
+                source.append(", ").append(group).append("_DECLARATIONS[").append(i).append("]");
+            }
+            source.append(");\n")
+                    .append("                }\n");
+        }
+        source.append("                break;\n")
+                .append("            }\n");
+    }
+
+    private void appendTypeReferences(
+            StringBuilder source,
+            String group,
+            List<MemberModel> members) {
+        for(int i = 0; i < members.size(); i++) {
+            TypeMirror valueType = members.get(i).getValueType();
+            if(isGeneric(valueType)) {
+                source.append("    private static final com.fasterxml.jackson.core.type.TypeReference<").append(valueType)
+                        .append("> ").append(group).append("_TYPE_").append(i).append(" =\n")
+                        .append("            new com.fasterxml.jackson.core.type.TypeReference<").append(valueType)
+                        .append(">() { };\n\n");
+            }
+        }
+    }
+
+    private void appendReadCase(
+            StringBuilder source,
+            String group,
+            List<MemberModel> members) {
+        if(members.isEmpty()) {
+            return;
+        }
+
+        source.append("            case ").append(group).append(":\n")
+                .append("                switch(key) {\n");
+        for(int i = 0; i < members.size(); i++) {
+            MemberModel member = members.get(i);
+            source.append("                    case ").append(literal(member.getKey())).append(": {\n");
+
+            if(member.getSetterStatement() == null) {
+                // Read-only member: consume (and drop) the value //
+                source.append("                        jsonParser.skipChildren();\n");
+            } else {
+                TypeMirror valueType = member.getValueType();
+                String boxedType = boxed(valueType).toString();
+                String typeToken = isGeneric(valueType) ?
+                        group + "_TYPE_" + i : types.erasure(boxed(valueType)) + ".class";
+                source.append("                        ").append(boxedType).append(" value = readMemberValue(")
+                        .append("jsonParser, deserializationContext, ").append(typeToken).append(");\n");
+                if(valueType.getKind().isPrimitive()) {
+                    source.append("                        if(value != null) {\n")
+                            .append("                            ").append(member.generateSetter("value")).append("\n")
+                            .append("                        }\n");
+                } else {
+                    source.append("                        ").append(member.generateSetter("value")).append("\n");
+                }
+            }
+
+            source.append("                        return true;\n")
+                    .append("                    }\n");
+        }
+        source.append("                    default:\n")
+                .append("                        return false;\n")
+                .append("                }\n");
+    }
+
+    /**
+     * The java.lang.reflect.Type of the passed in type: its class literal, or (if it has type arguments) the type
+     * captured by a TypeReference
+     * @param type
+     * @return
+     */
+    private String typeExpression(TypeMirror type) {
+        if(isGeneric(type)) {
+            return "new com.fasterxml.jackson.core.type.TypeReference<" + type + ">() { }.getType()";
+        }
+
+        return types.erasure(type) + ".class";
+    }
+
+    private TypeMirror boxed(TypeMirror type) {
+        if(type.getKind().isPrimitive()) {
+            return types.boxedClass(types.getPrimitiveType(type.getKind())).asType();
+        }
+
+        return type;
+    }
+
+    private String cast(
+            TypeMirror type,
+            String variable) {
+        return "(" + boxed(type) + ") " + variable;
+    }
+
+    private static boolean isGeneric(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED && !((DeclaredType) type).getTypeArguments().isEmpty();
+    }
+
+    private static String literal(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for(char character : value.toCharArray()) {
+            switch(character) {
+                case '"':
+                    literal.append("\\\"");
+                    break;
+                case '\\':
+                    literal.append("\\\\");
+                    break;
+                case '\n':
+                    literal.append("\\n");
+                    break;
+                case '\r':
+                    literal.append("\\r");
+                    break;
+                case '\t':
+                    literal.append("\\t");
+                    break;
+                default:
+                    if(character < 0x20 || character > 0x7e) {
+                        literal.append(String.format("\\u%04x", (int) character));
+                    } else {
+                        literal.append(character);
+                    }
+            }
+        }
+
+        return literal.append("\"").toString();
+    }
+
+}
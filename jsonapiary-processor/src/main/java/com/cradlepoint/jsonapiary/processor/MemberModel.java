@@ -0,0 +1,131 @@
+package com.cradlepoint.jsonapiary.processor;
+
+import javax.lang.model.type.TypeMirror;
+
+class MemberModel {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    private final String key;
+
+    private final TypeMirror valueType;
+
+    private final String declaringClassExpression;
+
+    private final String name;
+
+    private final boolean field;
+
+    private final String getterExpression;
+
+    private final String setterStatement;
+
+    /////////////////
+    // Constructor //
+    /////////////////
+
+    /**
+     * Constructor
+     * @param key
+     * @param valueType
+     * @param declaringClassExpression
+     * @param name
+     * @param field
+     * @param getterExpression
+     * @param setterStatement
+     */
+    MemberModel(
+            String key,
+            TypeMirror valueType,
+            String declaringClassExpression,
+            String name,
+            boolean field,
+            String getterExpression,
+            String setterStatement) {
+        this.key = key;
+        this.valueType = valueType;
+        this.declaringClassExpression = declaringClassExpression;
+        this.name = name;
+        this.field = field;
+        this.getterExpression = getterExpression;
+        this.setterStatement = setterStatement;
+    }
+
+    /////////////////////////
+    // Getters and Setters //
+    /////////////////////////
+
+    /**
+     * Returns the resolved JsonAPI key of the member
+     * @return
+     */
+    public String getKey() {
+        return this.key;
+    }
+
+    /**
+     * Returns the type of the member, as seen from the @JsonApiType class
+     * @return
+     */
+    public TypeMirror getValueType() {
+        return this.valueType;
+    }
+
+    /**
+     * Returns the Java expression evaluating to the Class declaring the member
+     * @return
+     */
+    public String getDeclaringClassExpression() {
+        return this.declaringClassExpression;
+    }
+
+    /**
+     * Returns the name of the backing Field or Method
+     * @return
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Returns whether or not the member is backed by a Field (or else by a getter Method)
+     * @return
+     */
+    public boolean isField() {
+        return this.field;
+    }
+
+    /**
+     * Returns the Java expression reading the member off of a variable named "resource", or null if there is no
+     * accessible getter
+     * @return
+     */
+    public String getGetterExpression() {
+        return this.getterExpression;
+    }
+
+    /**
+     * Returns a String.format(...) pattern of the Java statement setting the member on a variable named "resource",
+     * or null if there is no accessible setter
+     * @return
+     */
+    public String getSetterStatement() {
+        return this.setterStatement;
+    }
+
+    ////////////////////
+    // Public Methods //
+    ////////////////////
+
+    /**
+     * Returns the statement setting the passed in (Java) value expression on the member
+     * @param valueExpression
+     * @return
+     */
+    public String generateSetter(String valueExpression) {
+        return String.format(this.setterStatement, valueExpression);
+    }
+
+}
@@ -0,0 +1,199 @@
+package com.cradlepoint.jsonapiary.processor;
+
+import javax.lang.model.element.TypeElement;
+import java.util.List;
+
+class ResourceModel {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    private final TypeElement typeElement;
+
+    private final String packageName;
+
+    private final String generatedPrefix;
+
+    private final String typeName;
+
+    private final boolean instantiable;
+
+    private final MemberModel id;
+
+    private final boolean idField;
+
+    private final List<MemberModel> attributes;
+
+    private final List<MemberModel> links;
+
+    private final List<MemberModel> metas;
+
+    private final List<MemberModel> relationships;
+
+    /////////////////
+    // Constructor //
+    /////////////////
+
+    /**
+     * Constructor
+     * @param typeElement
+     * @param packageName
+     * @param generatedPrefix
+     * @param typeName
+     * @param instantiable
+     * @param id
+     * @param idField
+     * @param attributes
+     * @param links
+     * @param metas
+     * @param relationships
+     */
+    ResourceModel(
+            TypeElement typeElement,
+            String packageName,
+            String generatedPrefix,
+            String typeName,
+            boolean instantiable,
+            MemberModel id,
+            boolean idField,
+            List<MemberModel> attributes,
+            List<MemberModel> links,
+            List<MemberModel> metas,
+            List<MemberModel> relationships) {
+        this.typeElement = typeElement;
+        this.packageName = packageName;
+        this.generatedPrefix = generatedPrefix;
+        this.typeName = typeName;
+        this.instantiable = instantiable;
+        this.id = id;
+        this.idField = idField;
+        this.attributes = attributes;
+        this.links = links;
+        this.metas = metas;
+        this.relationships = relationships;
+    }
+
+    ////////////////////
+    // Public Methods //
+    ////////////////////
+
+    /**
+     * Returns the canonical name of the @JsonApiType class, as used in generated source
+     * @return
+     */
+    public String getQualifiedName() {
+        return this.typeElement.getQualifiedName().toString();
+    }
+
+    /**
+     * Returns the simple name of the generated serializer
+     * @return
+     */
+    public String getSerializerName() {
+        return this.generatedPrefix + "_JsonApiSerializer";
+    }
+
+    /**
+     * Returns the simple name of the generated deserializer
+     * @return
+     */
+    public String getDeserializerName() {
+        return this.generatedPrefix + "_JsonApiDeserializer";
+    }
+
+    /**
+     * Returns the fully qualified name of a generated class in the package of the @JsonApiType class
+     * @param simpleName
+     * @return
+     */
+    public String qualify(String simpleName) {
+        return this.packageName.isEmpty() ? simpleName : this.packageName + "." + simpleName;
+    }
+
+    /////////////////////////
+    // Getters and Setters //
+    /////////////////////////
+
+    /**
+     * Returns the @JsonApiType class
+     * @return
+     */
+    public TypeElement getTypeElement() {
+        return this.typeElement;
+    }
+
+    /**
+     * Returns the package of the @JsonApiType class (and of the generated code)
+     * @return
+     */
+    public String getPackageName() {
+        return this.packageName;
+    }
+
+    /**
+     * Returns the JsonAPI "type" value
+     * @return
+     */
+    public String getTypeName() {
+        return this.typeName;
+    }
+
+    /**
+     * Returns whether or not the class is concrete and has a public default void constructor
+     * @return
+     */
+    public boolean isInstantiable() {
+        return this.instantiable;
+    }
+
+    /**
+     * Returns the @JsonApiId member
+     * @return
+     */
+    public MemberModel getId() {
+        return this.id;
+    }
+
+    /**
+     * Returns whether or not the @JsonApiId member is a Field; only Field ids are deserialized, as on the reflective
+     * path
+     * @return
+     */
+    public boolean isIdField() {
+        return this.idField;
+    }
+
+    /**
+     * Returns the @JsonApiAttribute members, ordered by key
+     * @return
+     */
+    public List<MemberModel> getAttributes() {
+        return this.attributes;
+    }
+
+    /**
+     * Returns the @JsonApiLink members, ordered by key
+     * @return
+     */
+    public List<MemberModel> getLinks() {
+        return this.links;
+    }
+
+    /**
+     * Returns the @JsonApiMeta members (including the @JsonProperty "catch-all" members), ordered by key
+     * @return
+     */
+    public List<MemberModel> getMetas() {
+        return this.metas;
+    }
+
+    /**
+     * Returns the @JsonApiRelationship members, ordered by key
+     * @return
+     */
+    public List<MemberModel> getRelationships() {
+        return this.relationships;
+    }
+
+}
@@ -0,0 +1,512 @@
+package com.cradlepoint.jsonapiary.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.*;
+
+/**
+ * Analyzes a @JsonApiType class at compile time, mirroring the rules of the runtime ResourceDescriptor (membership,
+ * key resolution, getter/setter resolution), but only accepting members the generated code can reach directly.
+ */
+class ResourceModelBuilder {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    static final String JSON_API_TYPE = "com.cradlepoint.jsonapiary.annotations.JsonApiType";
+    static final String JSON_API_ID = "com.cradlepoint.jsonapiary.annotations.JsonApiId";
+    static final String JSON_API_ATTRIBUTE = "com.cradlepoint.jsonapiary.annotations.JsonApiAttribute";
+    static final String JSON_API_LINK = "com.cradlepoint.jsonapiary.annotations.JsonApiLink";
+    static final String JSON_API_META = "com.cradlepoint.jsonapiary.annotations.JsonApiMeta";
+    static final String JSON_API_RELATIONSHIP = "com.cradlepoint.jsonapiary.annotations.JsonApiRelationship";
+    static final String JSON_API_IGNORE = "com.cradlepoint.jsonapiary.annotations.JsonApiIgnore";
+    static final String JSON_API_PROPERTY = "com.cradlepoint.jsonapiary.annotations.JsonApiProperty";
+    static final String JSON_PROPERTY = "com.fasterxml.jackson.annotation.JsonProperty";
+
+    private static final String CATCH_ALL_JSON_API_OBJECT = JSON_API_META;
+
+    private final Elements elements;
+
+    private final Types types;
+
+    /////////////////
+    // Constructor //
+    /////////////////
+
+    /**
+     * Constructor
+     * @param processingEnvironment
+     */
+    ResourceModelBuilder(ProcessingEnvironment processingEnvironment) {
+        this.elements = processingEnvironment.getElementUtils();
+        this.types = processingEnvironment.getTypeUtils();
+    }
+
+    ////////////////////
+    // Public Methods //
+    ////////////////////
+
+    /**
+     * Builds the model of the passed in @JsonApiType class
+     * @param typeElement
+     * @return
+     * @throws UnsupportedTypeException if code cannot be generated for the class, which then stays on the reflective
+     * path
+     */
+    public ResourceModel build(TypeElement typeElement) throws UnsupportedTypeException {
+        verifyTypeIsReachable(typeElement);
+
+        String packageName = elements.getPackageOf(typeElement).getQualifiedName().toString();
+
+        // Gather the complete (sub-class first) Field and Method hierarchy //
+        List<VariableElement> completeFields = new ArrayList<VariableElement>();
+        List<ExecutableElement> completeMethods = new ArrayList<ExecutableElement>();
+        TypeElement currentType = typeElement;
+        while(currentType != null && !currentType.getQualifiedName().contentEquals(Object.class.getName())) {
+            completeFields.addAll(ElementFilter.fieldsIn(currentType.getEnclosedElements()));
+            completeMethods.addAll(ElementFilter.methodsIn(currentType.getEnclosedElements()));
+            currentType = superclassOf(currentType);
+        }
+
+        // Resolve the id, then every other group of members //
+        Map<String, Element> ids = collectMembers(completeFields, completeMethods, JSON_API_ID);
+        if(ids.size() != 1) {
+            throw new UnsupportedTypeException("exactly one @JsonApiId member is required, found " + ids.size());
+        }
+        String idKey = ids.keySet().iterator().next();
+        Element idElement = ids.get(idKey);
+
+        DeclaredType declaredType = (DeclaredType) typeElement.asType();
+        List<List<MemberModel>> memberGroups = new ArrayList<List<MemberModel>>();
+        for(String annotation : Arrays.asList(JSON_API_ATTRIBUTE, JSON_API_LINK, JSON_API_META, JSON_API_RELATIONSHIP)) {
+            Map<String, Element> members = collectMembers(completeFields, completeMethods, annotation);
+            memberGroups.add(buildMembers(declaredType, packageName, members, annotation));
+        }
+
+        return new ResourceModel(
+                typeElement,
+                packageName,
+                generatedPrefixOf(typeElement),
+                resolveTypeName(typeElement),
+                isInstantiable(typeElement),
+                buildMember(declaredType, packageName, idKey, idElement, JSON_API_ID),
+                idElement.getKind() == ElementKind.FIELD,
+                memberGroups.get(0),
+                memberGroups.get(1),
+                memberGroups.get(2),
+                memberGroups.get(3));
+    }
+
+    /**
+     * Resolves the JsonAPI "type" value of the passed in @JsonApiType class the way the runtime ResourceDescriptor
+     * does: the annotation's value, or the simple class name when it has none
+     * @param typeElement
+     * @return
+     */
+    public String resolveTypeName(TypeElement typeElement) {
+        String value = fetchAnnotationValue(typeElement, JSON_API_TYPE);
+        return (value == null || value.isEmpty()) ? typeElement.getSimpleName().toString() : value;
+    }
+
+    /////////////////////
+    // Private Methods //
+    /////////////////////
+
+    private void verifyTypeIsReachable(TypeElement typeElement) throws UnsupportedTypeException {
+        if(typeElement.getKind() != ElementKind.CLASS) {
+            throw new UnsupportedTypeException("only classes are supported");
+        } else if(!typeElement.getTypeParameters().isEmpty()) {
+            throw new UnsupportedTypeException("generic classes are not supported");
+        }
+
+        Element element = typeElement;
+        while(element.getKind().isClass()) {
+            if(element.getModifiers().contains(Modifier.PRIVATE)) {
+                throw new UnsupportedTypeException("private classes are not reachable from generated code");
+            }
+
+            Element enclosingElement = element.getEnclosingElement();
+            if(enclosingElement.getKind().isClass() && !element.getModifiers().contains(Modifier.STATIC)) {
+                throw new UnsupportedTypeException("inner (non-static nested) classes are not supported");
+            }
+            element = enclosingElement;
+        }
+    }
+
+    private TypeElement superclassOf(TypeElement typeElement) {
+        TypeMirror superclass = typeElement.getSuperclass();
+        if(superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+
+        return (TypeElement) types.asElement(superclass);
+    }
+
+    private String generatedPrefixOf(TypeElement typeElement) {
+        StringBuilder prefix = new StringBuilder(typeElement.getSimpleName());
+        Element enclosingElement = typeElement.getEnclosingElement();
+        while(enclosingElement.getKind().isClass()) {
+            prefix.insert(0, enclosingElement.getSimpleName() + "_");
+            enclosingElement = enclosingElement.getEnclosingElement();
+        }
+
+        return prefix.toString();
+    }
+
+    private boolean isInstantiable(TypeElement typeElement) {
+        if(typeElement.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+
+        for(ExecutableElement constructor : ElementFilter.constructorsIn(typeElement.getEnclosedElements())) {
+            if(constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Collects all of the Fields and Methods that belong to the passed in annotation, ordered by their JsonAPI key.
+     * Fields come before Methods and sub-classes before super-classes, so later duplicates of a key win (as they do at
+     * runtime).
+     * @param completeFields
+     * @param completeMethods
+     * @param annotation
+     * @return
+     */
+    private Map<String, Element> collectMembers(
+            List<VariableElement> completeFields,
+            List<ExecutableElement> completeMethods,
+            String annotation) {
+        Map<String, Element> members = new HashMap<String, Element>();
+
+        for(VariableElement field : completeFields) {
+            if(isMemberOf(field, annotation)) {
+                members.put(fetchKey(field, annotation), field);
+            }
+        }
+
+        for(ExecutableElement method : completeMethods) {
+            if(isMemberOf(method, annotation)) {
+                members.put(fetchKey(method, annotation), method);
+            }
+        }
+
+        return new TreeMap<String, Element>(members);
+    }
+
+    private boolean isMemberOf(
+            Element element,
+            String annotation) {
+        if(element.getModifiers().contains(Modifier.STATIC)) {
+            return false;
+        } else if(isAnnotationPresent(element, annotation)) {
+            // This Field/Method is EXPLICITLY part of the annotation //
+            return true;
+        } else if(isOtherJsonApiAnnotationPresent(element)) {
+            // This Field/Method is explicitly NOT part of the annotation //
+            return false;
+        } else if(isAnnotationPresent(element, JSON_API_IGNORE)) {
+            // This Field/Method is explicitly NOT to be included in the JsonAPI serialization //
+            return false;
+        } else {
+            // This Field/Method is IMPLICITLY part of the annotation, if it is the "catch-all" //
+            return CATCH_ALL_JSON_API_OBJECT.equals(annotation) && isAnnotationPresent(element, JSON_PROPERTY);
+        }
+    }
+
+    private String fetchKey(
+            Element element,
+            String annotation) {
+        // Check to see if there is a JsonAPI annotation with a value //
+        String key = null;
+        if(!JSON_API_ID.equals(annotation)) {
+            key = fetchAnnotationValue(element, annotation);
+        }
+        if(key != null && !key.isEmpty()) {
+            return key;
+        }
+
+        // Check to see if there is a value on a Jackson annotation //
+        key = fetchAnnotationValue(element, JSON_PROPERTY);
+        if(key != null && !key.isEmpty()) {
+            return key;
+        }
+
+        // As a last resort, return the Field/Method name //
+        return element.getSimpleName().toString();
+    }
+
+    private List<MemberModel> buildMembers(
+            DeclaredType declaredType,
+            String packageName,
+            Map<String, Element> members,
+            String annotation) throws UnsupportedTypeException {
+        List<MemberModel> memberModels = new ArrayList<MemberModel>();
+        for(Map.Entry<String, Element> member : members.entrySet()) {
+            memberModels.add(buildMember(declaredType, packageName, member.getKey(), member.getValue(), annotation));
+        }
+
+        return memberModels;
+    }
+
+    private MemberModel buildMember(
+            DeclaredType declaredType,
+            String packageName,
+            String key,
+            Element element,
+            String annotation) throws UnsupportedTypeException {
+        TypeMirror memberType = types.asMemberOf(declaredType, element);
+        String declaringClassExpression = resolveDeclaringClass(declaredType, element, packageName);
+
+        if(element.getKind() == ElementKind.FIELD) {
+            VariableElement field = (VariableElement) element;
+            return new MemberModel(
+                    key,
+                    memberType,
+                    declaringClassExpression,
+                    field.getSimpleName().toString(),
+                    true,
+                    resolveFieldGetter(field, packageName),
+                    resolveFieldSetter(field, packageName, key, annotation));
+        }
+
+        ExecutableElement method = (ExecutableElement) element;
+        ExecutableType methodType = (ExecutableType) memberType;
+        if(!isReachable(method, packageName)) {
+            String reason = "member " + method.getSimpleName() + "() is not reachable from generated code";
+            throw new UnsupportedTypeException(reason);
+        }
+
+        if(method.getParameters().isEmpty() && methodType.getReturnType().getKind() != TypeKind.VOID) {
+            return new MemberModel(
+                    key,
+                    methodType.getReturnType(),
+                    declaringClassExpression,
+                    method.getSimpleName().toString(),
+                    false,
+                    "resource." + method.getSimpleName() + "()",
+                    null);
+        } else if(method.getParameters().size() == 1) {
+            String reason = "member " + method.getSimpleName() + "(...) has no getter to serialize from";
+            throw new UnsupportedTypeException(reason);
+        } else {
+            String reason = "member " + method.getSimpleName() + "(...) is neither a getter nor a setter";
+            throw new UnsupportedTypeException(reason);
+        }
+    }
+
+    /**
+     * The class literal of the class declaring the member, or (if that class is not reachable from generated code) the
+     * @JsonApiType class literal followed by as many getSuperclass() calls as it takes to get to it
+     * @param declaredType
+     * @param element
+     * @param packageName
+     * @return
+     */
+    private String resolveDeclaringClass(
+            DeclaredType declaredType,
+            Element element,
+            String packageName) {
+        TypeElement declaringType = (TypeElement) element.getEnclosingElement();
+        if(isReachable(declaringType, packageName)) {
+            return types.erasure(declaringType.asType()) + ".class";
+        }
+
+        TypeElement currentType = (TypeElement) declaredType.asElement();
+        StringBuilder expression = new StringBuilder(currentType.getQualifiedName()).append(".class");
+        while(!currentType.equals(declaringType)) {
+            expression.append(".getSuperclass()");
+            currentType = superclassOf(currentType);
+        }
+
+        return expression.toString();
+    }
+
+    /**
+     * The public Field itself, then a get{Name}/is{Name} getter, and finally a package-visible Field
+     * @param field
+     * @param packageName
+     * @return
+     * @throws UnsupportedTypeException
+     */
+    private String resolveFieldGetter(
+            VariableElement field,
+            String packageName) throws UnsupportedTypeException {
+        if(field.getModifiers().contains(Modifier.PUBLIC)) {
+            return "resource." + field.getSimpleName();
+        }
+
+        String capitalizedName = capitalize(field.getSimpleName().toString());
+        boolean bool = isBoolean(field.asType());
+        for(ExecutableElement method : hierarchyMethodsOf(field)) {
+            if(!method.getParameters().isEmpty()) {
+                continue;
+            }
+
+            // The obvious/simple getter name, or the bool getter, if applicable //
+            String methodName = method.getSimpleName().toString();
+            if(methodName.equals("get" + capitalizedName) || (bool && methodName.equals("is" + capitalizedName))) {
+                if(isReachable(method, packageName)) {
+                    return "resource." + methodName + "()";
+                }
+                break;
+            }
+        }
+
+        if(isReachable(field, packageName)) {
+            return "resource." + field.getSimpleName();
+        }
+
+        String reason = "field " + field.getSimpleName() + " is private and has no reachable getter";
+        throw new UnsupportedTypeException(reason);
+    }
+
+    /**
+     * The public Field itself, then a "setter" Method, and finally a package-visible Field. Returns null if the member
+     * cannot be set, which only matters when deserializing.
+     * @param field
+     * @param packageName
+     * @param key
+     * @param annotation
+     * @return
+     */
+    private String resolveFieldSetter(
+            VariableElement field,
+            String packageName,
+            String key,
+            String annotation) {
+        if(field.getModifiers().contains(Modifier.FINAL)) {
+            return null;
+        } else if(field.getModifiers().contains(Modifier.PUBLIC)) {
+            return "resource." + field.getSimpleName() + " = %s;";
+        }
+
+        String setterName = "set" + capitalize(field.getSimpleName().toString());
+        for(ExecutableElement method : hierarchyMethodsOf(field)) {
+            if(method.getParameters().size() != 1) {
+                continue;
+            }
+
+            String methodName = method.getSimpleName().toString();
+            if(methodName.equals(setterName) || (methodName.startsWith("set") &&
+                    (isAnnotationPresent(method, annotation) || key.equals(fetchAnnotationValue(method, JSON_PROPERTY))))) {
+                if(isReachable(method, packageName)) {
+                    return "resource." + methodName + "(%s);";
+                }
+                break;
+            }
+        }
+
+        if(isReachable(field, packageName)) {
+            return "resource." + field.getSimpleName() + " = %s;";
+        }
+
+        return null;
+    }
+
+    private List<ExecutableElement> hierarchyMethodsOf(VariableElement field) {
+        List<ExecutableElement> methods = new ArrayList<ExecutableElement>();
+        TypeElement currentType = (TypeElement) field.getEnclosingElement();
+        while(currentType != null) {
+            methods.addAll(ElementFilter.methodsIn(currentType.getEnclosedElements()));
+            currentType = superclassOf(currentType);
+        }
+
+        return methods;
+    }
+
+    /**
+     * Generated code lives in the package of the @JsonApiType class, so it can reach public members, and any
+     * non-private member declared in that same package.
+     * @param element
+     * @param packageName
+     * @return
+     */
+    private boolean isReachable(
+            Element element,
+            String packageName) {
+        if(element.getModifiers().contains(Modifier.PUBLIC)) {
+            return true;
+        } else if(element.getModifiers().contains(Modifier.PRIVATE)) {
+            return false;
+        }
+
+        return elements.getPackageOf(element).getQualifiedName().contentEquals(packageName);
+    }
+
+    private boolean isBoolean(TypeMirror type) {
+        return type.getKind() == TypeKind.BOOLEAN || (type.getKind() == TypeKind.DECLARED &&
+                ((TypeElement) types.asElement(type)).getQualifiedName().contentEquals(Boolean.class.getName()));
+    }
+
+    private static String capitalize(String name) {
+        return name.substring(0, 1).toUpperCase() + name.substring(1);
+    }
+
+    private static boolean isAnnotationPresent(
+            Element element,
+            String annotation) {
+        return fetchAnnotationMirror(element, annotation) != null;
+    }
+
+    private static boolean isOtherJsonApiAnnotationPresent(Element element) {
+        for(AnnotationMirror annotationMirror : element.getAnnotationMirrors()) {
+            Element annotationType = annotationMirror.getAnnotationType().asElement();
+            if(isAnnotationPresent(annotationType, JSON_API_PROPERTY)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static AnnotationMirror fetchAnnotationMirror(
+            Element element,
+            String annotation) {
+        for(AnnotationMirror annotationMirror : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotationMirror.getAnnotationType().asElement();
+            if(annotationType.getQualifiedName().contentEquals(annotation)) {
+                return annotationMirror;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the (String) "value" of the annotation on the element, null if the annotation is absent and "" if the
+     * value was left at its default
+     * @param element
+     * @param annotation
+     * @return
+     */
+    private static String fetchAnnotationValue(
+            Element element,
+            String annotation) {
+        AnnotationMirror annotationMirror = fetchAnnotationMirror(element, annotation);
+        if(annotationMirror == null) {
+            return null;
+        }
+
+        for(Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value :
+                annotationMirror.getElementValues().entrySet()) {
+            if(value.getKey().getSimpleName().contentEquals("value")) {
+                return String.valueOf(value.getValue().getValue());
+            }
+        }
+
+        return "";
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.cradlepoint.jsonapiary.processor;
+
+/**
+ * Thrown when no code can be generated for a @JsonApiType class; the class then stays on the reflective path
+ */
+class UnsupportedTypeException extends Exception {
+
+    /////////////////
+    // Constructor //
+    /////////////////
+
+    /**
+     * Constructor
+     * @param reason
+     */
+    UnsupportedTypeException(String reason) {
+        super(reason);
+    }
+
+}
@@ -0,0 +1,557 @@
+package test.com.cradlepoint.jsonapiary.processor;
+
+import com.cradlepoint.jsonapiary.JsonApiModule;
+import com.cradlepoint.jsonapiary.envelopes.JsonApiEnvelope;
+import com.cradlepoint.jsonapiary.processor.JsonApiProcessor;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.tools.*;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+public class JsonApiProcessorTests {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    private static final String GADGET_SOURCE =
+            "package test.gadgets;\n" +
+            "\n" +
+            "import com.cradlepoint.jsonapiary.annotations.*;\n" +
+            "import com.fasterxml.jackson.annotation.JsonProperty;\n" +
+            "import java.util.List;\n" +
+            "\n" +
+            "@JsonApiType(\"gadgets\")\n" +
+            "public class Gadget {\n" +
+            "    @JsonApiId\n" +
+            "    private Long id;\n" +
+            "    @JsonApiAttribute(\"name\")\n" +
+            "    private String gadgetName;\n" +
+            "    @JsonApiAttribute\n" +
+            "    private int count;\n" +
+            "    @JsonApiAttribute\n" +
+            "    private List<String> tags;\n" +
+            "    @JsonApiAttribute\n" +
+            "    boolean enabled;\n" +
+            "    @JsonApiRelationship\n" +
+            "    private Gadget parent;\n" +
+            "    @JsonApiRelationship\n" +
+            "    private List<Gadget> children;\n" +
+            "\n" +
+            "    public Long getId() { return id; }\n" +
+            "    public void setId(Long id) { this.id = id; }\n" +
+            "    public String getGadgetName() { return gadgetName; }\n" +
+            "    public void setGadgetName(String gadgetName) { this.gadgetName = gadgetName; }\n" +
+            "    public int getCount() { return count; }\n" +
+            "    public void setCount(int count) { this.count = count; }\n" +
+            "    public List<String> getTags() { return tags; }\n" +
+            "    public void setTags(List<String> tags) { this.tags = tags; }\n" +
+            "    public Gadget getParent() { return parent; }\n" +
+            "    public void setParent(Gadget parent) { this.parent = parent; }\n" +
+            "    public List<Gadget> getChildren() { return children; }\n" +
+            "    public void setChildren(List<Gadget> children) { this.children = children; }\n" +
+            "\n" +
+            "    @JsonApiMeta(\"version\")\n" +
+            "    public String version() { return \"v1\"; }\n" +
+            "\n" +
+            "    @JsonProperty(\"catchAll\")\n" +
+            "    public String catchAll() { return \"caught\"; }\n" +
+            "}\n";
+
+    private static final String FORMATTED_SOURCE =
+            "package test.gadgets;\n" +
+            "\n" +
+            "import com.cradlepoint.jsonapiary.annotations.*;\n" +
+            "import com.fasterxml.jackson.annotation.JsonFormat;\n" +
+            "import com.fasterxml.jackson.databind.annotation.JsonSerialize;\n" +
+            "import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;\n" +
+            "import java.util.Date;\n" +
+            "\n" +
+            "@JsonApiType(\"formatted\")\n" +
+            "public class Formatted {\n" +
+            "    @JsonApiId\n" +
+            "    private Long id;\n" +
+            "    @JsonApiAttribute\n" +
+            "    @JsonSerialize(using = ToStringSerializer.class)\n" +
+            "    private Long serial;\n" +
+            "    @JsonApiAttribute\n" +
+            "    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = \"yyyy-MM-dd\", timezone = \"UTC\")\n" +
+            "    private Date created;\n" +
+            "    @JsonApiMeta\n" +
+            "    @JsonSerialize(using = ToStringSerializer.class)\n" +
+            "    private Long revision;\n" +
+            "\n" +
+            "    public Long getId() { return id; }\n" +
+            "    public void setId(Long id) { this.id = id; }\n" +
+            "    public Long getSerial() { return serial; }\n" +
+            "    public void setSerial(Long serial) { this.serial = serial; }\n" +
+            "    public Date getCreated() { return created; }\n" +
+            "    public void setCreated(Date created) { this.created = created; }\n" +
+            "    public Long getRevision() { return revision; }\n" +
+            "    public void setRevision(Long revision) { this.revision = revision; }\n" +
+            "}\n";
+
+    private static final String READ_ONLY_SOURCE =
+            "package test.gadgets;\n" +
+            "\n" +
+            "import com.cradlepoint.jsonapiary.annotations.*;\n" +
+            "\n" +
+            "@JsonApiType(\"readOnly\")\n" +
+            "public class ReadOnly {\n" +
+            "    @JsonApiId\n" +
+            "    public Long id;\n" +
+            "    @JsonApiRelationship\n" +
+            "    private ReadOnly parent;\n" +
+            "    @JsonApiRelationship\n" +
+            "    private final ReadOnly origin = null;\n" +
+            "\n" +
+            "    public ReadOnly getParent() { return parent; }\n" +
+            "    public ReadOnly getOrigin() { return origin; }\n" +
+            "}\n";
+
+    private static final String INHERITED_SOURCE =
+            "package test.gadgets;\n" +
+            "\n" +
+            "import com.cradlepoint.jsonapiary.annotations.*;\n" +
+            "import com.fasterxml.jackson.annotation.JsonFormat;\n" +
+            "import java.util.Date;\n" +
+            "\n" +
+            "public class Inherited {\n" +
+            "    private static class Stamped {\n" +
+            "        @JsonApiAttribute\n" +
+            "        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = \"yyyy-MM-dd\", timezone = \"UTC\")\n" +
+            "        private Date stamp;\n" +
+            "\n" +
+            "        public Date getStamp() { return stamp; }\n" +
+            "        public void setStamp(Date stamp) { this.stamp = stamp; }\n" +
+            "    }\n" +
+            "\n" +
+            "    @JsonApiType(\"logs\")\n" +
+            "    public static class Log extends Stamped {\n" +
+            "        @JsonApiId\n" +
+            "        public Long id;\n" +
+            "    }\n" +
+            "}\n";
+
+    private static final String UNREACHABLE_SOURCE =
+            "package test.gadgets;\n" +
+            "\n" +
+            "import com.cradlepoint.jsonapiary.annotations.*;\n" +
+            "\n" +
+            "@JsonApiType\n" +
+            "public class Unreachable {\n" +
+            "    @JsonApiId\n" +
+            "    public Long id;\n" +
+            "    @JsonApiAttribute\n" +
+            "    private String hidden;\n" +
+            "}\n";
+
+    private static final String WIDGET_SOURCE =
+            "package test.widgets;\n" +
+            "\n" +
+            "import com.cradlepoint.jsonapiary.annotations.*;\n" +
+            "\n" +
+            "@JsonApiType(\"gadgets\")\n" +
+            "public class Widget {\n" +
+            "    @JsonApiId\n" +
+            "    public Long id;\n" +
+            "}\n";
+
+    /////////////////
+    // Constructor //
+    /////////////////
+
+    public JsonApiProcessorTests() { }
+
+    ///////////
+    // Tests //
+    ///////////
+
+    @Test
+    public void generatesSerializersDeserializersAndRegistryTest() throws Exception {
+        File outputDirectory = Files.createTempDirectory("jsonapiary-processor").toFile();
+        List<Diagnostic<? extends JavaFileObject>> diagnostics =
+                compile(outputDirectory, true, GADGET_SOURCE, UNREACHABLE_SOURCE);
+
+        Assert.assertTrue(new File(outputDirectory, "test/gadgets/Gadget_JsonApiSerializer.class").exists());
+        Assert.assertTrue(new File(outputDirectory, "test/gadgets/Gadget_JsonApiDeserializer.class").exists());
+        Assert.assertTrue(new File(outputDirectory, "test/gadgets/JsonApiaryGeneratedRegistry.class").exists());
+
+        // The class the generated code can't reach stays on the reflective path //
+        Assert.assertFalse(new File(outputDirectory, "test/gadgets/Unreachable_JsonApiSerializer.class").exists());
+        boolean warned = false;
+        for(Diagnostic<? extends JavaFileObject> diagnostic : diagnostics) {
+            warned |= diagnostic.getKind() == Diagnostic.Kind.WARNING &&
+                    diagnostic.getMessage(null).contains("test.gadgets.Unreachable");
+        }
+        Assert.assertTrue(warned);
+
+        File serviceFile = new File(outputDirectory, "META-INF/services/com.cradlepoint.jsonapiary.JsonApiGeneratedRegistry");
+        Assert.assertEquals(
+                "test.gadgets.JsonApiaryGeneratedRegistry\n",
+                new String(Files.readAllBytes(serviceFile.toPath()), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void generatedMatchesReflectiveTest() throws Exception {
+        File generatedDirectory = Files.createTempDirectory("jsonapiary-generated").toFile();
+        File reflectiveDirectory = Files.createTempDirectory("jsonapiary-reflective").toFile();
+        compile(generatedDirectory, true, GADGET_SOURCE);
+        compile(reflectiveDirectory, false, GADGET_SOURCE);
+
+        String generatedJson = serializeGadgets(generatedDirectory);
+        String reflectiveJson = serializeGadgets(reflectiveDirectory);
+        Assert.assertEquals(reflectiveJson, generatedJson);
+    }
+
+    @Test
+    public void generatedJacksonAnnotationsTest() throws Exception {
+        File generatedDirectory = Files.createTempDirectory("jsonapiary-generated").toFile();
+        File reflectiveDirectory = Files.createTempDirectory("jsonapiary-reflective").toFile();
+        compile(generatedDirectory, true, FORMATTED_SOURCE);
+        compile(reflectiveDirectory, false, FORMATTED_SOURCE);
+        Assert.assertTrue(new File(generatedDirectory, "test/gadgets/Formatted_JsonApiSerializer.class").exists());
+
+        // @JsonSerialize and @JsonFormat on the members apply to the generated code as well //
+        String generatedJson = serializeFormatted(generatedDirectory);
+        Assert.assertEquals(serializeFormatted(reflectiveDirectory), generatedJson);
+        Assert.assertEquals("{\n" +
+                "  \"data\" : {\n" +
+                "    \"id\" : \"1\",\n" +
+                "    \"type\" : \"formatted\",\n" +
+                "    \"attributes\" : {\n" +
+                "      \"created\" : \"1970-01-01\",\n" +
+                "      \"serial\" : \"12345678901\"\n" +
+                "    },\n" +
+                "    \"meta\" : {\n" +
+                "      \"revision\" : \"7\"\n" +
+                "    }\n" +
+                "  }\n" +
+                "}", generatedJson);
+    }
+
+    @Test
+    public void generatedInheritedFromUnreachableClassTest() throws Exception {
+        File generatedDirectory = Files.createTempDirectory("jsonapiary-generated").toFile();
+        File reflectiveDirectory = Files.createTempDirectory("jsonapiary-reflective").toFile();
+        compile(generatedDirectory, true, INHERITED_SOURCE);
+        compile(reflectiveDirectory, false, INHERITED_SOURCE);
+        Assert.assertTrue(new File(generatedDirectory, "test/gadgets/Inherited_Log_JsonApiSerializer.class").exists());
+
+        // The attribute is declared by a (private) class generated code cannot name, its @JsonFormat still applies //
+        String generatedJson = serializeInherited(generatedDirectory);
+        Assert.assertEquals(serializeInherited(reflectiveDirectory), generatedJson);
+        Assert.assertEquals("{\n" +
+                "  \"data\" : {\n" +
+                "    \"id\" : \"1\",\n" +
+                "    \"type\" : \"logs\",\n" +
+                "    \"attributes\" : {\n" +
+                "      \"stamp\" : \"1970-01-01\"\n" +
+                "    }\n" +
+                "  }\n" +
+                "}", generatedJson);
+    }
+
+    @Test
+    public void generatedRoundTripTest() throws Exception {
+        File outputDirectory = Files.createTempDirectory("jsonapiary-roundtrip").toFile();
+        compile(outputDirectory, true, GADGET_SOURCE);
+
+        ClassLoader classLoader = new URLClassLoader(
+                new URL[] { outputDirectory.toURI().toURL() }, getClass().getClassLoader());
+        Class<?> gadgetType = classLoader.loadClass("test.gadgets.Gadget");
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JsonApiModule(gadgetType));
+
+        String json = serializeGadgets(outputDirectory);
+        JsonApiEnvelope envelope = objectMapper.readValue(json, JsonApiEnvelope.class);
+
+        Object gadget = envelope.getData();
+        Assert.assertEquals(gadgetType, gadget.getClass());
+        Assert.assertEquals(1l, gadgetType.getMethod("getId").invoke(gadget));
+        Assert.assertEquals("root", gadgetType.getMethod("getGadgetName").invoke(gadget));
+        Assert.assertEquals(3, gadgetType.getMethod("getCount").invoke(gadget));
+        Assert.assertEquals(Arrays.asList("a", "b"), gadgetType.getMethod("getTags").invoke(gadget));
+        Assert.assertTrue(enabledField(gadgetType).getBoolean(gadget));
+
+        List<?> children = (List<?>) gadgetType.getMethod("getChildren").invoke(gadget);
+        Assert.assertEquals(1, children.size());
+        Assert.assertEquals("child", gadgetType.getMethod("getGadgetName").invoke(children.get(0)));
+        Object parent = gadgetType.getMethod("getParent").invoke(gadget);
+        Assert.assertEquals("parent", gadgetType.getMethod("getGadgetName").invoke(parent));
+    }
+
+    @Test
+    public void generatedRelationshipWithoutSetterTest() throws Exception {
+        File generatedDirectory = Files.createTempDirectory("jsonapiary-generated").toFile();
+        File reflectiveDirectory = Files.createTempDirectory("jsonapiary-reflective").toFile();
+        compile(generatedDirectory, true, READ_ONLY_SOURCE);
+        compile(reflectiveDirectory, false, READ_ONLY_SOURCE);
+        Assert.assertTrue(new File(generatedDirectory, "test/gadgets/ReadOnly_JsonApiDeserializer.class").exists());
+
+        // Relationships without a "setter" are set (or fail) just as on the reflective path //
+        for(File outputDirectory : Arrays.asList(generatedDirectory, reflectiveDirectory)) {
+            ClassLoader classLoader = new URLClassLoader(
+                    new URL[] { outputDirectory.toURI().toURL() }, getClass().getClassLoader());
+            Class<?> readOnlyType = classLoader.loadClass("test.gadgets.ReadOnly");
+            ObjectMapper objectMapper = new ObjectMapper();
+            objectMapper.registerModule(new JsonApiModule(readOnlyType));
+
+            Object readOnly = objectMapper.readValue(readOnlyJson("parent"), JsonApiEnvelope.class).getData();
+            Assert.assertSame(readOnly, readOnlyType.getMethod("getParent").invoke(readOnly));
+
+            try {
+                objectMapper.readValue(readOnlyJson("origin"), JsonApiEnvelope.class);
+                Assert.fail("Expected setting the final relationship to fail");
+            } catch(IllegalStateException e) {
+                Assert.assertEquals("Unable to set value on test.gadgets.ReadOnly corresponding to json key origin. " +
+                        "The member is not public, and no corresponding \"setter\" method for it was found!",
+                        e.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void generatesTypeIndexTest() throws Exception {
+        File outputDirectory = Files.createTempDirectory("jsonapiary-index").toFile();
+        compile(outputDirectory, true, GADGET_SOURCE, UNREACHABLE_SOURCE);
+
+        // Classes on the reflective path are indexed too //
+        File indexFile = new File(outputDirectory, "META-INF/jsonapiary/types");
+        Assert.assertEquals(
+                "# Generated by the jsonapiary-processor\n" +
+                "Unreachable=test.gadgets.Unreachable\n" +
+                "gadgets=test.gadgets.Gadget\n",
+                new String(Files.readAllBytes(indexFile.toPath()), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void duplicateTypeNameFailsBuildTest() throws Exception {
+        File outputDirectory = Files.createTempDirectory("jsonapiary-duplicate").toFile();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<JavaFileObject>();
+        Assert.assertFalse(compile(outputDirectory, true, diagnostics, GADGET_SOURCE, WIDGET_SOURCE));
+
+        boolean reported = false;
+        for(Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            String message = diagnostic.getMessage(null);
+            reported |= diagnostic.getKind() == Diagnostic.Kind.ERROR && message.contains("\"type\" value of gadgets") &&
+                    message.contains("test.gadgets.Gadget") && message.contains("test.widgets.Widget");
+        }
+        Assert.assertTrue(diagnostics.getDiagnostics().toString(), reported);
+    }
+
+    @Test
+    public void moduleFromTypeIndexTest() throws Exception {
+        File outputDirectory = Files.createTempDirectory("jsonapiary-index").toFile();
+        compile(outputDirectory, true, GADGET_SOURCE, UNREACHABLE_SOURCE);
+
+        ClassLoader classLoader = new URLClassLoader(
+                new URL[] { outputDirectory.toURI().toURL() }, getClass().getClassLoader());
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(JsonApiModule.fromTypeIndex(classLoader));
+
+        // Both the generated and the reflective type are registered //
+        String json = "{ \"data\": [ " +
+                "{ \"type\": \"gadgets\", \"id\": \"1\", \"attributes\": { \"name\": \"root\" } }, " +
+                "{ \"type\": \"Unreachable\", \"id\": \"2\" } ] }";
+        JsonApiEnvelope envelope = objectMapper.readValue(json, JsonApiEnvelope.class);
+        List<?> resources = (List<?>) envelope.getData();
+
+        Class<?> gadgetType = classLoader.loadClass("test.gadgets.Gadget");
+        Class<?> unreachableType = classLoader.loadClass("test.gadgets.Unreachable");
+        Assert.assertEquals(gadgetType, resources.get(0).getClass());
+        Assert.assertEquals("root", gadgetType.getMethod("getGadgetName").invoke(resources.get(0)));
+        Assert.assertEquals(unreachableType, resources.get(1).getClass());
+        Assert.assertEquals(2l, unreachableType.getField("id").get(resources.get(1)));
+    }
+
+    @Test
+    public void collidingTypeIndexesTest() throws Exception {
+        File gadgetDirectory = Files.createTempDirectory("jsonapiary-gadgets").toFile();
+        File widgetDirectory = Files.createTempDirectory("jsonapiary-widgets").toFile();
+        compile(gadgetDirectory, true, GADGET_SOURCE);
+        compile(widgetDirectory, true, WIDGET_SOURCE);
+
+        ClassLoader classLoader = new URLClassLoader(
+                new URL[] { gadgetDirectory.toURI().toURL(), widgetDirectory.toURI().toURL() },
+                getClass().getClassLoader());
+        try {
+            JsonApiModule.fromTypeIndex(classLoader);
+            Assert.fail("Expected the colliding \"gadgets\" types to be rejected");
+        } catch(IllegalArgumentException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("test.widgets.Widget"));
+        }
+    }
+
+    /////////////////////
+    // Private Methods //
+    /////////////////////
+
+    private List<Diagnostic<? extends JavaFileObject>> compile(
+            File outputDirectory,
+            boolean process,
+            String ... sources) throws IOException {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<JavaFileObject>();
+        boolean compiled = compile(outputDirectory, process, diagnostics, sources);
+        Assert.assertTrue(diagnostics.getDiagnostics().toString(), compiled);
+
+        return diagnostics.getDiagnostics();
+    }
+
+    private boolean compile(
+            File outputDirectory,
+            boolean process,
+            DiagnosticCollector<JavaFileObject> diagnostics,
+            String ... sources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8);
+        fileManager.setLocation(StandardLocation.CLASS_OUTPUT, Arrays.asList(outputDirectory));
+        fileManager.setLocation(StandardLocation.SOURCE_OUTPUT, Arrays.asList(outputDirectory));
+        fileManager.setLocation(StandardLocation.CLASS_PATH, Arrays.asList(
+                locationOf(JsonApiModule.class),
+                locationOf(ObjectMapper.class),
+                locationOf(JsonGenerator.class),
+                locationOf(JsonProperty.class)));
+
+        List<JavaFileObject> compilationUnits = new ArrayList<JavaFileObject>();
+        for(String source : sources) {
+            compilationUnits.add(new SourceFile(source));
+        }
+
+        List<String> options = process ? Arrays.asList("-Xlint:unchecked") : Arrays.asList("-proc:none");
+        JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null, compilationUnits);
+        if(process) {
+            task.setProcessors(Arrays.asList(new JsonApiProcessor()));
+        }
+
+        boolean compiled = task.call();
+        fileManager.close();
+
+        return compiled;
+    }
+
+    private String serializeGadgets(File outputDirectory) throws Exception {
+        ClassLoader classLoader = new URLClassLoader(
+                new URL[] { outputDirectory.toURI().toURL() }, getClass().getClassLoader());
+        Class<?> gadgetType = classLoader.loadClass("test.gadgets.Gadget");
+
+        Object root = newGadget(gadgetType, 1l, "root");
+        Object child = newGadget(gadgetType, 2l, "child");
+        Object parent = newGadget(gadgetType, 3l, "parent");
+        gadgetType.getMethod("setParent", gadgetType).invoke(root, parent);
+        gadgetType.getMethod("setChildren", List.class).invoke(root, Arrays.asList(child));
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+        objectMapper.registerModule(new JsonApiModule(gadgetType));
+        return objectMapper.writeValueAsString(new JsonApiEnvelope<Object>(root));
+    }
+
+    private String serializeFormatted(File outputDirectory) throws Exception {
+        ClassLoader classLoader = new URLClassLoader(
+                new URL[] { outputDirectory.toURI().toURL() }, getClass().getClassLoader());
+        Class<?> formattedType = classLoader.loadClass("test.gadgets.Formatted");
+
+        Object formatted = formattedType.newInstance();
+        formattedType.getMethod("setId", Long.class).invoke(formatted, 1l);
+        formattedType.getMethod("setSerial", Long.class).invoke(formatted, 12345678901l);
+        formattedType.getMethod("setCreated", Date.class).invoke(formatted, new Date(0l));
+        formattedType.getMethod("setRevision", Long.class).invoke(formatted, 7l);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+        objectMapper.registerModule(new JsonApiModule(formattedType));
+        return objectMapper.writeValueAsString(new JsonApiEnvelope<Object>(formatted));
+    }
+
+    private String serializeInherited(File outputDirectory) throws Exception {
+        ClassLoader classLoader = new URLClassLoader(
+                new URL[] { outputDirectory.toURI().toURL() }, getClass().getClassLoader());
+        Class<?> logType = classLoader.loadClass("test.gadgets.Inherited$Log");
+
+        Object log = logType.newInstance();
+        logType.getField("id").set(log, 1l);
+        logType.getMethod("setStamp", Date.class).invoke(log, new Date(0l));
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+        objectMapper.registerModule(new JsonApiModule(logType));
+        return objectMapper.writeValueAsString(new JsonApiEnvelope<Object>(log));
+    }
+
+    // A ReadOnly referring to itself through the passed in relationship //
+    private static String readOnlyJson(String relationship) {
+        return "{ \"data\": { \"type\": \"readOnly\", \"id\": \"1\", \"relationships\": " +
+                "{ \"" + relationship + "\": { \"data\": { \"type\": \"readOnly\", \"id\": \"1\" } } } } }";
+    }
+
+    private static Object newGadget(
+            Class<?> gadgetType,
+            long id,
+            String name) throws Exception {
+        Object gadget = gadgetType.newInstance();
+        gadgetType.getMethod("setId", Long.class).invoke(gadget, id);
+        gadgetType.getMethod("setGadgetName", String.class).invoke(gadget, name);
+        gadgetType.getMethod("setCount", int.class).invoke(gadget, 3);
+        gadgetType.getMethod("setTags", List.class).invoke(gadget, Arrays.asList("a", "b"));
+        enabledField(gadgetType).setBoolean(gadget, true);
+        return gadget;
+    }
+
+    private static Field enabledField(Class<?> gadgetType) throws Exception {
+        Field enabledField = gadgetType.getDeclaredField("enabled");
+        enabledField.setAccessible(true);
+        return enabledField;
+    }
+
+    private static File locationOf(Class<?> type) {
+        try {
+            return new File(type.getProtectionDomain().getCodeSource().getLocation().toURI());
+        } catch(Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /////////////////////
+    // Private Classes //
+    /////////////////////
+
+    private static class SourceFile extends SimpleJavaFileObject {
+
+        private final String source;
+
+        SourceFile(String source) {
+            super(java.net.URI.create("string:///" + nameOf(source).replace('.', '/') + Kind.SOURCE.extension),
+                    Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return this.source;
+        }
+
+        private static String nameOf(String source) {
+            String packageName = source.substring("package ".length(), source.indexOf(';'));
+            int classIndex = source.indexOf("public class ") + "public class ".length();
+            return packageName + "." + source.substring(classIndex, source.indexOf(' ', classIndex));
+        }
+
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.cradlepoint.jsonapiary;
+
+import com.cradlepoint.jsonapiary.deserializers.JsonApiResourceDeserializer;
+import com.cradlepoint.jsonapiary.serializers.JsonApiResourceSerializer;
+
+import java.util.List;
+
+/**
+ * Service interface implemented by the registry the jsonapiary-processor generates at compile time. Implementations
+ * are listed in META-INF/services and discovered by the JsonApiModule through the ServiceLoader; any type without a
+ * generated serializer/deserializer falls back to the reflective path.
+ */
+public interface JsonApiGeneratedRegistry {
+
+    /**
+     * Returns the generated serializers, one per @JsonApiType class
+     * @return
+     */
+    List<JsonApiResourceSerializer<?>> getSerializers();
+
+    /**
+     * Returns the generated deserializers, one per @JsonApiType class
+     * @return
+     */
+    List<JsonApiResourceDeserializer<?>> getDeserializers();
+
+}
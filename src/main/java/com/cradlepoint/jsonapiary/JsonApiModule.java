@@ -1,15 +1,42 @@
 package com.cradlepoint.jsonapiary;
 
-import com.cradlepoint.jsonapiary.annotations.JsonApiType;
+import com.cradlepoint.jsonapiary.descriptors.MemberDescriptor;
+import com.cradlepoint.jsonapiary.descriptors.ResourceDescriptor;
 import com.cradlepoint.jsonapiary.deserializers.JsonApiEnvelopeDeserializer;
+import com.cradlepoint.jsonapiary.deserializers.JsonApiResourceDeserializer;
+import com.cradlepoint.jsonapiary.deserializers.helpers.ResourceDeserializationPlan;
 import com.cradlepoint.jsonapiary.envelopes.JsonApiEnvelope;
 import com.cradlepoint.jsonapiary.serializers.JsonApiEnvelopeSerializer;
 import com.cradlepoint.jsonapiary.serializers.JsonApiErrorSerializer;
+import com.cradlepoint.jsonapiary.serializers.JsonApiResourceSerializer;
 import com.fasterxml.jackson.core.json.PackageVersion;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.Serializers;
+import com.fasterxml.jackson.databind.node.TextNode;
 
-import java.util.Hashtable;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 public class JsonApiModule extends SimpleModule {
 
@@ -19,7 +46,19 @@ public class JsonApiModule extends SimpleModule {
 
     private static final String MODULE_NAME = "jsonapiary";
 
-    private Map<String, Class> jsonApiTypeMap;
+    // The id of the resources serialized and deserialized when warming up //
+    private static final String WARM_UP_ID = "0";
+
+    // The index of @JsonApiType classes written by the jsonapiary-processor //
+    private static final String TYPE_INDEX = "META-INF/jsonapiary/types";
+
+    private Map<Class<?>, JsonApiResourceSerializer<?>> generatedSerializers;
+
+    private Map<Class<?>, JsonApiResourceDeserializer<?>> generatedDeserializers;
+
+    private JsonApiEnvelopeSerializer envelopeSerializer;
+
+    private JsonApiEnvelopeDeserializer envelopeDeserializer;
 
     /////////////////
     // Constructor //
@@ -37,19 +76,227 @@ public class JsonApiModule extends SimpleModule {
     public JsonApiModule(Class ... jsonApiTypes) {
         super(PackageVersion.VERSION);
 
+        // Pick up any serializers/deserializers generated by the jsonapiary-processor //
+        loadGeneratedRegistries(jsonApiTypes);
+
         // Generate Type Map //
-        jsonApiTypeMap = new Hashtable<String, Class>();
+        Map<String, Class> jsonApiTypeMap = collectJsonApiTypes(jsonApiTypes);
+
+        // Register Envelope Serializers/Deserializers //
+        envelopeSerializer = new JsonApiEnvelopeSerializer(generatedSerializers);
+        envelopeDeserializer = new JsonApiEnvelopeDeserializer(jsonApiTypeMap, generatedDeserializers);
+        this.addDeserializer(JsonApiEnvelope.class, envelopeDeserializer);
+        this.addSerializer(new JsonApiErrorSerializer());
+    }
+
+    ////////////////////
+    // Public Methods //
+    ////////////////////
+
+    /**
+     * Creates a module registering every @JsonApiType class listed in the type indexes the jsonapiary-processor
+     * writes at build time, as visible to the thread's context class loader (or the library's own). No class path
+     * scanning takes place; the indexed classes are loaded by name.
+     * @return
+     * @throws IOException
+     */
+    public static JsonApiModule fromTypeIndex() throws IOException {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return fromTypeIndex(classLoader != null ? classLoader : JsonApiModule.class.getClassLoader());
+    }
+
+    /**
+     * Creates a module registering every @JsonApiType class listed in the type indexes (one per jar/output
+     * directory) visible to the passed in class loader. Indexes of different builds that map the same "type" value
+     * to different classes are rejected, as the constructor rejects colliding types.
+     * @param classLoader
+     * @return
+     * @throws IOException
+     */
+    public static JsonApiModule fromTypeIndex(
+            ClassLoader classLoader) throws IOException {
+        Map<String, String> indexedTypes = new LinkedHashMap<String, String>();
+        Enumeration<URL> typeIndexes = classLoader.getResources(TYPE_INDEX);
+        while(typeIndexes.hasMoreElements()) {
+            readTypeIndex(typeIndexes.nextElement(), indexedTypes);
+        }
+
+        List<Class> jsonApiTypes = new ArrayList<Class>();
+        for(Map.Entry<String, String> indexedType : indexedTypes.entrySet()) {
+            try {
+                jsonApiTypes.add(Class.forName(indexedType.getValue(), false, classLoader));
+            } catch(ClassNotFoundException e) {
+                String issue = "Type " + indexedType.getValue() + " (JsonAPI \"type\" value " + indexedType.getKey() +
+                        ") is listed in a " + TYPE_INDEX + " index, but could not be loaded!";
+                throw new IllegalStateException(issue, e);
+            }
+        }
+
+        return new JsonApiModule(jsonApiTypes.toArray(new Class[0]));
+    }
+
+    /**
+     * Registers more JsonAPIary annotated types, after the module was constructed (and registered on ObjectMappers),
+     * e.g. as plugins are loaded. The types are validated like the constructor's, and deserialization picks them up
+     * without rebuilding the ObjectMapper; documents already being read keep using the types registered when they
+     * started. Types registered this way use the compile-time generated code loaded at construction, if any, and are
+     * otherwise (de)serialized reflectively.
+     * @param jsonApiTypes
+     * @return
+     */
+    public JsonApiModule registerTypes(Class ... jsonApiTypes) {
+        envelopeDeserializer.registerTypes(collectJsonApiTypes(jsonApiTypes), generatedDeserializers);
+        return this;
+    }
+
+    /**
+     * Opts in to warming up eagerly: validates every registered type, and resolves everything needed to
+     * (de)serialize it through the passed in ObjectMapper, instead of on the first request for each type. Problems
+     * that deserialization would only run into on that first request (no supported @JsonApiId, no public void
+     * constructor, no way to set the id, a member that cannot be read) are thrown from here. Call this once the
+     * ObjectMapper is fully configured, as Jackson resolves (and caches) its serializers per ObjectMapper.
+     * @param objectMapper
+     * @param roundTrip also serializes and deserializes an (empty) resource of every type, to warm up the JIT
+     * @return the time spent on every type, in nanoseconds, in registration order
+     * @throws IOException
+     */
+    public Map<Class<?>, Long> warmUp(
+            ObjectMapper objectMapper,
+            boolean roundTrip) throws IOException {
+        SerializerProvider serializerProvider = objectMapper.getSerializerProviderInstance();
+        Map<Class<?>, Long> timings = new LinkedHashMap<Class<?>, Long>();
+        for(ResourceDeserializationPlan deserializationPlan :
+                envelopeDeserializer.getTypeRegistry().getDeserializationPlans()) {
+            long start = System.nanoTime();
+            Class<?> jsonApiType = deserializationPlan.getType();
+
+            // Deserialization plan, and the Jackson deserializer the attributes and meta are bound with //
+            deserializationPlan.validate();
+            objectMapper.readerFor(jsonApiType);
+
+            // Serialization plan (unless there is generated code for it), and the attribute and meta serializers //
+            if(!generatedSerializers.containsKey(jsonApiType)) {
+                ResourceDescriptor resourceDescriptor = ResourceDescriptor.forType(jsonApiType);
+                verifyReadable(jsonApiType, resourceDescriptor.getIds());
+                verifyReadable(jsonApiType, resourceDescriptor.getAttributes());
+                verifyReadable(jsonApiType, resourceDescriptor.getLinks());
+                verifyReadable(jsonApiType, resourceDescriptor.getMetas());
+                verifyReadable(jsonApiType, resourceDescriptor.getRelationships());
+                envelopeSerializer.prefetchMemberSerializers(resourceDescriptor, serializerProvider);
+            }
+
+            // Synthetic round trip; members that are written out but not read back (e.g. catch-all meta) are skipped //
+            if(roundTrip) {
+                Object resource = deserializationPlan.createResource(
+                        deserializationPlan.parseId(TextNode.valueOf(WARM_UP_ID)));
+                byte[] json = objectMapper.writeValueAsBytes(new JsonApiEnvelope<Object>(resource));
+                objectMapper.readerFor(JsonApiEnvelope.class)
+                        .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                        .readValue(json);
+            }
+
+            timings.put(jsonApiType, System.nanoTime() - start);
+        }
+
+        return timings;
+    }
+
+    /**
+     * Opts in to serializing large primary data arrays (and large breadth-first levels of the "included" section) in
+     * parallel: the resources are written out in chunks of the passed in size on the passed in pool, and spliced back
+     * together in order. The output is byte for byte what sequential serialization writes. Envelopes with "include"
+     * paths, and arrays no longer than one chunk, are always written out sequentially.
+     * @param forkJoinPool
+     * @param chunkSize
+     * @return
+     */
+    public JsonApiModule enableParallelSerialization(
+            ForkJoinPool forkJoinPool,
+            int chunkSize) {
+        envelopeSerializer.enableParallelSerialization(forkJoinPool, chunkSize);
+        return this;
+    }
+
+    /**
+     * Opts in to (de)serializing the "attributes" object of types without generated code through (a copy of) the
+     * type's own Jackson BeanSerializer/BeanDeserializer, limited to the type's attribute members, instead of member
+     * by member: every optimization the ObjectMapper applies to its beans (e.g. Afterburner) then applies to the
+     * attributes as well. Null attributes are written out (or not) as Jackson's inclusion rules say. Types with an
+     * attribute member that is not a Jackson property, and envelopes with sparse fieldsets, are still serialized
+     * member by member.
+     * @return
+     */
+    public JsonApiModule enableBeanAttributes() {
+        envelopeSerializer.setBeanAttributes(true);
+        envelopeDeserializer.setBeanAttributes(true);
+        return this;
+    }
+
+    /**
+     * Opts out of checking that links are absolute URIs: the "toString()" of @JsonApiLink values other than Links,
+     * URLs and URIs is written out as is, and top-level links are read in as they are. Links are never resolved (no
+     * DNS lookups) either way.
+     * @return
+     */
+    public JsonApiModule disableLinkValidation() {
+        envelopeSerializer.setValidateLinks(false);
+        envelopeDeserializer.setValidateLinks(false);
+        return this;
+    }
+
+    /**
+     * Sets the base URL (e.g. "https://api.example.com") that link templates declared through
+     * @JsonApiLink(template = "...") on a type are prefixed with, unless they are absolute URIs themselves
+     * @param linkBaseUrl
+     * @return
+     */
+    public JsonApiModule withLinkBaseUrl(
+            String linkBaseUrl) {
+        envelopeSerializer.setLinkBaseUrl(linkBaseUrl);
+        return this;
+    }
+
+    //////////////////////////
+    // SimpleModule Methods //
+    //////////////////////////
+
+    /**
+     * Registers the module's serializers/deserializers, with envelopes being serialized by serializers specialized on
+     * their (declared) data type
+     * @param setupContext
+     */
+    @Override
+    public void setupModule(
+            SetupContext setupContext) {
+        super.setupModule(setupContext);
+        setupContext.addSerializers(new EnvelopeSerializers(envelopeSerializer));
+    }
+
+    /////////////////////
+    // Private Methods //
+    /////////////////////
+
+    /**
+     * Maps the passed in types by their JsonAPI "type" value, verifying every one of them is JsonAPI annotated and that
+     * no two of them share a "type" value
+     * @param jsonApiTypes
+     * @return
+     */
+    private Map<String, Class> collectJsonApiTypes(Class ... jsonApiTypes) {
+        Map<String, Class> jsonApiTypeMap = new LinkedHashMap<String, Class>();
         if(jsonApiTypes != null) {
             for(Class jsonApiType : jsonApiTypes) {
-                // Verify type is JsonAPI ready //
-                if(jsonApiType.isAnnotationPresent(JsonApiType.class)) {
-                    String jsonApiTypeName = jsonApiType.getSimpleName();
+                // Verify type is JsonAPI ready (generated code only exists for @JsonApiType classes) //
+                JsonApiResourceSerializer generatedSerializer = generatedSerializers.get(jsonApiType);
+                ResourceDescriptor resourceDescriptor = null;
+                if(generatedSerializer == null) {
+                    resourceDescriptor = ResourceDescriptor.forType(jsonApiType);
+                }
 
+                if(generatedSerializer != null || resourceDescriptor.isJsonApiType()) {
                     // Determine the Type name //
-                    JsonApiType typeAnnotation = (JsonApiType) jsonApiType.getDeclaredAnnotation(JsonApiType.class);
-                    if(typeAnnotation != null && !typeAnnotation.value().isEmpty()) {
-                        jsonApiTypeName = typeAnnotation.value();
-                    }
+                    String jsonApiTypeName = generatedSerializer != null ?
+                            generatedSerializer.getTypeName().getValue() : resourceDescriptor.getTypeName();
 
                     // Check for collisions //
                     if(jsonApiTypeMap.containsKey(jsonApiTypeName)) {
@@ -72,10 +319,125 @@ public class JsonApiModule extends SimpleModule {
             }
         }
 
-        // Register Envelope Serializers/Deserializers //
-        this.addSerializer(new JsonApiEnvelopeSerializer());
-        this.addDeserializer(JsonApiEnvelope.class, new JsonApiEnvelopeDeserializer(jsonApiTypeMap));
-        this.addSerializer(new JsonApiErrorSerializer());
+        return jsonApiTypeMap;
+    }
+
+    /**
+     * Reads the "type value=binary class name" lines of the passed in type index into the passed in Map, verifying
+     * no "type" value is mapped to two different classes
+     * @param typeIndex
+     * @param indexedTypes
+     * @throws IOException
+     */
+    private static void readTypeIndex(
+            URL typeIndex,
+            Map<String, String> indexedTypes) throws IOException {
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(typeIndex.openStream(), StandardCharsets.UTF_8));
+        try {
+            for(String line = reader.readLine(); line != null; line = reader.readLine()) {
+                line = line.trim();
+                int separatorIndex = line.lastIndexOf('=');
+                if(line.isEmpty() || line.startsWith("#") || separatorIndex < 0) {
+                    continue;
+                }
+
+                String jsonApiTypeName = line.substring(0, separatorIndex);
+                String className = line.substring(separatorIndex + 1);
+                String existingClassName = indexedTypes.get(jsonApiTypeName);
+                if(existingClassName != null && !existingClassName.equals(className)) {
+                    String issue = "Found two types that generate the same JsonAPI \"type\" value of " +
+                            jsonApiTypeName + " ... those types being: " + existingClassName + " and " + className +
+                            " (listed in " + typeIndex + ") ...! JsonAPIary only supports ONE class per type value.";
+                    throw new IllegalArgumentException(issue);
+                }
+                indexedTypes.put(jsonApiTypeName, className);
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static void verifyReadable(
+            Class<?> jsonApiType,
+            List<MemberDescriptor> members) {
+        for(MemberDescriptor member : members) {
+            if(!member.isReadable()) {
+                String issue = "Unable to access value for member: " + member.getName() + " on type: " +
+                        jsonApiType.getName() + " . The member is not public, and no getter for it was found!";
+                throw new IllegalStateException(issue);
+            }
+        }
+    }
+
+    /**
+     * Loads every JsonApiGeneratedRegistry visible to the class loaders of the passed in types (and of the library
+     * itself), and indexes their serializers/deserializers by the type they handle.
+     * @param jsonApiTypes
+     */
+    private void loadGeneratedRegistries(Class ... jsonApiTypes) {
+        generatedSerializers = new HashMap<Class<?>, JsonApiResourceSerializer<?>>();
+        generatedDeserializers = new HashMap<Class<?>, JsonApiResourceDeserializer<?>>();
+
+        Set<ClassLoader> classLoaders = new LinkedHashSet<ClassLoader>();
+        if(jsonApiTypes != null) {
+            for(Class jsonApiType : jsonApiTypes) {
+                if(jsonApiType.getClassLoader() != null) {
+                    classLoaders.add(jsonApiType.getClassLoader());
+                }
+            }
+        }
+        if(JsonApiModule.class.getClassLoader() != null) {
+            classLoaders.add(JsonApiModule.class.getClassLoader());
+        }
+
+        Set<Class<?>> loadedRegistries = new HashSet<Class<?>>();
+        for(ClassLoader classLoader : classLoaders) {
+            for(JsonApiGeneratedRegistry registry : ServiceLoader.load(JsonApiGeneratedRegistry.class, classLoader)) {
+                // The same registry is visible through every child class loader //
+                if(!loadedRegistries.add(registry.getClass())) {
+                    continue;
+                }
+
+                for(JsonApiResourceSerializer<?> serializer : registry.getSerializers()) {
+                    generatedSerializers.put(serializer.handledType(), serializer);
+                }
+                for(JsonApiResourceDeserializer<?> deserializer : registry.getDeserializers()) {
+                    generatedDeserializers.put(deserializer.handledType(), deserializer);
+                }
+            }
+        }
+    }
+
+    /////////////////////
+    // Private Classes //
+    /////////////////////
+
+    /**
+     * Hands out the serializer of envelopes of every (full, generic) envelope type Jackson looks up, e.g.
+     * JsonApiEnvelope<List<Device>> for objectMapper.writerFor(new TypeReference<JsonApiEnvelope<List<Device>>>(){})
+     */
+    private static class EnvelopeSerializers extends Serializers.Base {
+
+        private final JsonApiEnvelopeSerializer envelopeSerializer;
+
+        EnvelopeSerializers(JsonApiEnvelopeSerializer envelopeSerializer) {
+            this.envelopeSerializer = envelopeSerializer;
+        }
+
+        @Override
+        public JsonSerializer<?> findSerializer(
+                SerializationConfig serializationConfig,
+                JavaType type,
+                BeanDescription beanDescription) {
+            if(!type.isTypeOrSubTypeOf(JsonApiEnvelope.class)) {
+                return null;
+            }
+
+            JavaType[] dataTypes = type.findTypeParameters(JsonApiEnvelope.class);
+            return envelopeSerializer.forDataType(dataTypes.length == 1 ? dataTypes[0] : null);
+        }
+
     }
 
 }
@@ -6,7 +6,7 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 @JsonApiProperty
-@Target({ElementType.FIELD, ElementType.LOCAL_VARIABLE, ElementType.METHOD})
+@Target({ElementType.TYPE, ElementType.FIELD, ElementType.LOCAL_VARIABLE, ElementType.METHOD})
 @Retention(RetentionPolicy.RUNTIME)
 public @interface JsonApiLink {
 
@@ -16,4 +16,12 @@ public @interface JsonApiLink {
      */
     String value() default "";
 
+    /**
+     * Link template of the resource (e.g. "/devices/{id}"), only used when annotating a type: every resource of the
+     * type gets the rendered link, under the key "self" unless overridden, and its relationships get "self" and
+     * "related" links derived from it. "{id}" is replaced with the resource's id, "{type}" with its JsonAPI type.
+     * @return
+     */
+    String template() default "";
+
 }
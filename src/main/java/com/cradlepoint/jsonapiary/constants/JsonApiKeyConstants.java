@@ -11,6 +11,7 @@ public class JsonApiKeyConstants {
     public static final String LINKS_KEY = "links";
     public static final String META_DATA_KEY = "meta";
     public static final String RELATIONSHIPS_KEY = "relationships";
+    public static final String HREF_KEY = "href";
 
     public static final String ERRORS_KEY = "errors";
     public static final String STATUS_KEY = "status";
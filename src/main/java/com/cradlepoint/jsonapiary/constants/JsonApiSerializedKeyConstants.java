@@ -0,0 +1,30 @@
+package com.cradlepoint.jsonapiary.constants;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+/**
+ * The JsonApiKeyConstants, pre-encoded once so the generators don't have to quote/escape/encode them per object
+ */
+public class JsonApiSerializedKeyConstants {
+
+    public static final SerializableString DATA_KEY = new SerializedString(JsonApiKeyConstants.DATA_KEY);
+    public static final SerializableString ID_KEY = new SerializedString(JsonApiKeyConstants.ID_KEY);
+    public static final SerializableString TYPE_KEY = new SerializedString(JsonApiKeyConstants.TYPE_KEY);
+    public static final SerializableString INCLUDED_KEY = new SerializedString(JsonApiKeyConstants.INCLUDED_KEY);
+
+    public static final SerializableString ATTRIBUTES_KEY = new SerializedString(JsonApiKeyConstants.ATTRIBUTES_KEY);
+    public static final SerializableString LINKS_KEY = new SerializedString(JsonApiKeyConstants.LINKS_KEY);
+    public static final SerializableString META_DATA_KEY = new SerializedString(JsonApiKeyConstants.META_DATA_KEY);
+    public static final SerializableString RELATIONSHIPS_KEY = new SerializedString(JsonApiKeyConstants.RELATIONSHIPS_KEY);
+    public static final SerializableString HREF_KEY = new SerializedString(JsonApiKeyConstants.HREF_KEY);
+
+    public static final SerializableString ERRORS_KEY = new SerializedString(JsonApiKeyConstants.ERRORS_KEY);
+    public static final SerializableString STATUS_KEY = new SerializedString(JsonApiKeyConstants.STATUS_KEY);
+    public static final SerializableString CODE_KEY = new SerializedString(JsonApiKeyConstants.CODE_KEY);
+    public static final SerializableString TITLE_KEY = new SerializedString(JsonApiKeyConstants.TITLE_KEY);
+    public static final SerializableString DETAIL_KEY = new SerializedString(JsonApiKeyConstants.DETAIL_KEY);
+    public static final SerializableString SOURCE_KEY = new SerializedString(JsonApiKeyConstants.SOURCE_KEY);
+    public static final SerializableString POINTER_KEY = new SerializedString(JsonApiKeyConstants.POINTER_KEY);
+
+}
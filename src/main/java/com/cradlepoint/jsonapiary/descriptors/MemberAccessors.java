@@ -0,0 +1,283 @@
+package com.cradlepoint.jsonapiary.descriptors;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+class MemberAccessors {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final MethodHandles.Lookup PUBLIC_LOOKUP = MethodHandles.lookup();
+
+    /**
+     * MethodHandles.privateLookupIn(...) only exists on JDK 9+, so it is looked up reflectively (once)
+     */
+    private static final Method PRIVATE_LOOKUP_IN = findPrivateLookupIn();
+
+    /////////////////
+    // Constructor //
+    /////////////////
+
+    /**
+     * Private void constructor
+     */
+    private MemberAccessors() { }
+
+    ////////////////////
+    // Public Methods //
+    ////////////////////
+
+    /**
+     * Resolves a getter handle for a Field: the public Field itself, then a get{Name}/is{Name} getter, and finally
+     * the private Field. Returns null if none of those are accessible.
+     * @param field
+     * @return
+     */
+    public static MethodHandle resolveFieldGetter(
+            Field field) {
+        if(isPublic(field.getModifiers(), field.getDeclaringClass())) {
+            MethodHandle getter = unreflectGetter(PUBLIC_LOOKUP, field);
+            if(getter != null) {
+                return getter;
+            }
+        }
+
+        Method getterMethod = findGetterMethod(field);
+        if(getterMethod != null) {
+            MethodHandle getter = unreflectMethod(getterMethod);
+            if(getter != null) {
+                return getter.asType(GETTER_TYPE);
+            }
+        }
+
+        return unreflectGetter(privateLookupFor(field), field);
+    }
+
+    /**
+     * Resolves a setter handle for a Field: the public Field itself, then a "setter" Method, and finally the private
+     * Field. Returns null if none of those are accessible.
+     * @param field
+     * @param key
+     * @param annotation
+     * @return
+     */
+    public static MethodHandle resolveFieldSetter(
+            Field field,
+            String key,
+            Class<? extends Annotation> annotation) {
+        if(Modifier.isFinal(field.getModifiers())) {
+            return null;
+        }
+
+        if(isPublic(field.getModifiers(), field.getDeclaringClass())) {
+            MethodHandle setter = unreflectSetter(PUBLIC_LOOKUP, field);
+            if(setter != null) {
+                return setter;
+            }
+        }
+
+        Method setterMethod = findSetterMethod(field, key, annotation);
+        if(setterMethod != null) {
+            MethodHandle setter = unreflectMethod(setterMethod);
+            if(setter != null) {
+                return setter.asType(SETTER_TYPE);
+            }
+        }
+
+        return unreflectSetter(privateLookupFor(field), field);
+    }
+
+    /**
+     * Resolves a no-argument Method into a getter handle, or null if it isn't accessible
+     * @param method
+     * @return
+     */
+    public static MethodHandle resolveMethodGetter(
+            Method method) {
+        if(method.getParameterCount() != 0 || method.getReturnType() == void.class) {
+            return null;
+        }
+
+        MethodHandle getter = unreflectMethod(method);
+        return getter == null ? null : getter.asType(GETTER_TYPE);
+    }
+
+    /**
+     * Resolves a single-argument Method into a setter handle, or null if it isn't accessible
+     * @param method
+     * @return
+     */
+    public static MethodHandle resolveMethodSetter(
+            Method method) {
+        if(method.getParameterCount() != 1) {
+            return null;
+        }
+
+        MethodHandle setter = unreflectMethod(method);
+        return setter == null ? null : setter.asType(SETTER_TYPE);
+    }
+
+    /////////////////////
+    // Private Methods //
+    /////////////////////
+
+    private static boolean isPublic(
+            int modifiers,
+            Class<?> declaringClass) {
+        return Modifier.isPublic(modifiers) && Modifier.isPublic(declaringClass.getModifiers());
+    }
+
+    private static Method findGetterMethod(
+            Field field) {
+        String fieldName = field.getName();
+        String capitalizedName = fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
+
+        Class<?> type = field.getDeclaringClass();
+        while(type != null) {
+            for(Method method : type.getDeclaredMethods()) {
+                if(method.getParameterCount() != 0) {
+                    continue;
+                }
+
+                // The obvious/simple getter name, or the bool getter, if applicable //
+                if(method.getName().equals("get" + capitalizedName)) {
+                    return method;
+                } else if((field.getType() == boolean.class || field.getType() == Boolean.class) &&
+                        method.getName().equals("is" + capitalizedName)) {
+                    return method;
+                }
+            }
+            type = type.getSuperclass();
+        }
+
+        return null;
+    }
+
+    private static Method findSetterMethod(
+            Field field,
+            String key,
+            Class<? extends Annotation> annotation) {
+        String fieldName = field.getName();
+        String setterName = "set" + fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
+
+        Class<?> type = field.getDeclaringClass();
+        while(type != null) {
+            for(Method method : type.getDeclaredMethods()) {
+                if(method.getParameterCount() != 1) {
+                    continue;
+                }
+
+                JsonProperty jsonPropertyAnnotation = method.getAnnotation(JsonProperty.class);
+                if(method.getName().equals(setterName)) {
+                    return method;
+                } else if(method.getName().startsWith("set") && (method.isAnnotationPresent(annotation) ||
+                        (jsonPropertyAnnotation != null && jsonPropertyAnnotation.value().equals(key)))) {
+                    return method;
+                }
+            }
+            type = type.getSuperclass();
+        }
+
+        return null;
+    }
+
+    private static MethodHandle unreflectGetter(
+            MethodHandles.Lookup lookup,
+            Field field) {
+        if(lookup == null) {
+            return null;
+        }
+
+        try {
+            return lookup.unreflectGetter(field).asType(GETTER_TYPE);
+        } catch(IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle unreflectSetter(
+            MethodHandles.Lookup lookup,
+            Field field) {
+        if(lookup == null) {
+            return null;
+        }
+
+        try {
+            return lookup.unreflectSetter(field).asType(SETTER_TYPE);
+        } catch(IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle unreflectMethod(
+            Method method) {
+        if(isPublic(method.getModifiers(), method.getDeclaringClass())) {
+            try {
+                return PUBLIC_LOOKUP.unreflect(method);
+            } catch(IllegalAccessException e) {
+                // Fall through to a private lookup...
+            }
+        }
+
+        MethodHandles.Lookup lookup = privateLookupFor(method);
+        if(lookup == null) {
+            return null;
+        }
+
+        try {
+            return lookup.unreflect(method);
+        } catch(IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns a Lookup with private access to the member's declaring class: via MethodHandles.privateLookupIn(...)
+     * where the JDK provides it, otherwise by making the member accessible.
+     * @param member
+     * @return
+     */
+    private static MethodHandles.Lookup privateLookupFor(
+            AccessibleObject member) {
+        Class<?> declaringClass = (member instanceof Field) ?
+                ((Field) member).getDeclaringClass() : ((Method) member).getDeclaringClass();
+
+        if(PRIVATE_LOOKUP_IN != null) {
+            try {
+                return (MethodHandles.Lookup) PRIVATE_LOOKUP_IN.invoke(null, declaringClass, PUBLIC_LOOKUP);
+            } catch(ReflectiveOperationException | RuntimeException e) {
+                // The declaring class' module is not open to us... try the pre-JDK 9 route //
+            }
+        }
+
+        try {
+            member.setAccessible(true);
+            return PUBLIC_LOOKUP;
+        } catch(RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static Method findPrivateLookupIn() {
+        try {
+            return MethodHandles.class.getMethod("privateLookupIn", Class.class, MethodHandles.Lookup.class);
+        } catch(NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+}
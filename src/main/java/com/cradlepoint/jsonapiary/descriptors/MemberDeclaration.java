@@ -0,0 +1,97 @@
+package com.cradlepoint.jsonapiary.descriptors;
+
+import java.lang.reflect.Type;
+
+/**
+ * Where an attribute (or meta) member is declared, and its declared (generic) type: all the Jackson serializers of
+ * the member are resolved from. MemberDescriptors carry one for the reflective path; the serializers generated by the
+ * jsonapiary-processor declare their own, so no ResourceDescriptor is ever built for their types. The member's Jackson
+ * annotations are read through the ObjectMapper's AnnotationIntrospector (mix-ins included) off of the declaring
+ * class, by the member's name.
+ */
+public class MemberDeclaration {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    private final String key;
+
+    private final Class<?> declaringClass;
+
+    private final String name;
+
+    private final boolean field;
+
+    private final Type type;
+
+    /////////////////
+    // Constructor //
+    /////////////////
+
+    /**
+     * Constructor
+     * @param key
+     * @param declaringClass
+     * @param name the name of the Field, or of the (getter) Method
+     * @param field whether the member is a Field or a (getter) Method
+     * @param type
+     */
+    public MemberDeclaration(
+            String key,
+            Class<?> declaringClass,
+            String name,
+            boolean field,
+            Type type) {
+        this.key = key;
+        this.declaringClass = declaringClass;
+        this.name = name;
+        this.field = field;
+        this.type = type;
+    }
+
+    /////////////////////////
+    // Getters and Setters //
+    /////////////////////////
+
+    /**
+     * Returns the resolved JsonAPI key of the member
+     * @return
+     */
+    public String getKey() {
+        return this.key;
+    }
+
+    /**
+     * Returns the class declaring the member
+     * @return
+     */
+    public Class<?> getDeclaringClass() {
+        return this.declaringClass;
+    }
+
+    /**
+     * Returns the name of the backing Field or Method
+     * @return
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Returns whether or not the member is backed by a Field (or else by a getter Method)
+     * @return
+     */
+    public boolean isField() {
+        return this.field;
+    }
+
+    /**
+     * Returns the declared (generic) type of the member
+     * @return
+     */
+    public Type getType() {
+        return this.type;
+    }
+
+}
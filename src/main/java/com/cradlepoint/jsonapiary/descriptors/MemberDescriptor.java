@@ -0,0 +1,301 @@
+package com.cradlepoint.jsonapiary.descriptors;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+
+public class MemberDescriptor {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    private final String key;
+
+    private final SerializableString serializedKey;
+
+    private final Class<? extends Annotation> annotation;
+
+    private final Field field;
+
+    private final Method method;
+
+    private final MethodHandle getter;
+
+    private final MethodHandle setter;
+
+    private final Class<?> elementType;
+
+    private final MemberDeclaration declaration;
+
+    /////////////////
+    // Constructor //
+    /////////////////
+
+    /**
+     * Constructor for a Field backed member
+     * @param key
+     * @param annotation
+     * @param field
+     */
+    MemberDescriptor(
+            String key,
+            Class<? extends Annotation> annotation,
+            Field field) {
+        this.key = key;
+        this.serializedKey = new SerializedString(key);
+        this.annotation = annotation;
+        this.field = field;
+        this.method = null;
+        this.getter = MemberAccessors.resolveFieldGetter(field);
+        this.setter = MemberAccessors.resolveFieldSetter(field, key, annotation);
+        this.elementType = resolveElementType(field.getType(), field.getGenericType());
+        this.declaration = new MemberDeclaration(
+                key, field.getDeclaringClass(), field.getName(), true, field.getGenericType());
+    }
+
+    /**
+     * Constructor for a Method backed member
+     * @param key
+     * @param annotation
+     * @param method
+     */
+    MemberDescriptor(
+            String key,
+            Class<? extends Annotation> annotation,
+            Method method) {
+        this.key = key;
+        this.serializedKey = new SerializedString(key);
+        this.annotation = annotation;
+        this.field = null;
+        this.method = method;
+        this.getter = MemberAccessors.resolveMethodGetter(method);
+        this.setter = MemberAccessors.resolveMethodSetter(method);
+        this.elementType = resolveElementType(method.getReturnType(), method.getGenericReturnType());
+        this.declaration = new MemberDeclaration(
+                key, method.getDeclaringClass(), method.getName(), false, method.getGenericReturnType());
+    }
+
+    /////////////////////////
+    // Getters and Setters //
+    /////////////////////////
+
+    /**
+     * Returns the resolved JsonAPI key of the member
+     * @return
+     */
+    public String getKey() {
+        return this.key;
+    }
+
+    /**
+     * Returns the resolved JsonAPI key of the member, pre-encoded for writing as a field name
+     * @return
+     */
+    public SerializableString getSerializedKey() {
+        return this.serializedKey;
+    }
+
+    /**
+     * Returns the JsonAPI annotation the member was (explicitly or implicitly) grouped under
+     * @return
+     */
+    public Class<? extends Annotation> getAnnotation() {
+        return this.annotation;
+    }
+
+    /**
+     * Returns the backing Field, or null if the member is a Method
+     * @return
+     */
+    public Field getField() {
+        return this.field;
+    }
+
+    /**
+     * Returns the backing Method, or null if the member is a Field
+     * @return
+     */
+    public Method getMethod() {
+        return this.method;
+    }
+
+    ////////////////////
+    // Public Methods //
+    ////////////////////
+
+    /**
+     * Returns whether or not the member is backed by a Field
+     * @return
+     */
+    public boolean isField() {
+        return this.field != null;
+    }
+
+    /**
+     * Returns the backing Field or Method
+     * @return
+     */
+    public AccessibleObject getMember() {
+        return isField() ? this.field : this.method;
+    }
+
+    /**
+     * Returns the Java name of the backing Field or Method
+     * @return
+     */
+    public String getName() {
+        return isField() ? this.field.getName() : this.method.getName();
+    }
+
+    /**
+     * Returns the declared type of the backing Field, or the return type of the backing Method
+     * @return
+     */
+    public Class<?> getValueType() {
+        return isField() ? this.field.getType() : this.method.getReturnType();
+    }
+
+    /**
+     * Returns the declared element type of a Collection (or array) member, or null if the member is neither or its
+     * element type is not a plain or parameterized type (e.g. a type variable or a wildcard)
+     * @return
+     */
+    public Class<?> getElementType() {
+        return this.elementType;
+    }
+
+    /**
+     * Returns the declaration of the member its Jackson serializers are resolved from
+     * @return
+     */
+    public MemberDeclaration getDeclaration() {
+        return this.declaration;
+    }
+
+    /**
+     * Returns whether or not a getter (public Field, getter Method, or accessible private Field) was resolved
+     * @return
+     */
+    public boolean isReadable() {
+        return this.getter != null;
+    }
+
+    /**
+     * Returns whether or not a setter (public Field, setter Method, or accessible private Field) was resolved
+     * @return
+     */
+    public boolean isWritable() {
+        return this.setter != null;
+    }
+
+    /**
+     * Reads the member's value off of the passed in Object through the pre-resolved getter
+     * @param object
+     * @return
+     */
+    public Object getValue(Object object) {
+        if(this.getter == null) {
+            String issue = "Unable to access value for member: " + getName() + " on type: " +
+                    object.getClass().getName() + " . The member is not public, and no getter for it was found!";
+            throw new IllegalStateException(issue);
+        }
+
+        try {
+            return this.getter.invokeExact(object);
+        } catch(RuntimeException | Error e) {
+            throw e;
+        } catch(Throwable t) {
+            String issue = "Accessing member: " + getName() + " on type: " + object.getClass().getName() +
+                    " ran into an issue!";
+            throw new IllegalStateException(issue, t);
+        }
+    }
+
+    /**
+     * Returns the Jackson property (as introspected by the passed in BeanDescription) this member is part of: the
+     * property of the backing Field (whether Jackson reads it through the Field or a getter), or the property the
+     * backing Method is the getter or setter of. Returns null if Jackson does not see the member as a property.
+     * @param beanDescription
+     * @return
+     */
+    public BeanPropertyDefinition findPropertyDefinition(
+            BeanDescription beanDescription) {
+        for(BeanPropertyDefinition property : beanDescription.findProperties()) {
+            if(isField()) {
+                if(property.getInternalName().equals(field.getName()) || isBackedBy(property.getField())) {
+                    return property;
+                }
+            } else if(isBackedBy(property.getGetter()) || isBackedBy(property.getSetter())) {
+                return property;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Sets the passed in value on the passed in Object through the pre-resolved setter
+     * @param object
+     * @param value
+     */
+    public void setValue(Object object, Object value) {
+        if(this.setter == null) {
+            String issue = "Unable to set value on " + object.getClass().getName() + " corresponding to json key " +
+                    this.key + ". The member is not public, and no corresponding \"setter\" method for it was found!";
+            throw new IllegalStateException(issue);
+        }
+
+        try {
+            this.setter.invokeExact(object, value);
+        } catch(RuntimeException | Error e) {
+            throw e;
+        } catch(Throwable t) {
+            String issue = "Unable to set value on " + object.getClass().getName() + " corresponding to json key " +
+                    this.key + ". Invoking the \"setter\" ran into an issue!";
+            throw new IllegalStateException(issue, t);
+        }
+    }
+
+    /////////////////////
+    // Private Methods //
+    /////////////////////
+
+    private static Class<?> resolveElementType(
+            Class<?> valueType,
+            Type genericValueType) {
+        if(valueType.isArray()) {
+            return valueType.getComponentType();
+        } else if(!Collection.class.isAssignableFrom(valueType) || !(genericValueType instanceof ParameterizedType)) {
+            return null;
+        }
+
+        Type[] typeArguments = ((ParameterizedType) genericValueType).getActualTypeArguments();
+        if(typeArguments.length != 1) {
+            return null;
+        } else if(typeArguments[0] instanceof Class) {
+            return (Class<?>) typeArguments[0];
+        } else if(typeArguments[0] instanceof ParameterizedType) {
+            return (Class<?>) ((ParameterizedType) typeArguments[0]).getRawType();
+        } else {
+            return null;
+        }
+    }
+
+    private boolean isBackedBy(
+            AnnotatedMember annotatedMember) {
+        return annotatedMember != null && annotatedMember.getAnnotated().equals(getMember());
+    }
+
+}
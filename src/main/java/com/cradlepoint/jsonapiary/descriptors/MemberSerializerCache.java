@@ -0,0 +1,169 @@
+package com.cradlepoint.jsonapiary.descriptors;
+
+import com.fasterxml.jackson.databind.AnnotationIntrospector;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.introspect.ClassIntrospector;
+
+import java.text.DateFormat;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The resolved Jackson serializers of attribute (and meta) members, kept apart per ObjectMapper: serializers depend on
+ * the mapper they were resolved through, so they are only reused through the same (per mapper) introspectors, date
+ * format, time zone and locale. Every set of those settings gets its own members-to-serializers map, so differently
+ * configured ObjectMappers serializing the same types do not evict each other's serializers. Looking the map up does
+ * not allocate.
+ */
+public class MemberSerializerCache {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    // The most sets of settings kept at once; the oldest is dropped beyond that //
+    private static final int MAX_SETTINGS = 8;
+
+    private volatile Settings[] settings;
+
+    /////////////////
+    // Constructor //
+    /////////////////
+
+    /**
+     * Default void constructor
+     */
+    public MemberSerializerCache() {
+        settings = new Settings[0];
+    }
+
+    ////////////////////
+    // Public Methods //
+    ////////////////////
+
+    /**
+     * Returns the Jackson serializer for the passed in (non-null) value of the passed in (declared) member. The
+     * serializer is resolved from the member's declared type and Jackson annotations once per ObjectMapper, rather
+     * than looked up per value.
+     * @param member
+     * @param value
+     * @param serializerProvider
+     * @return
+     * @throws JsonMappingException
+     */
+    public JsonSerializer<Object> fetchSerializer(
+            MemberDeclaration member,
+            Object value,
+            SerializerProvider serializerProvider) throws JsonMappingException {
+        return resolveSerializers(member, serializerProvider).fetchSerializer(value.getClass(), serializerProvider);
+    }
+
+    /**
+     * Resolves (ahead of the first value) the Jackson serializers of the passed in member through the passed in
+     * SerializerProvider; members whose declared type is final, or that name their serializer, are then fully resolved
+     * @param member
+     * @param serializerProvider
+     * @throws JsonMappingException
+     */
+    public void prefetchSerializers(
+            MemberDeclaration member,
+            SerializerProvider serializerProvider) throws JsonMappingException {
+        resolveSerializers(member, serializerProvider);
+    }
+
+    /////////////////////
+    // Private Methods //
+    /////////////////////
+
+    private MemberSerializers resolveSerializers(
+            MemberDeclaration member,
+            SerializerProvider serializerProvider) throws JsonMappingException {
+        ConcurrentMap<MemberDeclaration, MemberSerializers> serializers =
+                fetchSerializers(serializerProvider.getConfig());
+        MemberSerializers memberSerializers = serializers.get(member);
+        if(memberSerializers == null) {
+            memberSerializers = MemberSerializers.resolve(member, serializerProvider);
+            serializers.put(member, memberSerializers);
+        }
+        return memberSerializers;
+    }
+
+    private ConcurrentMap<MemberDeclaration, MemberSerializers> fetchSerializers(
+            SerializationConfig config) {
+        for(Settings settings : this.settings) {
+            if(settings.matches(config)) {
+                return settings.serializers;
+            }
+        }
+
+        synchronized(this) {
+            Settings[] currentSettings = this.settings;
+            for(Settings settings : currentSettings) {
+                if(settings.matches(config)) {
+                    return settings.serializers;
+                }
+            }
+
+            Settings[] newSettings;
+            if(currentSettings.length < MAX_SETTINGS) {
+                newSettings = Arrays.copyOf(currentSettings, currentSettings.length + 1);
+            } else {
+                newSettings = new Settings[MAX_SETTINGS];
+                System.arraycopy(currentSettings, 1, newSettings, 0, MAX_SETTINGS - 1);
+            }
+            Settings settings = new Settings(config);
+            newSettings[newSettings.length - 1] = settings;
+            this.settings = newSettings;
+            return settings.serializers;
+        }
+    }
+
+    /////////////////////
+    // Private Classes //
+    /////////////////////
+
+    /**
+     * The (per ObjectMapper) settings serializers are resolved with, and the serializers resolved with them
+     */
+    private static class Settings {
+
+        private final ClassIntrospector classIntrospector;
+
+        private final AnnotationIntrospector annotationIntrospector;
+
+        private final DateFormat dateFormat;
+
+        private final TimeZone timeZone;
+
+        private final Locale locale;
+
+        private final ConcurrentMap<MemberDeclaration, MemberSerializers> serializers;
+
+        Settings(
+                SerializationConfig config) {
+            this.classIntrospector = config.getClassIntrospector();
+            this.annotationIntrospector = config.getAnnotationIntrospector();
+            this.dateFormat = config.getDateFormat();
+            this.timeZone = config.getTimeZone();
+            this.locale = config.getLocale();
+            this.serializers = new ConcurrentHashMap<MemberDeclaration, MemberSerializers>();
+        }
+
+        boolean matches(
+                SerializationConfig config) {
+            return this.classIntrospector == config.getClassIntrospector() &&
+                    this.annotationIntrospector == config.getAnnotationIntrospector() &&
+                    this.dateFormat == config.getDateFormat() &&
+                    this.timeZone == config.getTimeZone() &&
+                    this.locale == config.getLocale();
+        }
+
+    }
+
+}
@@ -0,0 +1,161 @@
+package com.cradlepoint.jsonapiary.descriptors;
+
+import com.fasterxml.jackson.databind.AnnotationIntrospector;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.PropertyMetadata;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.AnnotatedField;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
+import com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap;
+
+/**
+ * The Jackson serializers of one attribute (or meta) member, resolved from the member's declared type and annotations
+ * (@JsonSerialize, @JsonFormat, ...) the way a BeanPropertyWriter resolves them. When the declared type is final (or
+ * the member names its serializer) the serializer is resolved once; otherwise serializers are resolved per runtime
+ * class, specialized from the declared type so generic parameters are kept, and remembered in a PropertySerializerMap.
+ *
+ * Serializers depend on the ObjectMapper they were resolved through; the MemberSerializerCache keeps them apart per
+ * mapper.
+ */
+class MemberSerializers {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    private final JavaType declaredType;
+
+    private final BeanProperty property;
+
+    private final JsonSerializer<Object> staticSerializer;
+
+    private final boolean specializeDeclaredType;
+
+    private volatile PropertySerializerMap dynamicSerializers;
+
+    /////////////////
+    // Constructor //
+    /////////////////
+
+    /**
+     * Constructor
+     * @param declaredType
+     * @param property
+     * @param staticSerializer
+     */
+    private MemberSerializers(
+            JavaType declaredType,
+            BeanProperty property,
+            JsonSerializer<Object> staticSerializer) {
+        this.declaredType = declaredType;
+        this.property = property;
+        this.staticSerializer = staticSerializer;
+        this.specializeDeclaredType = declaredType.containedTypeCount() > 0 || declaredType.getContentType() != null;
+        this.dynamicSerializers = PropertySerializerMap.emptyForProperties();
+    }
+
+    ////////////////////
+    // Public Methods //
+    ////////////////////
+
+    /**
+     * Resolves the serializers of the passed in (declared) member through the passed in SerializerProvider
+     * @param member
+     * @param serializerProvider
+     * @return
+     * @throws JsonMappingException
+     */
+    public static MemberSerializers resolve(
+            MemberDeclaration member,
+            SerializerProvider serializerProvider) throws JsonMappingException {
+        SerializationConfig config = serializerProvider.getConfig();
+        AnnotatedMember annotatedMember = findAnnotatedMember(member, config);
+        JavaType declaredType = config.getTypeFactory().constructType(member.getType());
+        BeanProperty property = new BeanProperty.Std(
+                PropertyName.construct(member.getKey()),
+                declaredType,
+                null,
+                annotatedMember,
+                PropertyMetadata.STD_OPTIONAL);
+
+        // A serializer named on the member (@JsonSerialize(using = ...)) wins, then final types resolve statically //
+        JsonSerializer<Object> staticSerializer = null;
+        AnnotationIntrospector annotationIntrospector = config.getAnnotationIntrospector();
+        if(annotatedMember != null && annotationIntrospector != null) {
+            Object serializerDefinition = annotationIntrospector.findSerializer(annotatedMember);
+            if(serializerDefinition != null) {
+                staticSerializer = (JsonSerializer<Object>) serializerProvider.handlePrimaryContextualization(
+                        serializerProvider.serializerInstance(annotatedMember, serializerDefinition), property);
+            }
+        }
+        if(staticSerializer == null && declaredType.isFinal()) {
+            staticSerializer = serializerProvider.findPrimaryPropertySerializer(declaredType, property);
+        }
+
+        return new MemberSerializers(declaredType, property, staticSerializer);
+    }
+
+    /**
+     * Returns the serializer for a value of the passed in runtime class
+     * @param valueType
+     * @param serializerProvider
+     * @return
+     * @throws JsonMappingException
+     */
+    public JsonSerializer<Object> fetchSerializer(
+            Class<?> valueType,
+            SerializerProvider serializerProvider) throws JsonMappingException {
+        if(staticSerializer != null) {
+            return staticSerializer;
+        }
+
+        PropertySerializerMap serializers = this.dynamicSerializers;
+        JsonSerializer<Object> serializer = serializers.serializerFor(valueType);
+        if(serializer == null) {
+            PropertySerializerMap.SerializerAndMapResult result = specializeDeclaredType ?
+                    serializers.findAndAddPrimarySerializer(
+                            serializerProvider.constructSpecializedType(declaredType, valueType),
+                            serializerProvider,
+                            property) :
+                    serializers.findAndAddPrimarySerializer(valueType, serializerProvider, property);
+            this.dynamicSerializers = result.map;
+            serializer = result.serializer;
+        }
+        return serializer;
+    }
+
+    /////////////////////
+    // Private Methods //
+    /////////////////////
+
+    private static AnnotatedMember findAnnotatedMember(
+            MemberDeclaration member,
+            SerializationConfig config) {
+        AnnotatedClass annotatedClass = config.introspectClassAnnotations(member.getDeclaringClass()).getClassInfo();
+
+        if(member.isField()) {
+            for(AnnotatedField annotatedField : annotatedClass.fields()) {
+                if(annotatedField.getName().equals(member.getName())) {
+                    return annotatedField;
+                }
+            }
+        } else {
+            for(AnnotatedMethod annotatedMethod : annotatedClass.memberMethods()) {
+                if(annotatedMethod.getName().equals(member.getName()) && annotatedMethod.getParameterCount() == 0) {
+                    return annotatedMethod;
+                }
+            }
+        }
+
+        // E.g. a static member, serialized off of its plain declared type //
+        return null;
+    }
+
+}
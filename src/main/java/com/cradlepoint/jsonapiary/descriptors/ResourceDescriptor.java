@@ -0,0 +1,325 @@
+package com.cradlepoint.jsonapiary.descriptors;
+
+import com.cradlepoint.jsonapiary.annotations.*;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.*;
+
+public class ResourceDescriptor {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    private static final Class<? extends Annotation> CATCH_ALL_JSON_API_OBJECT = JsonApiMeta.class;
+
+    private static final ClassValue<ResourceDescriptor> DESCRIPTORS = new ClassValue<ResourceDescriptor>() {
+        @Override
+        protected ResourceDescriptor computeValue(Class<?> type) {
+            return new ResourceDescriptor(type);
+        }
+    };
+
+    private final Class<?> type;
+
+    private final String typeName;
+
+    private final SerializableString serializedTypeName;
+
+    private final boolean jsonApiType;
+
+    private final List<MemberDescriptor> ids;
+
+    private final List<MemberDescriptor> attributes;
+
+    private final List<MemberDescriptor> links;
+
+    private final List<MemberDescriptor> metas;
+
+    private final List<MemberDescriptor> relationships;
+
+    /////////////////
+    // Constructor //
+    /////////////////
+
+    /**
+     * Constructor, analyzes the passed in type once
+     * @param type
+     */
+    private ResourceDescriptor(Class<?> type) {
+        this.type = type;
+        this.jsonApiType = type.isAnnotationPresent(JsonApiType.class);
+        this.typeName = resolveTypeName(type);
+        this.serializedTypeName = new SerializedString(this.typeName);
+
+        // Gather the complete (sub-class first) Field and Method hierarchy once //
+        List<Field> completeFields = new ArrayList<Field>();
+        List<Method> completeMethods = new ArrayList<Method>();
+        Class<?> currentType = type;
+        while(currentType != null) {
+            completeFields.addAll(Arrays.asList(currentType.getDeclaredFields()));
+            completeMethods.addAll(Arrays.asList(currentType.getDeclaredMethods()));
+            currentType = currentType.getSuperclass();
+        }
+
+        this.ids = collectMembers(completeFields, completeMethods, JsonApiId.class);
+        this.attributes = collectMembers(completeFields, completeMethods, JsonApiAttribute.class);
+        this.links = collectMembers(completeFields, completeMethods, JsonApiLink.class);
+        this.metas = collectMembers(completeFields, completeMethods, JsonApiMeta.class);
+        this.relationships = collectMembers(completeFields, completeMethods, JsonApiRelationship.class);
+    }
+
+    ////////////////////
+    // Public Methods //
+    ////////////////////
+
+    /**
+     * Returns the (cached) descriptor for the passed in type. Descriptors are built once per Class and are tied to
+     * the Class itself, so they are shared across ObjectMappers and do not pin class loaders.
+     * @param type
+     * @return
+     */
+    public static ResourceDescriptor forType(Class<?> type) {
+        return DESCRIPTORS.get(type);
+    }
+
+    /**
+     * Returns the members grouped under the passed in JsonAPI annotation
+     * @param annotation
+     * @return
+     */
+    public List<MemberDescriptor> getMembers(Class<? extends Annotation> annotation) {
+        if(annotation == JsonApiId.class) {
+            return this.ids;
+        } else if(annotation == JsonApiAttribute.class) {
+            return this.attributes;
+        } else if(annotation == JsonApiLink.class) {
+            return this.links;
+        } else if(annotation == JsonApiMeta.class) {
+            return this.metas;
+        } else if(annotation == JsonApiRelationship.class) {
+            return this.relationships;
+        } else {
+            String issue = "Unexpected JsonAPI annotation: " + annotation.getName() + " when describing type: " +
+                    this.type.getName();
+            throw new IllegalArgumentException(issue);
+        }
+    }
+
+    /////////////////////////
+    // Getters and Setters //
+    /////////////////////////
+
+    /**
+     * Returns the described type
+     * @return
+     */
+    public Class<?> getType() {
+        return this.type;
+    }
+
+    /**
+     * Returns the JsonAPI "type" value
+     * @return
+     */
+    public String getTypeName() {
+        return this.typeName;
+    }
+
+    /**
+     * Returns the JsonAPI "type" value, pre-encoded for writing
+     * @return
+     */
+    public SerializableString getSerializedTypeName() {
+        return this.serializedTypeName;
+    }
+
+    /**
+     * Returns whether or not the type carries the @JsonApiType annotation
+     * @return
+     */
+    public boolean isJsonApiType() {
+        return this.jsonApiType;
+    }
+
+    /**
+     * Returns the @JsonApiId members
+     * @return
+     */
+    public List<MemberDescriptor> getIds() {
+        return this.ids;
+    }
+
+    /**
+     * Returns the @JsonApiAttribute members
+     * @return
+     */
+    public List<MemberDescriptor> getAttributes() {
+        return this.attributes;
+    }
+
+    /**
+     * Returns the @JsonApiLink members
+     * @return
+     */
+    public List<MemberDescriptor> getLinks() {
+        return this.links;
+    }
+
+    /**
+     * Returns the @JsonApiMeta members, including the @JsonProperty "catch-all" members
+     * @return
+     */
+    public List<MemberDescriptor> getMetas() {
+        return this.metas;
+    }
+
+    /**
+     * Returns the @JsonApiRelationship members
+     * @return
+     */
+    public List<MemberDescriptor> getRelationships() {
+        return this.relationships;
+    }
+
+    /////////////////////
+    // Private Methods //
+    /////////////////////
+
+    /**
+     * Determines the JsonAPI "type" value, either the @JsonApiType override or the simple class name
+     * @param type
+     * @return
+     */
+    private static String resolveTypeName(Class<?> type) {
+        JsonApiType typeAnnotation = type.getAnnotation(JsonApiType.class);
+        if(typeAnnotation == null || typeAnnotation.value() == null || typeAnnotation.value().isEmpty()) {
+            return type.getSimpleName();
+        } else {
+            return typeAnnotation.value();
+        }
+    }
+
+    /**
+     * Collects all of the Fields and Methods that belong to the passed in annotation, ordered by their JsonAPI key.
+     * Fields come before Methods and sub-classes before super-classes, so later duplicates of a key win.
+     * @param completeFields
+     * @param completeMethods
+     * @param annotation
+     * @return
+     */
+    private static List<MemberDescriptor> collectMembers(
+            List<Field> completeFields,
+            List<Method> completeMethods,
+            Class<? extends Annotation> annotation) {
+        Map<String, MemberDescriptor> members = new LinkedHashMap<String, MemberDescriptor>();
+
+        for(Field field : completeFields) {
+            if(isMemberOf(field, annotation)) {
+                String key = fetchKey(field, field.getName(), annotation);
+                members.put(key, new MemberDescriptor(key, annotation, field));
+            }
+        }
+
+        for(Method method : completeMethods) {
+            if(isMemberOf(method, annotation)) {
+                String key = fetchKey(method, method.getName(), annotation);
+                members.put(key, new MemberDescriptor(key, annotation, method));
+            }
+        }
+
+        List<MemberDescriptor> orderedMembers = new ArrayList<MemberDescriptor>(members.values());
+        Collections.sort(orderedMembers, new Comparator<MemberDescriptor>() {
+            @Override
+            public int compare(MemberDescriptor first, MemberDescriptor second) {
+                return first.getKey().compareTo(second.getKey());
+            }
+        });
+
+        return Collections.unmodifiableList(orderedMembers);
+    }
+
+    /**
+     * Determines whether or not the Field/Method is (explicitly or implicitly) part of the annotation
+     * @param element
+     * @param annotation
+     * @return
+     */
+    private static boolean isMemberOf(
+            AnnotatedElement element,
+            Class<? extends Annotation> annotation) {
+        if(element.isAnnotationPresent(annotation)) {
+            // This Field/Method is EXPLICITLY part of the annotation //
+            return true;
+        } else if(isOtherJsonApiAnnotationPresent(element.getDeclaredAnnotations())) {
+            // This Field/Method is explicitly NOT part of the annotation //
+            return false;
+        } else if(element.isAnnotationPresent(JsonApiIgnore.class)) {
+            // This Field/Method is explicitly NOT to be included in the JsonAPI serialization //
+            return false;
+        } else {
+            // This Field/Method is IMPLICITLY part of the annotation, if it is the "catch-all" //
+            return CATCH_ALL_JSON_API_OBJECT.equals(annotation) && element.isAnnotationPresent(JsonProperty.class);
+        }
+    }
+
+    /**
+     * Resolves the JsonAPI key of a Field/Method: the JsonAPI annotation value, then the @JsonProperty value, and
+     * finally the Java name.
+     * @param element
+     * @param name
+     * @param jsonApiAnnotation
+     * @return
+     */
+    private static String fetchKey(
+            AnnotatedElement element,
+            String name,
+            Class<? extends Annotation> jsonApiAnnotation) {
+        String key = null;
+
+        // Check to see if there is a JsonAPI annotation with a value //
+        if(jsonApiAnnotation == JsonApiAttribute.class && element.isAnnotationPresent(JsonApiAttribute.class)) {
+            key = element.getAnnotation(JsonApiAttribute.class).value();
+        } else if(jsonApiAnnotation == JsonApiLink.class && element.isAnnotationPresent(JsonApiLink.class)) {
+            key = element.getAnnotation(JsonApiLink.class).value();
+        } else if(jsonApiAnnotation == JsonApiMeta.class && element.isAnnotationPresent(JsonApiMeta.class)) {
+            key = element.getAnnotation(JsonApiMeta.class).value();
+        } else if(jsonApiAnnotation == JsonApiRelationship.class && element.isAnnotationPresent(JsonApiRelationship.class)) {
+            key = element.getAnnotation(JsonApiRelationship.class).value();
+        }
+
+        if(key != null && !key.isEmpty()) {
+            return key;
+        }
+
+        // Check to see if there is a value on a Jackson annotation //
+        if(element.isAnnotationPresent(JsonProperty.class)) {
+            key = element.getAnnotation(JsonProperty.class).value();
+        }
+
+        if(key != null && !key.isEmpty()) {
+            return key;
+        }
+
+        // As a last resort, return the Field/Method name //
+        return name;
+    }
+
+    private static boolean isOtherJsonApiAnnotationPresent(
+            Annotation[] annotations) {
+        for(Annotation presentAnnotation : annotations) {
+            if(presentAnnotation.annotationType().isAnnotationPresent(JsonApiProperty.class)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+}
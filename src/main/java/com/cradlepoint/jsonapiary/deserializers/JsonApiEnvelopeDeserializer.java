@@ -1,38 +1,89 @@
 package com.cradlepoint.jsonapiary.deserializers;
 
 import com.cradlepoint.jsonapiary.constants.JsonApiKeyConstants;
+import com.cradlepoint.jsonapiary.deserializers.helpers.JsonApiTypeRegistry;
 import com.cradlepoint.jsonapiary.deserializers.helpers.LinksDeserializer;
+import com.cradlepoint.jsonapiary.deserializers.helpers.ResourceDeserializationPlan;
 import com.cradlepoint.jsonapiary.envelopes.JsonApiEnvelope;
-import com.cradlepoint.jsonapiary.types.ResourceLinkage;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.ValueInstantiator;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.stream.BaseStream;
 
-public class JsonApiEnvelopeDeserializer extends StdDeserializer<JsonApiEnvelope> {
+/**
+ * Deserializes JsonApiEnvelopes. An envelope whose data type is known (through ObjectMapper.readerFor(...) with a
+ * TypeReference, or as the declared type of a property) gets a deserializer of its own: its primary data resources
+ * are bound with the plan of the expected JsonAPI type without looking their "type" up, resources of any other type
+ * are rejected as soon as their "type" is read, and Collections of them are read straight into the requested
+ * Collection type. Jackson caches those per envelope type; they share this deserializer's registered types.
+ */
+public class JsonApiEnvelopeDeserializer extends StdDeserializer<JsonApiEnvelope> implements ContextualDeserializer {
 
     ////////////////
     // Attributes //
     ////////////////
 
-    private Map<String, Class> jsonApiTypeMap;
+    // The deserializer holding the registered types and settings; this one, unless specialized on a data type //
+    private final JsonApiEnvelopeDeserializer rootDeserializer;
+
+    // Every registered type; replaced (copy-on-write) as types are registered at runtime //
+    private volatile JsonApiTypeRegistry typeRegistry;
+
+    // Whether attributes objects are bound with deserializers limited to the attribute members //
+    private volatile boolean beanAttributes;
+
+    // Whether the hrefs of top-level links are checked to be absolute URIs //
+    private volatile boolean validateLinks = true;
+
+    // The expected data type, null if unknown //
+    private final JavaType dataType;
+
+    // The type the primary data resources must be of, null for any registered type //
+    private final Class<?> resourceType;
+
+    // Creates the Collection the primary data resources are read into, null if the data is a single resource //
+    private final ValueInstantiator collectionInstantiator;
 
     /////////////////
     // Constructor //
     /////////////////
 
     /**
-     * private void constructor
+     * Constructor of the deserializer of envelopes with a known data type
+     * @param rootDeserializer
+     * @param dataType
+     * @param resourceType
+     * @param collectionInstantiator
      */
-    private JsonApiEnvelopeDeserializer() {
+    private JsonApiEnvelopeDeserializer(
+            JsonApiEnvelopeDeserializer rootDeserializer,
+            JavaType dataType,
+            Class<?> resourceType,
+            ValueInstantiator collectionInstantiator) {
         super(JsonApiEnvelope.class);
+        this.rootDeserializer = rootDeserializer;
+        this.dataType = dataType;
+        this.resourceType = resourceType;
+        this.collectionInstantiator = collectionInstantiator;
     }
 
     /**
@@ -41,8 +92,110 @@ public class JsonApiEnvelopeDeserializer extends StdDeserializer<JsonApiEnvelope
      */
     public JsonApiEnvelopeDeserializer(
             Map<String, Class> jsonApiTypeMap) {
+        this(jsonApiTypeMap, Collections.<Class<?>, JsonApiResourceDeserializer<?>>emptyMap());
+    }
+
+    /**
+     * Constructor taking in JsonAPI type map, and the compile-time generated deserializers keyed by the type they
+     * deserialize
+     * @param jsonApiTypeMap
+     * @param generatedDeserializers
+     */
+    public JsonApiEnvelopeDeserializer(
+            Map<String, Class> jsonApiTypeMap,
+            Map<Class<?>, JsonApiResourceDeserializer<?>> generatedDeserializers) {
         super(JsonApiEnvelope.class);
-        this.jsonApiTypeMap = jsonApiTypeMap;
+        this.rootDeserializer = this;
+        this.typeRegistry = JsonApiTypeRegistry.empty().withTypes(jsonApiTypeMap, generatedDeserializers);
+        this.dataType = null;
+        this.resourceType = null;
+        this.collectionInstantiator = null;
+    }
+
+    ////////////////////
+    // Public Methods //
+    ////////////////////
+
+    /**
+     * Registers more JsonAPI types, keyed by their "type" value. Documents already being read keep reading with the
+     * types registered when they started.
+     * @param jsonApiTypeMap
+     * @param generatedDeserializers
+     */
+    public synchronized void registerTypes(
+            Map<String, Class> jsonApiTypeMap,
+            Map<Class<?>, JsonApiResourceDeserializer<?>> generatedDeserializers) {
+        if(rootDeserializer != this) {
+            rootDeserializer.registerTypes(jsonApiTypeMap, generatedDeserializers);
+            return;
+        }
+        this.typeRegistry = typeRegistry.withTypes(jsonApiTypeMap, generatedDeserializers);
+    }
+
+    /**
+     * Binds the attributes objects of reflectively deserialized types with (copies of) their Jackson
+     * BeanDeserializers, limited to their attribute members
+     * @param beanAttributes
+     */
+    public void setBeanAttributes(
+            boolean beanAttributes) {
+        rootDeserializer.beanAttributes = beanAttributes;
+    }
+
+    /**
+     * Sets whether or not the hrefs of top-level links are checked to be absolute URIs
+     * @param validateLinks
+     */
+    public void setValidateLinks(
+            boolean validateLinks) {
+        rootDeserializer.validateLinks = validateLinks;
+    }
+
+    /**
+     * Returns the types currently registered
+     * @return
+     */
+    public JsonApiTypeRegistry getTypeRegistry() {
+        return rootDeserializer.typeRegistry;
+    }
+
+    /**
+     * Returns the deserializer of envelopes with data of the passed in type: a (JsonAPI) type, or a Collection of one.
+     * Envelopes of unknown, or streamed (Iterator, Iterable, Stream), data types are read by this deserializer.
+     * @param dataType
+     * @param deserializationContext
+     * @return
+     * @throws JsonMappingException
+     */
+    public JsonApiEnvelopeDeserializer forDataType(
+            JavaType dataType,
+            DeserializationContext deserializationContext) throws JsonMappingException {
+        if(dataType == null || dataType.isJavaLangObject()) {
+            return this;
+        }
+
+        JavaType resourceType = dataType;
+        ValueInstantiator collectionInstantiator = null;
+        if(dataType.isCollectionLikeType()) {
+            // Let Jackson pick the concrete Collection type (e.g. ArrayList for List, HashSet for Set) //
+            JsonDeserializer<Object> collectionDeserializer =
+                    deserializationContext.findRootValueDeserializer(dataType);
+            if(collectionDeserializer instanceof ValueInstantiator.Gettable) {
+                collectionInstantiator = ((ValueInstantiator.Gettable) collectionDeserializer).getValueInstantiator();
+            }
+            if(collectionInstantiator == null || !collectionInstantiator.canCreateUsingDefault()) {
+                return this;
+            }
+            resourceType = dataType.getContentType();
+        } else if(isStreamedType(dataType.getRawClass())) {
+            return this;
+        }
+
+        return new JsonApiEnvelopeDeserializer(
+                rootDeserializer,
+                dataType,
+                resourceType.isJavaLangObject() ? null : resourceType.getRawClass(),
+                collectionInstantiator);
     }
 
     /////////////////////////////
@@ -50,7 +203,8 @@ public class JsonApiEnvelopeDeserializer extends StdDeserializer<JsonApiEnvelope
     /////////////////////////////
 
     /**
-     * Deserializes json into enveloped, and properly annotated, new object
+     * Deserializes json into enveloped, and properly annotated, new object. The json is read token by token: resources
+     * are bound as they are read, and relationships are linked up once the whole document was read.
      * @param jsonParser
      * @param deserializationContext
      * @return
@@ -60,35 +214,59 @@ public class JsonApiEnvelopeDeserializer extends StdDeserializer<JsonApiEnvelope
     public JsonApiEnvelope deserialize(
             JsonParser jsonParser,
             DeserializationContext deserializationContext) throws IOException, JsonProcessingException {
-        // Convert to tree //
-        JsonNode rootNode = jsonParser.getCodec().readTree(jsonParser);
-
-        // Fetch the Data, Included, and Meta nodes... //
-        JsonNode dataNode = rootNode.get(JsonApiKeyConstants.DATA_KEY);
-        JsonNode includedNode = rootNode.get(JsonApiKeyConstants.INCLUDED_KEY);
-        JsonNode linksNode = rootNode.get(JsonApiKeyConstants.LINKS_KEY);
-        JsonNode metaNode = rootNode.get(JsonApiKeyConstants.META_DATA_KEY);
+        if(!jsonParser.isExpectedStartObjectToken()) {
+            return (JsonApiEnvelope) deserializationContext.handleUnexpectedToken(JsonApiEnvelope.class, jsonParser);
+        }
 
         // Bootstrap a new JsonApiObjectManager //
-        JsonApiObjectManager jsonApiObjectManager = new JsonApiObjectManager(
-                dataNode,
-                includedNode,
-                jsonApiTypeMap);
+        JsonApiTypeRegistry typeRegistry = rootDeserializer.typeRegistry;
+        JsonApiObjectManager jsonApiObjectManager =
+                new JsonApiObjectManager(typeRegistry, rootDeserializer.beanAttributes);
 
-        // Loop through processing and collecting all the primary object(s) //
+        // Read the Data, Included, Links and Meta, in whatever order they come in //
         Object dataObject = null;
-        List<ResourceLinkage> dataObjectResourceLinkages = jsonApiObjectManager.getPrimaryObjects();
-        if(dataNode.isArray()) {
-            List<Object> dataObjects = new ArrayList<Object>();
-            for(ResourceLinkage dataObjectResourceLinkage : dataObjectResourceLinkages) {
-                dataObjects.add(
-                        jsonApiObjectManager.lazyFetchObject(dataObjectResourceLinkage, deserializationContext));
+        JsonNode linksNode = null;
+        JsonNode metaNode = null;
+        for(String key = jsonParser.nextFieldName(); key != null; key = jsonParser.nextFieldName()) {
+            JsonToken token = jsonParser.nextToken();
+            if(JsonApiKeyConstants.DATA_KEY.equals(key)) {
+                if(dataType != null) {
+                    dataObject = readTypedData(
+                            jsonApiObjectManager,
+                            resourceType == null ? null : typeRegistry.findDeserializationPlan(resourceType),
+                            jsonParser,
+                            deserializationContext);
+                } else if(token == JsonToken.START_ARRAY) {
+                    List<Object> dataObjects = new ArrayList<Object>();
+                    while(jsonParser.nextToken() != JsonToken.END_ARRAY) {
+                        dataObjects.add(jsonApiObjectManager.readResource(jsonParser, deserializationContext));
+                    }
+                    dataObject = dataObjects;
+                } else if(token != JsonToken.VALUE_NULL) {
+                    dataObject = jsonApiObjectManager.readResource(jsonParser, deserializationContext);
+                }
+            } else if(JsonApiKeyConstants.INCLUDED_KEY.equals(key) && token == JsonToken.START_ARRAY) {
+                while(jsonParser.nextToken() != JsonToken.END_ARRAY) {
+                    jsonApiObjectManager.readResource(jsonParser, deserializationContext);
+                }
+            } else if(JsonApiKeyConstants.LINKS_KEY.equals(key)) {
+                linksNode = jsonParser.readValueAsTree();
+            } else if(JsonApiKeyConstants.META_DATA_KEY.equals(key)) {
+                metaNode = jsonParser.readValueAsTree();
+            } else {
+                jsonParser.skipChildren();
             }
-            dataObject = dataObjects;
-        } else {
-            dataObject = jsonApiObjectManager.lazyFetchObject(dataObjectResourceLinkages.get(0), deserializationContext);
         }
 
+        // Sanity Check //
+        if(dataObject == null) {
+            String issue = "Somehow the \"data\" object in the Json is null! Cannot deserialize!";
+            throw new IllegalArgumentException(issue);
+        }
+
+        // Link up the relationships to resources that came after the resources referring to them //
+        jsonApiObjectManager.linkPendingRelationships();
+
         // Construct the Envelop from deserialized data //
         JsonApiEnvelope jsonApiEnvelope = new JsonApiEnvelope(dataObject);
 
@@ -96,7 +274,8 @@ public class JsonApiEnvelopeDeserializer extends StdDeserializer<JsonApiEnvelope
         if(linksNode != null && !linksNode.isNull()) {
             LinksDeserializer.deserializeLinksInto(
                     jsonApiEnvelope,
-                    linksNode);
+                    linksNode,
+                    rootDeserializer.validateLinks);
         }
 
         // Deserialize the top-level meta //
@@ -114,4 +293,87 @@ public class JsonApiEnvelopeDeserializer extends StdDeserializer<JsonApiEnvelope
         return jsonApiEnvelope;
     }
 
+    ////////////////////////////////////
+    // ContextualDeserializer Methods //
+    ////////////////////////////////////
+
+    /**
+     * Specializes the deserializer of an envelope on its (requested or declared) data type
+     * @param deserializationContext
+     * @param beanProperty
+     * @return
+     * @throws JsonMappingException
+     */
+    @Override
+    public JsonDeserializer<?> createContextual(
+            DeserializationContext deserializationContext,
+            BeanProperty beanProperty) throws JsonMappingException {
+        JavaType envelopeType = deserializationContext.getContextualType();
+        if(envelopeType == null && beanProperty != null) {
+            envelopeType = beanProperty.getType();
+        }
+        if(dataType != null || envelopeType == null) {
+            return this;
+        }
+
+        JavaType[] dataTypes = envelopeType.findTypeParameters(JsonApiEnvelope.class);
+        return forDataType(dataTypes.length == 1 ? dataTypes[0] : null, deserializationContext);
+    }
+
+    /////////////////////
+    // Private Methods //
+    /////////////////////
+
+    /**
+     * Reads the primary data of an envelope with a known data type: a single resource, or a Collection of them
+     * @param jsonApiObjectManager
+     * @param resourcePlan the plan of the expected resource type, null if that type itself is not registered
+     * @param jsonParser
+     * @param deserializationContext
+     * @return
+     * @throws IOException
+     */
+    private Object readTypedData(
+            JsonApiObjectManager jsonApiObjectManager,
+            ResourceDeserializationPlan resourcePlan,
+            JsonParser jsonParser,
+            DeserializationContext deserializationContext) throws IOException {
+        JsonToken token = jsonParser.currentToken();
+        if(token == JsonToken.VALUE_NULL) {
+            return null;
+        } else if(collectionInstantiator == null) {
+            if(token == JsonToken.START_ARRAY) {
+                return deserializationContext.reportInputMismatch(dataType,
+                        "Expected a single resource as the \"%s\" of an envelope of %s, found an array",
+                        JsonApiKeyConstants.DATA_KEY, dataType);
+            }
+            return jsonApiObjectManager.readResource(jsonParser, deserializationContext, resourceType, resourcePlan);
+        }
+
+        Collection<Object> dataObjects = (Collection<Object>) collectionInstantiator.createUsingDefault(
+                deserializationContext);
+        if(token != JsonToken.START_ARRAY) {
+            if(!deserializationContext.isEnabled(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY)) {
+                return deserializationContext.reportInputMismatch(dataType,
+                        "Expected an array as the \"%s\" of an envelope of %s, found a single resource",
+                        JsonApiKeyConstants.DATA_KEY, dataType);
+            }
+            dataObjects.add(
+                    jsonApiObjectManager.readResource(jsonParser, deserializationContext, resourceType, resourcePlan));
+            return dataObjects;
+        }
+
+        while(jsonParser.nextToken() != JsonToken.END_ARRAY) {
+            dataObjects.add(
+                    jsonApiObjectManager.readResource(jsonParser, deserializationContext, resourceType, resourcePlan));
+        }
+        return dataObjects;
+    }
+
+    private static boolean isStreamedType(
+            Class<?> type) {
+        return Iterator.class.isAssignableFrom(type) || Iterable.class.isAssignableFrom(type) ||
+                BaseStream.class.isAssignableFrom(type) || Spliterator.class.isAssignableFrom(type);
+    }
+
 }
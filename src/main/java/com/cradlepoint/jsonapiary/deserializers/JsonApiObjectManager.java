@@ -1,90 +1,85 @@
 package com.cradlepoint.jsonapiary.deserializers;
 
-import com.cradlepoint.jsonapiary.annotations.JsonApiRelationship;
 import com.cradlepoint.jsonapiary.constants.JsonApiKeyConstants;
 import com.cradlepoint.jsonapiary.deserializers.helpers.AttributesDeserializer;
 import com.cradlepoint.jsonapiary.deserializers.helpers.DeserializationUtilities;
+import com.cradlepoint.jsonapiary.deserializers.helpers.JsonApiTypeRegistry;
 import com.cradlepoint.jsonapiary.deserializers.helpers.MetaDeserializer;
-import com.cradlepoint.jsonapiary.types.ResourceLinkage;
+import com.cradlepoint.jsonapiary.deserializers.helpers.ResourceDeserializationPlan;
+import com.cradlepoint.jsonapiary.deserializers.helpers.ResourceIndex;
+import com.cradlepoint.jsonapiary.deserializers.helpers.ResourceKey;
+import com.cradlepoint.jsonapiary.enums.JsonApiObjectContext;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 import java.io.IOException;
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.Hashtable;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Binds the resources of one JsonAPI document as they stream by. Every resource is created (once per type and id) as
+ * soon as its "type" and "id" are read, and its "attributes" and "meta" are bound right away; members that come before
+ * the "type" and "id" are held in a TokenBuffer until then. Relationships to resources that were already read are set
+ * right away, the others are remembered as (type, id) references and set once the whole document was read, so only
+ * the unresolved references are held on to rather than the document itself.
+ */
 class JsonApiObjectManager {
 
     ////////////////
     // Attributes //
     ////////////////
 
-    private List<ResourceLinkage> primaryObjects;
-    private Map<ResourceLinkage, JsonNode> includedsSet;
-    private Map<ResourceLinkage, Object> includeds;
-    private Map<String, Class> jsonApiTypeMap;
+    // The types registered when the document started being read //
+    private final JsonApiTypeRegistry typeRegistry;
+
+    // Every resource (with an id) read so far //
+    private final ResourceIndex resources;
+
+    // Relationships referring to resources that were not read yet //
+    private final List<PendingRelationship> pendingRelationships;
+
+    // The (Jackson) deserializers the attributes and meta objects are bound with, per type //
+    private final Map<Class<?>, JsonDeserializer<Object>> objectDeserializers;
+
+    // Whether attributes objects are bound with deserializers limited to the attribute members //
+    private final boolean beanAttributes;
+
+    // The deserializers limited to the attribute members, per type //
+    private final Map<Class<?>, JsonDeserializer<Object>> attributesDeserializers;
 
     /////////////////
     // Constructor //
     /////////////////
 
     /**
-     * Private void constructor
+     * Constructor
+     * @param typeRegistry
      */
-    private JsonApiObjectManager() { }
+    public JsonApiObjectManager(
+            JsonApiTypeRegistry typeRegistry) {
+        this(typeRegistry, false);
+    }
 
     /**
      * Constructor
-     * @param dataNode
-     * @param includedsNode
-     * @param jsonApiTypeMap
+     * @param typeRegistry
+     * @param beanAttributes bind attributes objects with deserializers limited to the attribute members
      */
     public JsonApiObjectManager(
-            JsonNode dataNode,
-            JsonNode includedsNode,
-            Map<String, Class> jsonApiTypeMap) {
-        // Sanity Check //
-        if(dataNode == null || dataNode.isNull()) {
-            String issue = "Somehow the \"data\" object in the Json is null! Cannot deserialize!";
-            throw new IllegalArgumentException(issue);
-        }
-
-        // Load the primary "data" object(s) //
-        primaryObjects = new ArrayList<ResourceLinkage>();
-        includedsSet = new Hashtable<ResourceLinkage, JsonNode>();
-        if(dataNode.isArray()) {
-            for(JsonNode dataArrayElementNode : dataNode) {
-                ResourceLinkage resourceLinkage =
-                        DeserializationUtilities.generateResourceLinkageFromNode(dataArrayElementNode, jsonApiTypeMap);
-                includedsSet.put(
-                        resourceLinkage,
-                        dataArrayElementNode);
-                primaryObjects.add(resourceLinkage);
-            }
-        } else {
-            ResourceLinkage resourceLinkage =
-                    DeserializationUtilities.generateResourceLinkageFromNode(dataNode, jsonApiTypeMap);
-            includedsSet.put(
-                    resourceLinkage,
-                    dataNode);
-            primaryObjects.add(resourceLinkage);
-        }
-
-        // Load all of the includeds //
-        if(includedsNode != null && !(includedsNode.isNull())) {
-            for (JsonNode includedNode : includedsNode) {
-                includedsSet.put(
-                        DeserializationUtilities.generateResourceLinkageFromNode(includedNode, jsonApiTypeMap),
-                        includedNode);
-            }
-        }
-
-        includeds = new Hashtable<ResourceLinkage, Object>();
-        this.jsonApiTypeMap = jsonApiTypeMap;
+            JsonApiTypeRegistry typeRegistry,
+            boolean beanAttributes) {
+        this.typeRegistry = typeRegistry;
+        this.resources = new ResourceIndex();
+        this.pendingRelationships = new ArrayList<PendingRelationship>();
+        this.objectDeserializers = new HashMap<Class<?>, JsonDeserializer<Object>>();
+        this.beanAttributes = beanAttributes;
+        this.attributesDeserializers = new HashMap<Class<?>, JsonDeserializer<Object>>();
     }
 
     ////////////////////
@@ -92,278 +87,382 @@ class JsonApiObjectManager {
     ////////////////////
 
     /**
-     * Fetch the "primary" Objects from the json's "data" Object
+     * Reads the JsonAPI resource object the parser is positioned on (START_OBJECT), and returns the resource it was
+     * bound into. A resource with the same type and id as one read before is bound into that same instance.
+     * @param jsonParser
+     * @param deserializationContext
      * @return
+     * @throws IOException
      */
-    public List<ResourceLinkage> getPrimaryObjects() {
-        return this.primaryObjects;
+    public Object readResource(
+            JsonParser jsonParser,
+            DeserializationContext deserializationContext) throws IOException {
+        return readResource(jsonParser, deserializationContext, null, null);
     }
 
     /**
-     * Lazily fetches an object from the json from a ResourceLinkage. If that object is not present in the json,
-     * null is returned.
-     * @param resourceLinkage
+     * Reads the JsonAPI resource object the parser is positioned on (START_OBJECT), which must be of the passed in
+     * (expected) type, or of a sub-type of it. Resources of the expected type itself are bound with the passed in plan
+     * without looking their "type" value up; resources of any other type are rejected as soon as their "type" is read.
+     * @param jsonParser
      * @param deserializationContext
+     * @param expectedType the type the resource must be of, null for any registered type
+     * @param expectedPlan the plan of the expected type, null if the type itself is not registered
      * @return
      * @throws IOException
      */
-    public Object lazyFetchObject(
-            ResourceLinkage resourceLinkage,
-            DeserializationContext deserializationContext) throws IOException {
-        // Sanity Check... //
-        if(!includedsSet.containsKey(resourceLinkage)) {
-            return null;
+    public Object readResource(
+            JsonParser jsonParser,
+            DeserializationContext deserializationContext,
+            Class<?> expectedType,
+            ResourceDeserializationPlan expectedPlan) throws IOException {
+        if(!jsonParser.isExpectedStartObjectToken()) {
+            return deserializationContext.handleUnexpectedToken(Object.class, jsonParser);
         }
 
-        // First, check to see if we've already generated this thing... //
-        if(includeds.containsKey(resourceLinkage)) {
-            return includeds.get(resourceLinkage);
+        ResourceDeserializationPlan deserializationPlan = null;
+        JsonNode idNode = null;
+        Object resource = null;
+        TokenBuffer earlyMembers = null;
+        for(String key = jsonParser.nextFieldName(); key != null; key = jsonParser.nextFieldName()) {
+            jsonParser.nextToken();
+            if(JsonApiKeyConstants.TYPE_KEY.equals(key)) {
+                deserializationPlan = expectedPlan != null && expectedPlan.matchesTypeName(jsonParser) ?
+                        expectedPlan : fetchDeserializationPlan(expectedType, jsonParser, deserializationContext);
+            } else if(JsonApiKeyConstants.ID_KEY.equals(key)) {
+                idNode = DeserializationUtilities.readIdNode(jsonParser);
+            } else if(resource != null) {
+                readMember(resource, deserializationPlan, key, jsonParser, deserializationContext);
+            } else {
+                // Hold on to the member until the "type" and "id" are known //
+                if(earlyMembers == null) {
+                    earlyMembers = new TokenBuffer(jsonParser, deserializationContext);
+                    earlyMembers.writeStartObject();
+                }
+                earlyMembers.writeFieldName(key);
+                earlyMembers.copyCurrentStructure(jsonParser);
+            }
+
+            if(resource == null && deserializationPlan != null && idNode != null) {
+                resource = fetchOrCreateResource(deserializationPlan, idNode);
+                readEarlyMembers(resource, deserializationPlan, earlyMembers, jsonParser, deserializationContext);
+                earlyMembers = null;
+            }
         }
 
-        // Generate the Object, and deserialize into it! //
-        JsonNode objectNode = includedsSet.get(resourceLinkage);
-        Object object = DeserializationUtilities.generateObjectFromNode(objectNode, jsonApiTypeMap);
+        // No "id" (e.g. a resource to be created), every such resource is a new one //
+        if(resource == null) {
+            if(deserializationPlan == null) {
+                // No "type" in the json, which fails the lookup //
+                deserializationPlan = typeRegistry.fetchDeserializationPlan((String) null);
+            }
+            resource = fetchOrCreateResource(deserializationPlan, idNode);
+            readEarlyMembers(resource, deserializationPlan, earlyMembers, jsonParser, deserializationContext);
+        }
 
-        deserializeInto(
-                object,
-                objectNode,
-                deserializationContext);
+        return resource;
+    }
 
-        return object;
+    /**
+     * Sets the relationships that referred to resources further down the document. Relationships to resources that
+     * are not in the document at all are left unset (or null, within a List).
+     */
+    public void linkPendingRelationships() {
+        for(PendingRelationship pendingRelationship : pendingRelationships) {
+            Object relationship = fetchRelationship(pendingRelationship.resourceLinkages, true);
+            if(relationship != null) {
+                pendingRelationship.deserializationPlan.setRelationship(
+                        pendingRelationship.resource,
+                        pendingRelationship.key,
+                        relationship);
+            }
+        }
+        pendingRelationships.clear();
     }
 
     /////////////////////
     // Private Methods //
     /////////////////////
 
-    /**
-     * Deserializes json into the passed in Object
-     * @param object
-     * @param objectNode
-     * @param deserializationContext
-     * @throws IOException
-     */
-    private void deserializeInto(
-            Object object,
-            JsonNode objectNode,
+    private Object fetchOrCreateResource(
+            ResourceDeserializationPlan deserializationPlan,
+            JsonNode idNode) {
+        ResourceKey resourceKey = deserializationPlan.keyFor(idNode);
+        if(resourceKey == null) {
+            return deserializationPlan.createResource(null);
+        }
+
+        Object resource = resources.get(resourceKey);
+        if(resource == null) {
+            resource = deserializationPlan.createResource(resourceKey.getId());
+            resources.putIfAbsent(resourceKey, resource);
+        }
+        return resource;
+    }
+
+    private ResourceDeserializationPlan fetchDeserializationPlan(
+            Class<?> expectedType,
+            JsonParser jsonParser,
             DeserializationContext deserializationContext) throws IOException {
-        // Fetch the JsonAPI nodes //
-        JsonNode attributesNode = objectNode.get(JsonApiKeyConstants.ATTRIBUTES_KEY);
-        JsonNode linksNode = objectNode.get(JsonApiKeyConstants.LINKS_KEY);
-        JsonNode metaNode = objectNode.get(JsonApiKeyConstants.META_DATA_KEY);
-        JsonNode relationshipsNode = objectNode.get(JsonApiKeyConstants.RELATIONSHIPS_KEY);
-
-        // Populate from Attributes //
-        if(attributesNode != null) {
-            AttributesDeserializer.deserializeAttributesInto(
-                    object,
-                    attributesNode,
-                    deserializationContext);
+        ResourceDeserializationPlan deserializationPlan = typeRegistry.fetchDeserializationPlan(jsonParser);
+        if(expectedType != null && !expectedType.isAssignableFrom(deserializationPlan.getType())) {
+            return deserializationContext.reportInputMismatch(expectedType, "Expected a resource of type %s, " +
+                    "found one of JsonAPI type \"%s\" (type: %s)", expectedType.getName(),
+                    deserializationPlan.getTypeName(), deserializationPlan.getType().getName());
         }
+        return deserializationPlan;
+    }
 
-        // Populate from Links //
-        if(linksNode != null) {
-            // TODO: do something here!
+    private JsonDeserializer<Object> fetchObjectDeserializer(
+            Class<?> type,
+            DeserializationContext deserializationContext) throws IOException {
+        JsonDeserializer<Object> objectDeserializer = objectDeserializers.get(type);
+        if(objectDeserializer == null) {
+            objectDeserializer = AttributesDeserializer.fetchObjectDeserializer(type, deserializationContext);
+            objectDeserializers.put(type, objectDeserializer);
         }
+        return objectDeserializer;
+    }
 
-        // Populate from Meta //
-        if(metaNode != null) {
-            MetaDeserializer.deserializeMetaInto(
-                    object,
-                    metaNode,
-                    deserializationContext);
+    private JsonDeserializer<Object> fetchAttributesDeserializer(
+            Class<?> type,
+            ResourceDeserializationPlan deserializationPlan,
+            DeserializationContext deserializationContext) throws IOException {
+        if(!beanAttributes) {
+            return fetchObjectDeserializer(type, deserializationContext);
+        }
+
+        JsonDeserializer<Object> attributesDeserializer = attributesDeserializers.get(type);
+        if(attributesDeserializer == null) {
+            attributesDeserializer = deserializationPlan.fetchAttributesDeserializer(
+                    fetchObjectDeserializer(type, deserializationContext), deserializationContext);
+            attributesDeserializers.put(type, attributesDeserializer);
+        }
+        return attributesDeserializer;
+    }
+
+    private void readEarlyMembers(
+            Object resource,
+            ResourceDeserializationPlan deserializationPlan,
+            TokenBuffer earlyMembers,
+            JsonParser jsonParser,
+            DeserializationContext deserializationContext) throws IOException {
+        if(earlyMembers == null) {
+            return;
         }
 
-        // Populate from Relationships //
-        if(relationshipsNode != null) {
-            deserializeRelationshipsInto(
-                    object,
-                    relationshipsNode,
-                    deserializationContext);
+        earlyMembers.writeEndObject();
+        JsonParser earlyMembersParser = earlyMembers.asParser(jsonParser.getCodec());
+        earlyMembersParser.nextToken();
+        for(String key = earlyMembersParser.nextFieldName(); key != null; key = earlyMembersParser.nextFieldName()) {
+            earlyMembersParser.nextToken();
+            readMember(resource, deserializationPlan, key, earlyMembersParser, deserializationContext);
         }
+        earlyMembersParser.close();
     }
 
     /**
-     * Deserializes JsonAPI "relationships" object into the passed in (java) object
-     * @param object
-     * @param relationshipsNode
+     * Reads one member ("attributes", "relationships", ...) of a JsonAPI resource object into the resource
+     * @param resource
+     * @param deserializationPlan
+     * @param key
+     * @param jsonParser
      * @param deserializationContext
      * @throws IOException
      */
-    private void deserializeRelationshipsInto(
-            Object object,
-            JsonNode relationshipsNode,
+    private void readMember(
+            Object resource,
+            ResourceDeserializationPlan deserializationPlan,
+            String key,
+            JsonParser jsonParser,
             DeserializationContext deserializationContext) throws IOException {
+        if(jsonParser.hasToken(JsonToken.VALUE_NULL)) {
+            return;
+        }
 
-        /////////////////
-        // BUCKLE. UP. //
-        /////////////////
-
-        // Fetch the Relationship Fields on the Type //
-        List<Field> completeFields = new ArrayList<Field>();
-        Class type = object.getClass();
-        while(type != null) {
-            for(Field field : type.getDeclaredFields()) {
-                completeFields.add(field);
+        JsonApiResourceDeserializer generatedDeserializer = deserializationPlan.getGeneratedDeserializer();
+        if(JsonApiKeyConstants.ATTRIBUTES_KEY.equals(key)) {
+            // Populate from Attributes //
+            if(generatedDeserializer != null) {
+                generatedDeserializer.deserializeMembersInto(
+                        resource, jsonParser, JsonApiObjectContext.ATTRIBUTE, deserializationContext);
+            } else {
+                AttributesDeserializer.deserializeAttributesInto(
+                        resource,
+                        fetchAttributesDeserializer(resource.getClass(), deserializationPlan, deserializationContext),
+                        jsonParser,
+                        deserializationContext);
             }
-            type = type.getSuperclass();
+        } else if(JsonApiKeyConstants.META_DATA_KEY.equals(key)) {
+            // Populate from Meta //
+            if(generatedDeserializer != null) {
+                generatedDeserializer.deserializeMembersInto(
+                        resource, jsonParser, JsonApiObjectContext.META, deserializationContext);
+            } else {
+                MetaDeserializer.deserializeMetaInto(
+                        resource,
+                        fetchObjectDeserializer(resource.getClass(), deserializationContext),
+                        jsonParser,
+                        deserializationContext);
+            }
+        } else if(JsonApiKeyConstants.RELATIONSHIPS_KEY.equals(key)) {
+            // Populate from Relationships //
+            readRelationships(resource, deserializationPlan, jsonParser, deserializationContext);
+        } else {
+            // TODO: Links needs wiring up! //
+            jsonParser.skipChildren();
         }
+    }
 
-        for(Field field : completeFields) {
-            if(field.isAnnotationPresent(JsonApiRelationship.class)) {
-                // Fetch the Serialization/Deserialization key //
-                String relationshipKey = DeserializationUtilities.getFieldJsonKey(field);
+    /**
+     * Reads a JsonAPI "relationships" object, setting (or remembering to set) every relationship the resource has
+     * @param resource
+     * @param deserializationPlan
+     * @param jsonParser
+     * @param deserializationContext
+     * @throws IOException
+     */
+    private void readRelationships(
+            Object resource,
+            ResourceDeserializationPlan deserializationPlan,
+            JsonParser jsonParser,
+            DeserializationContext deserializationContext) throws IOException {
+        for(String key = jsonParser.nextFieldName(); key != null; key = jsonParser.nextFieldName()) {
+            jsonParser.nextToken();
 
-                // First, check to see if that object exists in the json //
-                JsonNode relationshipNode = relationshipsNode.get(relationshipKey);
-                if(relationshipNode == null || relationshipNode.isNull()) {
-                    // Nothing to see here...
-                    continue;
-                }
+            // Skip what the type has no relationship for //
+            if(jsonParser.hasToken(JsonToken.VALUE_NULL) || !deserializationPlan.hasRelationship(key)) {
+                jsonParser.skipChildren();
+                continue;
+            }
 
-                // Process based on Data, Link, or Meta //
-                if(relationshipNode.has(JsonApiKeyConstants.DATA_KEY)) {
-                    if(relationshipNode.get(JsonApiKeyConstants.DATA_KEY).isArray()) {
-                        // We're dealing with an Array... deserialize accordingly //
-                        List<Object> relationshipList = new ArrayList<Object>();
-                        for(JsonNode relationshipArrayElementNode : relationshipNode.get(JsonApiKeyConstants.DATA_KEY)) {
-                            // Generate the Resource Linkage for the Element //
-                            ResourceLinkage relationshipResourceLinkage = DeserializationUtilities.generateResourceLinkageFromNode(
-                                    relationshipArrayElementNode, jsonApiTypeMap);
-
-                            // Build up the List of things //
-                            relationshipList.add(lazyFetchObject(
-                                    relationshipResourceLinkage,
-                                    deserializationContext));
-
-                        }
-
-                        // Set the Relationship Object on the Data object! //
-                        DeserializationUtilities.setObjectOnField(
-                                field,
-                                relationshipList,
-                                object);
-                        continue;
-                    } else {
-                        // We're dealing with a singe Object //
-
-                        // Generate Relationship Linkage from the Data json //
-                        ResourceLinkage relationshipResourceLinkage = DeserializationUtilities.generateResourceLinkageFromNode(
-                                relationshipNode.get(JsonApiKeyConstants.DATA_KEY), jsonApiTypeMap);
-
-                        if (!includedsSet.containsKey(relationshipResourceLinkage)) {
-                            // Relationship was not included in the JSON.. leave it as null //
-                            continue;
-                        }
-
-                        // Generate the Relationship Object //
-                        Object relationshipObject = lazyFetchObject(
-                                relationshipResourceLinkage,
-                                deserializationContext);
-
-                        // Set the Relationship Object on the Data object! //
-                        if (relationshipObject != null) {
-                            DeserializationUtilities.setObjectOnField(
-                                    field,
-                                    relationshipObject,
-                                    object);
-                        }
-                        continue;
-                    }
+            // Process the Data; Links and Meta are not wired up (yet) //
+            Object resourceLinkages = null;
+            for(String relationshipKey = jsonParser.nextFieldName();
+                relationshipKey != null;
+                relationshipKey = jsonParser.nextFieldName()) {
+                jsonParser.nextToken();
+                if(JsonApiKeyConstants.DATA_KEY.equals(relationshipKey)) {
+                    resourceLinkages = readResourceLinkages(jsonParser, deserializationContext);
+                } else {
+                    jsonParser.skipChildren();
                 }
+            }
+            if(resourceLinkages == null) {
+                continue;
+            }
 
-                if(relationshipNode.has(JsonApiKeyConstants.LINKS_KEY)) {
-                    // TODO: Links needs wiring up!
-                }
+            Object relationship = fetchRelationship(resourceLinkages, false);
+            if(relationship != null) {
+                deserializationPlan.setRelationship(resource, key, relationship);
+            } else {
+                pendingRelationships.add(
+                        new PendingRelationship(resource, deserializationPlan, key, resourceLinkages));
+            }
+        }
+    }
 
-                if(relationshipNode.has(JsonApiKeyConstants.META_DATA_KEY)) {
-                    // TODO: Meta (might) need wiring up!
-                }
+    /**
+     * Reads the "data" of a relationship: null, a single resource linkage, or a List of them
+     * @param jsonParser
+     * @param deserializationContext
+     * @return
+     * @throws IOException
+     */
+    private Object readResourceLinkages(
+            JsonParser jsonParser,
+            DeserializationContext deserializationContext) throws IOException {
+        if(jsonParser.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        } else if(jsonParser.isExpectedStartArrayToken()) {
+            List<ResourceKey> resourceLinkages = new ArrayList<ResourceKey>();
+            while(jsonParser.nextToken() != JsonToken.END_ARRAY) {
+                resourceLinkages.add(readResourceLinkage(jsonParser));
             }
+            return resourceLinkages;
+        } else if(jsonParser.isExpectedStartObjectToken()) {
+            return readResourceLinkage(jsonParser);
+        } else {
+            return deserializationContext.handleUnexpectedToken(ResourceKey.class, jsonParser);
         }
+    }
 
-        // Then, fetch the Relationship Methods on the Type //
-        List<Method> completeMethods = new ArrayList<Method>();
-        type = object.getClass();
-        while(type != null) {
-            for(Method method : type.getDeclaredMethods()) {
-                completeMethods.add(method);
+    private ResourceKey readResourceLinkage(
+            JsonParser jsonParser) throws IOException {
+        ResourceDeserializationPlan deserializationPlan = null;
+        JsonNode idNode = null;
+        for(String key = jsonParser.nextFieldName(); key != null; key = jsonParser.nextFieldName()) {
+            jsonParser.nextToken();
+            if(JsonApiKeyConstants.TYPE_KEY.equals(key)) {
+                deserializationPlan = typeRegistry.fetchDeserializationPlan(jsonParser);
+            } else if(JsonApiKeyConstants.ID_KEY.equals(key)) {
+                idNode = DeserializationUtilities.readIdNode(jsonParser);
+            } else {
+                jsonParser.skipChildren();
             }
-            type = type.getSuperclass();
         }
 
-        for(Method method : completeMethods) {
-            if(method.isAnnotationPresent(JsonApiRelationship.class)) {
-                // Fetch the Serialization/Deserialization key //
-                String relationshipKey = DeserializationUtilities.getMethodJsonKey(method);
+        if(deserializationPlan == null) {
+            // No "type" in the json, which fails the lookup //
+            deserializationPlan = typeRegistry.fetchDeserializationPlan((String) null);
+        }
+        return deserializationPlan.keyFor(idNode);
+    }
 
-                // First, check to see if that object exists in the json //
-                JsonNode relationshipNode = relationshipsNode.get(relationshipKey);
-                if(relationshipNode == null || relationshipNode.isNull()) {
-                    // Nothing to see here...
-                    continue;
-                }
+    /**
+     * Returns the resource(s) the passed in resource linkage(s) refer to. Unless the whole document was read, null is
+     * returned as long as any of them was not read yet.
+     * @param resourceLinkages
+     * @param documentRead
+     * @return
+     */
+    private Object fetchRelationship(
+            Object resourceLinkages,
+            boolean documentRead) {
+        if(resourceLinkages instanceof ResourceKey) {
+            return resources.get((ResourceKey) resourceLinkages);
+        }
 
-                // Process based on Data, Link, or Meta //
-                if(relationshipNode.has(JsonApiKeyConstants.DATA_KEY)) {
-                    if(relationshipNode.get(JsonApiKeyConstants.DATA_KEY).isArray()) {
-                        // We're dealing with an Array... deserialize accordingly //
-                        List<Object> relationshipList = new ArrayList<Object>();
-                        for(JsonNode relationshipArrayElementNode : relationshipNode.get(JsonApiKeyConstants.DATA_KEY)) {
-                            // Generate the Resource Linkage for the Element //
-                            ResourceLinkage relationshipResourceLinkage = DeserializationUtilities.generateResourceLinkageFromNode(
-                                    relationshipArrayElementNode, jsonApiTypeMap);
-
-                            // Build up the List of things //
-                            relationshipList.add(lazyFetchObject(
-                                    relationshipResourceLinkage,
-                                    deserializationContext));
-
-                        }
-
-                        // Set the Relationship Object on the Data object! //
-                        DeserializationUtilities.setObjectOnMethod(
-                                method,
-                                relationshipList,
-                                object);
-                        continue;
-                    } else {
-                        // We're dealing with a singe Object //
-
-                        // Generate Relationship Linkage from the Data json //
-                        ResourceLinkage relationshipResourceLinkage = DeserializationUtilities.generateResourceLinkageFromNode(
-                                relationshipNode.get(JsonApiKeyConstants.DATA_KEY), jsonApiTypeMap);
-
-                        if (!includedsSet.containsKey(relationshipResourceLinkage)) {
-                            // Relationship was not included in the JSON.. leave it as null //
-                            continue;
-                        }
-
-                        // Generate the Relationship Object //
-                        Object relationshipObject = lazyFetchObject(
-                                relationshipResourceLinkage,
-                                deserializationContext);
-
-                        // Set the Relationship Object on the Data object! //
-                        if (relationshipObject != null) {
-                            DeserializationUtilities.setObjectOnMethod(
-                                    method,
-                                    relationshipObject,
-                                    object);
-                        }
-                        continue;
-                    }
-                }
+        List<ResourceKey> resourceLinkageList = (List<ResourceKey>) resourceLinkages;
+        List<Object> relationshipList = new ArrayList<Object>(resourceLinkageList.size());
+        for(ResourceKey resourceLinkage : resourceLinkageList) {
+            Object relatedObject = resources.get(resourceLinkage);
+            if(relatedObject == null && !documentRead) {
+                return null;
+            }
+            relationshipList.add(relatedObject);
+        }
+        return relationshipList;
+    }
 
-                if(relationshipNode.has(JsonApiKeyConstants.LINKS_KEY)) {
-                    // TODO: Links needs wiring up!
-                }
+    /////////////////////
+    // Private Classes //
+    /////////////////////
 
-                if(relationshipNode.has(JsonApiKeyConstants.META_DATA_KEY)) {
-                    // TODO: Meta (might) need wiring up!
-                }
-            }
+    /**
+     * A relationship of a resource, along with the resource linkage(s) it refers to
+     */
+    private static class PendingRelationship {
+
+        private final Object resource;
+
+        private final ResourceDeserializationPlan deserializationPlan;
+
+        private final String key;
+
+        private final Object resourceLinkages;
+
+        PendingRelationship(
+                Object resource,
+                ResourceDeserializationPlan deserializationPlan,
+                String key,
+                Object resourceLinkages) {
+            this.resource = resource;
+            this.deserializationPlan = deserializationPlan;
+            this.key = key;
+            this.resourceLinkages = resourceLinkages;
         }
+
     }
 
 }
@@ -0,0 +1,235 @@
+package com.cradlepoint.jsonapiary.deserializers;
+
+import com.cradlepoint.jsonapiary.constants.JsonApiKeyConstants;
+import com.cradlepoint.jsonapiary.descriptors.MemberDescriptor;
+import com.cradlepoint.jsonapiary.descriptors.ResourceDescriptor;
+import com.cradlepoint.jsonapiary.deserializers.helpers.DeserializationUtilities;
+import com.cradlepoint.jsonapiary.enums.JsonApiObjectContext;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+
+/**
+ * Base class of the deserializers generated by the jsonapiary-processor. Subclasses construct one @JsonApiType class
+ * and call its setters directly, switching on the JsonAPI keys.
+ * @param <T>
+ */
+public abstract class JsonApiResourceDeserializer<T> extends StdDeserializer<T> {
+
+    /////////////////
+    // Constructor //
+    /////////////////
+
+    /**
+     * Constructor
+     * @param type
+     */
+    protected JsonApiResourceDeserializer(Class<T> type) {
+        super(type);
+    }
+
+    //////////////////////
+    // Abstract Methods //
+    //////////////////////
+
+    /**
+     * Creates a new, empty, instance of the type
+     * @return
+     */
+    public abstract T createInstance();
+
+    /**
+     * Returns the declared type of the @JsonApiId member
+     * @return
+     */
+    public abstract Class<?> getIdType();
+
+    /**
+     * Sets the (already converted) id on the resource
+     * @param resource
+     * @param id
+     */
+    public abstract void setId(
+            T resource,
+            Object id);
+
+    /**
+     * Reads the value the parser is positioned on into the member of the passed in context (ATTRIBUTE, LINK or META)
+     * with the passed in key. Returns false if the type has no such member.
+     * @param resource
+     * @param memberContext
+     * @param key
+     * @param jsonParser
+     * @param deserializationContext
+     * @return
+     * @throws IOException
+     */
+    public abstract boolean deserializeMember(
+            T resource,
+            JsonApiObjectContext memberContext,
+            String key,
+            JsonParser jsonParser,
+            DeserializationContext deserializationContext) throws IOException;
+
+    /**
+     * Sets an (already deserialized) related object, or List of them, on the relationship with the passed in key.
+     * Returns false if the type has no such relationship.
+     * @param resource
+     * @param key
+     * @param relationship
+     * @return
+     */
+    public abstract boolean setRelationship(
+            T resource,
+            String key,
+            Object relationship);
+
+    ////////////////////
+    // Public Methods //
+    ////////////////////
+
+    /**
+     * Deserializes every key of the JsonAPI "attributes", "links" or "meta" object the parser is positioned on
+     * (START_OBJECT) into the resource, straight off of the parser. Unknown keys are handed to Jackson, which fails or
+     * skips them depending on DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES.
+     * @param resource
+     * @param jsonParser
+     * @param memberContext
+     * @param deserializationContext
+     * @throws IOException
+     */
+    public void deserializeMembersInto(
+            T resource,
+            JsonParser jsonParser,
+            JsonApiObjectContext memberContext,
+            DeserializationContext deserializationContext) throws IOException {
+        if(!jsonParser.isExpectedStartObjectToken()) {
+            deserializationContext.handleUnexpectedToken(handledType(), jsonParser);
+            return;
+        }
+
+        for(String key = jsonParser.nextFieldName(); key != null; key = jsonParser.nextFieldName()) {
+            jsonParser.nextToken();
+            if(!deserializeMember(resource, memberContext, key, jsonParser, deserializationContext)) {
+                deserializationContext.handleUnknownProperty(jsonParser, this, resource, key);
+            }
+        }
+    }
+
+    /////////////////////////////
+    // StdDeserializer Methods //
+    /////////////////////////////
+
+    /**
+     * Deserializes a single JsonAPI resource object on its own. Relationships are not resolved, as there is no
+     * "included" block to resolve them from.
+     * @param jsonParser
+     * @param deserializationContext
+     * @return
+     * @throws IOException
+     */
+    @Override
+    public T deserialize(
+            JsonParser jsonParser,
+            DeserializationContext deserializationContext) throws IOException {
+        if(!jsonParser.isExpectedStartObjectToken()) {
+            return (T) deserializationContext.handleUnexpectedToken(handledType(), jsonParser);
+        }
+
+        // Single pass over the resource object; "type", "links" and "relationships" are skipped //
+        T resource = createInstance();
+        JsonNode idNode = null;
+        for(String key = jsonParser.nextFieldName(); key != null; key = jsonParser.nextFieldName()) {
+            JsonToken token = jsonParser.nextToken();
+            if(JsonApiKeyConstants.ID_KEY.equals(key)) {
+                idNode = DeserializationUtilities.readIdNode(jsonParser);
+            } else if(token == JsonToken.VALUE_NULL) {
+                continue;
+            } else if(JsonApiKeyConstants.ATTRIBUTES_KEY.equals(key)) {
+                deserializeMembersInto(resource, jsonParser, JsonApiObjectContext.ATTRIBUTE, deserializationContext);
+            } else if(JsonApiKeyConstants.META_DATA_KEY.equals(key)) {
+                deserializeMembersInto(resource, jsonParser, JsonApiObjectContext.META, deserializationContext);
+            } else {
+                jsonParser.skipChildren();
+            }
+        }
+        setId(resource, DeserializationUtilities.fetchIdFromValue(getIdType(), handledType(), idNode));
+
+        return resource;
+    }
+
+    ///////////////////////
+    // Protected Methods //
+    ///////////////////////
+
+    /**
+     * Sets a relationship generated code cannot set directly (it has no public field or "setter", or is an array or a
+     * primitive) through the member's reflective descriptor, so it is set (or fails) just as on the reflective path
+     * @param resource
+     * @param key
+     * @param relationship
+     */
+    protected final void setRelationshipReflectively(
+            T resource,
+            String key,
+            Object relationship) {
+        for(MemberDescriptor member : ResourceDescriptor.forType(handledType()).getRelationships()) {
+            if(member.getKey().equals(key)) {
+                member.setValue(resource, relationship);
+                return;
+            }
+        }
+
+        String issue = "Unable to set value on " + handledType().getName() + " corresponding to json key " + key +
+                ". No such relationship was found!";
+        throw new IllegalStateException(issue);
+    }
+
+    /**
+     * Reads the value the parser is positioned on as the passed in type, or null for a json null
+     * @param jsonParser
+     * @param deserializationContext
+     * @param type
+     * @param <V>
+     * @return
+     * @throws IOException
+     */
+    protected static <V> V readMemberValue(
+            JsonParser jsonParser,
+            DeserializationContext deserializationContext,
+            Class<V> type) throws IOException {
+        if(jsonParser.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+
+        return deserializationContext.readValue(jsonParser, type);
+    }
+
+    /**
+     * Reads the value the parser is positioned on as the passed in (generic) type, or null for a json null
+     * @param jsonParser
+     * @param deserializationContext
+     * @param type
+     * @param <V>
+     * @return
+     * @throws IOException
+     */
+    protected static <V> V readMemberValue(
+            JsonParser jsonParser,
+            DeserializationContext deserializationContext,
+            TypeReference<V> type) throws IOException {
+        if(jsonParser.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+
+        return deserializationContext.readValue(
+                jsonParser,
+                deserializationContext.getTypeFactory().constructType(type));
+    }
+
+}
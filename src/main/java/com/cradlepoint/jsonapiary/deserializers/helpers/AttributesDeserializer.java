@@ -1,13 +1,21 @@
 package com.cradlepoint.jsonapiary.deserializers.helpers;
 
-import com.fasterxml.jackson.core.JsonFactory;
+import com.cradlepoint.jsonapiary.descriptors.MemberDescriptor;
+import com.cradlepoint.jsonapiary.descriptors.ResourceDescriptor;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBase;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
 
 import java.io.IOException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
 
 public class AttributesDeserializer {
 
@@ -25,23 +33,79 @@ public class AttributesDeserializer {
     ////////////////////
 
     /**
-     *  Deserializes the attributes into the passed in object
+     * Deserializes the attributes object the parser is positioned on (START_OBJECT) into the passed in object, straight
+     * off of the parser, with the (Jackson) deserializer of the object's type
      * @param object
-     * @param attributesNode
+     * @param objectDeserializer
+     * @param jsonParser
      * @param deserializationContext
+     * @throws IOException
      */
     public static void deserializeAttributesInto(
             Object object,
-            JsonNode attributesNode,
+            JsonDeserializer<Object> objectDeserializer,
+            JsonParser jsonParser,
             DeserializationContext deserializationContext) throws IOException {
-        // Fetch the "default" deserializer for the type from Jackson //
-        JavaType javaDataType = deserializationContext.getTypeFactory().constructType(object.getClass());
-        JsonDeserializer dataTypeDeserializer = deserializationContext.findRootValueDeserializer(javaDataType);
-
-        // Deserialize from the Attributes Nodes //
-        JsonParser attributesParser = new JsonFactory().createParser(attributesNode.toString());
-        attributesParser.nextToken();
-        dataTypeDeserializer.deserialize(attributesParser, deserializationContext, object);
+        objectDeserializer.deserialize(jsonParser, deserializationContext, object);
+    }
+
+    /**
+     * Fetches the "default" (Jackson) deserializer for the passed in type, which the attributes and meta objects are
+     * deserialized with
+     * @param type
+     * @param deserializationContext
+     * @return
+     * @throws IOException
+     */
+    public static JsonDeserializer<Object> fetchObjectDeserializer(
+            Class<?> type,
+            DeserializationContext deserializationContext) throws IOException {
+        JavaType javaDataType = deserializationContext.getTypeFactory().constructType(type);
+        return deserializationContext.findRootValueDeserializer(javaDataType);
+    }
+
+    /**
+     * Derives, from the passed in (Jackson) deserializer of the type, a deserializer that only binds the type's
+     * attribute members: every other property of the type is ignored in the attributes object. Deserializers other than
+     * BeanDeserializers are returned as is.
+     * @param type
+     * @param objectDeserializer
+     * @param deserializationContext
+     * @return
+     */
+    public static JsonDeserializer<Object> createAttributesDeserializer(
+            Class<?> type,
+            JsonDeserializer<Object> objectDeserializer,
+            DeserializationContext deserializationContext) {
+        if(!(objectDeserializer instanceof BeanDeserializerBase)) {
+            return objectDeserializer;
+        }
+
+        // The Jackson properties of the attribute members //
+        DeserializationConfig config = deserializationContext.getConfig();
+        BeanDescription beanDescription = config.introspect(deserializationContext.constructType(type));
+        Set<String> attributeProperties = new HashSet<String>();
+        for(MemberDescriptor member : ResourceDescriptor.forType(type).getAttributes()) {
+            BeanPropertyDefinition property = member.findPropertyDefinition(beanDescription);
+            if(property != null) {
+                attributeProperties.add(property.getName());
+            }
+        }
+
+        // Ignore every other property, on top of those the type already ignores //
+        Set<String> ignoredProperties = new HashSet<String>(beanDescription.getIgnoredPropertyNames());
+        ignoredProperties.addAll(config.getDefaultPropertyIgnorals(type, beanDescription.getClassInfo())
+                .findIgnoredForDeserialization());
+        BeanDeserializerBase beanDeserializer = (BeanDeserializerBase) objectDeserializer;
+        for(Iterator<SettableBeanProperty> properties = beanDeserializer.properties(); properties.hasNext(); ) {
+            String propertyName = properties.next().getName();
+            if(!attributeProperties.contains(propertyName)) {
+                ignoredProperties.add(propertyName);
+            }
+        }
+
+        JsonDeserializer<?> attributesDeserializer = beanDeserializer.withIgnorableProperties(ignoredProperties);
+        return (JsonDeserializer<Object>) attributesDeserializer;
     }
 
 }
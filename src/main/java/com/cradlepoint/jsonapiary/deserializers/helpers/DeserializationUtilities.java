@@ -1,15 +1,13 @@
 package com.cradlepoint.jsonapiary.deserializers.helpers;
 
-import com.cradlepoint.jsonapiary.annotations.*;
-import com.cradlepoint.jsonapiary.constants.JsonApiKeyConstants;
-import com.cradlepoint.jsonapiary.types.ResourceLinkage;
-import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.TextNode;
 
-import java.lang.reflect.*;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
+import java.io.IOException;
 
 public class DeserializationUtilities {
 
@@ -27,242 +25,50 @@ public class DeserializationUtilities {
     ////////////////////
 
     /**
-     * Creates a ResourceLinkage from the contents of the passed in json
-     * @param jsonNode
-     * @param jsonApiTypeMap
+     * Reads the JsonAPI "id" value the parser is positioned on. Ids are (almost always) strings or integers, which are
+     * read straight off of the parser: reading them as a tree would set up a new DeserializationContext per id.
+     * @param jsonParser
      * @return
+     * @throws IOException
      */
-    public static ResourceLinkage generateResourceLinkageFromNode(
-            JsonNode jsonNode,
-            Map<String, Class> jsonApiTypeMap) {
-        // Determine Object type and construct //
-        Class objectType = fetchJsonApiType(jsonNode, jsonApiTypeMap);
-        Object id = fetchIdFromNode(objectType, jsonNode);
-
-        return new ResourceLinkage(id, objectType);
-    }
-
-    /**
-     * Generates a new Object (and populates the ID field) based on the received json node.
-     * @param jsonNode
-     * @param jsonApiTypeMap
-     * @return
-     */
-    public static Object generateObjectFromNode(
-            JsonNode jsonNode,
-            Map<String, Class> jsonApiTypeMap)  {
-        // Determine Object type and construct //
-        Class objectType = fetchJsonApiType(jsonNode, jsonApiTypeMap);
-        Object object = generateObjectFromType(objectType);
-
-        // Set the ID on the Type //
-        setIdOnType(objectType, object, jsonNode);
-
-        return object;
-    }
-
-    /**
-     * Returns the corresponding json key for the passed in Field
-     * @param field
-     * @return
-     */
-    public static String getFieldJsonKey(Field field) {
-        if(field.isAnnotationPresent(JsonApiAttribute.class) && !(field.getAnnotation(JsonApiAttribute.class).value().isEmpty())) {
-            return field.getAnnotation(JsonApiAttribute.class).value();
-        } else if(field.isAnnotationPresent(JsonApiLink.class) && !(field.getAnnotation(JsonApiLink.class).value().isEmpty())) {
-            return field.getAnnotation(JsonApiLink.class).value();
-        } else if(field.isAnnotationPresent(JsonApiMeta.class) && !(field.getAnnotation(JsonApiMeta.class).value().isEmpty())) {
-            return field.getAnnotation(JsonApiMeta.class).value();
-        } else if(field.isAnnotationPresent(JsonApiRelationship.class) && !(field.getAnnotation(JsonApiRelationship.class).value().isEmpty())) {
-            return field.getAnnotation(JsonApiRelationship.class).value();
-        } else if(field.isAnnotationPresent(JsonProperty.class) && !(field.getAnnotation(JsonProperty.class).value().isEmpty())) {
-            return field.getAnnotation(JsonProperty.class).value();
-        } else {
-            return field.getName();
-        }
-    }
-
-    /**
-     * Returns the corresponding json key for the passed in Method
-     * @param method
-     * @return
-     */
-    public static String getMethodJsonKey(Method method) {
-        if(method.isAnnotationPresent(JsonApiAttribute.class) && !(method.getAnnotation(JsonApiAttribute.class).value().isEmpty())) {
-            return method.getAnnotation(JsonApiAttribute.class).value();
-        } else if(method.isAnnotationPresent(JsonApiLink.class) && !(method.getAnnotation(JsonApiLink.class).value().isEmpty())) {
-            return method.getAnnotation(JsonApiLink.class).value();
-        } else if(method.isAnnotationPresent(JsonApiMeta.class) && !(method.getAnnotation(JsonApiMeta.class).value().isEmpty())) {
-            return method.getAnnotation(JsonApiMeta.class).value();
-        } else if(method.isAnnotationPresent(JsonApiRelationship.class) && !(method.getAnnotation(JsonApiRelationship.class).value().isEmpty())) {
-            return method.getAnnotation(JsonApiRelationship.class).value();
-        } else if(method.isAnnotationPresent(JsonProperty.class) && !(method.getAnnotation(JsonProperty.class).value().isEmpty())) {
-            return method.getAnnotation(JsonProperty.class).value();
-        } else {
-            return method.getName();
-        }
-    }
-
-    /**
-     * Sets the Passed in Field, on the passed in Object, to the passed in Value(/Object)
-     * @param field
-     * @param fieldValue
-     * @param onto
-     */
-    public static void setObjectOnField(
-            Field field,
-            Object fieldValue,
-            Object onto) {
-        // First try to set the Field directly //
-        try {
-            field.set(onto, fieldValue);
-            return;
-        } catch (IllegalAccessException e) {
-            // Non-public field... look for a setter!
-        }
-
-        // Look for a "setter" for the field //
-        List<Method> completeMethods = new ArrayList<Method>();
-        Class type = onto.getClass();
-        while (type != null) {
-            for(Method method : type.getDeclaredMethods()) {
-                completeMethods.add(method);
-            }
-            type = type.getSuperclass();
-        }
-
-        Method setterMethod = null;
-        for(Method method : completeMethods) {
-            JsonProperty jsonPropertyAnnotation = method.getAnnotation(JsonProperty.class);
-            if(method.getName().startsWith("set") && jsonPropertyAnnotation != null && jsonPropertyAnnotation.value().equals(getFieldJsonKey(field))) {
-                setterMethod = method;
-                break;
-            } else if(method.getName().equals("set" + field.getName().substring(0, 1).toUpperCase() + field.getName().substring(1))) {
-                setterMethod = method;
-                break;
-            }
-        }
-
-        if(setterMethod == null) {
-            String issue = "Unable to set value on " + onto.getClass().getName() + " corresponding to json key " +
-                    getFieldJsonKey(field) + ". Both that Field is not public, and no corresponding \"setter\" method " +
-                    "for the Field was found!";
-            throw new IllegalStateException(issue);
-        }
-
-        // Attempt to invoke detected "setter" //
-        try {
-            setterMethod.invoke(onto, fieldValue);
-            return;
-        } catch(IllegalAccessException | InvocationTargetException e) {
-            String issue = "Unable to set value on " + onto.getClass().getName() + " corresponding to json key " +
-                    getFieldJsonKey(field) + ". Both that Field is not public, and when invoking the detected \"setter\"" +
-                    "method (" + setterMethod.getName() + ") ran into an issue!";
-            throw new IllegalStateException(issue);
-        }
-    }
-
-    /**
-     * Invokes the Passed in ("setter") Method, on the passed in Object, with the passed in Value(/Object) as the
-     * argument.
-     * @param method
-     * @param fieldValue
-     * @param onto
-     */
-    public static void setObjectOnMethod(
-            Method method,
-            Object fieldValue,
-            Object onto) {
-        // Attempt to invoke detected "setter" //
-        try {
-            method.invoke(onto, fieldValue);
-            return;
-        } catch(IllegalAccessException | InvocationTargetException e) {
-            String issue = "Unable to set value on " + onto.getClass().getName() + " corresponding to json key " +
-                    getMethodJsonKey(method) + ". Invoking \"setter\" method (" + method.getName() +
-                    ") ran into an issue!";
-            throw new IllegalStateException(issue);
-        }
-    }
-
-    /////////////////////
-    // Private Methods //
-    /////////////////////
-
-    /**
-     * Returns the type (Class) from the "type" key on the node.
-     * @param node
-     * @return
-     */
-    private static Class fetchJsonApiType(
-            JsonNode node,
-            Map<String, Class> jsonApiTypeMap) {
-        String type = null;
-        if(node.has(JsonApiKeyConstants.TYPE_KEY)) {
-            type = node.get(JsonApiKeyConstants.TYPE_KEY).asText();
-        } else {
-            String issue = "Received JSON does not contain a \"" + JsonApiKeyConstants.TYPE_KEY + "\" key/value pair" +
-                    " in the \"" + JsonApiKeyConstants.DATA_KEY + "\" block!";
-            throw new IllegalStateException(issue);
-        }
-
-        if(!jsonApiTypeMap.containsKey(type)) {
-            String issue = "Unknown/Unexpected type: " + type + " ... type must be annotated and registered with" +
-                    " the JsonApiModule!";
-            throw new IllegalStateException(issue);
-        }
-
-        return jsonApiTypeMap.get(type);
-    }
-
-    /**
-     * Generates new object from type via void constructor
-     * @param type
-     * @return
-     */
-    private static Object generateObjectFromType(
-            Class type)  {
-        try {
-            Constructor constructor = type.getConstructor();
-            return constructor.newInstance();
-        } catch (NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException e) {
-            String issue = "No public default void constructor found on type: " + type.getName();
-            throw new IllegalStateException(issue, e);
+    public static JsonNode readIdNode(
+            JsonParser jsonParser) throws IOException {
+        switch(jsonParser.currentToken()) {
+            case VALUE_STRING:
+                return TextNode.valueOf(jsonParser.getText());
+            case VALUE_NUMBER_INT:
+                if(jsonParser.getNumberType() == JsonParser.NumberType.INT) {
+                    return IntNode.valueOf(jsonParser.getIntValue());
+                } else if(jsonParser.getNumberType() == JsonParser.NumberType.LONG) {
+                    return LongNode.valueOf(jsonParser.getLongValue());
+                }
+                return jsonParser.readValueAsTree();
+            case VALUE_NULL:
+                return NullNode.getInstance();
+            default:
+                return jsonParser.readValueAsTree();
         }
     }
 
     /**
-     * Returns the ID of the JsonAPI json
+     * Returns the passed in JsonAPI "id" value, converted to the passed in id type
+     * @param idType
      * @param objectType
-     * @param jsonNode
+     * @param idNode
      * @return
      */
-    private static Object fetchIdFromNode(
+    public static Object fetchIdFromValue(
+            Class idType,
             Class objectType,
-            JsonNode jsonNode) {
-        // Fetch the ID object from the json, as the correct object type //
-        Field idField = null;
-        Class type = objectType;
-        while(type != null) {
-            for (Field field : type.getDeclaredFields()) {
-                if (field.isAnnotationPresent(JsonApiId.class)) {
-                    idField = field;
-                    break;
-                }
-            }
-            type = type.getSuperclass();
-        }
-
+            JsonNode idNode) {
         // Sanity Check //
-        if(idField == null) {
+        if(idType == null) {
             String issue = "No \"id\" found in the json when deserializing type: " + objectType.getName();
             throw new IllegalArgumentException(issue);
         }
 
         // Deserialize the ID //
         Object id = null;
-        Class idType = idField.getType();
-        JsonNode idNode = jsonNode.get(JsonApiKeyConstants.ID_KEY);
         if(idNode == null || idNode.isNull()) {
             id = null;
         } else if(idType == String.class) {
@@ -284,70 +90,4 @@ public class DeserializationUtilities {
         return id;
     }
 
-    /**
-     * Set the ID on the Java object from the ID in the JsonAPI json
-     * @param objectType
-     * @param object
-     * @param jsonNode
-     */
-    private static void setIdOnType(
-            Class objectType,
-            Object object,
-            JsonNode jsonNode) {
-        // Fetch the ID object from the json, as the correct object type //
-        Field idField = null;
-        Class type = objectType;
-        while(type != null) {
-            for (Field field : type.getDeclaredFields()) {
-                if (field.isAnnotationPresent(JsonApiId.class)) {
-                    idField = field;
-                    break;
-                }
-            }
-            type = type.getSuperclass();
-        }
-
-        Object id = fetchIdFromNode(objectType, jsonNode);
-
-        // Attempt to set the ID on the Field directly //
-        try {
-            idField.set(object, id);
-            return;
-        } catch (IllegalAccessException e){
-            // Unable to set on the Field directly... time to look for a "setter"
-        }
-
-        // Look for "setter" Method //
-        Method idSetMethod = null;
-        type = objectType;
-        while (type != null) {
-            for (Method method : type.getDeclaredMethods()) {
-                if (method.getName().startsWith("set") && method.isAnnotationPresent(JsonApiId.class)) {
-                    idSetMethod = method;
-                    break;
-                } else if (method.getName().equals("set" + idField.getName().substring(0, 1).toUpperCase() + idField.getName().substring(1))) {
-                    idSetMethod = method;
-                    break;
-                }
-            }
-            type = type.getSuperclass();
-        }
-
-        if(idSetMethod == null) {
-            String issue = "The @JsonApiId field is both not accessable (not public), AND a \"setter\" Method " +
-                    "count not be found on type: " + objectType.getName() + ". A \"setter\" Method must have either the " +
-                    "@JsonApiId annotation, or be named set{IdFieldName}(...).";
-            throw new IllegalStateException(issue);
-        }
-
-        // Attempt to set the ID via the found Method //
-        try {
-            idSetMethod.invoke(object, id);
-        } catch(IllegalAccessException | InvocationTargetException e) {
-            String issue = "The @JsonApiId field is both not accessable (not public), AND neither is the detected " +
-                    "\"setter\" Method!";
-            throw new IllegalStateException(issue);
-        }
-    }
-
 }
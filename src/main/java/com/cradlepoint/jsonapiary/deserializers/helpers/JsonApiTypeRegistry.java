@@ -0,0 +1,244 @@
+package com.cradlepoint.jsonapiary.deserializers.helpers;
+
+import com.cradlepoint.jsonapiary.constants.JsonApiKeyConstants;
+import com.cradlepoint.jsonapiary.deserializers.JsonApiResourceDeserializer;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The immutable registry of JsonAPI "type" values and the ResourceDeserializationPlans of the types registered under
+ * them. Lookups need no locking and can be made straight from the characters of a parser's "type" token, without
+ * creating a String. Registering types creates a new registry (copy-on-write), which the owner publishes in place of
+ * this one.
+ */
+public class JsonApiTypeRegistry {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    private static final JsonApiTypeRegistry EMPTY = new JsonApiTypeRegistry(
+            Collections.<String, ResourceDeserializationPlan>emptyMap());
+
+    // Registered types by "type" value, in registration order //
+    private final Map<String, ResourceDeserializationPlan> plansByName;
+
+    // Registered types by class //
+    private final Map<Class<?>, ResourceDeserializationPlan> plansByType;
+
+    // Open-addressing (linear probing) table over the "type" values //
+    private final String[] names;
+
+    private final ResourceDeserializationPlan[] plans;
+
+    /////////////////
+    // Constructor //
+    /////////////////
+
+    /**
+     * Constructor
+     * @param plansByName
+     */
+    private JsonApiTypeRegistry(
+            Map<String, ResourceDeserializationPlan> plansByName) {
+        this.plansByName = Collections.unmodifiableMap(plansByName);
+        this.plansByType = new HashMap<Class<?>, ResourceDeserializationPlan>();
+        for(ResourceDeserializationPlan plan : plansByName.values()) {
+            plansByType.put(plan.getType(), plan);
+        }
+
+        int capacity = Integer.highestOneBit(Math.max(plansByName.size(), 1) * 4 - 1) << 1;
+        this.names = new String[capacity];
+        this.plans = new ResourceDeserializationPlan[capacity];
+        int mask = capacity - 1;
+        for(Map.Entry<String, ResourceDeserializationPlan> entry : plansByName.entrySet()) {
+            int slot = spread(entry.getKey().hashCode()) & mask;
+            while(names[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            names[slot] = entry.getKey();
+            plans[slot] = entry.getValue();
+        }
+    }
+
+    ////////////////////
+    // Public Methods //
+    ////////////////////
+
+    /**
+     * Returns the registry without any types
+     * @return
+     */
+    public static JsonApiTypeRegistry empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a new registry holding this registry's types and the passed in ones. A "type" value can only be
+     * registered for one class; registering the same class under the same value again is a no-op.
+     * @param jsonApiTypeMap
+     * @param generatedDeserializers
+     * @return
+     */
+    public JsonApiTypeRegistry withTypes(
+            Map<String, Class> jsonApiTypeMap,
+            Map<Class<?>, JsonApiResourceDeserializer<?>> generatedDeserializers) {
+        Map<String, ResourceDeserializationPlan> newPlansByName =
+                new LinkedHashMap<String, ResourceDeserializationPlan>(plansByName);
+        for(Map.Entry<String, Class> jsonApiType : jsonApiTypeMap.entrySet()) {
+            ResourceDeserializationPlan existingPlan = newPlansByName.get(jsonApiType.getKey());
+            if(existingPlan != null) {
+                if(existingPlan.getType() != jsonApiType.getValue()) {
+                    String issue = "Found two types that generate the same JsonAPI \"type\" value of " +
+                            jsonApiType.getKey() + " ... those types being: " + existingPlan.getType().getName() +
+                            " and " + jsonApiType.getValue().getName() + " ...! JsonAPIary only supports ONE class " +
+                            "per type value.";
+                    throw new IllegalArgumentException(issue);
+                }
+                continue;
+            }
+
+            newPlansByName.put(jsonApiType.getKey(), new ResourceDeserializationPlan(
+                    jsonApiType.getKey(),
+                    jsonApiType.getValue(),
+                    generatedDeserializers.get(jsonApiType.getValue())));
+        }
+
+        return new JsonApiTypeRegistry(newPlansByName);
+    }
+
+    /**
+     * Returns the plan of the type registered for the passed in "type" value, which is null if the json did not
+     * contain one
+     * @param typeName
+     * @return
+     */
+    public ResourceDeserializationPlan fetchDeserializationPlan(
+            String typeName) {
+        ResourceDeserializationPlan deserializationPlan = typeName == null ? null : plansByName.get(typeName);
+        if(deserializationPlan == null) {
+            throw unknownJsonApiType(typeName);
+        }
+
+        return deserializationPlan;
+    }
+
+    /**
+     * Returns the plan of the type registered for the "type" value the parser is positioned on, looked up from the
+     * parser's own character buffer
+     * @param jsonParser
+     * @return
+     * @throws IOException
+     */
+    public ResourceDeserializationPlan fetchDeserializationPlan(
+            JsonParser jsonParser) throws IOException {
+        if(!jsonParser.hasToken(JsonToken.VALUE_STRING)) {
+            return fetchDeserializationPlan(jsonParser.getValueAsString());
+        }
+
+        char[] characters = jsonParser.getTextCharacters();
+        int offset = jsonParser.getTextOffset();
+        int length = jsonParser.getTextLength();
+        int hash = 0;
+        for(int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + characters[i];
+        }
+
+        int mask = names.length - 1;
+        for(int slot = spread(hash) & mask; names[slot] != null; slot = (slot + 1) & mask) {
+            if(matches(names[slot], characters, offset, length)) {
+                return plans[slot];
+            }
+        }
+        throw unknownJsonApiType(new String(characters, offset, length));
+    }
+
+    /**
+     * Returns the plan of the passed in class, or null if the class itself is not registered
+     * @param type
+     * @return
+     */
+    public ResourceDeserializationPlan findDeserializationPlan(
+            Class<?> type) {
+        return plansByType.get(type);
+    }
+
+    /**
+     * Returns whether or not a type is registered for the passed in "type" value
+     * @param typeName
+     * @return
+     */
+    public boolean contains(
+            String typeName) {
+        return plansByName.containsKey(typeName);
+    }
+
+    /**
+     * Returns the plans of every registered type, in registration order
+     * @return
+     */
+    public Collection<ResourceDeserializationPlan> getDeserializationPlans() {
+        return plansByName.values();
+    }
+
+    /**
+     * Returns the number of registered types
+     * @return
+     */
+    public int size() {
+        return plansByName.size();
+    }
+
+    /////////////////////
+    // Private Methods //
+    /////////////////////
+
+    static boolean matches(
+            String name,
+            char[] characters,
+            int offset,
+            int length) {
+        if(name.length() != length) {
+            return false;
+        }
+
+        for(int i = 0; i < length; i++) {
+            if(name.charAt(i) != characters[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int spread(
+            int hash) {
+        int spread = hash * 0x9E3779B9;
+        return spread ^ (spread >>> 16);
+    }
+
+    /**
+     * Returns the exception for a missing, or unregistered, JsonAPI "type" value
+     * @param typeName
+     * @return
+     */
+    private static IllegalStateException unknownJsonApiType(
+            String typeName) {
+        if(typeName == null) {
+            String issue = "Received JSON does not contain a \"" + JsonApiKeyConstants.TYPE_KEY + "\" key/value pair" +
+                    " in the \"" + JsonApiKeyConstants.DATA_KEY + "\" block!";
+            return new IllegalStateException(issue);
+        }
+
+        String issue = "Unknown/Unexpected type: " + typeName + " ... type must be annotated and registered with" +
+                " the JsonApiModule!";
+        return new IllegalStateException(issue);
+    }
+
+}
@@ -1,11 +1,13 @@
 package com.cradlepoint.jsonapiary.deserializers.helpers;
 
+import com.cradlepoint.jsonapiary.constants.JsonApiKeyConstants;
 import com.cradlepoint.jsonapiary.envelopes.JsonApiEnvelope;
+import com.cradlepoint.jsonapiary.types.Link;
 import com.fasterxml.jackson.databind.JsonNode;
 
-import java.net.MalformedURLException;
-import java.net.URL;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 public class LinksDeserializer {
 
@@ -23,25 +25,85 @@ public class LinksDeserializer {
     ////////////////////
 
     /**
-     * Deserializes Links into the passed in JsonApiEnvelope
+     * Deserializes Links into the passed in JsonApiEnvelope, checking every href is an absolute URI
      * @param jsonApiEnvelope
      * @param linksNode
      */
     public static void deserializeLinksInto(
             JsonApiEnvelope jsonApiEnvelope,
             JsonNode linksNode) {
-        Iterator<String> linksFields = linksNode.fieldNames();
+        deserializeLinksInto(jsonApiEnvelope, linksNode, true);
+    }
+
+    /**
+     * Deserializes Links, both plain hrefs and link objects ("href" and "meta"), into the passed in JsonApiEnvelope
+     * @param jsonApiEnvelope
+     * @param linksNode
+     * @param validateLinks whether or not to check every href is an absolute URI
+     */
+    public static void deserializeLinksInto(
+            JsonApiEnvelope jsonApiEnvelope,
+            JsonNode linksNode,
+            boolean validateLinks) {
+        Iterator<Map.Entry<String, JsonNode>> linksFields = linksNode.fields();
         while(linksFields.hasNext()) {
-            String field = linksFields.next();
-            String value = linksNode.get(field).textValue();
-            try {
-                jsonApiEnvelope.addLink(field, new URL(value));
-            } catch(MalformedURLException e) {
-                String issue = "Encountered issue deserializing link with key: " + field + " and value (URL): " + value +
-                        " ... however, the value does not appear to be a valid URL.";
-                throw new IllegalStateException(issue, e);
+            Map.Entry<String, JsonNode> linkField = linksFields.next();
+            Link link = readLink(linkField.getValue());
+            if(link == null) {
+                continue;
             }
+
+            if(validateLinks) {
+                try {
+                    link.validate();
+                } catch(IllegalArgumentException e) {
+                    String issue = "Encountered issue deserializing link with key: " + linkField.getKey() +
+                            " and value (href): " + link.getHref() + " ... however, the value does not appear to be " +
+                            "a valid (absolute) URI.";
+                    throw new IllegalStateException(issue, e);
+                }
+            }
+            jsonApiEnvelope.addLink(linkField.getKey(), link);
+        }
+    }
+
+    /////////////////////
+    // Private Methods //
+    /////////////////////
+
+    /**
+     * Reads a link, a plain href or a link object; null links (or links without an href) are skipped
+     * @param linkNode
+     * @return
+     */
+    private static Link readLink(
+            JsonNode linkNode) {
+        if(linkNode.isTextual()) {
+            return new Link(linkNode.textValue());
+        } else if(!linkNode.isObject() || !linkNode.path(JsonApiKeyConstants.HREF_KEY).isTextual()) {
+            return null;
+        }
+
+        Map<String, Object> meta = new LinkedHashMap<String, Object>();
+        Iterator<Map.Entry<String, JsonNode>> metaFields = linkNode.path(JsonApiKeyConstants.META_DATA_KEY).fields();
+        while(metaFields.hasNext()) {
+            Map.Entry<String, JsonNode> metaField = metaFields.next();
+            JsonNode value = metaField.getValue();
+            meta.put(metaField.getKey(), value.isValueNode() ? readValue(value) : value);
+        }
+        return new Link(linkNode.get(JsonApiKeyConstants.HREF_KEY).textValue(), meta);
+    }
+
+    private static Object readValue(
+            JsonNode valueNode) {
+        if(valueNode.isTextual()) {
+            return valueNode.textValue();
+        } else if(valueNode.isNumber()) {
+            return valueNode.numberValue();
+        } else if(valueNode.isBoolean()) {
+            return valueNode.booleanValue();
         }
+        return null;
     }
 
 }
@@ -1,11 +1,8 @@
 package com.cradlepoint.jsonapiary.deserializers.helpers;
 
-import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
 
 import java.io.IOException;
 
@@ -25,23 +22,20 @@ public class MetaDeserializer {
     ////////////////////
 
     /**
-     *  Deserializes the attributes into the passed in object
+     * Deserializes the meta object the parser is positioned on (START_OBJECT) into the passed in object, straight
+     * off of the parser, with the (Jackson) deserializer of the object's type
      * @param object
-     * @param metaNode
+     * @param objectDeserializer
+     * @param jsonParser
      * @param deserializationContext
+     * @throws IOException
      */
     public static void deserializeMetaInto(
             Object object,
-            JsonNode metaNode,
+            JsonDeserializer<Object> objectDeserializer,
+            JsonParser jsonParser,
             DeserializationContext deserializationContext) throws IOException {
-        // Fetch the "default" deserializer for the type from Jackson //
-        JavaType javaDataType = deserializationContext.getTypeFactory().constructType(object.getClass());
-        JsonDeserializer dataTypeDeserializer = deserializationContext.findRootValueDeserializer(javaDataType);
-
-        // Deserialize from the Meta Nodes //
-        JsonParser attributesParser = new JsonFactory().createParser(metaNode.toString());
-        attributesParser.nextToken();
-        dataTypeDeserializer.deserialize(attributesParser, deserializationContext, object);
+        objectDeserializer.deserialize(jsonParser, deserializationContext, object);
     }
 
 }
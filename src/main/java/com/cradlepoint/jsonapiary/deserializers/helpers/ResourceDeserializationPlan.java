@@ -0,0 +1,301 @@
+package com.cradlepoint.jsonapiary.deserializers.helpers;
+
+import com.cradlepoint.jsonapiary.descriptors.MemberDescriptor;
+import com.cradlepoint.jsonapiary.descriptors.ResourceDescriptor;
+import com.cradlepoint.jsonapiary.deserializers.JsonApiResourceDeserializer;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Everything needed to deserialize resources of one JsonAPI type, resolved once per type: how to construct it, the
+ * type of its id and how to set it, and its relationships by JsonAPI key. Types with compile-time generated
+ * deserializers are constructed, and have their id and relationships set, through those.
+ *
+ * Problems with a type (no public void constructor, no way to set the id) are only reported once a resource of the
+ * type is actually deserialized, as they always were; serialize-only types can do without either.
+ */
+public class ResourceDeserializationPlan {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+    private final String typeName;
+
+    private final Class<?> type;
+
+    private final JsonApiResourceDeserializer generatedDeserializer;
+
+    private final MethodHandle constructor;
+
+    private final Class<?> idType;
+
+    private final MemberDescriptor idMember;
+
+    private final Map<String, MemberDescriptor> relationships;
+
+    // The attributes deserializer, by the Jackson deserializer of the type it was derived from //
+    private volatile Map.Entry<JsonDeserializer<Object>, JsonDeserializer<Object>> attributesDeserializer;
+
+    /////////////////
+    // Constructor //
+    /////////////////
+
+    /**
+     * Constructor
+     * @param typeName the JsonAPI "type" value the type is registered under
+     * @param type
+     * @param generatedDeserializer
+     */
+    public ResourceDeserializationPlan(
+            String typeName,
+            Class<?> type,
+            JsonApiResourceDeserializer<?> generatedDeserializer) {
+        this.typeName = typeName;
+        this.type = type;
+        this.generatedDeserializer = generatedDeserializer;
+
+        if(generatedDeserializer != null) {
+            this.constructor = null;
+            this.idType = generatedDeserializer.getIdType();
+            this.idMember = null;
+            this.relationships = Collections.emptyMap();
+        } else {
+            ResourceDescriptor resourceDescriptor = ResourceDescriptor.forType(type);
+            this.constructor = findConstructor(type);
+            this.idMember = findIdMember(resourceDescriptor);
+            this.idType = idMember == null ? null : idMember.getValueType();
+            this.relationships = new HashMap<String, MemberDescriptor>();
+            for(MemberDescriptor member : resourceDescriptor.getRelationships()) {
+                if(!relationships.containsKey(member.getKey())) {
+                    relationships.put(member.getKey(), member);
+                }
+            }
+        }
+    }
+
+    ////////////////////
+    // Public Methods //
+    ////////////////////
+
+    /**
+     * Converts the passed in JsonAPI "id" value to the type's id type; null ids stay null
+     * @param idNode
+     * @return
+     */
+    public Object parseId(
+            JsonNode idNode) {
+        return DeserializationUtilities.fetchIdFromValue(idType, type, idNode);
+    }
+
+    /**
+     * Returns whether or not the "type" value the parser is positioned on is the one this type is registered under,
+     * compared against the parser's own character buffer
+     * @param jsonParser
+     * @return
+     * @throws IOException
+     */
+    public boolean matchesTypeName(
+            JsonParser jsonParser) throws IOException {
+        return jsonParser.hasToken(JsonToken.VALUE_STRING) && JsonApiTypeRegistry.matches(
+                typeName, jsonParser.getTextCharacters(), jsonParser.getTextOffset(), jsonParser.getTextLength());
+    }
+
+    /**
+     * Returns the ResourceKey of the resource of this type with the passed in JsonAPI "id" value, or null for a null
+     * id. Long, int and String ids are converted the way parseId(...) converts them, without boxing.
+     * @param idNode
+     * @return
+     */
+    public ResourceKey keyFor(
+            JsonNode idNode) {
+        if(idType == null || idNode == null || idNode.isNull()) {
+            Object id = parseId(idNode);
+            return id == null ? null : ResourceKey.of(type, id);
+        } else if(idType == Long.class || idType == long.class) {
+            return ResourceKey.of(type, idNode.asLong());
+        } else if(idType == Integer.class || idType == int.class) {
+            return ResourceKey.of(type, idNode.asInt());
+        } else if(idType == String.class) {
+            return ResourceKey.of(type, idNode.asText());
+        }
+        return ResourceKey.of(type, parseId(idNode));
+    }
+
+    /**
+     * Creates a new resource of the type, with the passed in (already converted) id set on it
+     * @param id
+     * @return
+     */
+    public Object createResource(
+            Object id) {
+        if(generatedDeserializer != null) {
+            Object resource = generatedDeserializer.createInstance();
+            generatedDeserializer.setId(resource, id);
+            return resource;
+        }
+
+        // Construct //
+        verifyConstructor();
+        Object resource;
+        try {
+            resource = (Object) constructor.invokeExact();
+        } catch(RuntimeException | Error e) {
+            throw e;
+        } catch(Throwable t) {
+            String issue = "Failed to construct type: " + type.getName();
+            throw new IllegalStateException(issue, t);
+        }
+
+        // Set the ID through the pre-resolved Field/"setter" //
+        verifyIdSetter();
+        idMember.setValue(resource, id);
+
+        return resource;
+    }
+
+    /**
+     * Returns the deserializer binding only the type's attribute members, derived from the passed in (Jackson)
+     * deserializer of the type; re-derived whenever that deserializer changes (e.g. another ObjectMapper)
+     * @param objectDeserializer
+     * @param deserializationContext
+     * @return
+     */
+    public JsonDeserializer<Object> fetchAttributesDeserializer(
+            JsonDeserializer<Object> objectDeserializer,
+            DeserializationContext deserializationContext) {
+        Map.Entry<JsonDeserializer<Object>, JsonDeserializer<Object>> attributesDeserializer =
+                this.attributesDeserializer;
+        if(attributesDeserializer == null || attributesDeserializer.getKey() != objectDeserializer) {
+            JsonDeserializer<Object> derivedDeserializer =
+                    AttributesDeserializer.createAttributesDeserializer(type, objectDeserializer, deserializationContext);
+            attributesDeserializer = new AbstractMap.SimpleImmutableEntry<JsonDeserializer<Object>,
+                    JsonDeserializer<Object>>(objectDeserializer, derivedDeserializer);
+            this.attributesDeserializer = attributesDeserializer;
+        }
+        return attributesDeserializer.getValue();
+    }
+
+    /**
+     * Verifies, up front, that resources of the type can be deserialized: that the type has a supported id, a public
+     * void constructor, and a way to set the id. Throws the exception deserializing a resource of the type would.
+     */
+    public void validate() {
+        // Converting a sample id fails for a missing, or unsupported, id type //
+        DeserializationUtilities.fetchIdFromValue(idType, type, TextNode.valueOf("0"));
+        if(generatedDeserializer == null) {
+            verifyConstructor();
+            verifyIdSetter();
+        }
+    }
+
+    /**
+     * Returns whether or not the type has a relationship with the passed in JsonAPI key
+     * @param key
+     * @return
+     */
+    public boolean hasRelationship(
+            String key) {
+        return generatedDeserializer != null || relationships.containsKey(key);
+    }
+
+    /**
+     * Sets an (already deserialized) related object, or List of them, on the relationship with the passed in key
+     * @param resource
+     * @param key
+     * @param relationship
+     */
+    public void setRelationship(
+            Object resource,
+            String key,
+            Object relationship) {
+        if(generatedDeserializer != null) {
+            generatedDeserializer.setRelationship(resource, key, relationship);
+        } else {
+            relationships.get(key).setValue(resource, relationship);
+        }
+    }
+
+    /////////////////////
+    // Private Methods //
+    /////////////////////
+
+    private void verifyConstructor() {
+        if(constructor == null) {
+            String issue = "No public default void constructor found on type: " + type.getName();
+            throw new IllegalStateException(issue);
+        }
+    }
+
+    private void verifyIdSetter() {
+        if(idMember == null || !idMember.isWritable()) {
+            String issue = "The @JsonApiId field is both not accessable (not public), AND a \"setter\" Method " +
+                    "count not be found on type: " + type.getName() + ". A \"setter\" Method must have either the " +
+                    "@JsonApiId annotation, or be named set{IdFieldName}(...).";
+            throw new IllegalStateException(issue);
+        }
+    }
+
+    private static MethodHandle findConstructor(
+            Class<?> type) {
+        try {
+            return MethodHandles.publicLookup()
+                    .findConstructor(type, MethodType.methodType(void.class))
+                    .asType(CONSTRUCTOR_TYPE);
+        } catch(NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the @JsonApiId Field member of the type
+     * @param resourceDescriptor
+     * @return
+     */
+    private static MemberDescriptor findIdMember(
+            ResourceDescriptor resourceDescriptor) {
+        for(MemberDescriptor member : resourceDescriptor.getIds()) {
+            if(member.isField()) {
+                return member;
+            }
+        }
+
+        return null;
+    }
+
+    /////////////////////////
+    // Getters and Setters //
+    /////////////////////////
+
+    public String getTypeName() {
+        return this.typeName;
+    }
+
+    public Class<?> getType() {
+        return this.type;
+    }
+
+    public JsonApiResourceDeserializer getGeneratedDeserializer() {
+        return this.generatedDeserializer;
+    }
+
+    public Class<?> getIdType() {
+        return this.idType;
+    }
+
+}
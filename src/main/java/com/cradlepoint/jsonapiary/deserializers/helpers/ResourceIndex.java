@@ -0,0 +1,139 @@
+package com.cradlepoint.jsonapiary.deserializers.helpers;
+
+/**
+ * The resources of one JsonAPI document by their ResourceKey: an unsynchronized, open-addressing (linear probing) hash
+ * table, as a document is only ever read by one thread. Resources are only ever added, never removed.
+ */
+public class ResourceIndex {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    private static final int DEFAULT_EXPECTED_SIZE = 16;
+
+    private ResourceKey[] keys;
+
+    private Object[] resources;
+
+    private int size;
+
+    // The table is grown once it is half full, keeping the probe sequences short //
+    private int resizeThreshold;
+
+    /////////////////
+    // Constructor //
+    /////////////////
+
+    /**
+     * Constructor
+     */
+    public ResourceIndex() {
+        this(DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * Constructor, sized to hold the passed in number of resources without growing
+     * @param expectedSize
+     */
+    public ResourceIndex(
+            int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(expectedSize, 2) * 2 - 1) << 1;
+        allocate(capacity);
+    }
+
+    ////////////////////
+    // Public Methods //
+    ////////////////////
+
+    /**
+     * Returns the resource with the passed in key, or null if there is none (or the key is null)
+     * @param key
+     * @return
+     */
+    public Object get(
+            ResourceKey key) {
+        if(key == null) {
+            return null;
+        }
+
+        int mask = keys.length - 1;
+        for(int slot = spread(key.hashCode()) & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+            if(keys[slot].equals(key)) {
+                return resources[slot];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds the passed in resource under the passed in key, unless there already is a resource with that key. Returns
+     * the resource that ends up indexed under the key.
+     * @param key
+     * @param resource
+     * @return
+     */
+    public Object putIfAbsent(
+            ResourceKey key,
+            Object resource) {
+        int mask = keys.length - 1;
+        int slot = spread(key.hashCode()) & mask;
+        for(; keys[slot] != null; slot = (slot + 1) & mask) {
+            if(keys[slot].equals(key)) {
+                return resources[slot];
+            }
+        }
+
+        keys[slot] = key;
+        resources[slot] = resource;
+        if(++size > resizeThreshold) {
+            resize();
+        }
+        return resource;
+    }
+
+    /**
+     * Returns the number of indexed resources
+     * @return
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /////////////////////
+    // Private Methods //
+    /////////////////////
+
+    private void allocate(
+            int capacity) {
+        keys = new ResourceKey[capacity];
+        resources = new Object[capacity];
+        resizeThreshold = capacity / 2;
+    }
+
+    private void resize() {
+        ResourceKey[] oldKeys = keys;
+        Object[] oldResources = resources;
+        allocate(oldKeys.length * 2);
+
+        int mask = keys.length - 1;
+        for(int i = 0; i < oldKeys.length; i++) {
+            if(oldKeys[i] != null) {
+                int slot = spread(oldKeys[i].hashCode()) & mask;
+                while(keys[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                resources[slot] = oldResources[i];
+            }
+        }
+    }
+
+    // Sequential ids hash to sequential values; scatter them so they do not form long runs //
+    private static int spread(
+            int hash) {
+        int spread = hash * 0x9E3779B9;
+        return spread ^ (spread >>> 16);
+    }
+
+}
@@ -0,0 +1,248 @@
+package com.cradlepoint.jsonapiary.deserializers.helpers;
+
+/**
+ * The immutable (type, id) identity of a JsonAPI resource within one document. Long, int and String ids have their own
+ * variants, so the ids of keys that are only ever looked up are never boxed; any other id is compared by equals().
+ * Keys are only equal to keys of the same variant, type and id.
+ */
+public abstract class ResourceKey {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    protected final Class<?> type;
+
+    /////////////////
+    // Constructor //
+    /////////////////
+
+    /**
+     * Constructor
+     * @param type
+     */
+    private ResourceKey(Class<?> type) {
+        this.type = type;
+    }
+
+    ////////////////////
+    // Public Methods //
+    ////////////////////
+
+    /**
+     * Creates the key of a resource with a long id
+     * @param type
+     * @param id
+     * @return
+     */
+    public static ResourceKey of(
+            Class<?> type,
+            long id) {
+        return new LongResourceKey(type, id);
+    }
+
+    /**
+     * Creates the key of a resource with an int id
+     * @param type
+     * @param id
+     * @return
+     */
+    public static ResourceKey of(
+            Class<?> type,
+            int id) {
+        return new IntResourceKey(type, id);
+    }
+
+    /**
+     * Creates the key of a resource with a String id
+     * @param type
+     * @param id
+     * @return
+     */
+    public static ResourceKey of(
+            Class<?> type,
+            String id) {
+        return new StringResourceKey(type, id);
+    }
+
+    /**
+     * Creates the key of a resource with an (already converted) id of any type
+     * @param type
+     * @param id
+     * @return
+     */
+    public static ResourceKey of(
+            Class<?> type,
+            Object id) {
+        if(id instanceof Long) {
+            return new LongResourceKey(type, (Long) id);
+        } else if(id instanceof Integer) {
+            return new IntResourceKey(type, (Integer) id);
+        } else if(id instanceof String) {
+            return new StringResourceKey(type, (String) id);
+        }
+        return new ObjectResourceKey(type, id);
+    }
+
+    /**
+     * Returns the (boxed) id
+     * @return
+     */
+    public abstract Object getId();
+
+    /////////////////////////
+    // Getters and Setters //
+    /////////////////////////
+
+    public Class<?> getType() {
+        return this.type;
+    }
+
+    ///////////////
+    // Overrides //
+    ///////////////
+
+    @Override
+    public String toString() {
+        return type.getName() + "[" + getId() + "]";
+    }
+
+    /////////////////////
+    // Private Methods //
+    /////////////////////
+
+    private static int mix(
+            Class<?> type,
+            int idHash) {
+        return 31 * System.identityHashCode(type) + idHash;
+    }
+
+    /////////////////////
+    // Private Classes //
+    /////////////////////
+
+    private static final class LongResourceKey extends ResourceKey {
+
+        private final long id;
+
+        LongResourceKey(Class<?> type, long id) {
+            super(type);
+            this.id = id;
+        }
+
+        @Override
+        public Object getId() {
+            return id;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if(!(object instanceof LongResourceKey)) {
+                return false;
+            }
+
+            LongResourceKey other = (LongResourceKey) object;
+            return this.type == other.type && this.id == other.id;
+        }
+
+        @Override
+        public int hashCode() {
+            return mix(type, Long.hashCode(id));
+        }
+
+    }
+
+    private static final class IntResourceKey extends ResourceKey {
+
+        private final int id;
+
+        IntResourceKey(Class<?> type, int id) {
+            super(type);
+            this.id = id;
+        }
+
+        @Override
+        public Object getId() {
+            return id;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if(!(object instanceof IntResourceKey)) {
+                return false;
+            }
+
+            IntResourceKey other = (IntResourceKey) object;
+            return this.type == other.type && this.id == other.id;
+        }
+
+        @Override
+        public int hashCode() {
+            return mix(type, id);
+        }
+
+    }
+
+    private static final class StringResourceKey extends ResourceKey {
+
+        private final String id;
+
+        StringResourceKey(Class<?> type, String id) {
+            super(type);
+            this.id = id;
+        }
+
+        @Override
+        public Object getId() {
+            return id;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if(!(object instanceof StringResourceKey)) {
+                return false;
+            }
+
+            StringResourceKey other = (StringResourceKey) object;
+            return this.type == other.type && this.id.equals(other.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return mix(type, id.hashCode());
+        }
+
+    }
+
+    private static final class ObjectResourceKey extends ResourceKey {
+
+        private final Object id;
+
+        ObjectResourceKey(Class<?> type, Object id) {
+            super(type);
+            this.id = id;
+        }
+
+        @Override
+        public Object getId() {
+            return id;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if(!(object instanceof ObjectResourceKey)) {
+                return false;
+            }
+
+            ObjectResourceKey other = (ObjectResourceKey) object;
+            return this.type == other.type && this.id.equals(other.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return mix(type, id.hashCode());
+        }
+
+    }
+
+}
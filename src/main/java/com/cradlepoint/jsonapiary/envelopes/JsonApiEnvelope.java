@@ -2,13 +2,13 @@ package com.cradlepoint.jsonapiary.envelopes;
 
 import com.cradlepoint.jsonapiary.annotations.JsonApiType;
 import com.cradlepoint.jsonapiary.constants.JsonApiKeyConstants;
+import com.cradlepoint.jsonapiary.types.Link;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.net.URL;
-import java.util.Hashtable;
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
+import java.util.*;
+import java.util.stream.BaseStream;
 
 public class JsonApiEnvelope<T> {
 
@@ -16,6 +16,19 @@ public class JsonApiEnvelope<T> {
     // Attributes //
     ////////////////
 
+    /**
+     * ObjectWriter attribute (Map of JsonAPI type to Set of field names) holding the sparse fieldsets to apply when
+     * the envelope itself carries none, e.g.:
+     * objectMapper.writer().withAttribute(JsonApiEnvelope.FIELDS_ATTRIBUTE, fieldsets).writeValueAsString(envelope)
+     */
+    public static final String FIELDS_ATTRIBUTE = "com.cradlepoint.jsonapiary.fields";
+
+    /**
+     * ObjectWriter attribute (comma separated String, or Collection of Strings) holding the "include" paths to follow
+     * when the envelope itself carries none
+     */
+    public static final String INCLUDE_ATTRIBUTE = "com.cradlepoint.jsonapiary.include";
+
     /**
      * JsonAPI annotated object to be serialized
      */
@@ -26,7 +39,7 @@ public class JsonApiEnvelope<T> {
      * Top-level links
      */
     @JsonProperty(JsonApiKeyConstants.LINKS_KEY)
-    private Map<String, URL> links;
+    private Map<String, Link> links;
 
     /**
      * Top-level meta-data
@@ -34,6 +47,19 @@ public class JsonApiEnvelope<T> {
     @JsonProperty(JsonApiKeyConstants.META_DATA_KEY)
     private Map<String, String> meta;
 
+    /**
+     * Sparse fieldsets ("fields[type]=a,b"), keyed by JsonAPI type
+     */
+    @JsonIgnore
+    private Map<String, Set<String>> fields;
+
+    /**
+     * Relationship paths ("include=owner,router.firmware") to expand into the "included" section, null to include
+     * everything reachable
+     */
+    @JsonIgnore
+    private List<String> include;
+
     /////////////////
     // Constructor //
     /////////////////
@@ -43,18 +69,21 @@ public class JsonApiEnvelope<T> {
      */
     public JsonApiEnvelope() {
         data = null;
-        links = new Hashtable<String, URL>();
+        links = new Hashtable<String, Link>();
         meta = new Hashtable<String, String>();
+        fields = new Hashtable<String, Set<String>>();
     }
 
     /**
-     * Constructor
+     * Constructor. Besides a single object or a List, the data may be an Iterator, Iterable, Stream or Spliterator
+     * of objects; those are only pulled (and checked) while being serialized, and can only be serialized once.
      */
     public JsonApiEnvelope(T data) {
         validateTypeJsonAPIAnnotated(data);
         this.data = data;
-        links = new Hashtable<String, URL>();
+        links = new Hashtable<String, Link>();
         meta = new Hashtable<String, String>();
+        fields = new Hashtable<String, Set<String>>();
     }
 
     /////////////////////////
@@ -82,7 +111,7 @@ public class JsonApiEnvelope<T> {
      * Fetch the top-level links
      * @return
      */
-    public Map<String, URL> getLinks() {
+    public Map<String, Link> getLinks() {
         return this.links;
     }
 
@@ -94,6 +123,22 @@ public class JsonApiEnvelope<T> {
         return this.meta;
     }
 
+    /**
+     * Fetch the sparse fieldsets, keyed by JsonAPI type
+     * @return
+     */
+    public Map<String, Set<String>> getFields() {
+        return this.fields;
+    }
+
+    /**
+     * Fetch the "include" paths, or null if everything reachable is to be included
+     * @return
+     */
+    public List<String> getInclude() {
+        return this.include;
+    }
+
     ////////////////////
     // Public Methods //
     ////////////////////
@@ -104,7 +149,25 @@ public class JsonApiEnvelope<T> {
      * @param url
      */
     public void addLink(String key, URL url) {
-        links.put(key, url);
+        links.put(key, new Link(url.toString()));
+    }
+
+    /**
+     * Adds a link, by its href, to the top-level object links
+     * @param key
+     * @param href
+     */
+    public void addLink(String key, String href) {
+        links.put(key, new Link(href));
+    }
+
+    /**
+     * Adds a link (which may have meta of its own) to the top-level object links
+     * @param key
+     * @param link
+     */
+    public void addLink(String key, Link link) {
+        links.put(key, link);
     }
 
     /**
@@ -116,6 +179,45 @@ public class JsonApiEnvelope<T> {
         meta.put(key, value);
     }
 
+    /**
+     * Restricts the "attributes", "meta" and "relationships" written out for every resource of the passed in JsonAPI
+     * type to the passed in field names. Members left out are never read.
+     * @param type
+     * @param fieldNames
+     */
+    public void addFields(String type, Collection<String> fieldNames) {
+        fields.put(type, new HashSet<String>(fieldNames));
+    }
+
+    /**
+     * Restricts the fields of the passed in JsonAPI type, taking the comma separated value of a "fields[type]" query
+     * parameter; an empty value leaves out every field
+     * @param type
+     * @param commaSeparatedFieldNames
+     */
+    public void addFields(String type, String commaSeparatedFieldNames) {
+        Set<String> fieldNames = new HashSet<String>();
+        for(String fieldName : commaSeparatedFieldNames.split(",")) {
+            if(!fieldName.trim().isEmpty()) {
+                fieldNames.add(fieldName.trim());
+            }
+        }
+        fields.put(type, fieldNames);
+    }
+
+    /**
+     * Restricts the "included" section to the objects on the passed in relationship path(s), taking either a single
+     * dot separated path ("router.firmware") or the comma separated value of an "include" query parameter. Objects off
+     * those paths are only referenced by their resource linkage. An empty value includes nothing.
+     * @param paths
+     */
+    public void addInclude(String paths) {
+        if(include == null) {
+            include = new ArrayList<String>();
+        }
+        include.add(paths);
+    }
+
     /////////////////////
     // Private Methods //
     /////////////////////
@@ -143,6 +245,10 @@ public class JsonApiEnvelope<T> {
                     }
                 }
             }
+        } else if(data instanceof Iterator || data instanceof Iterable || data instanceof BaseStream ||
+                data instanceof Spliterator) {
+            // Streamed data; each element is checked as it gets pulled during serialization //
+            return;
         } else if(!data.getClass().isAnnotationPresent(JsonApiType.class)) {
             String issue = "Passed in data (type: " + data.getClass().getName() + ") does not appear to be JsonApi annotated." +
                     " Expected type to have @JsonApiType annotation";
@@ -168,7 +274,9 @@ public class JsonApiEnvelope<T> {
         return Objects.hash(
                 data,
                 links,
-                meta);
+                meta,
+                fields,
+                include);
     }
 
 }
@@ -1,19 +1,37 @@
 package com.cradlepoint.jsonapiary.serializers;
 
-import com.cradlepoint.jsonapiary.constants.JsonApiKeyConstants;
+import com.cradlepoint.jsonapiary.constants.JsonApiSerializedKeyConstants;
+import com.cradlepoint.jsonapiary.descriptors.ResourceDescriptor;
 import com.cradlepoint.jsonapiary.enums.JsonApiObjectContext;
 import com.cradlepoint.jsonapiary.envelopes.JsonApiEnvelope;
+import com.cradlepoint.jsonapiary.types.Link;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
 import java.io.IOException;
-import java.net.URL;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
-public class JsonApiEnvelopeSerializer extends StdSerializer<JsonApiEnvelope> {
+/**
+ * Serializes JsonApiEnvelopes. An envelope whose data type is known (through ObjectMapper.writerFor(...) with a
+ * TypeReference, or as the declared type of a property) gets a serializer of its own, with the serializer of its
+ * JsonAPI type resolved once, which skips the runtime checks of what kind of object the data is. Jackson caches those
+ * per envelope type.
+ */
+public class JsonApiEnvelopeSerializer extends StdSerializer<JsonApiEnvelope>
+        implements ContextualSerializer, ResolvableSerializer {
 
     ////////////////
     // Attributes //
@@ -21,6 +39,11 @@ public class JsonApiEnvelopeSerializer extends StdSerializer<JsonApiEnvelope> {
 
     private JsonApiSerializer jsonApiSerializer;
 
+    // Serializer of the data's (or of the data List's elements') JsonAPI type, null if unknown //
+    private JsonApiObjectSerializer<?> dataSerializer;
+
+    private boolean dataIsList;
+
     /////////////////
     // Constructor //
     /////////////////
@@ -33,6 +56,119 @@ public class JsonApiEnvelopeSerializer extends StdSerializer<JsonApiEnvelope> {
         jsonApiSerializer = new JsonApiSerializer();
     }
 
+    /**
+     * Constructor taking in the compile-time generated serializers, keyed by the type they serialize
+     * @param generatedSerializers
+     */
+    public JsonApiEnvelopeSerializer(
+            Map<Class<?>, JsonApiResourceSerializer<?>> generatedSerializers) {
+        super(JsonApiEnvelope.class);
+        jsonApiSerializer = new JsonApiSerializer(generatedSerializers);
+    }
+
+    /**
+     * Constructor of the serializer of envelopes with a known data type
+     * @param jsonApiSerializer
+     * @param dataSerializer
+     * @param dataIsList
+     */
+    private JsonApiEnvelopeSerializer(
+            JsonApiSerializer jsonApiSerializer,
+            JsonApiObjectSerializer<?> dataSerializer,
+            boolean dataIsList) {
+        super(JsonApiEnvelope.class);
+        this.jsonApiSerializer = jsonApiSerializer;
+        this.dataSerializer = dataSerializer;
+        this.dataIsList = dataIsList;
+    }
+
+    ////////////////////
+    // Public Methods //
+    ////////////////////
+
+    /**
+     * Returns the serializer of envelopes with data of the passed in type: a JsonAPI type, or a List of one. Envelopes
+     * of any other data type are serialized by this (type checking) serializer.
+     * @param dataType
+     * @return
+     */
+    public JsonApiEnvelopeSerializer forDataType(
+            JavaType dataType) {
+        if(dataType == null) {
+            return this;
+        }
+
+        boolean list = List.class.isAssignableFrom(dataType.getRawClass());
+        JavaType resourceType = list ? dataType.getContentType() : dataType;
+        JsonApiObjectSerializer<?> objectSerializer = resourceType == null || resourceType.isJavaLangObject() ?
+                null : jsonApiSerializer.createObjectSerializer(resourceType.getRawClass());
+        if(objectSerializer == null) {
+            return this;
+        }
+
+        return new JsonApiEnvelopeSerializer(jsonApiSerializer, objectSerializer, list);
+    }
+
+    /**
+     * Writes out large primary data arrays, and large breadth-first "frontiers" of the "included" section, in chunks
+     * of the passed in size on the passed in pool. The output is identical to writing sequentially.
+     * @param forkJoinPool
+     * @param chunkSize
+     */
+    public void enableParallelSerialization(
+            ForkJoinPool forkJoinPool,
+            int chunkSize) {
+        jsonApiSerializer.setParallelWriter(new JsonApiParallelWriter(jsonApiSerializer, forkJoinPool, chunkSize));
+    }
+
+    /**
+     * Goes back to writing everything out sequentially
+     */
+    public void disableParallelSerialization() {
+        jsonApiSerializer.setParallelWriter(null);
+    }
+
+    /**
+     * Writes out the attributes of reflectively serialized types with (copies of) their Jackson BeanSerializers,
+     * limited to their attribute members
+     * @param beanAttributes
+     */
+    public void setBeanAttributes(
+            boolean beanAttributes) {
+        jsonApiSerializer.setBeanAttributes(beanAttributes);
+    }
+
+    /**
+     * Sets whether or not link values other than Links, URLs and URIs are checked to be absolute URIs
+     * @param validateLinks
+     */
+    public void setValidateLinks(
+            boolean validateLinks) {
+        jsonApiSerializer.setValidateLinks(validateLinks);
+    }
+
+    /**
+     * Resolves (ahead of the first resource) the Jackson serializers of the attribute and meta members of the type
+     * described by the passed in ResourceDescriptor, through the passed in SerializerProvider
+     * @param resourceDescriptor
+     * @param serializerProvider
+     * @throws JsonMappingException
+     */
+    public void prefetchMemberSerializers(
+            ResourceDescriptor resourceDescriptor,
+            SerializerProvider serializerProvider) throws JsonMappingException {
+        jsonApiSerializer.prefetchMemberSerializers(resourceDescriptor, serializerProvider);
+    }
+
+    /**
+     * Sets the base URL templated links that are not absolute URIs are prefixed with (null for none)
+     * @param linkBaseUrl
+     */
+    public void setLinkBaseUrl(
+            String linkBaseUrl) {
+        jsonApiSerializer.setLinkBaseUrl(linkBaseUrl);
+    }
+
     ///////////////////////////
     // StdSerializer Methods //
     ///////////////////////////
@@ -48,58 +184,106 @@ public class JsonApiEnvelopeSerializer extends StdSerializer<JsonApiEnvelope> {
             JsonApiEnvelope jsonApiEnvelope,
             JsonGenerator jsonGenerator,
             SerializerProvider serializerProvider) throws IOException {
-        Set<Object> includes = new HashSet<Object>();
+        JsonApiTraversalContext traversalContext = new JsonApiTraversalContext(
+                fetchFieldsets(jsonApiEnvelope, serializerProvider),
+                fetchIncludeTree(jsonApiEnvelope, serializerProvider));
 
         // Create the JsonAPI "envelope" object, the call down expanding the "has-a" objects accordingly //
         jsonGenerator.writeStartObject();
-        jsonGenerator.writeFieldName(JsonApiKeyConstants.DATA_KEY);
+        jsonGenerator.writeFieldName(JsonApiSerializedKeyConstants.DATA_KEY);
 
         Object data = jsonApiEnvelope.getData();
         if(data == null) {
             jsonGenerator.writeNull();
+        } else if(dataSerializer != null && !dataIsList) {
+            dataSerializer.markPrimaryData(data, traversalContext, jsonGenerator);
+            dataSerializer.serializeJsonApiObject(
+                    data,
+                    JsonApiObjectContext.PRIMARY,
+                    traversalContext,
+                    jsonGenerator,
+                    serializerProvider);
+        } else if(dataSerializer != null && data instanceof List) {
+            List<Object> dataList = (List<Object>) data;
+            for(Object element : dataList) {
+                dataSerializer.markPrimaryData(element, traversalContext, jsonGenerator);
+            }
+            jsonApiSerializer.serializeJsonApiObjectList(
+                    dataList,
+                    dataSerializer,
+                    JsonApiObjectContext.PRIMARY,
+                    traversalContext,
+                    jsonGenerator,
+                    serializerProvider);
         } else {
-            includes.addAll(
-                    jsonApiSerializer.serializeRandomObject(
-                            data,
-                            JsonApiObjectContext.PRIMARY,
-                            jsonGenerator,
-                            serializerProvider));
+            jsonApiSerializer.markPrimaryData(data, traversalContext, jsonGenerator);
+            jsonApiSerializer.serializeRandomObject(
+                    data,
+                    JsonApiObjectContext.PRIMARY,
+                    traversalContext,
+                    jsonGenerator,
+                    serializerProvider);
         }
 
-        // Write out the expanded "included" objects //
-        if(!includes.isEmpty()) {
-            Set<Object> currentIncludes = new HashSet<Object>();
-            currentIncludes.addAll(includes);
-            includes.add(jsonApiEnvelope.getData()); // To prevent the "data" object from being re-serialized
-
-            Set<Object> newIncludes = new HashSet<Object>();
-
-            jsonGenerator.writeFieldName(JsonApiKeyConstants.INCLUDED_KEY);
-            jsonGenerator.writeStartArray();
-
-            while(!currentIncludes.isEmpty()) {
-                for (Object thingToInclude : currentIncludes) {
-                    newIncludes.addAll(jsonApiSerializer.serializeRandomObject(
-                            thingToInclude,
-                            JsonApiObjectContext.PRIMARY,
+        // Write out the expanded "included" objects, in the order they were discovered (the list grows as we go) //
+        traversalContext.startIncluded();
+        List<Object> includes = traversalContext.getIncludes();
+        boolean includedStarted = false;
+        for(int i = 0; i < includes.size(); i++) {
+            traversalContext.startResource(traversalContext.fetchIncludeNode(i));
+            if(traversalContext.isWrittenOut(i)) {
+                if(traversalContext.getIncludeTree() != null) {
+                    jsonApiSerializer.expandRelationships(
+                            includes.get(i),
+                            traversalContext,
                             jsonGenerator,
-                            serializerProvider));
+                            serializerProvider);
                 }
+                continue;
+            }
 
-                currentIncludes = determineNewNewIncludes(includes, newIncludes);
+            if(!includedStarted) {
+                jsonGenerator.writeFieldName(JsonApiSerializedKeyConstants.INCLUDED_KEY);
+                jsonGenerator.writeStartArray();
+                includedStarted = true;
             }
 
+            // Write out the rest of the objects discovered so far (this breadth-first "frontier") in parallel //
+            JsonApiParallelWriter parallelWriter = jsonApiSerializer.getParallelWriter();
+            if(parallelWriter != null &&
+                    parallelWriter.canWriteInParallel(
+                            includes.size() - i, traversalContext, jsonGenerator, serializerProvider)) {
+                List<Object> frontier = new ArrayList<Object>(includes.size() - i);
+                for(int end = includes.size(); i < end; i++) {
+                    if(!traversalContext.isWrittenOut(i)) {
+                        frontier.add(includes.get(i));
+                    }
+                }
+                i--;
+                parallelWriter.writeInParallel(frontier, traversalContext, jsonGenerator, serializerProvider);
+                continue;
+            }
+
+            jsonApiSerializer.serializeRandomObject(
+                    includes.get(i),
+                    JsonApiObjectContext.PRIMARY,
+                    traversalContext,
+                    jsonGenerator,
+                    serializerProvider);
+        }
+        if(includedStarted) {
             jsonGenerator.writeEndArray();
         }
 
         // Write out the top-level Links //
         if(!jsonApiEnvelope.getLinks().isEmpty()) {
-            Map<String, URL> links = jsonApiEnvelope.getLinks();
+            Map<String, Link> links = jsonApiEnvelope.getLinks();
 
-            jsonGenerator.writeFieldName(JsonApiKeyConstants.LINKS_KEY);
+            jsonGenerator.writeFieldName(JsonApiSerializedKeyConstants.LINKS_KEY);
             jsonGenerator.writeStartObject();
             for(String key : links.keySet()) {
-                jsonGenerator.writeStringField(key, links.get(key).toString());
+                jsonGenerator.writeFieldName(key);
+                JsonApiSerializer.serializeLink(links.get(key), jsonGenerator, serializerProvider);
             }
             jsonGenerator.writeEndObject();
         }
@@ -108,7 +292,7 @@ public class JsonApiEnvelopeSerializer extends StdSerializer<JsonApiEnvelope> {
         if(!jsonApiEnvelope.getMeta().isEmpty()) {
             Map<String, String> meta = jsonApiEnvelope.getMeta();
 
-            jsonGenerator.writeFieldName(JsonApiKeyConstants.META_DATA_KEY);
+            jsonGenerator.writeFieldName(JsonApiSerializedKeyConstants.META_DATA_KEY);
             jsonGenerator.writeStartObject();
             for(String key : meta.keySet()) {
                 jsonGenerator.writeStringField(key, meta.get(key));
@@ -119,24 +303,92 @@ public class JsonApiEnvelopeSerializer extends StdSerializer<JsonApiEnvelope> {
         jsonGenerator.writeEndObject();
     }
 
+    //////////////////////////////////
+    // ContextualSerializer Methods //
+    //////////////////////////////////
+
+    /**
+     * Specializes the serializer of an envelope property on the property's declared data type
+     * @param serializerProvider
+     * @param beanProperty
+     * @return
+     * @throws JsonMappingException
+     */
+    @Override
+    public JsonSerializer<?> createContextual(
+            SerializerProvider serializerProvider,
+            BeanProperty beanProperty) throws JsonMappingException {
+        if(dataSerializer != null || beanProperty == null) {
+            return this;
+        }
+
+        JavaType[] dataTypes = beanProperty.getType().findTypeParameters(JsonApiEnvelope.class);
+        JsonApiEnvelopeSerializer envelopeSerializer = forDataType(dataTypes.length == 1 ? dataTypes[0] : null);
+        if(envelopeSerializer != this) {
+            envelopeSerializer.resolve(serializerProvider);
+        }
+        return envelopeSerializer;
+    }
+
+    //////////////////////////////////
+    // ResolvableSerializer Methods //
+    //////////////////////////////////
+
+    /**
+     * Resolves the serializer of the data's JsonAPI type, if known
+     * @param serializerProvider
+     * @throws JsonMappingException
+     */
+    @Override
+    public void resolve(
+            SerializerProvider serializerProvider) throws JsonMappingException {
+        if(dataSerializer != null) {
+            dataSerializer.resolve(serializerProvider);
+        }
+    }
+
     /////////////////////
     // Private Methods //
     /////////////////////
 
-    private Set<Object> determineNewNewIncludes(
-            Set<Object> includes,
-            Set<Object> newIncludes) {
-        Set<Object> newNewIncludes = new HashSet<Object>();
+    private Map<String, ? extends Set<String>> fetchFieldsets(
+            JsonApiEnvelope jsonApiEnvelope,
+            SerializerProvider serializerProvider) {
+        Map<String, Set<String>> fieldsets = jsonApiEnvelope.getFields();
+        if(fieldsets != null && !fieldsets.isEmpty()) {
+            return fieldsets;
+        }
 
-        for(Object newInclude : newIncludes) {
-            if(!includes.contains(newInclude)) {
-                includes.add(newInclude);
-                newNewIncludes.add(newInclude);
-            }
+        Object fieldsetsAttribute = serializerProvider.getAttribute(JsonApiEnvelope.FIELDS_ATTRIBUTE);
+        if(fieldsetsAttribute == null) {
+            return null;
+        } else if(!(fieldsetsAttribute instanceof Map)) {
+            String issue = "The \"" + JsonApiEnvelope.FIELDS_ATTRIBUTE + "\" attribute must be a Map of JsonAPI type " +
+                    "to a Set of field names, found: " + fieldsetsAttribute.getClass().getName();
+            throw new IllegalArgumentException(issue);
+        }
+        return (Map<String, ? extends Set<String>>) fieldsetsAttribute;
+    }
+
+    private JsonApiIncludeTree fetchIncludeTree(
+            JsonApiEnvelope jsonApiEnvelope,
+            SerializerProvider serializerProvider) {
+        if(jsonApiEnvelope.getInclude() != null) {
+            return JsonApiIncludeTree.compile(jsonApiEnvelope.getInclude());
         }
-        newIncludes.clear();
 
-        return newNewIncludes;
+        Object includeAttribute = serializerProvider.getAttribute(JsonApiEnvelope.INCLUDE_ATTRIBUTE);
+        if(includeAttribute == null) {
+            return null;
+        } else if(includeAttribute instanceof String) {
+            return JsonApiIncludeTree.compile(Collections.singletonList((String) includeAttribute));
+        } else if(includeAttribute instanceof Collection) {
+            return JsonApiIncludeTree.compile((Collection<String>) includeAttribute);
+        } else {
+            String issue = "The \"" + JsonApiEnvelope.INCLUDE_ATTRIBUTE + "\" attribute must be a comma separated " +
+                    "String or a Collection of Strings, found: " + includeAttribute.getClass().getName();
+            throw new IllegalArgumentException(issue);
+        }
     }
 
 }
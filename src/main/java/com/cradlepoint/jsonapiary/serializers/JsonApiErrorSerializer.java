@@ -1,6 +1,6 @@
 package com.cradlepoint.jsonapiary.serializers;
 
-import com.cradlepoint.jsonapiary.constants.JsonApiKeyConstants;
+import com.cradlepoint.jsonapiary.constants.JsonApiSerializedKeyConstants;
 import com.cradlepoint.jsonapiary.types.JsonApiError;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
@@ -40,7 +40,7 @@ public class JsonApiErrorSerializer extends StdSerializer<JsonApiError> {
 
         // Write out the beginning of the JSON //
         jsonGenerator.writeStartObject();
-        jsonGenerator.writeFieldName(JsonApiKeyConstants.ERRORS_KEY);
+        jsonGenerator.writeFieldName(JsonApiSerializedKeyConstants.ERRORS_KEY);
         jsonGenerator.writeStartArray();
 
         // Loop through all of the Errors within the JsonApiError //
@@ -51,50 +51,57 @@ public class JsonApiErrorSerializer extends StdSerializer<JsonApiError> {
 
                 // id //
                 if(error.getId() != null) {
-                    jsonGenerator.writeStringField(JsonApiKeyConstants.ID_KEY, error.getId());
+                    jsonGenerator.writeFieldName(JsonApiSerializedKeyConstants.ID_KEY);
+                    jsonGenerator.writeString(error.getId());
                 }
 
                 // links //
                 if(error.getLinks() != null && !error.getLinks().isEmpty()) {
-                    jsonGenerator.writeFieldName(JsonApiKeyConstants.LINKS_KEY);
+                    jsonGenerator.writeFieldName(JsonApiSerializedKeyConstants.LINKS_KEY);
                     jsonGenerator.writeStartObject();
                     for(String linkKey : error.getLinks().keySet()) {
-                        jsonGenerator.writeStringField(linkKey, error.getLinks().get(linkKey).toString());
+                        jsonGenerator.writeFieldName(linkKey);
+                        JsonApiSerializer.serializeLink(error.getLinks().get(linkKey), jsonGenerator, serializerProvider);
                     }
                     jsonGenerator.writeEndObject();
                 }
 
                 // status //
                 if(error.getStatus() != null) {
-                    jsonGenerator.writeStringField(JsonApiKeyConstants.STATUS_KEY, error.getStatus().toString());
+                    jsonGenerator.writeFieldName(JsonApiSerializedKeyConstants.STATUS_KEY);
+                    jsonGenerator.writeString(error.getStatus().toString());
                 }
 
                 // code //
                 if(error.getCode() != null) {
-                    jsonGenerator.writeStringField(JsonApiKeyConstants.CODE_KEY, error.getCode());
+                    jsonGenerator.writeFieldName(JsonApiSerializedKeyConstants.CODE_KEY);
+                    jsonGenerator.writeString(error.getCode());
                 }
 
                 // title //
                 if(error.getTitle() != null) {
-                    jsonGenerator.writeStringField(JsonApiKeyConstants.TITLE_KEY, error.getTitle());
+                    jsonGenerator.writeFieldName(JsonApiSerializedKeyConstants.TITLE_KEY);
+                    jsonGenerator.writeString(error.getTitle());
                 }
 
                 // detail //
                 if(error.getDetail() != null) {
-                    jsonGenerator.writeStringField(JsonApiKeyConstants.DETAIL_KEY, error.getDetail());
+                    jsonGenerator.writeFieldName(JsonApiSerializedKeyConstants.DETAIL_KEY);
+                    jsonGenerator.writeString(error.getDetail());
                 }
 
                 // source (pointer) //
                 if(error.getSourcePointer() != null) {
-                    jsonGenerator.writeFieldName(JsonApiKeyConstants.SOURCE_KEY);
+                    jsonGenerator.writeFieldName(JsonApiSerializedKeyConstants.SOURCE_KEY);
                     jsonGenerator.writeStartObject();
-                    jsonGenerator.writeStringField(JsonApiKeyConstants.POINTER_KEY, error.getSourcePointer());
+                    jsonGenerator.writeFieldName(JsonApiSerializedKeyConstants.POINTER_KEY);
+                    jsonGenerator.writeString(error.getSourcePointer());
                     jsonGenerator.writeEndObject();
                 }
 
                 // meta //
                 if(error.getMeta() != null && !error.getMeta().isEmpty()) {
-                    jsonGenerator.writeFieldName(JsonApiKeyConstants.META_DATA_KEY);
+                    jsonGenerator.writeFieldName(JsonApiSerializedKeyConstants.META_DATA_KEY);
                     jsonGenerator.writeStartObject();
                     for(String metaKey : error.getMeta().keySet()) {
                         jsonGenerator.writeFieldName(metaKey);
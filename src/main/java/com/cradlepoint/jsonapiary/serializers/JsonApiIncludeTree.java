@@ -0,0 +1,104 @@
+package com.cradlepoint.jsonapiary.serializers;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A compiled set of JsonAPI "include" paths (e.g. "owner,router.firmware"). Every node is one relationship name; the
+ * root node stands for the primary data. Only relationships with a node are expanded into the "included" section.
+ */
+class JsonApiIncludeTree {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    private static final String PATH_SEPARATOR = ",";
+
+    private static final String RELATIONSHIP_SEPARATOR = "\\.";
+
+    private Map<String, JsonApiIncludeTree> children;
+
+    /////////////////
+    // Constructor //
+    /////////////////
+
+    /**
+     * Default void constructor
+     */
+    private JsonApiIncludeTree() {
+        children = Collections.emptyMap();
+    }
+
+    ////////////////////
+    // Public Methods //
+    ////////////////////
+
+    /**
+     * Compiles the passed in include paths, each being either a single dot separated path or a comma separated list
+     * of them (as in the "include" query parameter)
+     * @param paths
+     * @return
+     */
+    public static JsonApiIncludeTree compile(
+            Collection<String> paths) {
+        JsonApiIncludeTree root = new JsonApiIncludeTree();
+        for(String commaSeparatedPaths : paths) {
+            for(String path : commaSeparatedPaths.split(PATH_SEPARATOR)) {
+                if(path.trim().isEmpty()) {
+                    continue;
+                }
+
+                JsonApiIncludeTree node = root;
+                for(String relationship : path.trim().split(RELATIONSHIP_SEPARATOR)) {
+                    if(relationship.isEmpty()) {
+                        String issue = "Invalid JsonAPI include path: \"" + path.trim() + "\"";
+                        throw new IllegalArgumentException(issue);
+                    }
+                    node = node.addChild(relationship);
+                }
+            }
+        }
+
+        return root;
+    }
+
+    /**
+     * Returns the node of the passed in relationship, or null if the relationship is not to be included
+     * @param relationship
+     * @return
+     */
+    public JsonApiIncludeTree fetchChild(
+            String relationship) {
+        return children.get(relationship);
+    }
+
+    /**
+     * Returns whether or not anything below this node is to be included
+     * @return
+     */
+    public boolean hasChildren() {
+        return !children.isEmpty();
+    }
+
+    /////////////////////
+    // Private Methods //
+    /////////////////////
+
+    private JsonApiIncludeTree addChild(
+            String relationship) {
+        if(children.isEmpty()) {
+            children = new HashMap<String, JsonApiIncludeTree>();
+        }
+
+        JsonApiIncludeTree child = children.get(relationship);
+        if(child == null) {
+            child = new JsonApiIncludeTree();
+            children.put(relationship, child);
+        }
+        return child;
+    }
+
+}
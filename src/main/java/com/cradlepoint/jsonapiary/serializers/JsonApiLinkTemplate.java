@@ -0,0 +1,349 @@
+package com.cradlepoint.jsonapiary.serializers;
+
+import com.cradlepoint.jsonapiary.annotations.JsonApiLink;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A compiled @JsonApiLink(template = "...") of a type, e.g. "/devices/{id}". The template is split once into its
+ * literal segments (with the configured base URL folded into the first one, and "{type}" into whichever it appears in)
+ * around the "{id}" variables. Links are rendered by copying the segments, and the resource's id, into a scratch
+ * buffer of the traversal context and writing that out as the string value: no intermediate Strings are built.
+ *
+ * The relationship links of a resource are derived from its own: "self" is the link followed by
+ * "/relationships/{key}", "related" is the link followed by "/{key}", with the key percent-encoded like the id.
+ */
+class JsonApiLinkTemplate {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    public static final String DEFAULT_KEY = "self";
+
+    private static final String ID_VARIABLE = "{id}";
+
+    private static final String TYPE_VARIABLE = "{type}";
+
+    private static final String RELATIONSHIP_SELF_SEPARATOR = "/relationships/";
+
+    private static final String RELATIONSHIP_RELATED_SEPARATOR = "/";
+
+    private static final SerializableString RELATIONSHIP_SELF_KEY = new SerializedString("self");
+
+    private static final SerializableString RELATIONSHIP_RELATED_KEY = new SerializedString("related");
+
+    // The longest percent-encoded form of a single UTF-16 char ("%XX" for every one of its up to three UTF-8 bytes) //
+    private static final int MAX_ENCODED_CHAR_LENGTH = 9;
+
+    // The longest decimal form of a long ("-9223372036854775808") //
+    private static final int MAX_LONG_LENGTH = 20;
+
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    private final SerializableString key;
+
+    // The literal segments, one more than there are "{id}" variables //
+    private final char[][] segments;
+
+    private final int segmentsLength;
+
+    /////////////////
+    // Constructor //
+    /////////////////
+
+    /**
+     * Constructor
+     * @param key
+     * @param segments
+     */
+    private JsonApiLinkTemplate(
+            String key,
+            char[][] segments) {
+        this.key = new SerializedString(key);
+        this.segments = segments;
+        int segmentsLength = 0;
+        for(char[] segment : segments) {
+            segmentsLength += segment.length;
+        }
+        this.segmentsLength = segmentsLength;
+    }
+
+    ////////////////////
+    // Public Methods //
+    ////////////////////
+
+    /**
+     * Compiles the link template of the passed in type, declared by a @JsonApiLink(template = "...") on the type
+     * itself; returns null if the type declares none. Templates that are not absolute URIs (no scheme) are prefixed
+     * with the base URL, if there is one.
+     * @param type
+     * @param typeName the JsonAPI "type" value "{type}" resolves to
+     * @param baseUrl
+     * @return
+     */
+    public static JsonApiLinkTemplate compile(
+            Class<?> type,
+            String typeName,
+            String baseUrl) {
+        JsonApiLink annotation = type.getAnnotation(JsonApiLink.class);
+        if(annotation == null || annotation.template().isEmpty()) {
+            return null;
+        }
+
+        String key = annotation.value().isEmpty() ? DEFAULT_KEY : annotation.value();
+        return compile(key, annotation.template(), typeName, baseUrl);
+    }
+
+    /**
+     * Compiles the passed in link template
+     * @param key
+     * @param template
+     * @param typeName the JsonAPI "type" value "{type}" resolves to
+     * @param baseUrl
+     * @return
+     */
+    public static JsonApiLinkTemplate compile(
+            String key,
+            String template,
+            String typeName,
+            String baseUrl) {
+        String resolved = template.replace(TYPE_VARIABLE, typeName);
+        if(baseUrl != null && !isAbsolute(resolved)) {
+            // Join the two with exactly one "/" //
+            boolean baseEndsWithSlash = baseUrl.endsWith("/");
+            boolean templateStartsWithSlash = resolved.startsWith("/");
+            if(baseEndsWithSlash && templateStartsWithSlash) {
+                resolved = baseUrl + resolved.substring(1);
+            } else if(baseEndsWithSlash || templateStartsWithSlash || resolved.isEmpty()) {
+                resolved = baseUrl + resolved;
+            } else {
+                resolved = baseUrl + "/" + resolved;
+            }
+        }
+
+        if(resolved.replace(ID_VARIABLE, "").indexOf('{') >= 0) {
+            String issue = "Unknown variable in link template: \"" + template + "\"; only " + ID_VARIABLE + " and " +
+                    TYPE_VARIABLE + " are supported.";
+            throw new IllegalArgumentException(issue);
+        }
+
+        List<char[]> segments = new ArrayList<char[]>();
+        int start = 0;
+        int variable;
+        while((variable = resolved.indexOf(ID_VARIABLE, start)) >= 0) {
+            segments.add(resolved.substring(start, variable).toCharArray());
+            start = variable + ID_VARIABLE.length();
+        }
+        segments.add(resolved.substring(start).toCharArray());
+
+        return new JsonApiLinkTemplate(key, segments.toArray(new char[segments.size()][]));
+    }
+
+    /**
+     * Writes out the link of the resource with the passed in id, under the template's key
+     * @param id
+     * @param traversalContext
+     * @param jsonGenerator
+     * @throws IOException
+     */
+    public void writeLink(
+            Object id,
+            JsonApiTraversalContext traversalContext,
+            JsonGenerator jsonGenerator) throws IOException {
+        jsonGenerator.writeFieldName(key);
+        render(id, null, null, traversalContext, jsonGenerator);
+    }
+
+    /**
+     * Writes out the "self" and "related" links of the relationship with the passed in key, of the resource with the
+     * passed in id
+     * @param id
+     * @param relationship
+     * @param traversalContext
+     * @param jsonGenerator
+     * @throws IOException
+     */
+    public void writeRelationshipLinks(
+            Object id,
+            String relationship,
+            JsonApiTraversalContext traversalContext,
+            JsonGenerator jsonGenerator) throws IOException {
+        jsonGenerator.writeFieldName(RELATIONSHIP_SELF_KEY);
+        render(id, RELATIONSHIP_SELF_SEPARATOR, relationship, traversalContext, jsonGenerator);
+        jsonGenerator.writeFieldName(RELATIONSHIP_RELATED_KEY);
+        render(id, RELATIONSHIP_RELATED_SEPARATOR, relationship, traversalContext, jsonGenerator);
+    }
+
+    /////////////////////
+    // Private Methods //
+    /////////////////////
+
+    /**
+     * Renders the link into the traversal context's scratch buffer, followed by the (optional) separator and
+     * (percent-encoded, like the id) relationship key, and writes it out as a string value
+     * @param id
+     * @param separator
+     * @param relationship
+     * @param traversalContext
+     * @param jsonGenerator
+     * @throws IOException
+     */
+    private void render(
+            Object id,
+            String separator,
+            String relationship,
+            JsonApiTraversalContext traversalContext,
+            JsonGenerator jsonGenerator) throws IOException {
+        boolean integral = id instanceof Long || id instanceof Integer || id instanceof Short || id instanceof Byte;
+        String stringId = integral ? null : id.toString();
+        int idLength = integral ? MAX_LONG_LENGTH : stringId.length() * MAX_ENCODED_CHAR_LENGTH;
+        int maxLength = segmentsLength + (segments.length - 1) * idLength +
+                (separator == null ? 0 : separator.length() + relationship.length() * MAX_ENCODED_CHAR_LENGTH);
+
+        char[] buffer = traversalContext.fetchLinkBuffer(maxLength);
+        int length = 0;
+        for(int i = 0; i < segments.length; i++) {
+            if(i > 0) {
+                length = integral ?
+                        writeLong(((Number) id).longValue(), buffer, length) :
+                        writeEncoded(stringId, buffer, length);
+            }
+            System.arraycopy(segments[i], 0, buffer, length, segments[i].length);
+            length += segments[i].length;
+        }
+        if(separator != null) {
+            separator.getChars(0, separator.length(), buffer, length);
+            length += separator.length();
+            length = writeEncoded(relationship, buffer, length);
+        }
+
+        jsonGenerator.writeString(buffer, 0, length);
+    }
+
+    /**
+     * Writes the decimal digits of the passed in value into the buffer at the passed in offset; returns the offset
+     * after the last digit
+     * @param value
+     * @param buffer
+     * @param offset
+     * @return
+     */
+    private static int writeLong(
+            long value,
+            char[] buffer,
+            int offset) {
+        // Work on the negative value, which (unlike the positive one) always exists //
+        long negative = value < 0 ? value : -value;
+        if(value < 0) {
+            buffer[offset++] = '-';
+        }
+
+        int digits = 1;
+        for(long remaining = negative; remaining <= -10; remaining /= 10) {
+            digits++;
+        }
+
+        int end = offset + digits;
+        for(int i = end - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' - (negative % 10));
+            negative /= 10;
+        }
+        return end;
+    }
+
+    /**
+     * Writes the passed in id into the buffer at the passed in offset, percent-encoding (as UTF-8) every character
+     * that is not unreserved in a URI path; returns the offset after the last character
+     * @param id
+     * @param buffer
+     * @param offset
+     * @return
+     */
+    private static int writeEncoded(
+            String id,
+            char[] buffer,
+            int offset) {
+        for(int i = 0; i < id.length(); i++) {
+            char character = id.charAt(i);
+            if(isUnreserved(character)) {
+                buffer[offset++] = character;
+                continue;
+            }
+
+            int codePoint = character;
+            if(Character.isHighSurrogate(character) && i + 1 < id.length() &&
+                    Character.isLowSurrogate(id.charAt(i + 1))) {
+                codePoint = Character.toCodePoint(character, id.charAt(++i));
+            }
+
+            if(codePoint < 0x80) {
+                offset = writePercentEncoded(codePoint, buffer, offset);
+            } else if(codePoint < 0x800) {
+                offset = writePercentEncoded(0xC0 | (codePoint >> 6), buffer, offset);
+                offset = writePercentEncoded(0x80 | (codePoint & 0x3F), buffer, offset);
+            } else if(codePoint < 0x10000) {
+                offset = writePercentEncoded(0xE0 | (codePoint >> 12), buffer, offset);
+                offset = writePercentEncoded(0x80 | ((codePoint >> 6) & 0x3F), buffer, offset);
+                offset = writePercentEncoded(0x80 | (codePoint & 0x3F), buffer, offset);
+            } else {
+                offset = writePercentEncoded(0xF0 | (codePoint >> 18), buffer, offset);
+                offset = writePercentEncoded(0x80 | ((codePoint >> 12) & 0x3F), buffer, offset);
+                offset = writePercentEncoded(0x80 | ((codePoint >> 6) & 0x3F), buffer, offset);
+                offset = writePercentEncoded(0x80 | (codePoint & 0x3F), buffer, offset);
+            }
+        }
+        return offset;
+    }
+
+    private static int writePercentEncoded(
+            int octet,
+            char[] buffer,
+            int offset) {
+        buffer[offset++] = '%';
+        buffer[offset++] = HEX_DIGITS[(octet >> 4) & 0xF];
+        buffer[offset++] = HEX_DIGITS[octet & 0xF];
+        return offset;
+    }
+
+    private static boolean isUnreserved(
+            char character) {
+        return (character >= 'a' && character <= 'z') || (character >= 'A' && character <= 'Z') ||
+                (character >= '0' && character <= '9') ||
+                character == '-' || character == '.' || character == '_' || character == '~';
+    }
+
+    /**
+     * Returns whether or not the passed in template starts with a URI scheme (e.g. "https:")
+     * @param template
+     * @return
+     */
+    private static boolean isAbsolute(
+            String template) {
+        int colon = template.indexOf(':');
+        if(colon <= 0 || !Character.isLetter(template.charAt(0))) {
+            return false;
+        }
+        for(int i = 1; i < colon; i++) {
+            char character = template.charAt(i);
+            if(!Character.isLetterOrDigit(character) && character != '+' && character != '-' && character != '.') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /////////////////////////
+    // Getters and Setters //
+    /////////////////////////
+
+    public String getKey() {
+        return this.key.getValue();
+    }
+
+}
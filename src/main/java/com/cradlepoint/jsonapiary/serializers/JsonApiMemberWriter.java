@@ -0,0 +1,122 @@
+package com.cradlepoint.jsonapiary.serializers;
+
+import com.cradlepoint.jsonapiary.descriptors.MemberDeclaration;
+import com.cradlepoint.jsonapiary.enums.JsonApiObjectContext;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+import java.util.Set;
+
+public class JsonApiMemberWriter {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    private final JsonApiSerializer jsonApiSerializer;
+
+    private final JsonApiObjectContext serializationContext;
+
+    private final JsonApiTraversalContext traversalContext;
+
+    private final JsonGenerator jsonGenerator;
+
+    private final SerializerProvider serializerProvider;
+
+    private final Set<String> fieldset;
+
+    private final boolean expandOnly;
+
+    /////////////////
+    // Constructor //
+    /////////////////
+
+    /**
+     * Constructor, writes members of one JsonAPI block ("attributes", "links", "meta" or "relationships")
+     * @param jsonApiSerializer
+     * @param serializationContext
+     * @param traversalContext
+     * @param jsonGenerator
+     * @param serializerProvider
+     * @param fieldset
+     * @param expandOnly
+     */
+    JsonApiMemberWriter(
+            JsonApiSerializer jsonApiSerializer,
+            JsonApiObjectContext serializationContext,
+            JsonApiTraversalContext traversalContext,
+            JsonGenerator jsonGenerator,
+            SerializerProvider serializerProvider,
+            Set<String> fieldset,
+            boolean expandOnly) {
+        this.jsonApiSerializer = jsonApiSerializer;
+        this.serializationContext = serializationContext;
+        this.traversalContext = traversalContext;
+        this.jsonGenerator = jsonGenerator;
+        this.serializerProvider = serializerProvider;
+        this.fieldset = fieldset;
+        this.expandOnly = expandOnly;
+    }
+
+    ////////////////////
+    // Public Methods //
+    ////////////////////
+
+    /**
+     * Returns whether or not the member with the passed in key is part of the requested (sparse) fieldset; generated
+     * code checks this before reading the member at all
+     * @param key
+     * @return
+     */
+    public boolean isSelected(
+            SerializableString key) {
+        return fieldset == null || fieldset.contains(key.getValue());
+    }
+
+    /**
+     * Writes out a single link or relationship member under its (pre-encoded) key. Null values are skipped, as they
+     * are on the reflective path. When only expanding the relationships of an already written out object, nothing is
+     * written and the related objects are queued for the "included" section instead.
+     * @param key
+     * @param value
+     * @throws IOException
+     */
+    public void writeMember(
+            SerializableString key,
+            Object value) throws IOException {
+        if(serializationContext == JsonApiObjectContext.RELATIONSHIP) {
+            traversalContext.startRelationship(key.getValue());
+        }
+
+        if(expandOnly) {
+            // Only queue the related objects for the "included" section, nothing gets written out //
+            jsonApiSerializer.includeRelatedObject(value, traversalContext, jsonGenerator);
+        } else if(value != null) {
+            jsonGenerator.writeFieldName(key);
+            jsonApiSerializer.serializeRandomObject(
+                    value, serializationContext, traversalContext, jsonGenerator, serializerProvider);
+        }
+    }
+
+    /**
+     * Writes out a single attribute or meta member under its (pre-encoded) key, with the Jackson serializer resolved
+     * for the declared member, so that its Jackson annotations and declared (generic) type are honored. Null values
+     * are skipped, as they are on the reflective path.
+     * @param key
+     * @param value
+     * @param member
+     * @throws IOException
+     */
+    public void writeMember(
+            SerializableString key,
+            Object value,
+            MemberDeclaration member) throws IOException {
+        if(value != null) {
+            jsonGenerator.writeFieldName(key);
+            jsonApiSerializer.serializeMemberValue(value, member, jsonGenerator, serializerProvider);
+        }
+    }
+
+}
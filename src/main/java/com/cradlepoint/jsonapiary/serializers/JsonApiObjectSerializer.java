@@ -0,0 +1,152 @@
+package com.cradlepoint.jsonapiary.serializers;
+
+import com.cradlepoint.jsonapiary.descriptors.ResourceDescriptor;
+import com.cradlepoint.jsonapiary.enums.JsonApiObjectContext;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Serializes the resources of one JsonAPI type, with the type's compile-time generated serializer (or else its
+ * ResourceDescriptor) resolved once, up front, instead of for every resource. Anything that is not exactly of the type
+ * (sub-classes, nulls) is handed back to the JsonApiSerializer, which checks and resolves it as it always did.
+ * @param <T>
+ */
+class JsonApiObjectSerializer<T> extends StdSerializer<T> implements ResolvableSerializer {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    private final JsonApiSerializer jsonApiSerializer;
+
+    private final JsonApiResourceSerializer generatedSerializer;
+
+    private final ResourceDescriptor resourceDescriptor;
+
+    /////////////////
+    // Constructor //
+    /////////////////
+
+    /**
+     * Constructor
+     * @param type
+     * @param jsonApiSerializer
+     * @param generatedSerializer the type's generated serializer, null to serialize it reflectively
+     */
+    JsonApiObjectSerializer(
+            Class<T> type,
+            JsonApiSerializer jsonApiSerializer,
+            JsonApiResourceSerializer generatedSerializer) {
+        super(type);
+        this.jsonApiSerializer = jsonApiSerializer;
+        this.generatedSerializer = generatedSerializer;
+        this.resourceDescriptor = generatedSerializer == null ? ResourceDescriptor.forType(type) : null;
+    }
+
+    ////////////////////
+    // Public Methods //
+    ////////////////////
+
+    /**
+     * Serializes the passed in object (in the passed in context), recording it in the traversal context
+     * @param object
+     * @param serializationContext
+     * @param traversalContext
+     * @param jsonGenerator
+     * @param serializerProvider
+     * @throws IOException
+     */
+    public void serializeJsonApiObject(
+            Object object,
+            JsonApiObjectContext serializationContext,
+            JsonApiTraversalContext traversalContext,
+            JsonGenerator jsonGenerator,
+            SerializerProvider serializerProvider) throws IOException {
+        if(object == null || object.getClass() != handledType()) {
+            jsonApiSerializer.serializeRandomObject(
+                    object, serializationContext, traversalContext, jsonGenerator, serializerProvider);
+            return;
+        }
+
+        jsonApiSerializer.serializeJsonApiObject(
+                object,
+                resourceDescriptor,
+                generatedSerializer,
+                serializationContext,
+                traversalContext,
+                jsonGenerator,
+                serializerProvider);
+    }
+
+    /**
+     * Records the passed in primary data object in the traversal context up front, so that it does not get repeated
+     * in the "included" section
+     * @param object
+     * @param traversalContext
+     * @param jsonGenerator
+     * @throws IOException
+     */
+    public void markPrimaryData(
+            Object object,
+            JsonApiTraversalContext traversalContext,
+            JsonGenerator jsonGenerator) throws IOException {
+        if(object == null) {
+            return;
+        } else if(object.getClass() != handledType()) {
+            jsonApiSerializer.markPrimaryData(object, traversalContext, jsonGenerator);
+            return;
+        }
+
+        traversalContext.markSerialized(
+                object, jsonApiSerializer.fetchId(object, resourceDescriptor, generatedSerializer, jsonGenerator));
+    }
+
+    ///////////////////////////
+    // StdSerializer Methods //
+    ///////////////////////////
+
+    /**
+     * Serializes the resource on its own as a JsonAPI resource object (no "included" objects are written)
+     * @param resource
+     * @param jsonGenerator
+     * @param serializerProvider
+     * @throws IOException
+     */
+    @Override
+    public void serialize(
+            T resource,
+            JsonGenerator jsonGenerator,
+            SerializerProvider serializerProvider) throws IOException {
+        serializeJsonApiObject(
+                resource,
+                JsonApiObjectContext.PRIMARY,
+                new JsonApiTraversalContext(),
+                jsonGenerator,
+                serializerProvider);
+    }
+
+    //////////////////////////////////
+    // ResolvableSerializer Methods //
+    //////////////////////////////////
+
+    /**
+     * Resolves the Jackson serializers of the type's attributes and meta, which generated code writes them with too
+     * @param serializerProvider
+     * @throws JsonMappingException
+     */
+    @Override
+    public void resolve(
+            SerializerProvider serializerProvider) throws JsonMappingException {
+        if(generatedSerializer != null) {
+            jsonApiSerializer.prefetchMemberSerializers(generatedSerializer, serializerProvider);
+        } else {
+            jsonApiSerializer.prefetchMemberSerializers(resourceDescriptor, serializerProvider);
+        }
+    }
+
+}
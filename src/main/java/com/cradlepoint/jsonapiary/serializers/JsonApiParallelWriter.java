@@ -0,0 +1,311 @@
+package com.cradlepoint.jsonapiary.serializers;
+
+import com.cradlepoint.jsonapiary.enums.JsonApiObjectContext;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.PrettyPrinter;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.core.util.Instantiatable;
+import com.fasterxml.jackson.core.util.TextBuffer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Writes out runs of JsonAPI objects (the primary data array, or one breadth-first frontier of the "included"
+ * section) in chunks on a ForkJoinPool. Every chunk is written by its own generator (and SerializerProvider) into its
+ * own recycled buffer, with a copy of the envelope's pretty printer so the indentation matches, and its objects are
+ * then spliced into the envelope's generator in order. The objects a chunk relates to are gathered in a chunk local
+ * traversal context and merged into the envelope's traversal context in chunk order, so the output is identical to
+ * writing sequentially.
+ */
+class JsonApiParallelWriter {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    private final JsonApiSerializer jsonApiSerializer;
+
+    private final ForkJoinPool forkJoinPool;
+
+    private final int chunkSize;
+
+    /////////////////
+    // Constructor //
+    /////////////////
+
+    /**
+     * Constructor
+     * @param jsonApiSerializer
+     * @param forkJoinPool
+     * @param chunkSize
+     */
+    public JsonApiParallelWriter(
+            JsonApiSerializer jsonApiSerializer,
+            ForkJoinPool forkJoinPool,
+            int chunkSize) {
+        if(chunkSize < 1) {
+            String issue = "The parallel serialization chunk size must be positive, found: " + chunkSize;
+            throw new IllegalArgumentException(issue);
+        }
+
+        this.jsonApiSerializer = jsonApiSerializer;
+        this.forkJoinPool = forkJoinPool;
+        this.chunkSize = chunkSize;
+    }
+
+    ////////////////////
+    // Public Methods //
+    ////////////////////
+
+    /**
+     * Returns whether or not the passed in number of objects is worth (and able to be) written out in parallel: there
+     * has to be more than one chunk, no "include" paths, an ObjectMapper to create the chunk generators from, and a
+     * pretty printer (if any) that can be copied. The envelope has to be written as json text by one of Jackson's own
+     * generators, as the chunks are spliced in as raw json: anything else (e.g. the TokenBuffer behind
+     * ObjectMapper.valueToTree() and convertValue(), which would hold the chunks as raw values) is written
+     * sequentially.
+     * @param count
+     * @param traversalContext
+     * @param jsonGenerator
+     * @param serializerProvider
+     * @return
+     */
+    public boolean canWriteInParallel(
+            int count,
+            JsonApiTraversalContext traversalContext,
+            JsonGenerator jsonGenerator,
+            SerializerProvider serializerProvider) {
+        PrettyPrinter prettyPrinter = jsonGenerator.getPrettyPrinter();
+        return count > chunkSize &&
+                traversalContext.getIncludeTree() == null &&
+                jsonGenerator instanceof JsonGeneratorImpl &&
+                jsonGenerator.getCodec() instanceof ObjectMapper &&
+                JsonFactory.FORMAT_NAME_JSON.equals(
+                        ((ObjectMapper) jsonGenerator.getCodec()).getFactory().getFormatName()) &&
+                serializerProvider instanceof DefaultSerializerProvider &&
+                (prettyPrinter == null || prettyPrinter instanceof Instantiatable);
+    }
+
+    /**
+     * Writes out the passed in JsonAPI objects (as PRIMARY objects) into the array the generator is currently in,
+     * queueing the objects they relate to in the traversal context
+     * @param jsonApiObjects
+     * @param traversalContext
+     * @param jsonGenerator
+     * @param serializerProvider
+     * @throws IOException
+     */
+    public void writeInParallel(
+            List<Object> jsonApiObjects,
+            JsonApiTraversalContext traversalContext,
+            JsonGenerator jsonGenerator,
+            SerializerProvider serializerProvider) throws IOException {
+        final ObjectMapper objectMapper = (ObjectMapper) jsonGenerator.getCodec();
+        final DefaultSerializerProvider defaultSerializerProvider = (DefaultSerializerProvider) serializerProvider;
+
+        // Fork //
+        List<ForkJoinTask<Chunk>> chunkTasks = new ArrayList<ForkJoinTask<Chunk>>();
+        for(int start = 0; start < jsonApiObjects.size(); start += chunkSize) {
+            final List<Object> chunkObjects =
+                    jsonApiObjects.subList(start, Math.min(start + chunkSize, jsonApiObjects.size()));
+            final JsonApiTraversalContext chunkContext = traversalContext.createChunkContext();
+            final JsonGenerator envelopeGenerator = jsonGenerator;
+            chunkTasks.add(forkJoinPool.submit(new Callable<Chunk>() {
+                @Override
+                public Chunk call() throws Exception {
+                    return writeChunk(
+                            chunkObjects,
+                            chunkContext,
+                            envelopeGenerator,
+                            objectMapper,
+                            defaultSerializerProvider);
+                }
+            }));
+        }
+
+        // Join, in order, letting the envelope's generator write the separators between the objects //
+        boolean joined = false;
+        try {
+            for(ForkJoinTask<Chunk> chunkTask : chunkTasks) {
+                Chunk chunk = joinChunk(chunkTask, jsonGenerator);
+                for(int i = 0; i < chunk.starts.length; i++) {
+                    jsonGenerator.writeRawValue(chunk.json, chunk.starts[i], chunk.ends[i] - chunk.starts[i]);
+                }
+                traversalContext.mergeIncludes(chunk.traversalContext);
+            }
+            joined = true;
+        } finally {
+            if(!joined) {
+                // A chunk failed (or could not be written out): don't leave the others running for nothing //
+                for(ForkJoinTask<Chunk> chunkTask : chunkTasks) {
+                    chunkTask.cancel(false);
+                }
+            }
+        }
+    }
+
+    /////////////////////
+    // Private Methods //
+    /////////////////////
+
+    private Chunk writeChunk(
+            List<Object> chunkObjects,
+            JsonApiTraversalContext chunkContext,
+            JsonGenerator envelopeGenerator,
+            ObjectMapper objectMapper,
+            DefaultSerializerProvider serializerProvider) throws IOException {
+        JsonFactory jsonFactory = objectMapper.getFactory();
+        TextBufferWriter writer = new TextBufferWriter(new TextBuffer(jsonFactory._getBufferRecycler()));
+        try {
+            // The copied pretty printer is already nested as deep as the envelope's array, so the objects are written
+            // as root values; measure the root value separator by writing two empty values first //
+            JsonGenerator chunkGenerator = createChunkGenerator(jsonFactory, writer, envelopeGenerator);
+            chunkGenerator.writeRawValue("");
+            chunkGenerator.flush();
+            int firstValueEnd = writer.size();
+            chunkGenerator.writeRawValue("");
+            chunkGenerator.flush();
+            int separatorLength = writer.size() - firstValueEnd;
+
+            SerializerProvider chunkProvider = serializerProvider.createInstance(
+                    serializerProvider.getConfig(), objectMapper.getSerializerFactory());
+            int[] starts = new int[chunkObjects.size()];
+            int[] ends = new int[chunkObjects.size()];
+            for(int i = 0; i < chunkObjects.size(); i++) {
+                starts[i] = writer.size() + separatorLength;
+                jsonApiSerializer.serializeJsonApiObject(
+                        chunkObjects.get(i),
+                        JsonApiObjectContext.PRIMARY,
+                        chunkContext,
+                        chunkGenerator,
+                        chunkProvider);
+                chunkGenerator.flush();
+                ends[i] = writer.size();
+            }
+            chunkGenerator.close();
+
+            return new Chunk(writer.toString(), starts, ends, chunkContext);
+        } finally {
+            writer.close();
+        }
+    }
+
+    // Creates a generator configured like the envelope's //
+    private JsonGenerator createChunkGenerator(
+            JsonFactory jsonFactory,
+            Writer writer,
+            JsonGenerator envelopeGenerator) throws IOException {
+        JsonGenerator chunkGenerator = jsonFactory.createGenerator(writer);
+        chunkGenerator.overrideStdFeatures(envelopeGenerator.getFeatureMask(), ~0);
+        chunkGenerator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        chunkGenerator.setHighestNonEscapedChar(envelopeGenerator.getHighestEscapedChar());
+        if(envelopeGenerator.getCharacterEscapes() != null) {
+            chunkGenerator.setCharacterEscapes(envelopeGenerator.getCharacterEscapes());
+        }
+        PrettyPrinter prettyPrinter = envelopeGenerator.getPrettyPrinter();
+        if(prettyPrinter != null) {
+            chunkGenerator.setPrettyPrinter((PrettyPrinter) ((Instantiatable) prettyPrinter).createInstance());
+        }
+        return chunkGenerator;
+    }
+
+    private Chunk joinChunk(
+            ForkJoinTask<Chunk> chunkTask,
+            JsonGenerator jsonGenerator) throws IOException {
+        try {
+            return chunkTask.get();
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            String issue = "Interrupted while serializing JsonAPI objects in parallel";
+            throw JsonMappingException.from(jsonGenerator, issue, e);
+        } catch(ExecutionException e) {
+            if(e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            } else if(e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            String issue = "Failed to serialize JsonAPI objects in parallel";
+            throw JsonMappingException.from(jsonGenerator, issue, e.getCause());
+        }
+    }
+
+    /////////////////////
+    // Private Classes //
+    /////////////////////
+
+    private static class Chunk {
+
+        private final String json;
+
+        // Where every object starts and ends in the json //
+        private final int[] starts;
+
+        private final int[] ends;
+
+        private final JsonApiTraversalContext traversalContext;
+
+        Chunk(String json, int[] starts, int[] ends, JsonApiTraversalContext traversalContext) {
+            this.json = json;
+            this.starts = starts;
+            this.ends = ends;
+            this.traversalContext = traversalContext;
+        }
+
+    }
+
+    // A Writer over a TextBuffer, whose segments come from (and go back to) the JsonFactory's BufferRecycler //
+    private static class TextBufferWriter extends Writer {
+
+        private final TextBuffer textBuffer;
+
+        TextBufferWriter(TextBuffer textBuffer) {
+            this.textBuffer = textBuffer;
+        }
+
+        int size() {
+            return textBuffer.size();
+        }
+
+        @Override
+        public void write(int c) {
+            textBuffer.append((char) c);
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) {
+            textBuffer.append(chars, offset, length);
+        }
+
+        @Override
+        public void write(String string, int offset, int length) {
+            textBuffer.append(string, offset, length);
+        }
+
+        @Override
+        public void flush() { }
+
+        @Override
+        public void close() {
+            textBuffer.releaseBuffers();
+        }
+
+        @Override
+        public String toString() {
+            return textBuffer.contentsAsString();
+        }
+
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.cradlepoint.jsonapiary.serializers;
+
+import com.cradlepoint.jsonapiary.descriptors.MemberDeclaration;
+import com.cradlepoint.jsonapiary.enums.JsonApiObjectContext;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.Collections;
+
+/**
+ * Base class of the serializers generated by the jsonapiary-processor. Subclasses call the getters of one
+ * @JsonApiType class directly and hand the values, under pre-encoded keys, to a JsonApiMemberWriter.
+ * @param <T>
+ */
+public abstract class JsonApiResourceSerializer<T> extends StdSerializer<T> {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    // The JsonApiSerializer of the module the serializer was loaded by, or (if none) one of its own made on first use //
+    private volatile JsonApiSerializer jsonApiSerializer;
+
+    /////////////////
+    // Constructor //
+    /////////////////
+
+    /**
+     * Constructor
+     * @param type
+     */
+    protected JsonApiResourceSerializer(Class<T> type) {
+        super(type);
+    }
+
+    //////////////////////
+    // Abstract Methods //
+    //////////////////////
+
+    /**
+     * Returns the (pre-encoded) JsonAPI "type" value
+     * @return
+     */
+    public abstract SerializableString getTypeName();
+
+    /**
+     * Returns the value of the @JsonApiId member
+     * @param resource
+     * @return
+     */
+    public abstract Object getId(T resource);
+
+    /**
+     * Returns the (pre-encoded) keys of the type's members in the passed in context (ATTRIBUTE, LINK, META or
+     * RELATIONSHIP), ordered by key
+     * @param memberContext
+     * @return
+     */
+    public abstract SerializableString[] getMemberKeys(JsonApiObjectContext memberContext);
+
+    /**
+     * Returns the declarations of the type's attribute or meta members (in the order of getMemberKeys), which the
+     * Jackson serializers of their values are resolved from; empty in any other context. Generated code hands them to
+     * the JsonApiMemberWriter along with the values, so those are written as they are on the reflective path.
+     * @param memberContext
+     * @return
+     */
+    public abstract MemberDeclaration[] getMemberDeclarations(JsonApiObjectContext memberContext);
+
+    /**
+     * Writes out every member of the passed in context selected by the JsonApiMemberWriter, ordered by key
+     * @param resource
+     * @param memberContext
+     * @param memberWriter
+     * @throws IOException
+     */
+    public abstract void serializeMembers(
+            T resource,
+            JsonApiObjectContext memberContext,
+            JsonApiMemberWriter memberWriter) throws IOException;
+
+    ///////////////////////////
+    // StdSerializer Methods //
+    ///////////////////////////
+
+    /**
+     * Serializes the resource on its own as a JsonAPI resource object (no "included" objects are written)
+     * @param resource
+     * @param jsonGenerator
+     * @param serializerProvider
+     * @throws IOException
+     */
+    @Override
+    public void serialize(
+            T resource,
+            JsonGenerator jsonGenerator,
+            SerializerProvider serializerProvider) throws IOException {
+        JsonApiSerializer jsonApiSerializer = this.jsonApiSerializer;
+        if(jsonApiSerializer == null) {
+            // Not loaded by a module, the new JsonApiSerializer sets itself as this serializer's //
+            jsonApiSerializer = new JsonApiSerializer(
+                    Collections.<Class<?>, JsonApiResourceSerializer<?>>singletonMap(handledType(), this));
+        }
+        jsonApiSerializer.serializeJsonApiObject(
+                resource,
+                JsonApiObjectContext.PRIMARY,
+                new JsonApiTraversalContext(),
+                jsonGenerator,
+                serializerProvider);
+    }
+
+    /////////////////////////
+    // Getters and Setters //
+    /////////////////////////
+
+    /**
+     * Sets the JsonApiSerializer resources are written out by when this serializer is used on its own
+     * @param jsonApiSerializer
+     */
+    void setJsonApiSerializer(
+            JsonApiSerializer jsonApiSerializer) {
+        this.jsonApiSerializer = jsonApiSerializer;
+    }
+
+}
@@ -1,24 +1,60 @@
 package com.cradlepoint.jsonapiary.serializers;
 
-import com.cradlepoint.jsonapiary.annotations.*;
-import com.cradlepoint.jsonapiary.constants.JsonApiKeyConstants;
+import com.cradlepoint.jsonapiary.constants.JsonApiSerializedKeyConstants;
+import com.cradlepoint.jsonapiary.descriptors.MemberDeclaration;
+import com.cradlepoint.jsonapiary.descriptors.MemberDescriptor;
+import com.cradlepoint.jsonapiary.descriptors.MemberSerializerCache;
+import com.cradlepoint.jsonapiary.descriptors.ResourceDescriptor;
 import com.cradlepoint.jsonapiary.enums.JsonApiObjectContext;
+import com.cradlepoint.jsonapiary.serializers.helpers.AttributesBeanSerializer;
 import com.cradlepoint.jsonapiary.serializers.helpers.JsonApiAnnotationAnalyzer;
+import com.cradlepoint.jsonapiary.types.Link;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 
 import java.io.IOException;
-import java.net.MalformedURLException;
+import java.net.URI;
 import java.net.URL;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.BaseStream;
 
 class JsonApiSerializer {
 
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    private static final int STREAM_FLUSH_INTERVAL = 1000;
+
+    private final Map<Class<?>, JsonApiResourceSerializer<?>> generatedSerializers;
+
+    // Writes large primary data arrays in chunks on a ForkJoinPool, null unless enabled //
+    private volatile JsonApiParallelWriter parallelWriter;
+
+    // Whether link values that are not Links, URLs or URIs are checked to be absolute URIs //
+    private volatile boolean validateLinks = true;
+
+    // Whether the attributes of reflectively serialized types are written by (filtered) Jackson BeanSerializers //
+    private volatile boolean beanAttributes;
+
+    // The Jackson serializers of the attribute and meta members, per ObjectMapper //
+    private final MemberSerializerCache memberSerializers;
+
+    // Whether or not every type seen is JsonAPI annotated (or has a generated serializer) //
+    private final ConcurrentMap<Class<?>, Boolean> jsonApiTypes;
+
+    // The attributes serializer of every type, by the Jackson serializer of the type it was derived from //
+    private final ConcurrentMap<Class<?>, Map.Entry<JsonSerializer<?>, JsonSerializer<Object>>> attributesSerializers;
+
+    // The base URL templated links are prefixed with, and the link templates compiled with it; replaced as a whole
+    // when the base URL changes //
+    private volatile LinkTemplates linkTemplates;
+
     /////////////////
     // Constructor //
     /////////////////
@@ -26,28 +62,49 @@ class JsonApiSerializer {
     /**
      * Default void constructor
      */
-    public JsonApiSerializer() { }
+    public JsonApiSerializer() {
+        this(Collections.<Class<?>, JsonApiResourceSerializer<?>>emptyMap());
+    }
+
+    /**
+     * Constructor taking in the compile-time generated serializers, keyed by the type they serialize
+     * @param generatedSerializers
+     */
+    public JsonApiSerializer(
+            Map<Class<?>, JsonApiResourceSerializer<?>> generatedSerializers) {
+        this.generatedSerializers = generatedSerializers;
+        this.memberSerializers = new MemberSerializerCache();
+        this.jsonApiTypes = new ConcurrentHashMap<Class<?>, Boolean>();
+        this.attributesSerializers =
+                new ConcurrentHashMap<Class<?>, Map.Entry<JsonSerializer<?>, JsonSerializer<Object>>>();
+        this.linkTemplates = new LinkTemplates(null);
+
+        // The generated serializers write resources out through this one when used on their own, too //
+        for(JsonApiResourceSerializer<?> generatedSerializer : generatedSerializers.values()) {
+            generatedSerializer.setJsonApiSerializer(this);
+        }
+    }
 
     ////////////////////
     // Public Methods //
     ////////////////////
 
     /**
-     * Serializes any random Object by detecting if it is JsonAPI annotated or not, then serializing it accordingly
+     * Serializes any random Object by detecting if it is JsonAPI annotated or not, then serializing it accordingly;
+     * only for resources, relationships and links (attributes and meta go through serializeMemberValue)
      * @param object
      * @param serializationContext
+     * @param traversalContext
      * @param jsonGenerator
      * @param serializerProvider
-     * @return
      * @throws IOException
      */
-    public Set<Object> serializeRandomObject(
+    public void serializeRandomObject(
             Object object,
             JsonApiObjectContext serializationContext,
+            JsonApiTraversalContext traversalContext,
             JsonGenerator jsonGenerator,
             SerializerProvider serializerProvider) throws IOException {
-        Set<Object> includes = new HashSet<Object>();
-
         switch (serializationContext) {
             case PRIMARY:
             case RELATIONSHIP:
@@ -55,11 +112,13 @@ class JsonApiSerializer {
                 if (object == null) {
                     jsonGenerator.writeNull();
                 } else if (isObjectJsonApiObject(object)) {
-                    includes.addAll(
-                            this.serializeJsonApiObject(object, serializationContext, jsonGenerator, serializerProvider));
+                    this.serializeJsonApiObject(
+                            object, serializationContext, traversalContext, jsonGenerator, serializerProvider);
                 } else if (isObjectJsonApiObjectList(object)) {
-                    includes.addAll(
-                            this.serializeJsonApiObjectList((List) object, serializationContext, jsonGenerator, serializerProvider));
+                    this.serializeJsonApiObjectList(
+                            (List) object, serializationContext, traversalContext, jsonGenerator, serializerProvider);
+                } else if (serializationContext == JsonApiObjectContext.PRIMARY && isObjectStreamable(object)) {
+                    this.serializeJsonApiObjectStream(object, traversalContext, jsonGenerator, serializerProvider);
                 } else {
                     String issue = "In order to be serialized in the \"" + serializationContext.toString() + "\" JsonAPI context" +
                             " object type " + object.getClass().getName() + " needs to be JsonAPIary annotated (@JsonApiType, " +
@@ -70,77 +129,97 @@ class JsonApiSerializer {
             case LINK:
                 if (object == null) {
                     jsonGenerator.writeNull();
-                } else if(object.getClass() == URL.class) {
-                    jsonGenerator.writeString(object.toString());
                 } else {
-                    try {
-                        URL url = new URL(object.toString());
-                        jsonGenerator.writeString(url.toString());
-                    } catch(MalformedURLException e) {
-                        String issue = "The value returned by the \"toString()\" method on the object of type: " +
-                                object.getClass().getName() + " does not parse out into a valid URL. The other option " +
-                                " is to decorate an attribute of type " + URL.class.getName() + " as the link.";
-                        throw new IllegalArgumentException(issue, e);
-                    }
-                }
-                break;
-            case ATTRIBUTE:
-            case META:
-                if(object == null) {
-                    jsonGenerator.writeNull();
-                } else {
-                    JsonSerializer dataSerializer = serializerProvider.findValueSerializer(object.getClass());
-                    dataSerializer.serialize(object, jsonGenerator, serializerProvider);
+                    serializeLink(fetchLink(object), jsonGenerator, serializerProvider);
                 }
                 break;
             default:
+                // Attributes and meta are written by their members' resolved serializers (serializeMemberValue) //
                 String issue = "Unexpected JsonAPI context: \"" + serializationContext.toString() + "\" when serializing " +
-                        object.getClass();
+                        (object == null ? null : object.getClass());
                 throw JsonMappingException.from(jsonGenerator, issue);
         }
+    }
 
-        return includes;
+    /**
+     * Serializes sub-object according to JsonAPI spec, recording it (and queueing the objects it relates to for the
+     * "included" section) in the traversal context
+     * @param jsonApiObject
+     * @param serializationContext
+     * @param traversalContext
+     * @param jsonGenerator
+     * @param serializerProvider
+     * @throws IOException
+     */
+    public void serializeJsonApiObject(
+            Object jsonApiObject,
+            JsonApiObjectContext serializationContext,
+            JsonApiTraversalContext traversalContext,
+            JsonGenerator jsonGenerator,
+            SerializerProvider serializerProvider) throws IOException {
+        // Round up the Attributes, Relationships, and MORE! (from generated code, if there is any) //
+        JsonApiResourceSerializer generatedSerializer = generatedSerializers.get(jsonApiObject.getClass());
+        ResourceDescriptor resourceDescriptor = null;
+        if(generatedSerializer == null) {
+            resourceDescriptor = ResourceDescriptor.forType(jsonApiObject.getClass());
+            checkJsonApiType(resourceDescriptor, serializationContext, jsonGenerator);
+        }
+
+        serializeJsonApiObject(
+                jsonApiObject,
+                resourceDescriptor,
+                generatedSerializer,
+                serializationContext,
+                traversalContext,
+                jsonGenerator,
+                serializerProvider);
     }
 
     /**
-     * Serializes sub-object according to JsonAPI spec
+     * Serializes sub-object according to JsonAPI spec with its (already resolved) generated serializer, or else
+     * ResourceDescriptor
      * @param jsonApiObject
+     * @param resourceDescriptor
+     * @param generatedSerializer
+     * @param serializationContext
+     * @param traversalContext
      * @param jsonGenerator
      * @param serializerProvider
      * @throws IOException
      */
-    public Set<Object> serializeJsonApiObject(
+    public void serializeJsonApiObject(
             Object jsonApiObject,
+            ResourceDescriptor resourceDescriptor,
+            JsonApiResourceSerializer generatedSerializer,
             JsonApiObjectContext serializationContext,
+            JsonApiTraversalContext traversalContext,
             JsonGenerator jsonGenerator,
             SerializerProvider serializerProvider) throws IOException {
-        // Round up the Attributes, Relationships, and MORE! //
-        Map<String, Object> id =
-                JsonApiAnnotationAnalyzer.fetchJsonsByAnnotation(jsonApiObject, JsonApiId.class, jsonGenerator);
-        Map<String, Object> attributes =
-                JsonApiAnnotationAnalyzer.fetchJsonsByAnnotation(jsonApiObject, JsonApiAttribute.class, jsonGenerator);
-        Map<String, Object> links =
-                JsonApiAnnotationAnalyzer.fetchJsonsByAnnotation(jsonApiObject, JsonApiLink.class, jsonGenerator);
-        Map<String, Object> metas =
-                JsonApiAnnotationAnalyzer.fetchJsonsByAnnotation(jsonApiObject, JsonApiMeta.class, jsonGenerator);
-        Map<String, Object> relationships =
-                JsonApiAnnotationAnalyzer.fetchJsonsByAnnotation(jsonApiObject, JsonApiRelationship.class, jsonGenerator);
-
-        Set<Object> includes = new HashSet<Object>();
+        // Find the sparse fieldset (if any) for the type //
+        Set<String> fieldset = fetchFieldset(resourceDescriptor, generatedSerializer, traversalContext);
 
         jsonGenerator.writeStartObject();
 
         // Serialize out the ID and Type (a.k.a. "Resource Linkage" data) //
+        Object id;
         switch (serializationContext) {
             case RELATIONSHIP:
-                jsonGenerator.writeFieldName(JsonApiKeyConstants.DATA_KEY);
+                jsonGenerator.writeFieldName(JsonApiSerializedKeyConstants.DATA_KEY);
                 jsonGenerator.writeStartObject();
-                serializeIdAndType(jsonApiObject, id, jsonGenerator, serializerProvider);
+                id = serializeIdAndType(jsonApiObject, resourceDescriptor, generatedSerializer, jsonGenerator, serializerProvider);
                 jsonGenerator.writeEndObject();
-                includes.add(jsonApiObject);
+                traversalContext.include(jsonApiObject, id);
+                break;
+            case RESOURCE_LINKAGE:
+                id = serializeIdAndType(jsonApiObject, resourceDescriptor, generatedSerializer, jsonGenerator, serializerProvider);
+                traversalContext.include(jsonApiObject, id);
+                break;
+            case PRIMARY:
+                id = serializeIdAndType(jsonApiObject, resourceDescriptor, generatedSerializer, jsonGenerator, serializerProvider);
+                traversalContext.markSerialized(jsonApiObject, id);
                 break;
             default:
-                serializeIdAndType(jsonApiObject, id, jsonGenerator, serializerProvider);
+                id = serializeIdAndType(jsonApiObject, resourceDescriptor, generatedSerializer, jsonGenerator, serializerProvider);
         }
 
         // Serialize out the Attributes (if applicable) //
@@ -148,8 +227,7 @@ class JsonApiSerializer {
             case PRIMARY:
             case ATTRIBUTE:
             case META:
-                includes.addAll(
-                        serializeMap(attributes, JsonApiObjectContext.ATTRIBUTE, jsonGenerator, serializerProvider));
+                serializeMembers(jsonApiObject, resourceDescriptor, generatedSerializer, JsonApiObjectContext.ATTRIBUTE, fieldset, traversalContext, jsonGenerator, serializerProvider);
                 break;
             default:
                 // Not serialized in this context
@@ -160,8 +238,7 @@ class JsonApiSerializer {
             case PRIMARY:
             case RELATIONSHIP:
             case META:
-                includes.addAll(
-                        serializeMap(links, JsonApiObjectContext.LINK, jsonGenerator, serializerProvider));
+                serializeLinks(jsonApiObject, id, resourceDescriptor, generatedSerializer, serializationContext, traversalContext, jsonGenerator, serializerProvider);
                 break;
             default:
                 // Not serialized in this context
@@ -172,8 +249,7 @@ class JsonApiSerializer {
             case PRIMARY:
             case ATTRIBUTE:
             case META:
-                includes.addAll(
-                        serializeMap(metas, JsonApiObjectContext.META, jsonGenerator, serializerProvider));
+                serializeMembers(jsonApiObject, resourceDescriptor, generatedSerializer, JsonApiObjectContext.META, fieldset, traversalContext, jsonGenerator, serializerProvider);
                 break;
             default:
                 // Not serialized in this context
@@ -183,144 +259,715 @@ class JsonApiSerializer {
         switch (serializationContext) {
             case PRIMARY:
             case META:
-                includes.addAll(
-                        serializeMap(relationships, JsonApiObjectContext.RELATIONSHIP, jsonGenerator, serializerProvider));
+                traversalContext.startRelationships(
+                        serializationContext == JsonApiObjectContext.PRIMARY ? fetchLinkTemplate(jsonApiObject.getClass()) : null,
+                        id);
+                serializeMembers(jsonApiObject, resourceDescriptor, generatedSerializer, JsonApiObjectContext.RELATIONSHIP, fieldset, traversalContext, jsonGenerator, serializerProvider);
+                traversalContext.startRelationships(null, null);
                 break;
             default:
                 // Not serialized in this context
         }
 
         jsonGenerator.writeEndObject();
+    }
+
+    /**
+     * Queues the objects related to an (already written out) JsonAPI object for the "included" section, without
+     * writing anything out
+     * @param jsonApiObject
+     * @param traversalContext
+     * @param jsonGenerator
+     * @param serializerProvider
+     * @throws IOException
+     */
+    public void expandRelationships(
+            Object jsonApiObject,
+            JsonApiTraversalContext traversalContext,
+            JsonGenerator jsonGenerator,
+            SerializerProvider serializerProvider) throws IOException {
+        JsonApiResourceSerializer generatedSerializer = generatedSerializers.get(jsonApiObject.getClass());
+        ResourceDescriptor resourceDescriptor = null;
+        if(generatedSerializer == null) {
+            resourceDescriptor = ResourceDescriptor.forType(jsonApiObject.getClass());
+        }
+        Set<String> fieldset = fetchFieldset(resourceDescriptor, generatedSerializer, traversalContext);
+
+        if(generatedSerializer == null) {
+            for(MemberDescriptor member : resourceDescriptor.getRelationships()) {
+                if(fieldset != null && !fieldset.contains(member.getKey())) {
+                    continue;
+                }
+                traversalContext.startRelationship(member.getKey());
+                includeRelatedObject(
+                        JsonApiAnnotationAnalyzer.fetchMemberValue(jsonApiObject, member, jsonGenerator),
+                        traversalContext,
+                        jsonGenerator);
+            }
+        } else {
+            generatedSerializer.serializeMembers(
+                    jsonApiObject,
+                    JsonApiObjectContext.RELATIONSHIP,
+                    new JsonApiMemberWriter(
+                            this, JsonApiObjectContext.RELATIONSHIP, traversalContext, jsonGenerator, serializerProvider, fieldset, true));
+        }
+    }
+
+    /**
+     * Records the primary data JsonAPI object (or list of them) in the traversal context up front, so that none of
+     * them gets repeated in the "included" section
+     * @param data
+     * @param traversalContext
+     * @param jsonGenerator
+     * @throws IOException
+     */
+    public void markPrimaryData(
+            Object data,
+            JsonApiTraversalContext traversalContext,
+            JsonGenerator jsonGenerator) throws IOException {
+        if(isObjectJsonApiObject(data)) {
+            traversalContext.markSerialized(data, fetchId(data, jsonGenerator));
+        } else if(isObjectJsonApiObjectList(data)) {
+            for(Object element : (List) data) {
+                traversalContext.markSerialized(element, fetchId(element, jsonGenerator));
+            }
+        }
+    }
+
+    /**
+     * Queues a related JsonAPI object (or list of them) for the "included" section, without writing anything out
+     * @param relatedObject
+     * @param traversalContext
+     * @param jsonGenerator
+     * @throws IOException
+     */
+    void includeRelatedObject(
+            Object relatedObject,
+            JsonApiTraversalContext traversalContext,
+            JsonGenerator jsonGenerator) throws IOException {
+        if(relatedObject == null) {
+            return;
+        } else if(isObjectJsonApiObject(relatedObject)) {
+            traversalContext.include(relatedObject, fetchId(relatedObject, jsonGenerator));
+        } else if(isObjectJsonApiObjectList(relatedObject)) {
+            for(Object element : (List) relatedObject) {
+                traversalContext.include(element, fetchId(element, jsonGenerator));
+            }
+        } else {
+            String issue = "In order to be serialized in the \"" + JsonApiObjectContext.RELATIONSHIP.toString() + "\" " +
+                    "JsonAPI context object type " + relatedObject.getClass().getName() + " needs to be JsonAPIary " +
+                    "annotated (@JsonApiType, amongst others).";
+            throw JsonMappingException.from(jsonGenerator, issue);
+        }
+    }
+
+    /**
+     * Serializes primary data handed over as an Iterator, Iterable, Stream or Spliterator, writing out every JsonAPI
+     * object as it is pulled (and flushing periodically) rather than materializing them first. Streams are closed once
+     * exhausted.
+     * @param jsonApiObjects
+     * @param traversalContext
+     * @param jsonGenerator
+     * @param serializerProvider
+     * @throws IOException
+     */
+    public void serializeJsonApiObjectStream(
+            Object jsonApiObjects,
+            JsonApiTraversalContext traversalContext,
+            JsonGenerator jsonGenerator,
+            SerializerProvider serializerProvider) throws IOException {
+        BaseStream stream = jsonApiObjects instanceof BaseStream ? (BaseStream) jsonApiObjects : null;
+        try {
+            Iterator iterator;
+            if(stream != null) {
+                iterator = stream.iterator();
+            } else if(jsonApiObjects instanceof Iterator) {
+                iterator = (Iterator) jsonApiObjects;
+            } else if(jsonApiObjects instanceof Spliterator) {
+                iterator = Spliterators.iterator((Spliterator) jsonApiObjects);
+            } else {
+                iterator = ((Iterable) jsonApiObjects).iterator();
+            }
+
+            jsonGenerator.writeStartArray();
+            int written = 0;
+            while(iterator.hasNext()) {
+                Object element = iterator.next();
+                if(element == null || !isObjectJsonApiObject(element)) {
+                    String issue = "Streamed primary data contains (at least) one element (type: " +
+                            (element == null ? "null" : element.getClass().getName()) + ") that is not JsonApi " +
+                            "annotated. Expected ALL elements be of type(s) with the @JsonApiType annotation";
+                    throw JsonMappingException.from(jsonGenerator, issue);
+                }
+
+                this.serializeJsonApiObject(
+                        element,
+                        JsonApiObjectContext.PRIMARY,
+                        traversalContext,
+                        jsonGenerator,
+                        serializerProvider);
+                if(++written % STREAM_FLUSH_INTERVAL == 0) {
+                    jsonGenerator.flush();
+                }
+            }
+            jsonGenerator.writeEndArray();
+        } finally {
+            if(stream != null) {
+                stream.close();
+            }
+        }
+    }
 
-        return includes;
+    /**
+     * Creates the serializer of the resources of the passed in type, or returns null if the type is not JsonAPI
+     * annotated
+     * @param type
+     * @return
+     */
+    public JsonApiObjectSerializer<?> createObjectSerializer(
+            Class<?> type) {
+        JsonApiResourceSerializer generatedSerializer = generatedSerializers.get(type);
+        if(generatedSerializer == null && !ResourceDescriptor.forType(type).isJsonApiType()) {
+            return null;
+        }
+
+        return new JsonApiObjectSerializer(type, this, generatedSerializer);
     }
 
-    public Set<Object> serializeJsonApiObjectList(
+    public void serializeJsonApiObjectList(
             List<Object> jsonApiObjectList,
             JsonApiObjectContext serializationContext,
+            JsonApiTraversalContext traversalContext,
             JsonGenerator jsonGenerator,
             SerializerProvider serializerProvider) throws IOException {
+        serializeJsonApiObjectList(
+                jsonApiObjectList, null, serializationContext, traversalContext, jsonGenerator, serializerProvider);
+    }
 
-        Set<Object> includes = new HashSet<Object>();
-
+    /**
+     * Serializes a List of JsonAPI objects, every element of the type of the passed in element serializer (if any)
+     * being written out by it
+     * @param jsonApiObjectList
+     * @param elementSerializer
+     * @param serializationContext
+     * @param traversalContext
+     * @param jsonGenerator
+     * @param serializerProvider
+     * @throws IOException
+     */
+    public void serializeJsonApiObjectList(
+            List<Object> jsonApiObjectList,
+            JsonApiObjectSerializer<?> elementSerializer,
+            JsonApiObjectContext serializationContext,
+            JsonApiTraversalContext traversalContext,
+            JsonGenerator jsonGenerator,
+            SerializerProvider serializerProvider) throws IOException {
         switch(serializationContext) {
             case RELATIONSHIP:
                 jsonGenerator.writeStartObject();
-                jsonGenerator.writeFieldName(JsonApiKeyConstants.DATA_KEY);
+                jsonGenerator.writeFieldName(JsonApiSerializedKeyConstants.DATA_KEY);
                 break;
             default:
                 // No special serializations for this context
         }
 
         jsonGenerator.writeStartArray();
-        for(Object element : jsonApiObjectList) {
-            switch (serializationContext) {
-                case RELATIONSHIP:
-                    this.serializeJsonApiObject(
+        JsonApiParallelWriter parallelWriter = this.parallelWriter;
+        if(serializationContext == JsonApiObjectContext.PRIMARY && parallelWriter != null &&
+                parallelWriter.canWriteInParallel(
+                        jsonApiObjectList.size(), traversalContext, jsonGenerator, serializerProvider)) {
+            parallelWriter.writeInParallel(jsonApiObjectList, traversalContext, jsonGenerator, serializerProvider);
+        } else {
+            for(Object element : jsonApiObjectList) {
+                if(elementSerializer != null) {
+                    elementSerializer.serializeJsonApiObject(
                             element,
-                            JsonApiObjectContext.RESOURCE_LINKAGE,
+                            serializationContext == JsonApiObjectContext.RELATIONSHIP ?
+                                    JsonApiObjectContext.RESOURCE_LINKAGE : serializationContext,
+                            traversalContext,
                             jsonGenerator,
                             serializerProvider);
-                    includes.add(element);
-                    break;
-                default:
-                    includes.addAll(
+                    continue;
+                }
+
+                switch (serializationContext) {
+                    case RELATIONSHIP:
+                        this.serializeJsonApiObject(
+                                element,
+                                JsonApiObjectContext.RESOURCE_LINKAGE,
+                                traversalContext,
+                                jsonGenerator,
+                                serializerProvider);
+                        break;
+                    default:
                         this.serializeJsonApiObject(
                                 element,
                                 serializationContext,
+                                traversalContext,
                                 jsonGenerator,
-                                serializerProvider));
+                                serializerProvider);
+                }
             }
         }
         jsonGenerator.writeEndArray();
 
         switch(serializationContext) {
             case RELATIONSHIP:
+                if(traversalContext.hasRelationshipLinks()) {
+                    jsonGenerator.writeFieldName(JsonApiSerializedKeyConstants.LINKS_KEY);
+                    jsonGenerator.writeStartObject();
+                    traversalContext.writeRelationshipLinks(jsonGenerator);
+                    jsonGenerator.writeEndObject();
+                }
                 jsonGenerator.writeEndObject();
                 break;
             default:
                 // No special serializations for this context
         }
+    }
 
-        return includes;
+    /**
+     * Writes out a link: its href as a plain string, or a link object ("href" and "meta") if it has meta
+     * @param link
+     * @param jsonGenerator
+     * @param serializerProvider
+     * @throws IOException
+     */
+    static void serializeLink(
+            Link link,
+            JsonGenerator jsonGenerator,
+            SerializerProvider serializerProvider) throws IOException {
+        if(!link.hasMeta()) {
+            jsonGenerator.writeString(link.getHref());
+            return;
+        }
+
+        jsonGenerator.writeStartObject();
+        jsonGenerator.writeFieldName(JsonApiSerializedKeyConstants.HREF_KEY);
+        jsonGenerator.writeString(link.getHref());
+        jsonGenerator.writeFieldName(JsonApiSerializedKeyConstants.META_DATA_KEY);
+        serializerProvider.defaultSerializeValue(link.getMeta(), jsonGenerator);
+        jsonGenerator.writeEndObject();
     }
 
     /////////////////////
     // Private Methods //
     /////////////////////
 
-    private void serializeIdAndType(
+    private Object serializeIdAndType(
             Object jsonApiObject,
-            Map<String, Object> idMap,
+            ResourceDescriptor resourceDescriptor,
+            JsonApiResourceSerializer generatedSerializer,
             JsonGenerator jsonGenerator,
             SerializerProvider serializerProvider) throws IOException {
         // Serialize the ID //
-        if(idMap.size() > 1) {
+        Object id = fetchId(jsonApiObject, resourceDescriptor, generatedSerializer, jsonGenerator);
+        jsonGenerator.writeFieldName(JsonApiSerializedKeyConstants.ID_KEY);
+        jsonGenerator.writeString(id.toString());
+
+        // Serialize the Type //
+        if(generatedSerializer != null) {
+            jsonGenerator.writeFieldName(JsonApiSerializedKeyConstants.TYPE_KEY);
+            jsonGenerator.writeString(generatedSerializer.getTypeName());
+            return id;
+        }
+        jsonGenerator.writeFieldName(JsonApiSerializedKeyConstants.TYPE_KEY);
+        jsonGenerator.writeString(resourceDescriptor.getSerializedTypeName());
+
+        return id;
+    }
+
+    private Object fetchId(
+            Object jsonApiObject,
+            JsonGenerator jsonGenerator) throws IOException {
+        JsonApiResourceSerializer generatedSerializer = generatedSerializers.get(jsonApiObject.getClass());
+        ResourceDescriptor resourceDescriptor = null;
+        if(generatedSerializer == null) {
+            resourceDescriptor = ResourceDescriptor.forType(jsonApiObject.getClass());
+            checkJsonApiType(resourceDescriptor, JsonApiObjectContext.RELATIONSHIP, jsonGenerator);
+        }
+        return fetchId(jsonApiObject, resourceDescriptor, generatedSerializer, jsonGenerator);
+    }
+
+    Object fetchId(
+            Object jsonApiObject,
+            ResourceDescriptor resourceDescriptor,
+            JsonApiResourceSerializer generatedSerializer,
+            JsonGenerator jsonGenerator) throws IOException {
+        if(generatedSerializer != null) {
+            return generatedSerializer.getId(jsonApiObject);
+        }
+
+        List<MemberDescriptor> ids = resourceDescriptor.getIds();
+        if(ids.size() > 1) {
             String issue = "Found multiple Fields and/or Methods tagged with @JsonApiId in type: " +
                     jsonApiObject.getClass().getName() + " !!!";
             throw JsonMappingException.from(jsonGenerator, issue);
-        } else if(idMap.size() == 1) {
-            jsonGenerator.writeStringField(JsonApiKeyConstants.ID_KEY, idMap.get(idMap.keySet().toArray()[0]).toString());
+        } else if(ids.size() == 1) {
+            return JsonApiAnnotationAnalyzer.fetchMemberValue(jsonApiObject, ids.get(0), jsonGenerator);
         } else {
             String issue = "Type (" + jsonApiObject.getClass().getName() + ") does not contain a JsonAPI id! " +
                     "An attribute must be annotated with @JsonApiId!";
             throw new IllegalArgumentException(issue);
         }
+    }
 
-        // Serialize the Type //
-        JsonApiType typeAnnotation = jsonApiObject.getClass().getAnnotation(JsonApiType.class);
-        if(typeAnnotation == null || typeAnnotation.value() == null || typeAnnotation.value().isEmpty()) {
-            jsonGenerator.writeStringField(JsonApiKeyConstants.TYPE_KEY, jsonApiObject.getClass().getSimpleName());
+    private Set<String> fetchFieldset(
+            ResourceDescriptor resourceDescriptor,
+            JsonApiResourceSerializer generatedSerializer,
+            JsonApiTraversalContext traversalContext) {
+        if(!traversalContext.hasFieldsets()) {
+            return null;
+        }
+        return traversalContext.fetchFieldset(generatedSerializer == null ?
+                resourceDescriptor.getTypeName() : generatedSerializer.getTypeName().getValue());
+    }
+
+    private void serializeMembers(
+            Object jsonApiObject,
+            ResourceDescriptor resourceDescriptor,
+            JsonApiResourceSerializer generatedSerializer,
+            JsonApiObjectContext serializationContext,
+            Set<String> fieldset,
+            JsonApiTraversalContext traversalContext,
+            JsonGenerator jsonGenerator,
+            SerializerProvider serializerProvider) throws IOException {
+        // Nothing to write if the type has no (selected) members in this context //
+        List<MemberDescriptor> members = null;
+        if(generatedSerializer == null) {
+            members = fetchMembers(resourceDescriptor, serializationContext, jsonGenerator);
+            if(!isAnyMemberSelected(members, fieldset)) {
+                return;
+            }
+        } else if(!isAnyKeySelected(generatedSerializer.getMemberKeys(serializationContext), fieldset)) {
+            return;
+        }
+
+        // Attributes (of every member, no sparse fieldset) written by a filtered BeanSerializer, if enabled //
+        if(beanAttributes && generatedSerializer == null && fieldset == null &&
+                serializationContext == JsonApiObjectContext.ATTRIBUTE) {
+            JsonSerializer<Object> attributesSerializer =
+                    fetchAttributesSerializer(jsonApiObject, resourceDescriptor, serializerProvider);
+            if(attributesSerializer != null) {
+                jsonGenerator.writeFieldName(JsonApiSerializedKeyConstants.ATTRIBUTES_KEY);
+                attributesSerializer.serialize(jsonApiObject, jsonGenerator, serializerProvider);
+                return;
+            }
+        }
+
+        switch (serializationContext) {
+            case ATTRIBUTE:
+                jsonGenerator.writeFieldName(JsonApiSerializedKeyConstants.ATTRIBUTES_KEY);
+                break;
+            case LINK:
+                jsonGenerator.writeFieldName(JsonApiSerializedKeyConstants.LINKS_KEY);
+                break;
+            case META:
+                jsonGenerator.writeFieldName(JsonApiSerializedKeyConstants.META_DATA_KEY);
+                break;
+            case RELATIONSHIP:
+                jsonGenerator.writeFieldName(JsonApiSerializedKeyConstants.RELATIONSHIPS_KEY);
+                break;
+            default:
+                String issue = "Unexpected object status: \"" + serializationContext.toString() + "\" when serializing map";
+                throw JsonMappingException.from(jsonGenerator, issue);
+        }
+        jsonGenerator.writeStartObject();
+        writeMembers(jsonApiObject, members, generatedSerializer, serializationContext, fieldset, traversalContext, jsonGenerator, serializerProvider);
+        jsonGenerator.writeEndObject();
+    }
+
+    /**
+     * Writes out the "links" of a JsonAPI object: the link of its type's link template (as primary data), the "self"
+     * and "related" links of the relationship it is written out in (as relationship data, if the resource holding the
+     * relationship has a link template), then its link members
+     * @param jsonApiObject
+     * @param id
+     * @param resourceDescriptor
+     * @param generatedSerializer
+     * @param serializationContext
+     * @param traversalContext
+     * @param jsonGenerator
+     * @param serializerProvider
+     * @throws IOException
+     */
+    private void serializeLinks(
+            Object jsonApiObject,
+            Object id,
+            ResourceDescriptor resourceDescriptor,
+            JsonApiResourceSerializer generatedSerializer,
+            JsonApiObjectContext serializationContext,
+            JsonApiTraversalContext traversalContext,
+            JsonGenerator jsonGenerator,
+            SerializerProvider serializerProvider) throws IOException {
+        JsonApiLinkTemplate linkTemplate = serializationContext == JsonApiObjectContext.PRIMARY ?
+                fetchLinkTemplate(jsonApiObject.getClass()) : null;
+        boolean relationshipLinks = serializationContext == JsonApiObjectContext.RELATIONSHIP &&
+                traversalContext.hasRelationshipLinks();
+        if(linkTemplate == null && !relationshipLinks) {
+            serializeMembers(jsonApiObject, resourceDescriptor, generatedSerializer, JsonApiObjectContext.LINK, null, traversalContext, jsonGenerator, serializerProvider);
+            return;
+        }
+
+        jsonGenerator.writeFieldName(JsonApiSerializedKeyConstants.LINKS_KEY);
+        jsonGenerator.writeStartObject();
+        if(linkTemplate != null) {
+            linkTemplate.writeLink(id, traversalContext, jsonGenerator);
+        }
+        if(relationshipLinks) {
+            // Only the relationship's own links: the resource's links are written out with the resource itself //
+            traversalContext.writeRelationshipLinks(jsonGenerator);
         } else {
-            jsonGenerator.writeStringField(JsonApiKeyConstants.TYPE_KEY, typeAnnotation.value());
+            List<MemberDescriptor> members = generatedSerializer == null ?
+                    fetchMembers(resourceDescriptor, JsonApiObjectContext.LINK, jsonGenerator) : null;
+            writeMembers(jsonApiObject, members, generatedSerializer, JsonApiObjectContext.LINK, null, traversalContext, jsonGenerator, serializerProvider);
         }
+        jsonGenerator.writeEndObject();
     }
 
-    private Set<Object> serializeMap(
-            Map<String, Object> map,
+    private void writeMembers(
+            Object jsonApiObject,
+            List<MemberDescriptor> members,
+            JsonApiResourceSerializer generatedSerializer,
             JsonApiObjectContext serializationContext,
+            Set<String> fieldset,
+            JsonApiTraversalContext traversalContext,
             JsonGenerator jsonGenerator,
             SerializerProvider serializerProvider) throws IOException {
-        Set<Object> includes = new HashSet<Object>();
-
-        if(map != null && !map.isEmpty()) {
-            switch (serializationContext) {
-                case ATTRIBUTE:
-                    jsonGenerator.writeFieldName(JsonApiKeyConstants.ATTRIBUTES_KEY);
-                    break;
-                case LINK:
-                    jsonGenerator.writeFieldName(JsonApiKeyConstants.LINKS_KEY);
-                    break;
-                case META:
-                    jsonGenerator.writeFieldName(JsonApiKeyConstants.META_DATA_KEY);
-                    break;
-                case RELATIONSHIP:
-                    jsonGenerator.writeFieldName(JsonApiKeyConstants.RELATIONSHIPS_KEY);
-                    break;
-                default:
-                    String issue = "Unexpected object status: \"" + serializationContext.toString() + "\" when serializing map";
-                    throw JsonMappingException.from(jsonGenerator, issue);
+        if(generatedSerializer == null) {
+            for (MemberDescriptor member : members) {
+                if(fieldset != null && !fieldset.contains(member.getKey())) {
+                    continue;
+                }
+                if(serializationContext == JsonApiObjectContext.RELATIONSHIP) {
+                    traversalContext.startRelationship(member.getKey());
+                }
+                Object value = JsonApiAnnotationAnalyzer.fetchMemberValue(jsonApiObject, member, jsonGenerator);
+                if(value == null) {
+                    continue;
+                }
+
+                jsonGenerator.writeFieldName(member.getSerializedKey());
+                if(serializationContext == JsonApiObjectContext.ATTRIBUTE ||
+                        serializationContext == JsonApiObjectContext.META) {
+                    // Plain values, written by the serializer resolved for the member //
+                    serializeMemberValue(value, member.getDeclaration(), jsonGenerator, serializerProvider);
+                } else if(serializationContext == JsonApiObjectContext.RELATIONSHIP &&
+                        isDeclaredJsonApiObjectList(value, member)) {
+                    // Declared as a List of JsonAPI objects: no need to look at its elements to tell //
+                    this.serializeJsonApiObjectList(
+                            (List<Object>) value,
+                            serializationContext,
+                            traversalContext,
+                            jsonGenerator,
+                            serializerProvider);
+                } else {
+                    this.serializeRandomObject(
+                            value, serializationContext, traversalContext, jsonGenerator, serializerProvider);
+                }
             }
-            jsonGenerator.writeStartObject();
-
-            for (String key : map.keySet()) {
-                Object value = map.get(key);
-                if(value != null) {
-                    jsonGenerator.writeFieldName(key);
-                    includes.addAll(
-                            this.serializeRandomObject(value, serializationContext, jsonGenerator, serializerProvider));
+        } else {
+            generatedSerializer.serializeMembers(
+                    jsonApiObject,
+                    serializationContext,
+                    new JsonApiMemberWriter(
+                            this, serializationContext, traversalContext, jsonGenerator, serializerProvider, fieldset, false));
+        }
+    }
+
+    /**
+     * Returns the compiled link template of the passed in type, or null if it declares none; compiled once per type
+     * @param type
+     * @return
+     */
+    private JsonApiLinkTemplate fetchLinkTemplate(
+            Class<?> type) {
+        // Compiled with, and cached along with, the base URL it was read with //
+        LinkTemplates linkTemplates = this.linkTemplates;
+        Optional<JsonApiLinkTemplate> linkTemplate = linkTemplates.templates.get(type);
+        if(linkTemplate == null) {
+            ResourceDescriptor resourceDescriptor = ResourceDescriptor.forType(type);
+            linkTemplate = Optional.ofNullable(
+                    JsonApiLinkTemplate.compile(type, resourceDescriptor.getTypeName(), linkTemplates.baseUrl));
+            if(linkTemplate.isPresent()) {
+                for(MemberDescriptor member : resourceDescriptor.getLinks()) {
+                    if(member.getKey().equals(linkTemplate.get().getKey())) {
+                        String issue = "Type: " + type.getName() + " declares the link \"" + member.getKey() +
+                                "\" both as a link template and as a @JsonApiLink member!";
+                        throw new IllegalStateException(issue);
+                    }
                 }
             }
+            linkTemplates.templates.put(type, linkTemplate);
+        }
+        return linkTemplate.orElse(null);
+    }
+
+    /**
+     * Returns the attributes serializer derived from the Jackson serializer of the passed in object's type (null if
+     * there is none), re-deriving it whenever that serializer changes (e.g. another ObjectMapper)
+     * @param jsonApiObject
+     * @param resourceDescriptor
+     * @param serializerProvider
+     * @return
+     * @throws JsonMappingException
+     */
+    private JsonSerializer<Object> fetchAttributesSerializer(
+            Object jsonApiObject,
+            ResourceDescriptor resourceDescriptor,
+            SerializerProvider serializerProvider) throws JsonMappingException {
+        JsonSerializer<Object> beanSerializer = serializerProvider.findValueSerializer(jsonApiObject.getClass());
+        Map.Entry<JsonSerializer<?>, JsonSerializer<Object>> attributesSerializer =
+                attributesSerializers.get(jsonApiObject.getClass());
+        if(attributesSerializer == null || attributesSerializer.getKey() != beanSerializer) {
+            attributesSerializer = new AbstractMap.SimpleImmutableEntry<JsonSerializer<?>, JsonSerializer<Object>>(
+                    beanSerializer,
+                    AttributesBeanSerializer.create(resourceDescriptor, beanSerializer, serializerProvider));
+            attributesSerializers.put(jsonApiObject.getClass(), attributesSerializer);
+        }
+        return attributesSerializer.getValue();
+    }
+
+    /**
+     * Writes out the passed in (non-null) attribute or meta value with the Jackson serializer resolved for its
+     * (declared) member
+     * @param value
+     * @param member
+     * @param jsonGenerator
+     * @param serializerProvider
+     * @throws IOException
+     */
+    void serializeMemberValue(
+            Object value,
+            MemberDeclaration member,
+            JsonGenerator jsonGenerator,
+            SerializerProvider serializerProvider) throws IOException {
+        memberSerializers.fetchSerializer(member, value, serializerProvider)
+                .serialize(value, jsonGenerator, serializerProvider);
+    }
 
-            jsonGenerator.writeEndObject();
+    /**
+     * Resolves (ahead of the first resource) the Jackson serializers of the attribute and meta members of the type
+     * described by the passed in ResourceDescriptor, through the passed in SerializerProvider
+     * @param resourceDescriptor
+     * @param serializerProvider
+     * @throws JsonMappingException
+     */
+    void prefetchMemberSerializers(
+            ResourceDescriptor resourceDescriptor,
+            SerializerProvider serializerProvider) throws JsonMappingException {
+        for(MemberDescriptor member : resourceDescriptor.getAttributes()) {
+            memberSerializers.prefetchSerializers(member.getDeclaration(), serializerProvider);
+        }
+        for(MemberDescriptor member : resourceDescriptor.getMetas()) {
+            memberSerializers.prefetchSerializers(member.getDeclaration(), serializerProvider);
         }
+    }
 
-        return includes;
+    /**
+     * Resolves (ahead of the first resource) the Jackson serializers of the attribute and meta members declared by
+     * the passed in generated serializer, through the passed in SerializerProvider
+     * @param generatedSerializer
+     * @param serializerProvider
+     * @throws JsonMappingException
+     */
+    void prefetchMemberSerializers(
+            JsonApiResourceSerializer<?> generatedSerializer,
+            SerializerProvider serializerProvider) throws JsonMappingException {
+        for(MemberDeclaration member : generatedSerializer.getMemberDeclarations(JsonApiObjectContext.ATTRIBUTE)) {
+            memberSerializers.prefetchSerializers(member, serializerProvider);
+        }
+        for(MemberDeclaration member : generatedSerializer.getMemberDeclarations(JsonApiObjectContext.META)) {
+            memberSerializers.prefetchSerializers(member, serializerProvider);
+        }
+    }
+
+    /**
+     * Returns the passed in link value as a Link: Links as they are, URLs and URIs by their (already valid) string
+     * form, and anything else by its "toString()", which must be an absolute URI unless link validation is disabled
+     * @param object
+     * @return
+     */
+    private Link fetchLink(
+            Object object) {
+        if(object instanceof Link) {
+            return (Link) object;
+        }
+
+        Link link = Link.from(object);
+        if(validateLinks && object.getClass() != URL.class && object.getClass() != URI.class) {
+            try {
+                link.validate();
+            } catch(IllegalArgumentException e) {
+                String issue = "The value returned by the \"toString()\" method on the object of type: " +
+                        object.getClass().getName() + " does not parse out into an absolute URI. The other option " +
+                        "is to decorate an attribute of type " + Link.class.getName() + ", " + URI.class.getName() +
+                        " or " + URL.class.getName() + " as the link.";
+                throw new IllegalArgumentException(issue, e);
+            }
+        }
+        return link;
+    }
+
+    private List<MemberDescriptor> fetchMembers(
+            ResourceDescriptor resourceDescriptor,
+            JsonApiObjectContext serializationContext,
+            JsonGenerator jsonGenerator) throws IOException {
+        switch (serializationContext) {
+            case ATTRIBUTE:
+                return resourceDescriptor.getAttributes();
+            case LINK:
+                return resourceDescriptor.getLinks();
+            case META:
+                return resourceDescriptor.getMetas();
+            case RELATIONSHIP:
+                return resourceDescriptor.getRelationships();
+            default:
+                String issue = "Unexpected object status: \"" + serializationContext.toString() + "\" when serializing map";
+                throw JsonMappingException.from(jsonGenerator, issue);
+        }
+    }
+
+    private boolean isAnyMemberSelected(
+            List<MemberDescriptor> members,
+            Set<String> fieldset) {
+        if(fieldset == null) {
+            return !members.isEmpty();
+        }
+        for(MemberDescriptor member : members) {
+            if(fieldset.contains(member.getKey())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isAnyKeySelected(
+            SerializableString[] keys,
+            Set<String> fieldset) {
+        if(fieldset == null) {
+            return keys.length > 0;
+        }
+        for(SerializableString key : keys) {
+            if(fieldset.contains(key.getValue())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isObjectStreamable(
+            Object object) {
+        // Lists are validated up front, and serialized, as lists //
+        return object instanceof Iterator ||
+                (object instanceof Iterable && !(object instanceof List)) ||
+                object instanceof BaseStream ||
+                object instanceof Spliterator;
     }
 
     private boolean isObjectJsonApiObject(
             Object object) {
-        return object.getClass().isAnnotationPresent(JsonApiType.class);
+        return isJsonApiType(object.getClass());
     }
 
     private boolean isObjectJsonApiObjectList(
@@ -330,18 +977,136 @@ class JsonApiSerializer {
             return false;
         }
 
-        // Are *ALL* Objects in the list JsonAPI? //
-        List list = (List) object;
-        if(list.isEmpty()) {
-            return true;
+        // Told by the first element: the others are checked as they are written out (or recorded) one by one //
+        for(Object element : (List) object) {
+            if(element != null) {
+                return isObjectJsonApiObject(element);
+            }
         }
 
-        boolean jsonApi = true;
-        for(Object element : list) {
-            jsonApi &= element.getClass().isAnnotationPresent(JsonApiType.class);
+        return true;
+    }
+
+    private boolean isDeclaredJsonApiObjectList(
+            Object value,
+            MemberDescriptor member) {
+        Class<?> elementType = member.getElementType();
+        return value instanceof List && elementType != null && isJsonApiType(elementType);
+    }
+
+    private boolean isJsonApiType(
+            Class<?> type) {
+        Boolean jsonApiType = jsonApiTypes.get(type);
+        if(jsonApiType == null) {
+            jsonApiType = generatedSerializers.containsKey(type) || ResourceDescriptor.forType(type).isJsonApiType();
+            jsonApiTypes.put(type, jsonApiType);
+        }
+        return jsonApiType;
+    }
+
+    private static void checkJsonApiType(
+            ResourceDescriptor resourceDescriptor,
+            JsonApiObjectContext serializationContext,
+            JsonGenerator jsonGenerator) throws JsonMappingException {
+        if(!resourceDescriptor.isJsonApiType()) {
+            String issue = "In order to be serialized in the \"" + serializationContext.toString() + "\" JsonAPI " +
+                    "context object type " + resourceDescriptor.getType().getName() + " needs to be JsonAPIary " +
+                    "annotated (@JsonApiType, amongst others).";
+            throw JsonMappingException.from(jsonGenerator, issue);
+        }
+    }
+
+    /////////////////////////
+    // Getters and Setters //
+    /////////////////////////
+
+    /**
+     * Fetch the writer large arrays of JsonAPI objects are written out in parallel with, or null if disabled
+     * @return
+     */
+    public JsonApiParallelWriter getParallelWriter() {
+        return this.parallelWriter;
+    }
+
+    /**
+     * Set the writer large arrays of JsonAPI objects are written out in parallel with, or null to disable
+     * @param parallelWriter
+     */
+    public void setParallelWriter(
+            JsonApiParallelWriter parallelWriter) {
+        this.parallelWriter = parallelWriter;
+    }
+
+    /**
+     * Fetch whether or not the attributes of reflectively serialized types are written by filtered BeanSerializers
+     * @return
+     */
+    public boolean isBeanAttributes() {
+        return this.beanAttributes;
+    }
+
+    /**
+     * Set whether or not the attributes of reflectively serialized types are written by filtered BeanSerializers
+     * @param beanAttributes
+     */
+    public void setBeanAttributes(
+            boolean beanAttributes) {
+        this.beanAttributes = beanAttributes;
+    }
+
+    /**
+     * Fetch whether or not link values other than Links, URLs and URIs are checked to be absolute URIs
+     * @return
+     */
+    public boolean isValidateLinks() {
+        return this.validateLinks;
+    }
+
+    /**
+     * Set whether or not link values other than Links, URLs and URIs are checked to be absolute URIs
+     * @param validateLinks
+     */
+    public void setValidateLinks(
+            boolean validateLinks) {
+        this.validateLinks = validateLinks;
+    }
+
+    /**
+     * Fetch the base URL templated links that are not absolute URIs are prefixed with
+     * @return
+     */
+    public String getLinkBaseUrl() {
+        return this.linkTemplates.baseUrl;
+    }
+
+    /**
+     * Set the base URL templated links that are not absolute URIs are prefixed with (null for none)
+     * @param linkBaseUrl
+     */
+    public void setLinkBaseUrl(
+            String linkBaseUrl) {
+        this.linkTemplates = new LinkTemplates(linkBaseUrl);
+    }
+
+    /////////////////////
+    // Private Classes //
+    /////////////////////
+
+    /**
+     * A base URL, along with the link template of every type compiled with it (empty if the type declares none)
+     */
+    private static class LinkTemplates {
+
+        private final String baseUrl;
+
+        private final ConcurrentMap<Class<?>, Optional<JsonApiLinkTemplate>> templates;
+
+        LinkTemplates(
+                String baseUrl) {
+            this.baseUrl = baseUrl;
+            this.templates = new ConcurrentHashMap<Class<?>, Optional<JsonApiLinkTemplate>>();
         }
 
-        return jsonApi;
     }
 
 }
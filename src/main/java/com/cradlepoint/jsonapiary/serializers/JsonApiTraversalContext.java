@@ -0,0 +1,530 @@
+package com.cradlepoint.jsonapiary.serializers;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks the resources written out while serializing one JsonApiEnvelope. Resources are identified by their JsonAPI
+ * (type, id) pair rather than by the POJO's equals/hashCode: the type is a compact per-class index and integral ids
+ * live in a primitive open-addressing table. Any other id is tracked by its String form, which is exactly what gets
+ * written out as the "id", in an open-addressing table of its own. Every resource written out (streamed primary data
+ * included) costs one slot in either table, so this state grows linearly with the number of resources.
+ *
+ * Resources referenced through relationships are queued, in the order they are first seen, to be written out in the
+ * "included" section. The context also carries the sparse fieldsets requested for the envelope.
+ *
+ * When "include" paths were requested, only the relationships on those paths are queued. A resource reached along
+ * several paths is written out once, and queued again (to expand its relationships only) for every other path node.
+ */
+class JsonApiTraversalContext {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    private static final AtomicInteger NEXT_TYPE_INDEX = new AtomicInteger();
+
+    private static final ClassValue<Integer> TYPE_INDICES = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            return NEXT_TYPE_INDEX.getAndIncrement();
+        }
+    };
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private static final int INITIAL_LINK_BUFFER_LENGTH = 128;
+
+    // Integral ids: open-addressing table of (type index + 1, id) to resource number, a type slot of 0 marks an empty
+    // slot //
+    private int[] longIdTypes;
+
+    private long[] longIds;
+
+    private int[] longIdResources;
+
+    // Non-integral ids: open-addressing table of (type index + 1, String form of the id) to resource number, allocated
+    // on first use; a type slot of 0 marks an empty slot //
+    private int[] stringIdTypes;
+
+    private String[] stringIds;
+
+    private int[] stringIdResources;
+
+    private int stringIdCount;
+
+    private int resourceCount;
+
+    // The resource numbers that were (or are being) written out as primary data //
+    private final BitSet primaryResources;
+
+    private boolean writingIncluded;
+
+    // The queue of resources (and their ids and resource numbers) to write out (or, when "expandOnly", to only expand)
+    // in the "included" section //
+    private final List<Object> includes;
+
+    private final List<Object> includeIds;
+
+    private int[] includeResources;
+
+    private final List<JsonApiIncludeTree> includeNodes;
+
+    private final List<Boolean> expandOnly;
+
+    private final Map<String, ? extends Set<String>> fieldsets;
+
+    // The "include" paths (null if everything is to be included), and the nodes of the resource / relationship being
+    // written out //
+    private final JsonApiIncludeTree includeTree;
+
+    // The include path nodes every resource reached through a relationship was expanded along so far, by resource
+    // number; primary data expanded along the root only has no entry, which keeps streamed primary data compact //
+    private final Map<Integer, List<JsonApiIncludeTree>> expandedNodes;
+
+    private JsonApiIncludeTree resourceNode;
+
+    private JsonApiIncludeTree relationshipNode;
+
+    // The link template and id of the resource whose relationships are being written out (null if it has no template),
+    // and the relationship being written out //
+    private JsonApiLinkTemplate relationshipLinkTemplate;
+
+    private Object relationshipLinkId;
+
+    private String relationship;
+
+    // Scratch buffer templated links are rendered into //
+    private char[] linkBuffer;
+
+    /////////////////
+    // Constructor //
+    /////////////////
+
+    /**
+     * Default void constructor, every field of every resource is written out
+     */
+    public JsonApiTraversalContext() {
+        this(null, null);
+    }
+
+    /**
+     * Constructor taking in the sparse fieldsets (JsonAPI type to field names) to apply, or null, and the compiled
+     * "include" paths to follow, or null to include everything reachable
+     * @param fieldsets
+     * @param includeTree
+     */
+    public JsonApiTraversalContext(
+            Map<String, ? extends Set<String>> fieldsets,
+            JsonApiIncludeTree includeTree) {
+        this.fieldsets = (fieldsets == null || fieldsets.isEmpty()) ? null : fieldsets;
+        this.includeTree = includeTree;
+        longIdTypes = new int[INITIAL_CAPACITY];
+        longIds = new long[INITIAL_CAPACITY];
+        longIdResources = new int[INITIAL_CAPACITY];
+        stringIdTypes = null;
+        stringIds = null;
+        stringIdResources = null;
+        stringIdCount = 0;
+        resourceCount = 0;
+        primaryResources = new BitSet();
+        writingIncluded = false;
+        includes = new ArrayList<Object>();
+        includeIds = new ArrayList<Object>();
+        includeResources = new int[INITIAL_CAPACITY];
+        includeNodes = includeTree == null ? null : new ArrayList<JsonApiIncludeTree>();
+        expandOnly = includeTree == null ? null : new ArrayList<Boolean>();
+        expandedNodes = includeTree == null ? null : new HashMap<Integer, List<JsonApiIncludeTree>>();
+        resourceNode = includeTree;
+        relationshipNode = includeTree;
+        relationshipLinkTemplate = null;
+        relationshipLinkId = null;
+        relationship = null;
+        linkBuffer = null;
+    }
+
+    ////////////////////
+    // Public Methods //
+    ////////////////////
+
+    /**
+     * Marks a resource as written out in the "data" section, without queueing it for inclusion. Resources being
+     * written out in the "included" section were already recorded when they were queued.
+     * @param resource
+     * @param id
+     */
+    public void markSerialized(
+            Object resource,
+            Object id) {
+        if(writingIncluded) {
+            return;
+        }
+
+        int resourceNumber = mark(resource.getClass(), id);
+        if(resourceNumber >= 0) {
+            primaryResources.set(resourceNumber);
+        } else {
+            // Queued through a relationship before it was pulled from (streamed) primary data; it will not be
+            // written out again in the "included" section //
+            resourceNumber = -(resourceNumber + 1);
+            primaryResources.set(resourceNumber);
+            if(includeTree != null) {
+                List<JsonApiIncludeTree> nodes = expandedNodes.get(resourceNumber);
+                if(nodes != null && !nodes.contains(includeTree)) {
+                    nodes.add(includeTree);
+                }
+            }
+        }
+    }
+
+    /**
+     * Marks the start of the "included" section
+     */
+    public void startIncluded() {
+        writingIncluded = true;
+    }
+
+    /**
+     * Queues a resource referenced through a relationship for the "included" section, unless a resource with the same
+     * type and id was already written out or queued
+     * @param resource
+     * @param id
+     */
+    public void include(
+            Object resource,
+            Object id) {
+        if(includeTree == null) {
+            int resourceNumber = mark(resource.getClass(), id);
+            if(resourceNumber >= 0) {
+                queue(resource, id, resourceNumber, null, false);
+            }
+            return;
+        } else if(relationshipNode == null) {
+            // Not on any "include" path, the resource linkage is all that gets written //
+            return;
+        }
+
+        int resourceNumber = mark(resource.getClass(), id);
+        if(resourceNumber >= 0) {
+            List<JsonApiIncludeTree> nodes = new ArrayList<JsonApiIncludeTree>(1);
+            nodes.add(relationshipNode);
+            expandedNodes.put(resourceNumber, nodes);
+            queue(resource, id, resourceNumber, relationshipNode, false);
+        } else if(relationshipNode.hasChildren()) {
+            // Already written out (or queued), but its relationships may still have to be expanded along this path //
+            resourceNumber = -(resourceNumber + 1);
+            List<JsonApiIncludeTree> nodes = expandedNodes.get(resourceNumber);
+            if(nodes == null) {
+                nodes = new ArrayList<JsonApiIncludeTree>(2);
+                nodes.add(includeTree);
+                expandedNodes.put(resourceNumber, nodes);
+            }
+            if(!nodes.contains(relationshipNode)) {
+                nodes.add(relationshipNode);
+                queue(resource, id, resourceNumber, relationshipNode, true);
+            }
+        }
+    }
+
+    /**
+     * Creates an empty context, with the same sparse fieldsets, to write out one chunk of resources in parallel with.
+     * Only used when everything reachable is to be included.
+     * @return
+     */
+    public JsonApiTraversalContext createChunkContext() {
+        return new JsonApiTraversalContext(fieldsets, null);
+    }
+
+    /**
+     * Queues the resources a chunk context discovered, in the order it discovered them, as if they were discovered
+     * through this context. Merging the chunks in order yields the same queue as writing the chunks out sequentially.
+     * @param chunkContext
+     */
+    public void mergeIncludes(
+            JsonApiTraversalContext chunkContext) {
+        for(int i = 0; i < chunkContext.includes.size(); i++) {
+            include(chunkContext.includes.get(i), chunkContext.includeIds.get(i));
+        }
+    }
+
+    /**
+     * Sets the "include" path node of the resource about to be written out (or expanded)
+     * @param includeNode
+     */
+    public void startResource(
+            JsonApiIncludeTree includeNode) {
+        if(includeTree != null) {
+            resourceNode = includeNode;
+            relationshipNode = includeNode;
+        }
+    }
+
+    /**
+     * Sets the relationship (of the current resource) about to be written out (or expanded)
+     * @param relationship
+     */
+    public void startRelationship(
+            String relationship) {
+        this.relationship = relationship;
+        if(includeTree != null) {
+            relationshipNode = resourceNode == null ? null : resourceNode.fetchChild(relationship);
+        }
+    }
+
+    /**
+     * Sets the link template and id of the resource whose relationships are about to be written out, from which the
+     * relationships' "self" and "related" links are derived; a null template (as after the relationships were
+     * written out) writes none
+     * @param linkTemplate
+     * @param id
+     */
+    public void startRelationships(
+            JsonApiLinkTemplate linkTemplate,
+            Object id) {
+        relationshipLinkTemplate = linkTemplate;
+        relationshipLinkId = id;
+    }
+
+    /**
+     * Writes out the "self" and "related" links of the relationship being written out, if its resource has a link
+     * template; returns whether or not any were written
+     * @param jsonGenerator
+     * @return
+     * @throws IOException
+     */
+    public boolean writeRelationshipLinks(
+            JsonGenerator jsonGenerator) throws IOException {
+        if(relationshipLinkTemplate == null) {
+            return false;
+        }
+        relationshipLinkTemplate.writeRelationshipLinks(relationshipLinkId, relationship, this, jsonGenerator);
+        return true;
+    }
+
+    /**
+     * Returns whether or not the relationship being written out gets "self" and "related" links
+     * @return
+     */
+    public boolean hasRelationshipLinks() {
+        return relationshipLinkTemplate != null;
+    }
+
+    /**
+     * Returns the scratch buffer templated links are rendered into, grown to at least the passed in length
+     * @param length
+     * @return
+     */
+    public char[] fetchLinkBuffer(
+            int length) {
+        if(linkBuffer == null || linkBuffer.length < length) {
+            linkBuffer = new char[Math.max(length, linkBuffer == null ? INITIAL_LINK_BUFFER_LENGTH : linkBuffer.length * 2)];
+        }
+        return linkBuffer;
+    }
+
+    /**
+     * Returns the resources queued for the "included" section, in the order they were discovered. The list keeps
+     * growing while the queued resources are themselves being written out, so iterate it by index.
+     * @return
+     */
+    public List<Object> getIncludes() {
+        return this.includes;
+    }
+
+    /**
+     * Returns the "include" path node the queued resource at the passed in index was reached along, or null if
+     * everything is to be included
+     * @param index
+     * @return
+     */
+    public JsonApiIncludeTree fetchIncludeNode(
+            int index) {
+        return includeTree == null ? null : includeNodes.get(index);
+    }
+
+    /**
+     * Returns whether or not the queued resource at the passed in index was already written out (in the "included"
+     * section, or as primary data), and at most needs its relationships expanded
+     * @param index
+     * @return
+     */
+    public boolean isWrittenOut(
+            int index) {
+        return (includeTree != null && expandOnly.get(index)) || primaryResources.get(includeResources[index]);
+    }
+
+    /**
+     * Returns the compiled "include" paths, or null if everything reachable is to be included
+     * @return
+     */
+    public JsonApiIncludeTree getIncludeTree() {
+        return this.includeTree;
+    }
+
+    /**
+     * Returns the sparse fieldset requested for the passed in JsonAPI type, or null if every field is to be written
+     * out
+     * @param typeName
+     * @return
+     */
+    public Set<String> fetchFieldset(
+            String typeName) {
+        return fieldsets == null ? null : fieldsets.get(typeName);
+    }
+
+    /**
+     * Returns whether or not any sparse fieldsets were requested at all
+     * @return
+     */
+    public boolean hasFieldsets() {
+        return fieldsets != null;
+    }
+
+    /////////////////////
+    // Private Methods //
+    /////////////////////
+
+    private void queue(
+            Object resource,
+            Object id,
+            int resourceNumber,
+            JsonApiIncludeTree includeNode,
+            boolean expandOnly) {
+        if(includes.size() == includeResources.length) {
+            includeResources = Arrays.copyOf(includeResources, includeResources.length * 2);
+        }
+        includeResources[includes.size()] = resourceNumber;
+        includes.add(resource);
+        includeIds.add(id);
+
+        if(includeTree != null) {
+            includeNodes.add(includeNode);
+            this.expandOnly.add(expandOnly);
+        }
+    }
+
+    // Records the resource, returning its (new) resource number, or -(resource number + 1) if a resource with the same
+    // type and id was recorded before //
+    private int mark(
+            Class<?> type,
+            Object id) {
+        int typeIndex = TYPE_INDICES.get(type);
+        if(id instanceof Long || id instanceof Integer || id instanceof Short || id instanceof Byte) {
+            return markLongId(typeIndex, ((Number) id).longValue());
+        } else {
+            return markStringId(typeIndex, id.toString());
+        }
+    }
+
+    private int markLongId(
+            int typeIndex,
+            long id) {
+        if((resourceCount + 1) * 2 > longIds.length) {
+            growLongIds();
+        }
+
+        int typeSlot = typeIndex + 1;
+        int mask = longIds.length - 1;
+        int slot = hash(typeSlot, id) & mask;
+        while(longIdTypes[slot] != 0) {
+            if(longIdTypes[slot] == typeSlot && longIds[slot] == id) {
+                return -(longIdResources[slot] + 1);
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        longIdTypes[slot] = typeSlot;
+        longIds[slot] = id;
+        longIdResources[slot] = resourceCount;
+        return resourceCount++;
+    }
+
+    private void growLongIds() {
+        int[] oldTypes = longIdTypes;
+        long[] oldIds = longIds;
+        int[] oldResources = longIdResources;
+        longIdTypes = new int[oldIds.length * 2];
+        longIds = new long[oldIds.length * 2];
+        longIdResources = new int[oldIds.length * 2];
+
+        int mask = longIds.length - 1;
+        for(int i = 0; i < oldIds.length; i++) {
+            if(oldTypes[i] != 0) {
+                int slot = hash(oldTypes[i], oldIds[i]) & mask;
+                while(longIdTypes[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                longIdTypes[slot] = oldTypes[i];
+                longIds[slot] = oldIds[i];
+                longIdResources[slot] = oldResources[i];
+            }
+        }
+    }
+
+    private int markStringId(
+            int typeIndex,
+            String id) {
+        if(stringIds == null) {
+            stringIdTypes = new int[INITIAL_CAPACITY];
+            stringIds = new String[INITIAL_CAPACITY];
+            stringIdResources = new int[INITIAL_CAPACITY];
+        } else if((stringIdCount + 1) * 2 > stringIds.length) {
+            growStringIds();
+        }
+
+        int typeSlot = typeIndex + 1;
+        int mask = stringIds.length - 1;
+        int slot = hash(typeSlot, id.hashCode()) & mask;
+        while(stringIdTypes[slot] != 0) {
+            if(stringIdTypes[slot] == typeSlot && stringIds[slot].equals(id)) {
+                return -(stringIdResources[slot] + 1);
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        stringIdTypes[slot] = typeSlot;
+        stringIds[slot] = id;
+        stringIdResources[slot] = resourceCount;
+        stringIdCount++;
+        return resourceCount++;
+    }
+
+    private void growStringIds() {
+        int[] oldTypes = stringIdTypes;
+        String[] oldIds = stringIds;
+        int[] oldResources = stringIdResources;
+        stringIdTypes = new int[oldIds.length * 2];
+        stringIds = new String[oldIds.length * 2];
+        stringIdResources = new int[oldIds.length * 2];
+
+        int mask = stringIds.length - 1;
+        for(int i = 0; i < oldIds.length; i++) {
+            if(oldTypes[i] != 0) {
+                int slot = hash(oldTypes[i], oldIds[i].hashCode()) & mask;
+                while(stringIdTypes[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                stringIdTypes[slot] = oldTypes[i];
+                stringIds[slot] = oldIds[i];
+                stringIdResources[slot] = oldResources[i];
+            }
+        }
+    }
+
+    private static int hash(
+            int typeSlot,
+            long id) {
+        long hash = (id ^ ((long) typeSlot << 32)) * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+}
@@ -0,0 +1,135 @@
+package com.cradlepoint.jsonapiary.serializers.helpers;
+
+import com.cradlepoint.jsonapiary.descriptors.MemberDescriptor;
+import com.cradlepoint.jsonapiary.descriptors.ResourceDescriptor;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializer;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The attributes object of a JsonAPI type, written out by (a copy of) the type's own Jackson BeanSerializer limited to
+ * the type's attribute members: every Jackson annotation, and every optimization the ObjectMapper applies to its
+ * property writers, applies to the attributes as well. The properties are renamed to the JsonAPI attribute keys, and
+ * ordered the way the reflective path orders them; null values are written out (or not) as Jackson's inclusion rules
+ * say.
+ */
+public class AttributesBeanSerializer extends BeanSerializer {
+
+    /////////////////
+    // Constructor //
+    /////////////////
+
+    /**
+     * Constructor
+     * @param beanSerializer
+     * @param ignoredProperties
+     * @param keysByProperty
+     */
+    private AttributesBeanSerializer(
+            BeanSerializerBase beanSerializer,
+            Set<String> ignoredProperties,
+            Map<String, String> keysByProperty) {
+        super(beanSerializer, ignoredProperties);
+
+        // Order (and rename) the remaining properties as the attribute members are ordered //
+        BeanPropertyWriter[] properties = _props.clone();
+        BeanPropertyWriter[] filteredProperties = _filteredProps == null ? null : _filteredProps.clone();
+        List<String> propertyOrder = new ArrayList<String>(keysByProperty.keySet());
+        for(int i = 0; i < properties.length; i++) {
+            int index = propertyOrder.indexOf(properties[i].getName());
+            NameTransformer keyTransformer = renameTo(keysByProperty.get(properties[i].getName()));
+            _props[index] = properties[i].rename(keyTransformer);
+            if(filteredProperties != null && filteredProperties[i] != null) {
+                _filteredProps[index] = filteredProperties[i].rename(keyTransformer);
+            }
+        }
+    }
+
+    ////////////////////
+    // Public Methods //
+    ////////////////////
+
+    /**
+     * Derives the attributes serializer of the passed in type from the type's Jackson serializer. Returns null if the
+     * type is not serialized by a plain BeanSerializer (e.g. it has a custom serializer, an object id or an any-getter),
+     * or if one of its attribute members is not a Jackson property; such types keep being serialized member by member.
+     * @param resourceDescriptor
+     * @param beanSerializer
+     * @param serializerProvider
+     * @return
+     */
+    public static JsonSerializer<Object> create(
+            ResourceDescriptor resourceDescriptor,
+            JsonSerializer<?> beanSerializer,
+            SerializerProvider serializerProvider) {
+        if(beanSerializer == null || beanSerializer.getClass() != BeanSerializer.class ||
+                ((BeanSerializer) beanSerializer).usesObjectId()) {
+            return null;
+        }
+
+        // Map the attribute members onto Jackson properties //
+        BeanDescription beanDescription = serializerProvider.getConfig().introspect(
+                serializerProvider.constructType(resourceDescriptor.getType()));
+        Map<String, String> keysByProperty = new LinkedHashMap<String, String>();
+        for(MemberDescriptor member : resourceDescriptor.getAttributes()) {
+            BeanPropertyDefinition property = member.findPropertyDefinition(beanDescription);
+            if(property == null || keysByProperty.containsKey(property.getName())) {
+                return null;
+            }
+            keysByProperty.put(property.getName(), member.getKey());
+        }
+
+        // Drop every other property //
+        Set<String> ignoredProperties = new HashSet<String>();
+        Set<String> writtenProperties = new HashSet<String>();
+        for(Iterator<PropertyWriter> properties = ((BeanSerializer) beanSerializer).properties(); properties.hasNext(); ) {
+            String propertyName = properties.next().getName();
+            if(keysByProperty.containsKey(propertyName)) {
+                writtenProperties.add(propertyName);
+            } else {
+                ignoredProperties.add(propertyName);
+            }
+        }
+        if(writtenProperties.size() != keysByProperty.size()) {
+            return null;
+        }
+
+        AttributesBeanSerializer attributesSerializer = new AttributesBeanSerializer(
+                (BeanSerializerBase) beanSerializer, ignoredProperties, keysByProperty);
+        return attributesSerializer._anyGetterWriter == null ? attributesSerializer : null;
+    }
+
+    /////////////////////
+    // Private Methods //
+    /////////////////////
+
+    private static NameTransformer renameTo(
+            final String key) {
+        return new NameTransformer() {
+            @Override
+            public String transform(String name) {
+                return key;
+            }
+
+            @Override
+            public String reverse(String transformed) {
+                return null;
+            }
+        };
+    }
+
+}
@@ -15,7 +15,7 @@ public final class JsonApiError implements Iterable<JsonApiError> {
     private String title;
     private String detail;
     private String sourcePointer;
-    private Map<String, URL> links;
+    private Map<String, Link> links;
     private Map<String, Object> meta;
     private JsonApiError nextError;
 
@@ -27,7 +27,7 @@ public final class JsonApiError implements Iterable<JsonApiError> {
      * void constructor
      */
     public JsonApiError() {
-        links = new Hashtable<String, URL>();
+        links = new Hashtable<String, Link>();
         meta = new Hashtable<String, Object>();
         nextError = null;
     }
@@ -231,7 +231,7 @@ public final class JsonApiError implements Iterable<JsonApiError> {
      * Returns the Links of the "current" individual error
      * @return
      */
-    public Map<String, URL> getLinks() {
+    public Map<String, Link> getLinks() {
         return this.links;
     }
 
@@ -242,6 +242,28 @@ public final class JsonApiError implements Iterable<JsonApiError> {
      * @return
      */
     public JsonApiError withLink(String key, URL link) {
+        this.links.put(key, new Link(link.toString()));
+        return this;
+    }
+
+    /**
+     * Adds a Link, by its href, to the "current" individual error
+     * @param key
+     * @param href
+     * @return
+     */
+    public JsonApiError withLink(String key, String href) {
+        this.links.put(key, new Link(href));
+        return this;
+    }
+
+    /**
+     * Adds a Link (which may have meta of its own) to the "current" individual error
+     * @param key
+     * @param link
+     * @return
+     */
+    public JsonApiError withLink(String key, Link link) {
         this.links.put(key, link);
         return this;
     }
@@ -281,7 +303,7 @@ public final class JsonApiError implements Iterable<JsonApiError> {
         this.title = null;
         this.detail = null;
         this.sourcePointer = null;
-        this.links = new Hashtable<String, URL>();
+        this.links = new Hashtable<String, Link>();
         this.meta = new Hashtable<String, Object>();
         this.nextError = clone;
         return this;
@@ -0,0 +1,160 @@
+package com.cradlepoint.jsonapiary.types;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A JsonAPI link: an "href", written out as a plain string, or as a link object ("href" and "meta") if the link has
+ * meta. The href is kept as the string it was created from; it is only parsed (into a URI, which, unlike a URL, never
+ * resolves hosts or looks up protocol handlers) when asked to.
+ */
+public final class Link {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    private final String href;
+
+    private final Map<String, Object> meta;
+
+    /////////////////
+    // Constructor //
+    /////////////////
+
+    /**
+     * Constructor
+     * @param href
+     */
+    public Link(
+            String href) {
+        this(href, null);
+    }
+
+    /**
+     * Constructor
+     * @param href
+     * @param meta
+     */
+    public Link(
+            String href,
+            Map<String, Object> meta) {
+        if(href == null) {
+            String issue = "A link must have an href!";
+            throw new IllegalArgumentException(issue);
+        }
+
+        this.href = href;
+        this.meta = meta == null || meta.isEmpty() ?
+                Collections.<String, Object>emptyMap() :
+                Collections.unmodifiableMap(new LinkedHashMap<String, Object>(meta));
+    }
+
+    ////////////////////
+    // Public Methods //
+    ////////////////////
+
+    /**
+     * Returns the passed in value as a Link: Links as is, anything else (URLs, URIs, Strings...) by its "toString()"
+     * @param value
+     * @return
+     */
+    public static Link from(
+            Object value) {
+        if(value instanceof Link) {
+            return (Link) value;
+        }
+        return new Link(value.toString());
+    }
+
+    /**
+     * Returns a copy of this link, with the passed in meta element added
+     * @param key
+     * @param value
+     * @return
+     */
+    public Link withMeta(
+            String key,
+            Object value) {
+        Map<String, Object> newMeta = new LinkedHashMap<String, Object>(meta);
+        newMeta.put(key, value);
+        return new Link(href, newMeta);
+    }
+
+    /**
+     * Verifies the href is an absolute URI (e.g. "https://example.com/things/1"); returns this link
+     * @return
+     */
+    public Link validate() {
+        try {
+            if(new URI(href).isAbsolute()) {
+                return this;
+            }
+        } catch(URISyntaxException e) {
+            String issue = "The link href: " + href + " does not parse out into a valid URI.";
+            throw new IllegalArgumentException(issue, e);
+        }
+
+        String issue = "The link href: " + href + " is not an absolute URI (it has no scheme).";
+        throw new IllegalArgumentException(issue);
+    }
+
+    /**
+     * Parses the href into a URI
+     * @return
+     */
+    public URI toURI() {
+        return URI.create(href);
+    }
+
+    ///////////////
+    // Overrides //
+    ///////////////
+
+    @Override
+    public boolean equals(Object object) {
+        if(!(object instanceof Link)) {
+            return false;
+        }
+
+        Link other = (Link) object;
+        return this.href.equals(other.href) && this.meta.equals(other.meta);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+                href,
+                meta);
+    }
+
+    /**
+     * Returns the href
+     * @return
+     */
+    @Override
+    public String toString() {
+        return this.href;
+    }
+
+    /////////////////////////
+    // Getters and Setters //
+    /////////////////////////
+
+    public String getHref() {
+        return this.href;
+    }
+
+    public Map<String, Object> getMeta() {
+        return this.meta;
+    }
+
+    public boolean hasMeta() {
+        return !this.meta.isEmpty();
+    }
+
+}
@@ -48,7 +48,8 @@ public class ResourceLinkage {
             return false;
         }
 
-        return (this.hashCode() == object.hashCode());
+        ResourceLinkage other = (ResourceLinkage) object;
+        return this.type == other.type && Objects.equals(this.id, other.id);
     }
 
     @Override
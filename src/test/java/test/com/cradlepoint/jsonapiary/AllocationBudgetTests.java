@@ -0,0 +1,202 @@
+package test.com.cradlepoint.jsonapiary;
+
+import com.cradlepoint.jsonapiary.JsonApiModule;
+import com.cradlepoint.jsonapiary.envelopes.JsonApiEnvelope;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import test.com.cradlepoint.jsonapiary.pojos.AChildClass;
+import test.com.cradlepoint.jsonapiary.pojos.SingleLinkNode;
+
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+
+/**
+ * Measures the bytes allocated (by the serializing thread, through ThreadMXBean) per serialized and deserialized
+ * resource, and fails once a scenario allocates more than its budget in "allocation-budgets.properties", plus the
+ * tolerance. Budgets are meant to be lowered along with every allocation win, so that wins do not silently rot.
+ */
+public class AllocationBudgetTests {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    private static final String BUDGETS_RESOURCE = "/allocation-budgets.properties";
+
+    // How much a scenario may allocate beyond its budget before failing, to absorb JIT and JVM variations //
+    private static final double TOLERANCE = 0.2;
+
+    private static final int RESOURCES = 1000;
+
+    private static final int WARMUP_RUNS = 200;
+
+    private static final int MEASURED_RUNS = 20;
+
+    private static com.sun.management.ThreadMXBean threadMXBean;
+
+    private static Properties budgets;
+
+    private ObjectMapper objectMapper;
+
+    /////////////////
+    // Constructor //
+    /////////////////
+
+    public AllocationBudgetTests() {
+        objectMapper = new ObjectMapper();
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        objectMapper.registerModule(new JsonApiModule(SingleLinkNode.class, AChildClass.class));
+    }
+
+    ///////////
+    // Setup //
+    ///////////
+
+    @BeforeClass
+    public static void setup() throws Exception {
+        // Allocation counting is HotSpot specific: skip (rather than fail) wherever it is not available //
+        Assume.assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        budgets = new Properties();
+        try(InputStream budgetsStream = AllocationBudgetTests.class.getResourceAsStream(BUDGETS_RESOURCE)) {
+            budgets.load(budgetsStream);
+        }
+    }
+
+    ///////////
+    // Tests //
+    ///////////
+
+    @Test
+    public void serializeListTest() throws Exception {
+        final JsonApiEnvelope<List<SingleLinkNode>> envelope =
+                new JsonApiEnvelope<List<SingleLinkNode>>(createNodes(false));
+        assertWithinBudget("serializeList", new Callable<Object>() {
+            @Override
+            public Object call() throws Exception {
+                return objectMapper.writeValueAsBytes(envelope);
+            }
+        });
+    }
+
+    @Test
+    public void serializeIncludedChainTest() throws Exception {
+        final JsonApiEnvelope<SingleLinkNode> envelope = new JsonApiEnvelope<SingleLinkNode>(createNodes(true).get(0));
+        assertWithinBudget("serializeIncludedChain", new Callable<Object>() {
+            @Override
+            public Object call() throws Exception {
+                return objectMapper.writeValueAsBytes(envelope);
+            }
+        });
+    }
+
+    @Test
+    public void serializeChildClassListTest() throws Exception {
+        List<AChildClass> children = new ArrayList<AChildClass>();
+        for(int i = 0; i < RESOURCES; i++) {
+            AChildClass child = new AChildClass();
+            child.setWhoAmI("child-" + i);
+            child.setWhaz("whaz-" + i);
+            child.setMetaInt(i);
+            children.add(child);
+        }
+
+        final JsonApiEnvelope<List<AChildClass>> envelope = new JsonApiEnvelope<List<AChildClass>>(children);
+        assertWithinBudget("serializeChildClassList", new Callable<Object>() {
+            @Override
+            public Object call() throws Exception {
+                return objectMapper.writeValueAsBytes(envelope);
+            }
+        });
+    }
+
+    @Test
+    public void deserializeListTest() throws Exception {
+        final byte[] json = objectMapper.writeValueAsBytes(new JsonApiEnvelope<List<SingleLinkNode>>(createNodes(false)));
+        assertWithinBudget("deserializeList", new Callable<Object>() {
+            @Override
+            public Object call() throws Exception {
+                return objectMapper.readValue(json, JsonApiEnvelope.class);
+            }
+        });
+    }
+
+    @Test
+    public void deserializeIncludedChainTest() throws Exception {
+        final byte[] json = objectMapper.writeValueAsBytes(new JsonApiEnvelope<SingleLinkNode>(createNodes(true).get(0)));
+        assertWithinBudget("deserializeIncludedChain", new Callable<Object>() {
+            @Override
+            public Object call() throws Exception {
+                return objectMapper.readValue(json, JsonApiEnvelope.class);
+            }
+        });
+    }
+
+    /////////////////////
+    // Private Methods //
+    /////////////////////
+
+    /**
+     * Creates the nodes of a scenario, each linking to the next one if "chained"
+     * @param chained
+     * @return
+     */
+    private static List<SingleLinkNode> createNodes(
+            boolean chained) {
+        List<SingleLinkNode> nodes = new ArrayList<SingleLinkNode>();
+        for(long id = 0; id < RESOURCES; id++) {
+            SingleLinkNode node = new SingleLinkNode();
+            node.setId(id);
+            node.setValue("node-" + id);
+            if(chained && id > 0) {
+                nodes.get((int) id - 1).setLinkNode(node);
+            }
+            nodes.add(node);
+        }
+        return nodes;
+    }
+
+    /**
+     * Runs the scenario until warmed up, then asserts that the fewest bytes it allocated per resource over the measured
+     * runs are within its budget (plus the tolerance)
+     * @param scenario
+     * @param run
+     * @throws Exception
+     */
+    private static void assertWithinBudget(
+            String scenario,
+            Callable<Object> run) throws Exception {
+        String budget = budgets.getProperty(scenario);
+        Assert.assertNotNull("No allocation budget for scenario: " + scenario, budget);
+
+        for(int i = 0; i < WARMUP_RUNS; i++) {
+            run.call();
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long fewestBytes = Long.MAX_VALUE;
+        for(int i = 0; i < MEASURED_RUNS; i++) {
+            long before = threadMXBean.getThreadAllocatedBytes(threadId);
+            run.call();
+            fewestBytes = Math.min(fewestBytes, threadMXBean.getThreadAllocatedBytes(threadId) - before);
+        }
+
+        long bytesPerResource = fewestBytes / RESOURCES;
+        long allowedBytesPerResource = (long) (Long.parseLong(budget) * (1 + TOLERANCE));
+        Assert.assertTrue("Scenario: " + scenario + " allocated " + bytesPerResource + " bytes per resource, over " +
+                        "its budget of " + budget + " (" + allowedBytesPerResource + " with the tolerance)",
+                bytesPerResource <= allowedBytesPerResource);
+    }
+
+}
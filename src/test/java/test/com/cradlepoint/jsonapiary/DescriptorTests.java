@@ -0,0 +1,124 @@
+package test.com.cradlepoint.jsonapiary;
+
+import com.cradlepoint.jsonapiary.descriptors.MemberDeclaration;
+import com.cradlepoint.jsonapiary.descriptors.MemberDescriptor;
+import com.cradlepoint.jsonapiary.descriptors.MemberSerializerCache;
+import com.cradlepoint.jsonapiary.descriptors.ResourceDescriptor;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.junit.Assert;
+import org.junit.Test;
+import test.com.cradlepoint.jsonapiary.pojos.AChildClass;
+import test.com.cradlepoint.jsonapiary.pojos.SimpleObject;
+import test.com.cradlepoint.jsonapiary.pojos.TypeWithABoolean;
+import test.com.cradlepoint.jsonapiary.pojos.TypeWithFormattedAttributes;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+
+public class DescriptorTests {
+
+    /////////////////
+    // Constructor //
+    /////////////////
+
+    public DescriptorTests() { }
+
+    ///////////
+    // Tests //
+    ///////////
+
+    @Test
+    public void descriptorIsCachedPerClassTest() throws Exception {
+        Assert.assertSame(
+                ResourceDescriptor.forType(SimpleObject.class),
+                ResourceDescriptor.forType(SimpleObject.class));
+    }
+
+    @Test
+    public void catchAllAndIgnoreTest() throws Exception {
+        ResourceDescriptor resourceDescriptor = ResourceDescriptor.forType(SimpleObject.class);
+
+        Assert.assertEquals("SimpleObject", resourceDescriptor.getTypeName());
+        Assert.assertEquals(1, resourceDescriptor.getIds().size());
+        Assert.assertEquals("objectId", resourceDescriptor.getIds().get(0).getKey());
+        Assert.assertEquals(keysOf(resourceDescriptor.getAttributes()), listOf("objectAttribute"));
+        Assert.assertEquals(keysOf(resourceDescriptor.getMetas()), listOf("catchAllThing", "objectBlah"));
+        Assert.assertEquals(keysOf(resourceDescriptor.getRelationships()), listOf("someOtherRelationship", "someRelationship"));
+        Assert.assertTrue(resourceDescriptor.getLinks().isEmpty());
+    }
+
+    @Test
+    public void inheritedMembersTest() throws Exception {
+        ResourceDescriptor resourceDescriptor = ResourceDescriptor.forType(AChildClass.class);
+
+        Assert.assertEquals("AcHiLdClAsS", resourceDescriptor.getTypeName());
+        Assert.assertEquals("whoAmI", resourceDescriptor.getIds().get(0).getKey());
+        Assert.assertEquals(keysOf(resourceDescriptor.getAttributes()), listOf("metaInt", "whaz"));
+        Assert.assertEquals(keysOf(resourceDescriptor.getMetas()), listOf("jsonApiOverride"));
+        Assert.assertEquals(keysOf(resourceDescriptor.getRelationships()), listOf("whatDoIHave"));
+    }
+
+    @Test
+    public void compiledAccessorsTest() throws Exception {
+        MemberDescriptor boolMember = ResourceDescriptor.forType(TypeWithABoolean.class).getAttributes().get(0);
+        Assert.assertTrue(boolMember.isReadable());
+        Assert.assertTrue(boolMember.isWritable());
+
+        TypeWithABoolean typeWithABoolean = new TypeWithABoolean();
+        boolMember.setValue(typeWithABoolean, true);
+        Assert.assertEquals(true, typeWithABoolean.isBool());
+        Assert.assertEquals(true, boolMember.getValue(typeWithABoolean));
+    }
+
+    @Test
+    public void memberSerializersKeptPerMapperTest() throws Exception {
+        MemberDeclaration createdMember = null;
+        for(MemberDescriptor member : ResourceDescriptor.forType(TypeWithFormattedAttributes.class).getAttributes()) {
+            if(member.getKey().equals("created")) {
+                createdMember = member.getDeclaration();
+            }
+        }
+        Assert.assertNotNull(createdMember);
+
+        // Two differently configured ObjectMappers, used in turn //
+        ObjectMapper firstObjectMapper = new ObjectMapper();
+        ObjectMapper secondObjectMapper = firstObjectMapper.copy();
+        secondObjectMapper.setTimeZone(TimeZone.getTimeZone("America/Denver"));
+        SerializerProvider firstProvider = firstObjectMapper.getSerializerProviderInstance();
+        SerializerProvider secondProvider = secondObjectMapper.getSerializerProviderInstance();
+
+        MemberSerializerCache memberSerializers = new MemberSerializerCache();
+        Date created = new Date(0l);
+        JsonSerializer<Object> firstSerializer = memberSerializers.fetchSerializer(createdMember, created, firstProvider);
+        JsonSerializer<Object> secondSerializer = memberSerializers.fetchSerializer(createdMember, created, secondProvider);
+
+        // Neither mapper evicts the other's serializers //
+        Assert.assertSame(firstSerializer, memberSerializers.fetchSerializer(createdMember, created, firstProvider));
+        Assert.assertSame(secondSerializer, memberSerializers.fetchSerializer(createdMember, created, secondProvider));
+    }
+
+    /////////////////////
+    // Private Methods //
+    /////////////////////
+
+    private static List<String> keysOf(List<MemberDescriptor> members) {
+        List<String> keys = new ArrayList<String>();
+        for(MemberDescriptor member : members) {
+            keys.add(member.getKey());
+        }
+        return keys;
+    }
+
+    private static List<String> listOf(String ... keys) {
+        List<String> list = new ArrayList<String>();
+        for(String key : keys) {
+            list.add(key);
+        }
+        return list;
+    }
+
+}
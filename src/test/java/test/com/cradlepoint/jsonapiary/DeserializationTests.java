@@ -2,13 +2,22 @@ package test.com.cradlepoint.jsonapiary;
 
 import com.cradlepoint.jsonapiary.JsonApiModule;
 import com.cradlepoint.jsonapiary.envelopes.JsonApiEnvelope;
+import com.cradlepoint.jsonapiary.types.Link;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import org.junit.Assert;
 import org.junit.Test;
 import test.com.cradlepoint.jsonapiary.pojos.*;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 public class DeserializationTests {
 
     ////////////////
@@ -59,4 +68,324 @@ public class DeserializationTests {
         Assert.assertNotNull(jsonApiEnvelope.getData());
         Assert.assertEquals(false, jsonApiEnvelope.getData().isBool());
     }
+
+    @Test
+    public void registerTypesAtRuntimeTest() throws Exception {
+        // Init Test Objects //
+        JsonApiModule jsonApiModule = new JsonApiModule(SimpleObject.class);
+        ObjectMapper runtimeObjectMapper = new ObjectMapper();
+        runtimeObjectMapper.registerModule(jsonApiModule);
+
+        String json = "{\n" +
+                "  \"data\" : {\n" +
+                "    \"type\" : \"TypeWithABoolean\",\n" +
+                "    \"attributes\" : {\n" +
+                "      \"bool\" : true\n" +
+                "    }\n" +
+                "  }\n" +
+                "}";
+
+        // Verify the type is unknown until it is registered //
+        try {
+            runtimeObjectMapper.readValue(json, JsonApiEnvelope.class);
+            Assert.fail("Deserialized an unregistered type");
+        } catch(IllegalStateException e) {
+            Assert.assertTrue(e.getMessage().startsWith("Unknown/Unexpected type: TypeWithABoolean"));
+        }
+
+        // Register, Deserialize and Verify //
+        jsonApiModule.registerTypes(TypeWithABoolean.class);
+        JsonApiEnvelope<TypeWithABoolean> jsonApiEnvelope = runtimeObjectMapper.readValue(json, JsonApiEnvelope.class);
+        Assert.assertEquals(true, jsonApiEnvelope.getData().isBool());
+    }
+
+    @Test
+    public void warmUpTest() throws Exception {
+        // Init Test Objects //
+        JsonApiModule jsonApiModule = new JsonApiModule(
+                SimpleObject.class,
+                SimpleSubObject.class,
+                SimpleNestedSubObject.class,
+                SingleLinkNode.class,
+                AChildClass.class,
+                TypeWithABoolean.class,
+                TypeWithALink.class,
+                TypeWithFormattedAttributes.class);
+        ObjectMapper warmObjectMapper = new ObjectMapper();
+        warmObjectMapper.registerModule(jsonApiModule);
+
+        // Warm Up and Verify //
+        Map<Class<?>, Long> timings = jsonApiModule.warmUp(warmObjectMapper, true);
+        Assert.assertEquals(8, timings.size());
+        Assert.assertTrue(timings.containsKey(TypeWithFormattedAttributes.class));
+        for(Long timing : timings.values()) {
+            Assert.assertTrue(timing > 0);
+        }
+    }
+
+    @Test
+    public void warmUpValidatesTypesTest() throws Exception {
+        // Init Test Objects //
+        JsonApiModule jsonApiModule = new JsonApiModule(SimpleObject.class, TypeWithoutVoidConstructor.class);
+        ObjectMapper warmObjectMapper = new ObjectMapper();
+        warmObjectMapper.registerModule(jsonApiModule);
+
+        // Warm Up and Verify //
+        try {
+            jsonApiModule.warmUp(warmObjectMapper, false);
+            Assert.fail("Warmed up a type without a public void constructor");
+        } catch(IllegalStateException e) {
+            Assert.assertEquals(
+                    "No public default void constructor found on type: " + TypeWithoutVoidConstructor.class.getName(),
+                    e.getMessage());
+        }
+    }
+
+    @Test
+    public void deserializeMembersInAnyOrderTest() throws Exception {
+        // Init Test Objects (meta before data, members before type and id, relationships to resources further down) //
+        String json = "{\n" +
+                "  \"meta\" : {\n" +
+                "    \"page\" : \"1\"\n" +
+                "  },\n" +
+                "  \"data\" : [ {\n" +
+                "    \"attributes\" : {\n" +
+                "      \"objectAttribute\" : \"first\"\n" +
+                "    },\n" +
+                "    \"relationships\" : {\n" +
+                "      \"someRelationship\" : {\n" +
+                "        \"data\" : [ {\n" +
+                "          \"id\" : \"2\",\n" +
+                "          \"type\" : \"SimpleObject\"\n" +
+                "        } ]\n" +
+                "      },\n" +
+                "      \"someOtherRelationship\" : {\n" +
+                "        \"data\" : {\n" +
+                "          \"type\" : \"TypeOverride\",\n" +
+                "          \"id\" : \"sub\"\n" +
+                "        }\n" +
+                "      }\n" +
+                "    },\n" +
+                "    \"type\" : \"SimpleObject\",\n" +
+                "    \"id\" : \"1\"\n" +
+                "  }, {\n" +
+                "    \"id\" : \"2\",\n" +
+                "    \"type\" : \"SimpleObject\",\n" +
+                "    \"attributes\" : {\n" +
+                "      \"objectAttribute\" : \"second\"\n" +
+                "    }\n" +
+                "  } ],\n" +
+                "  \"included\" : [ {\n" +
+                "    \"type\" : \"TypeOverride\",\n" +
+                "    \"attributes\" : {\n" +
+                "      \"BAZ\" : \"baz\"\n" +
+                "    },\n" +
+                "    \"id\" : \"sub\"\n" +
+                "  } ]\n" +
+                "}";
+
+        // Deserialize and Verify //
+        JsonApiEnvelope<List<SimpleObject>> jsonApiEnvelope = objectMapper.readValue(json, JsonApiEnvelope.class);
+        Assert.assertNotNull(jsonApiEnvelope);
+        Assert.assertEquals("1", jsonApiEnvelope.getMeta().get("page"));
+
+        List<SimpleObject> simpleObjects = jsonApiEnvelope.getData();
+        Assert.assertEquals(2, simpleObjects.size());
+        Assert.assertEquals("first", simpleObjects.get(0).getAttribute());
+        Assert.assertEquals("second", simpleObjects.get(1).getAttribute());
+        Assert.assertSame(simpleObjects.get(1), simpleObjects.get(0).getThing().get(0));
+        Assert.assertEquals("sub", simpleObjects.get(0).getThing2().getId());
+        Assert.assertEquals("baz", simpleObjects.get(0).getThing2().getBaz());
+    }
+
+    @Test
+    public void deserializeAttributesWithParserFeaturesTest() throws Exception {
+        // Init Test Objects (attributes are bound straight off of the mapper's parser, so its features apply) //
+        ObjectMapper lenientObjectMapper = new ObjectMapper();
+        lenientObjectMapper.enable(JsonParser.Feature.ALLOW_NON_NUMERIC_NUMBERS);
+        lenientObjectMapper.registerModule(new JsonApiModule(TypeWithFormattedAttributes.class));
+
+        String json = "{\n" +
+                "  \"data\" : {\n" +
+                "    \"type\" : \"formatted\",\n" +
+                "    \"id\" : \"7\",\n" +
+                "    \"attributes\" : {\n" +
+                "      \"anything\" : NaN\n" +
+                "    }\n" +
+                "  }\n" +
+                "}";
+
+        // Deserialize and Verify //
+        JsonApiEnvelope<TypeWithFormattedAttributes> jsonApiEnvelope =
+                lenientObjectMapper.readValue(json, JsonApiEnvelope.class);
+        Assert.assertNotNull(jsonApiEnvelope);
+        Assert.assertEquals(Long.valueOf(7), jsonApiEnvelope.getData().getId());
+        Assert.assertEquals(Double.NaN, jsonApiEnvelope.getData().getAnything());
+    }
+
+    @Test
+    public void deserializeCircularRelationshipsTest() throws Exception {
+        // Init Test Objects (two nodes linked to each other) //
+        String json = "{\n" +
+                "  \"data\" : {\n" +
+                "    \"type\" : \"node\",\n" +
+                "    \"id\" : \"1\",\n" +
+                "    \"relationships\" : {\n" +
+                "      \"link\" : {\n" +
+                "        \"data\" : {\n" +
+                "          \"type\" : \"node\",\n" +
+                "          \"id\" : \"2\"\n" +
+                "        }\n" +
+                "      }\n" +
+                "    }\n" +
+                "  },\n" +
+                "  \"included\" : [ {\n" +
+                "    \"type\" : \"node\",\n" +
+                "    \"id\" : \"2\",\n" +
+                "    \"relationships\" : {\n" +
+                "      \"link\" : {\n" +
+                "        \"data\" : {\n" +
+                "          \"type\" : \"node\",\n" +
+                "          \"id\" : \"1\"\n" +
+                "        }\n" +
+                "      }\n" +
+                "    }\n" +
+                "  } ]\n" +
+                "}";
+
+        // Deserialize and Verify //
+        JsonApiEnvelope<SingleLinkNode> jsonApiEnvelope = objectMapper.readValue(json, JsonApiEnvelope.class);
+        SingleLinkNode node1 = jsonApiEnvelope.getData();
+        SingleLinkNode node2 = node1.getLinkNode();
+        Assert.assertEquals(Long.valueOf(2), node2.getId());
+        Assert.assertSame(node1, node2.getLinkNode());
+    }
+
+    @Test
+    public void typedEnvelopeDeserializationTest() throws Exception {
+        // Init Test Objects (the second node is listed twice) //
+        String json = "{\n" +
+                "  \"data\" : [ {\n" +
+                "    \"type\" : \"node\",\n" +
+                "    \"id\" : \"1\",\n" +
+                "    \"attributes\" : {\n" +
+                "      \"value\" : \"one\"\n" +
+                "    }\n" +
+                "  }, {\n" +
+                "    \"type\" : \"node\",\n" +
+                "    \"id\" : \"2\"\n" +
+                "  }, {\n" +
+                "    \"type\" : \"node\",\n" +
+                "    \"id\" : \"2\"\n" +
+                "  } ]\n" +
+                "}";
+
+        // Deserialize and Verify, into the requested Collection types //
+        JsonApiEnvelope<List<SingleLinkNode>> listEnvelope = objectMapper
+                .readerFor(new TypeReference<JsonApiEnvelope<List<SingleLinkNode>>>() { })
+                .readValue(json);
+        Assert.assertEquals(ArrayList.class, listEnvelope.getData().getClass());
+        Assert.assertEquals(3, listEnvelope.getData().size());
+        Assert.assertEquals("one", listEnvelope.getData().get(0).getValue());
+        Assert.assertSame(listEnvelope.getData().get(1), listEnvelope.getData().get(2));
+
+        JsonApiEnvelope<Set<SingleLinkNode>> setEnvelope = objectMapper
+                .readerFor(new TypeReference<JsonApiEnvelope<Set<SingleLinkNode>>>() { })
+                .readValue(json);
+        Assert.assertEquals(2, setEnvelope.getData().size());
+
+        // Deserialize and Verify, a sub-type of the requested type //
+        JsonApiEnvelope<ABaseClass> baseEnvelope = objectMapper
+                .readerFor(new TypeReference<JsonApiEnvelope<ABaseClass>>() { })
+                .readValue("{\"data\":{\"type\":\"AcHiLdClAsS\",\"id\":\"me\"}}");
+        Assert.assertEquals(AChildClass.class, baseEnvelope.getData().getClass());
+        Assert.assertEquals("me", baseEnvelope.getData().getWhoAmI());
+
+        // Verify resources of another type are rejected //
+        try {
+            objectMapper.readerFor(new TypeReference<JsonApiEnvelope<SimpleObject>>() { })
+                    .readValue("{\"data\":{\"type\":\"node\",\"id\":\"1\"}}");
+            Assert.fail("Deserialized a node as a SimpleObject");
+        } catch(JsonMappingException e) {
+            Assert.assertTrue(e.getMessage().startsWith("Expected a resource of type " + SimpleObject.class.getName()));
+        }
+
+        // Verify an array is rejected as a single resource //
+        try {
+            objectMapper.readerFor(new TypeReference<JsonApiEnvelope<SingleLinkNode>>() { }).readValue(json);
+            Assert.fail("Deserialized an array as a single resource");
+        } catch(JsonMappingException e) {
+            Assert.assertTrue(e.getMessage().startsWith("Expected a single resource"));
+        }
+    }
+
+    @Test
+    public void deserializeLinksTest() throws Exception {
+        // Init Test Objects (a plain link, and a link object) //
+        String json = "{\n" +
+                "  \"data\" : {\n" +
+                "    \"type\" : \"TypeWithABoolean\",\n" +
+                "    \"id\" : \"1\"\n" +
+                "  },\n" +
+                "  \"links\" : {\n" +
+                "    \"self\" : \"https://example.com/booleans/1\",\n" +
+                "    \"related\" : {\n" +
+                "      \"href\" : \"https://example.com/booleans\",\n" +
+                "      \"meta\" : {\n" +
+                "        \"count\" : 10\n" +
+                "      }\n" +
+                "    }\n" +
+                "  }\n" +
+                "}";
+
+        // Deserialize and Verify //
+        JsonApiEnvelope<TypeWithABoolean> jsonApiEnvelope = objectMapper.readValue(json, JsonApiEnvelope.class);
+        Assert.assertEquals(new Link("https://example.com/booleans/1"), jsonApiEnvelope.getLinks().get("self"));
+        Link related = jsonApiEnvelope.getLinks().get("related");
+        Assert.assertEquals("https://example.com/booleans", related.getHref());
+        Assert.assertEquals(10, related.getMeta().get("count"));
+        Assert.assertEquals("example.com", related.toURI().getHost());
+
+        // Verify relative links are rejected, unless link validation is disabled //
+        String relativeJson = json.replace("https://example.com", "");
+        try {
+            objectMapper.readValue(relativeJson, JsonApiEnvelope.class);
+            Assert.fail("Deserialized a relative link");
+        } catch(IllegalStateException e) {
+            Assert.assertTrue(e.getMessage().startsWith("Encountered issue deserializing link with key: self"));
+        }
+
+        ObjectMapper unvalidatedObjectMapper = new ObjectMapper();
+        unvalidatedObjectMapper.registerModule(new JsonApiModule(TypeWithABoolean.class).disableLinkValidation());
+        jsonApiEnvelope = unvalidatedObjectMapper.readValue(relativeJson, JsonApiEnvelope.class);
+        Assert.assertEquals("/booleans/1", jsonApiEnvelope.getLinks().get("self").getHref());
+    }
+
+    @Test
+    public void deserializeDeepRelationshipChainTest() throws Exception {
+        // Init Test Objects (a 100k node linked list, every node linking to the next) //
+        int nodeCount = 100000;
+        StringBuilder json = new StringBuilder("{\"data\":");
+        for(int i = 0; i < nodeCount; i++) {
+            json.append(i == 1 ? ",\"included\":[" : i > 1 ? "," : "");
+            json.append("{\"type\":\"node\",\"id\":\"").append(i).append("\"");
+            if(i + 1 < nodeCount) {
+                json.append(",\"relationships\":{\"link\":{\"data\":{\"type\":\"node\",\"id\":\"")
+                        .append(i + 1).append("\"}}}");
+            }
+            json.append("}");
+        }
+        json.append("]}");
+
+        // Deserialize and Verify //
+        JsonApiEnvelope<SingleLinkNode> jsonApiEnvelope =
+                objectMapper.readValue(json.toString(), JsonApiEnvelope.class);
+        SingleLinkNode node = jsonApiEnvelope.getData();
+        for(long i = 0; i < nodeCount; i++) {
+            Assert.assertEquals(Long.valueOf(i), node.getId());
+            node = node.getLinkNode();
+        }
+        Assert.assertNull(node);
+    }
+
 }
@@ -0,0 +1,67 @@
+package test.com.cradlepoint.jsonapiary;
+
+import com.cradlepoint.jsonapiary.deserializers.helpers.ResourceIndex;
+import com.cradlepoint.jsonapiary.deserializers.helpers.ResourceKey;
+import com.cradlepoint.jsonapiary.types.ResourceLinkage;
+import org.junit.Assert;
+import org.junit.Test;
+import test.com.cradlepoint.jsonapiary.pojos.SimpleObject;
+import test.com.cradlepoint.jsonapiary.pojos.SingleLinkNode;
+
+public class ResourceIndexTests {
+
+    /////////////////
+    // Constructor //
+    /////////////////
+
+    public ResourceIndexTests() { }
+
+    ///////////
+    // Tests //
+    ///////////
+
+    @Test
+    public void collidingKeysAreNotEqualTest() throws Exception {
+        // "Aa" and "BB" share a String hash code //
+        ResourceKey aa = ResourceKey.of(SimpleObject.class, "Aa");
+        ResourceKey bb = ResourceKey.of(SimpleObject.class, "BB");
+        Assert.assertEquals(aa.hashCode(), bb.hashCode());
+        Assert.assertNotEquals(aa, bb);
+
+        ResourceIndex resourceIndex = new ResourceIndex();
+        resourceIndex.putIfAbsent(aa, "first");
+        resourceIndex.putIfAbsent(bb, "second");
+        Assert.assertEquals("first", resourceIndex.get(ResourceKey.of(SimpleObject.class, "Aa")));
+        Assert.assertEquals("second", resourceIndex.get(ResourceKey.of(SimpleObject.class, "BB")));
+
+        Assert.assertNotEquals(new ResourceLinkage("Aa", SimpleObject.class), new ResourceLinkage("BB", SimpleObject.class));
+    }
+
+    @Test
+    public void keyEqualityTest() throws Exception {
+        Assert.assertEquals(ResourceKey.of(SimpleObject.class, 7L), ResourceKey.of(SimpleObject.class, (Object) 7L));
+        Assert.assertEquals(ResourceKey.of(SimpleObject.class, 7), ResourceKey.of(SimpleObject.class, (Object) 7));
+        Assert.assertEquals(ResourceKey.of(SimpleObject.class, 7.5d), ResourceKey.of(SimpleObject.class, 7.5d));
+        Assert.assertNotEquals(ResourceKey.of(SimpleObject.class, 7L), ResourceKey.of(SingleLinkNode.class, 7L));
+        Assert.assertNotEquals(ResourceKey.of(SimpleObject.class, 7L), ResourceKey.of(SimpleObject.class, 7));
+        Assert.assertNotEquals(ResourceKey.of(SimpleObject.class, 7L), ResourceKey.of(SimpleObject.class, "7"));
+    }
+
+    @Test
+    public void indexGrowsTest() throws Exception {
+        ResourceIndex resourceIndex = new ResourceIndex(2);
+        for(long id = 0; id < 100000; id++) {
+            Assert.assertEquals(id, resourceIndex.putIfAbsent(ResourceKey.of(SingleLinkNode.class, id), id));
+        }
+
+        Assert.assertEquals(100000, resourceIndex.size());
+        Assert.assertEquals(42L, resourceIndex.putIfAbsent(ResourceKey.of(SingleLinkNode.class, 42L), "duplicate"));
+        for(long id = 0; id < 100000; id++) {
+            Assert.assertEquals(id, resourceIndex.get(ResourceKey.of(SingleLinkNode.class, id)));
+        }
+        Assert.assertNull(resourceIndex.get(ResourceKey.of(SingleLinkNode.class, 100000L)));
+        Assert.assertNull(resourceIndex.get(ResourceKey.of(SimpleObject.class, 42L)));
+        Assert.assertNull(resourceIndex.get(null));
+    }
+
+}
@@ -2,18 +2,24 @@ package test.com.cradlepoint.jsonapiary;
 
 import com.cradlepoint.jsonapiary.JsonApiModule;
 import com.cradlepoint.jsonapiary.envelopes.JsonApiEnvelope;
+import com.cradlepoint.jsonapiary.types.Link;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
 import org.junit.Assert;
 import org.junit.Test;
 import test.com.cradlepoint.jsonapiary.pojos.*;
 
 import java.net.URL;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 
 public class SerializationTests {
 
@@ -35,7 +41,8 @@ public class SerializationTests {
                 SingleLinkNode.class,
                 ABaseClass.class,
                 AChildClass.class,
-                TypeWithALink.class);
+                TypeWithALink.class,
+                TypeWithFormattedAttributes.class);
 
         objectMapper = new ObjectMapper();
         objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
@@ -116,6 +123,579 @@ public class SerializationTests {
                 "}"));
     }
 
+    @Test
+    public void includedDeduplicatedByTypeAndIdTest() throws Exception {
+        // Init Test Objects (distinct instances sharing a type and id are the same JsonAPI resource) //
+        SingleLinkNode singleLinkNode1 = new SingleLinkNode();
+        singleLinkNode1.setId(1l);
+        singleLinkNode1.setValue("one");
+        SingleLinkNode singleLinkNode2 = new SingleLinkNode();
+        singleLinkNode2.setId(2l);
+        singleLinkNode2.setValue("two");
+
+        SingleLinkNode singleLinkNode1Copy = new SingleLinkNode();
+        singleLinkNode1Copy.setId(1l);
+        singleLinkNode1Copy.setValue("one, again");
+        SingleLinkNode singleLinkNode4 = new SingleLinkNode();
+        singleLinkNode4.setId(4l);
+        singleLinkNode4.setValue("four");
+        singleLinkNode4.setLinkNode(singleLinkNode1Copy);
+        SingleLinkNode singleLinkNode4Copy = new SingleLinkNode();
+        singleLinkNode4Copy.setId(4l);
+        singleLinkNode4Copy.setValue("four, again");
+
+        singleLinkNode1.setLinkNode(singleLinkNode4);
+        singleLinkNode2.setLinkNode(singleLinkNode4Copy);
+
+        List<SingleLinkNode> singleLinkNodes = new ArrayList<SingleLinkNode>();
+        singleLinkNodes.add(singleLinkNode1);
+        singleLinkNodes.add(singleLinkNode2);
+
+        // Serialize and Verify //
+        String json = objectMapper.writeValueAsString(new JsonApiEnvelope<List<SingleLinkNode>>(singleLinkNodes));
+        Assert.assertNotNull(json);
+        Assert.assertEquals("{\n" +
+                "  \"data\" : [ {\n" +
+                "    \"id\" : \"1\",\n" +
+                "    \"type\" : \"node\",\n" +
+                "    \"attributes\" : {\n" +
+                "      \"element\" : \"one\"\n" +
+                "    },\n" +
+                "    \"relationships\" : {\n" +
+                "      \"link\" : {\n" +
+                "        \"data\" : {\n" +
+                "          \"id\" : \"4\",\n" +
+                "          \"type\" : \"node\"\n" +
+                "        }\n" +
+                "      }\n" +
+                "    }\n" +
+                "  }, {\n" +
+                "    \"id\" : \"2\",\n" +
+                "    \"type\" : \"node\",\n" +
+                "    \"attributes\" : {\n" +
+                "      \"element\" : \"two\"\n" +
+                "    },\n" +
+                "    \"relationships\" : {\n" +
+                "      \"link\" : {\n" +
+                "        \"data\" : {\n" +
+                "          \"id\" : \"4\",\n" +
+                "          \"type\" : \"node\"\n" +
+                "        }\n" +
+                "      }\n" +
+                "    }\n" +
+                "  } ],\n" +
+                "  \"included\" : [ {\n" +
+                "    \"id\" : \"4\",\n" +
+                "    \"type\" : \"node\",\n" +
+                "    \"attributes\" : {\n" +
+                "      \"element\" : \"four\"\n" +
+                "    },\n" +
+                "    \"relationships\" : {\n" +
+                "      \"link\" : {\n" +
+                "        \"data\" : {\n" +
+                "          \"id\" : \"1\",\n" +
+                "          \"type\" : \"node\"\n" +
+                "        }\n" +
+                "      }\n" +
+                "    }\n" +
+                "  } ]\n" +
+                "}", json);
+    }
+
+    @Test
+    public void sparseFieldsetsOnEnvelopeTest() throws Exception {
+        // Init Test Objects //
+        SingleLinkNode singleLinkNode1 = new SingleLinkNode();
+        singleLinkNode1.setId(1l);
+        singleLinkNode1.setValue("one");
+        SingleLinkNode singleLinkNode2 = new SingleLinkNode();
+        singleLinkNode2.setId(2l);
+        singleLinkNode2.setValue("two");
+        singleLinkNode1.setLinkNode(singleLinkNode2);
+
+        JsonApiEnvelope<SingleLinkNode> jsonApiEnvelope = new JsonApiEnvelope<SingleLinkNode>(singleLinkNode1);
+        jsonApiEnvelope.addFields("node", "link");
+
+        // Serialize and Verify //
+        String json = objectMapper.writeValueAsString(jsonApiEnvelope);
+        Assert.assertNotNull(json);
+        Assert.assertEquals("{\n" +
+                "  \"data\" : {\n" +
+                "    \"id\" : \"1\",\n" +
+                "    \"type\" : \"node\",\n" +
+                "    \"relationships\" : {\n" +
+                "      \"link\" : {\n" +
+                "        \"data\" : {\n" +
+                "          \"id\" : \"2\",\n" +
+                "          \"type\" : \"node\"\n" +
+                "        }\n" +
+                "      }\n" +
+                "    }\n" +
+                "  },\n" +
+                "  \"included\" : [ {\n" +
+                "    \"id\" : \"2\",\n" +
+                "    \"type\" : \"node\",\n" +
+                "    \"relationships\" : { }\n" +
+                "  } ]\n" +
+                "}", json);
+    }
+
+    @Test
+    public void sparseFieldsetsAsWriterAttributeTest() throws Exception {
+        // Init Test Objects //
+        SingleLinkNode singleLinkNode1 = new SingleLinkNode();
+        singleLinkNode1.setId(1l);
+        singleLinkNode1.setValue("one");
+        SingleLinkNode singleLinkNode2 = new SingleLinkNode();
+        singleLinkNode2.setId(2l);
+        singleLinkNode2.setValue("two");
+        singleLinkNode1.setLinkNode(singleLinkNode2);
+
+        Map<String, Set<String>> fieldsets = new HashMap<String, Set<String>>();
+        fieldsets.put("node", Collections.singleton("element"));
+
+        // Serialize and Verify (no relationships, so nothing is included either) //
+        String json = objectMapper.writer()
+                .withAttribute(JsonApiEnvelope.FIELDS_ATTRIBUTE, fieldsets)
+                .writeValueAsString(new JsonApiEnvelope<SingleLinkNode>(singleLinkNode1));
+        Assert.assertNotNull(json);
+        Assert.assertEquals("{\n" +
+                "  \"data\" : {\n" +
+                "    \"id\" : \"1\",\n" +
+                "    \"type\" : \"node\",\n" +
+                "    \"attributes\" : {\n" +
+                "      \"element\" : \"one\"\n" +
+                "    }\n" +
+                "  }\n" +
+                "}", json);
+    }
+
+    @Test
+    public void includePathTest() throws Exception {
+        // Init Test Objects (1 -> 2 -> 3 -> 4 -> 1) //
+        List<SingleLinkNode> singleLinkNodes = createSingleLinkNodeLoop(4);
+
+        JsonApiEnvelope<SingleLinkNode> jsonApiEnvelope = new JsonApiEnvelope<SingleLinkNode>(singleLinkNodes.get(0));
+        jsonApiEnvelope.addInclude("link.link");
+
+        // Serialize and Verify (node 4 is only referenced by its resource linkage) //
+        String json = objectMapper.writeValueAsString(jsonApiEnvelope);
+        Assert.assertNotNull(json);
+        Assert.assertEquals("{\n" +
+                "  \"data\" : {\n" +
+                "    \"id\" : \"1\",\n" +
+                "    \"type\" : \"node\",\n" +
+                "    \"attributes\" : {\n" +
+                "      \"element\" : \"node 1\"\n" +
+                "    },\n" +
+                "    \"relationships\" : {\n" +
+                "      \"link\" : {\n" +
+                "        \"data\" : {\n" +
+                "          \"id\" : \"2\",\n" +
+                "          \"type\" : \"node\"\n" +
+                "        }\n" +
+                "      }\n" +
+                "    }\n" +
+                "  },\n" +
+                "  \"included\" : [ {\n" +
+                "    \"id\" : \"2\",\n" +
+                "    \"type\" : \"node\",\n" +
+                "    \"attributes\" : {\n" +
+                "      \"element\" : \"node 2\"\n" +
+                "    },\n" +
+                "    \"relationships\" : {\n" +
+                "      \"link\" : {\n" +
+                "        \"data\" : {\n" +
+                "          \"id\" : \"3\",\n" +
+                "          \"type\" : \"node\"\n" +
+                "        }\n" +
+                "      }\n" +
+                "    }\n" +
+                "  }, {\n" +
+                "    \"id\" : \"3\",\n" +
+                "    \"type\" : \"node\",\n" +
+                "    \"attributes\" : {\n" +
+                "      \"element\" : \"node 3\"\n" +
+                "    },\n" +
+                "    \"relationships\" : {\n" +
+                "      \"link\" : {\n" +
+                "        \"data\" : {\n" +
+                "          \"id\" : \"4\",\n" +
+                "          \"type\" : \"node\"\n" +
+                "        }\n" +
+                "      }\n" +
+                "    }\n" +
+                "  } ]\n" +
+                "}", json);
+    }
+
+    @Test
+    public void emptyIncludeAsWriterAttributeTest() throws Exception {
+        // Init Test Objects (1 -> 2 -> 3 -> 4 -> 1) //
+        List<SingleLinkNode> singleLinkNodes = createSingleLinkNodeLoop(4);
+
+        // Serialize and Verify //
+        String json = objectMapper.writer()
+                .withAttribute(JsonApiEnvelope.INCLUDE_ATTRIBUTE, "")
+                .writeValueAsString(new JsonApiEnvelope<SingleLinkNode>(singleLinkNodes.get(0)));
+        Assert.assertNotNull(json);
+        Assert.assertEquals("{\n" +
+                "  \"data\" : {\n" +
+                "    \"id\" : \"1\",\n" +
+                "    \"type\" : \"node\",\n" +
+                "    \"attributes\" : {\n" +
+                "      \"element\" : \"node 1\"\n" +
+                "    },\n" +
+                "    \"relationships\" : {\n" +
+                "      \"link\" : {\n" +
+                "        \"data\" : {\n" +
+                "          \"id\" : \"2\",\n" +
+                "          \"type\" : \"node\"\n" +
+                "        }\n" +
+                "      }\n" +
+                "    }\n" +
+                "  }\n" +
+                "}", json);
+    }
+
+    @Test
+    public void includePathReachedTwiceTest() throws Exception {
+        // Init Test Objects (1 -> 2 -> 3 -> 4 -> 1) //
+        List<SingleLinkNode> singleLinkNodes = createSingleLinkNodeLoop(4);
+
+        List<SingleLinkNode> primaryNodes = new ArrayList<SingleLinkNode>();
+        primaryNodes.add(singleLinkNodes.get(0));
+        primaryNodes.add(singleLinkNodes.get(1));
+
+        JsonApiEnvelope<List<SingleLinkNode>> jsonApiEnvelope = new JsonApiEnvelope<List<SingleLinkNode>>(primaryNodes);
+        jsonApiEnvelope.addInclude("link.link");
+
+        // Serialize and Verify (node 2 is primary data, but still expanded along "link.link" from node 1) //
+        String json = objectMapper.writeValueAsString(jsonApiEnvelope);
+        Assert.assertNotNull(json);
+        Assert.assertEquals("{\n" +
+                "  \"data\" : [ {\n" +
+                "    \"id\" : \"1\",\n" +
+                "    \"type\" : \"node\",\n" +
+                "    \"attributes\" : {\n" +
+                "      \"element\" : \"node 1\"\n" +
+                "    },\n" +
+                "    \"relationships\" : {\n" +
+                "      \"link\" : {\n" +
+                "        \"data\" : {\n" +
+                "          \"id\" : \"2\",\n" +
+                "          \"type\" : \"node\"\n" +
+                "        }\n" +
+                "      }\n" +
+                "    }\n" +
+                "  }, {\n" +
+                "    \"id\" : \"2\",\n" +
+                "    \"type\" : \"node\",\n" +
+                "    \"attributes\" : {\n" +
+                "      \"element\" : \"node 2\"\n" +
+                "    },\n" +
+                "    \"relationships\" : {\n" +
+                "      \"link\" : {\n" +
+                "        \"data\" : {\n" +
+                "          \"id\" : \"3\",\n" +
+                "          \"type\" : \"node\"\n" +
+                "        }\n" +
+                "      }\n" +
+                "    }\n" +
+                "  } ],\n" +
+                "  \"included\" : [ {\n" +
+                "    \"id\" : \"3\",\n" +
+                "    \"type\" : \"node\",\n" +
+                "    \"attributes\" : {\n" +
+                "      \"element\" : \"node 3\"\n" +
+                "    },\n" +
+                "    \"relationships\" : {\n" +
+                "      \"link\" : {\n" +
+                "        \"data\" : {\n" +
+                "          \"id\" : \"4\",\n" +
+                "          \"type\" : \"node\"\n" +
+                "        }\n" +
+                "      }\n" +
+                "    }\n" +
+                "  }, {\n" +
+                "    \"id\" : \"4\",\n" +
+                "    \"type\" : \"node\",\n" +
+                "    \"attributes\" : {\n" +
+                "      \"element\" : \"node 4\"\n" +
+                "    },\n" +
+                "    \"relationships\" : {\n" +
+                "      \"link\" : {\n" +
+                "        \"data\" : {\n" +
+                "          \"id\" : \"1\",\n" +
+                "          \"type\" : \"node\"\n" +
+                "        }\n" +
+                "      }\n" +
+                "    }\n" +
+                "  } ]\n" +
+                "}", json);
+    }
+
+    @Test
+    public void streamedPrimaryDataTest() throws Exception {
+        // Init Test Objects (1 -> 2 -> 3 -> 1) //
+        List<SingleLinkNode> singleLinkNodes = createSingleLinkNodeLoop(3);
+
+        // Serialize and Verify (node 2 is referenced before it gets pulled, but still only written out once) //
+        String json = objectMapper.writeValueAsString(
+                new JsonApiEnvelope<Stream<SingleLinkNode>>(singleLinkNodes.stream().limit(2)));
+        Assert.assertNotNull(json);
+        Assert.assertEquals("{\n" +
+                "  \"data\" : [ {\n" +
+                "    \"id\" : \"1\",\n" +
+                "    \"type\" : \"node\",\n" +
+                "    \"attributes\" : {\n" +
+                "      \"element\" : \"node 1\"\n" +
+                "    },\n" +
+                "    \"relationships\" : {\n" +
+                "      \"link\" : {\n" +
+                "        \"data\" : {\n" +
+                "          \"id\" : \"2\",\n" +
+                "          \"type\" : \"node\"\n" +
+                "        }\n" +
+                "      }\n" +
+                "    }\n" +
+                "  }, {\n" +
+                "    \"id\" : \"2\",\n" +
+                "    \"type\" : \"node\",\n" +
+                "    \"attributes\" : {\n" +
+                "      \"element\" : \"node 2\"\n" +
+                "    },\n" +
+                "    \"relationships\" : {\n" +
+                "      \"link\" : {\n" +
+                "        \"data\" : {\n" +
+                "          \"id\" : \"3\",\n" +
+                "          \"type\" : \"node\"\n" +
+                "        }\n" +
+                "      }\n" +
+                "    }\n" +
+                "  } ],\n" +
+                "  \"included\" : [ {\n" +
+                "    \"id\" : \"3\",\n" +
+                "    \"type\" : \"node\",\n" +
+                "    \"attributes\" : {\n" +
+                "      \"element\" : \"node 3\"\n" +
+                "    },\n" +
+                "    \"relationships\" : {\n" +
+                "      \"link\" : {\n" +
+                "        \"data\" : {\n" +
+                "          \"id\" : \"1\",\n" +
+                "          \"type\" : \"node\"\n" +
+                "        }\n" +
+                "      }\n" +
+                "    }\n" +
+                "  } ]\n" +
+                "}", json);
+
+        String iteratorJson = objectMapper.writeValueAsString(
+                new JsonApiEnvelope<Iterator<SingleLinkNode>>(singleLinkNodes.subList(0, 2).iterator()));
+        Assert.assertEquals(json, iteratorJson);
+    }
+
+    @Test
+    public void streamedPrimaryDataStringIdsTest() throws Exception {
+        // Init Test Objects (every related object has a String id, shared by several distinct instances) //
+        List<SimpleObject> simpleObjects = new ArrayList<SimpleObject>();
+        for(int i1 = 0; i1 < 100; i1++) {
+            SimpleSubObject simpleSubObject = new SimpleSubObject();
+            simpleSubObject.setId("sub-" + (i1 % 40));
+            SimpleObject simpleObject = new SimpleObject();
+            simpleObject.setId((long) i1);
+            simpleObject.setThing2(simpleSubObject);
+            simpleObjects.add(simpleObject);
+        }
+
+        // Serialize and Verify (every String id is included once, with and without "include" paths) //
+        for(String include : Arrays.asList(null, "someOtherRelationship")) {
+            JsonApiEnvelope<Iterator<SimpleObject>> jsonApiEnvelope =
+                    new JsonApiEnvelope<Iterator<SimpleObject>>(simpleObjects.iterator());
+            if(include != null) {
+                jsonApiEnvelope.addInclude(include);
+            }
+            JsonNode included = objectMapper.readTree(objectMapper.writeValueAsString(jsonApiEnvelope)).get("included");
+            Assert.assertEquals(40, included.size());
+            Set<String> includedIds = new HashSet<String>();
+            for(JsonNode includedObject : included) {
+                includedIds.add(includedObject.get("id").asText());
+            }
+            Assert.assertEquals(40, includedIds.size());
+        }
+    }
+
+    @Test(expected = JsonMappingException.class)
+    public void streamedPrimaryDataNotJsonApiTest() throws Exception {
+        Iterator<Object> iterator = Arrays.<Object>asList(createSingleLinkNodeLoop(1).get(0), "not JsonAPI").iterator();
+        objectMapper.writeValueAsString(new JsonApiEnvelope<Iterator<Object>>(iterator));
+    }
+
+    @Test(expected = JsonMappingException.class)
+    public void relationshipListNotJsonApiTest() throws Exception {
+        // Init Test Objects (only the first element of the relationship is JsonAPI) //
+        SimpleObject simpleObject = new SimpleObject();
+        simpleObject.setId(1l);
+        List relationship = new ArrayList<Object>(Arrays.asList(new SimpleObject(), "not JsonAPI"));
+        ((SimpleObject) relationship.get(0)).setId(2l);
+        simpleObject.setThing(relationship);
+
+        // Serialize //
+        objectMapper.writeValueAsString(new JsonApiEnvelope<SimpleObject>(simpleObject));
+    }
+
+    @Test
+    public void parallelSerializationMatchesSequentialTest() throws Exception {
+        // Init Test Objects (every third node of a loop is primary data, the two after it end up in "included") //
+        List<SingleLinkNode> singleLinkNodes = createSingleLinkNodeLoop(30);
+        List<SingleLinkNode> data = new ArrayList<SingleLinkNode>();
+        for(int i1 = 0; i1 < singleLinkNodes.size(); i1 += 3) {
+            data.add(singleLinkNodes.get(i1));
+        }
+
+        ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        try {
+            ObjectMapper parallelObjectMapper = new ObjectMapper();
+            parallelObjectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+            parallelObjectMapper.registerModule(
+                    new JsonApiModule(SingleLinkNode.class).enableParallelSerialization(forkJoinPool, 2));
+
+            // Serialize and Verify, pretty printed //
+            String json = objectMapper.writeValueAsString(new JsonApiEnvelope<List<SingleLinkNode>>(data));
+            String parallelJson = parallelObjectMapper.writeValueAsString(new JsonApiEnvelope<List<SingleLinkNode>>(data));
+            Assert.assertEquals(json, parallelJson);
+
+            // Serialize and Verify, compact and with a sparse fieldset //
+            JsonApiEnvelope<List<SingleLinkNode>> jsonApiEnvelope = new JsonApiEnvelope<List<SingleLinkNode>>(data);
+            jsonApiEnvelope.addFields("node", "link");
+            String compactJson = objectMapper.writer()
+                    .without(SerializationFeature.INDENT_OUTPUT)
+                    .writeValueAsString(jsonApiEnvelope);
+            String parallelCompactJson = parallelObjectMapper.writer()
+                    .without(SerializationFeature.INDENT_OUTPUT)
+                    .writeValueAsString(jsonApiEnvelope);
+            Assert.assertEquals(compactJson, parallelCompactJson);
+            Assert.assertFalse(parallelCompactJson.contains("element"));
+        } finally {
+            forkJoinPool.shutdown();
+        }
+    }
+
+    @Test
+    public void parallelSerializationIntoTreeTest() throws Exception {
+        // Init Test Objects //
+        List<SingleLinkNode> data = createSingleLinkNodeLoop(10);
+
+        ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        try {
+            ObjectMapper parallelObjectMapper = new ObjectMapper();
+            parallelObjectMapper.registerModule(
+                    new JsonApiModule(SingleLinkNode.class).enableParallelSerialization(forkJoinPool, 2));
+
+            // Serialize into a tree (through a TokenBuffer) and Verify: no chunks of raw json end up in it //
+            JsonNode tree = parallelObjectMapper.valueToTree(new JsonApiEnvelope<List<SingleLinkNode>>(data));
+            Assert.assertEquals(data.size(), tree.get("data").size());
+            for(JsonNode resource : tree.get("data")) {
+                Assert.assertTrue(resource.isObject());
+            }
+            Assert.assertEquals(
+                    objectMapper.readTree(objectMapper.writeValueAsString(new JsonApiEnvelope<List<SingleLinkNode>>(data))),
+                    tree);
+        } finally {
+            forkJoinPool.shutdown();
+        }
+    }
+
+    @Test
+    public void typedEnvelopeSerializationTest() throws Exception {
+        // Init Test Objects (1 -> 2 -> 3 -> 4 -> 1) //
+        List<SingleLinkNode> singleLinkNodes = createSingleLinkNodeLoop(4);
+        TypeReference<JsonApiEnvelope<List<SingleLinkNode>>> listType =
+                new TypeReference<JsonApiEnvelope<List<SingleLinkNode>>>() { };
+        TypeReference<JsonApiEnvelope<SingleLinkNode>> singleType =
+                new TypeReference<JsonApiEnvelope<SingleLinkNode>>() { };
+
+        // Envelopes of a known data type get serializers of their own //
+        SerializerProvider serializerProvider = objectMapper.getSerializerProviderInstance();
+        JsonSerializer<Object> envelopeSerializer = serializerProvider.findValueSerializer(JsonApiEnvelope.class);
+        Assert.assertNotSame(
+                envelopeSerializer,
+                serializerProvider.findValueSerializer(objectMapper.getTypeFactory().constructType(listType)));
+
+        // Serialize and Verify, a List of resources //
+        JsonApiEnvelope<List<SingleLinkNode>> listEnvelope =
+                new JsonApiEnvelope<List<SingleLinkNode>>(singleLinkNodes.subList(0, 2));
+        Assert.assertEquals(
+                objectMapper.writeValueAsString(listEnvelope),
+                objectMapper.writerFor(listType).writeValueAsString(listEnvelope));
+
+        // Serialize and Verify, a single resource //
+        JsonApiEnvelope<SingleLinkNode> singleEnvelope = new JsonApiEnvelope<SingleLinkNode>(singleLinkNodes.get(0));
+        Assert.assertEquals(
+                objectMapper.writeValueAsString(singleEnvelope),
+                objectMapper.writerFor(singleType).writeValueAsString(singleEnvelope));
+    }
+
+    @Test
+    public void beanAttributesMatchReflectiveTest() throws Exception {
+        // Init Test Objects //
+        List<SingleLinkNode> singleLinkNodes = createSingleLinkNodeLoop(4);
+        SimpleObject simpleObject = new SimpleObject(3);
+        TypeWithFormattedAttributes formatted = new TypeWithFormattedAttributes();
+        formatted.setId(1l);
+        formatted.setSerial(12345678901l);
+        formatted.setCreated(new Date(0l));
+        formatted.setAnything(Arrays.asList(1, 2));
+
+        ObjectMapper beanObjectMapper = new ObjectMapper();
+        beanObjectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+        beanObjectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        beanObjectMapper.registerModule(new JsonApiModule(
+                SimpleObject.class,
+                SimpleSubObject.class,
+                SingleLinkNode.class,
+                TypeWithFormattedAttributes.class).enableBeanAttributes());
+
+        // Serialize and Verify (attributes renamed, ordered and formatted as they are reflectively) //
+        Assert.assertEquals(
+                objectMapper.writeValueAsString(new JsonApiEnvelope<List<SingleLinkNode>>(singleLinkNodes)),
+                beanObjectMapper.writeValueAsString(new JsonApiEnvelope<List<SingleLinkNode>>(singleLinkNodes)));
+        Assert.assertEquals(
+                objectMapper.writeValueAsString(new JsonApiEnvelope<SimpleObject>(simpleObject)),
+                beanObjectMapper.writeValueAsString(new JsonApiEnvelope<SimpleObject>(simpleObject)));
+        Assert.assertEquals(
+                objectMapper.writeValueAsString(new JsonApiEnvelope<TypeWithFormattedAttributes>(formatted)),
+                beanObjectMapper.writeValueAsString(new JsonApiEnvelope<TypeWithFormattedAttributes>(formatted)));
+
+        // Null attributes follow the type's Jackson inclusion rules //
+        formatted.setCreated(null);
+        String json = beanObjectMapper.writer()
+                .without(SerializationFeature.INDENT_OUTPUT)
+                .writeValueAsString(new JsonApiEnvelope<TypeWithFormattedAttributes>(formatted));
+        Assert.assertTrue(json.contains("\"created\":null"));
+
+        // Deserialize and Verify //
+        String simpleJson = beanObjectMapper.writeValueAsString(new JsonApiEnvelope<SimpleObject>(simpleObject));
+        JsonApiEnvelope<SimpleObject> deserialized = beanObjectMapper.readValue(simpleJson, JsonApiEnvelope.class);
+        Assert.assertEquals(simpleObject.getId(), deserialized.getData().getId());
+        Assert.assertEquals(simpleObject.getAttribute(), deserialized.getData().getAttribute());
+
+        // Only attribute members are bound from the "attributes" object //
+        JsonApiEnvelope<SimpleObject> notAnAttribute = beanObjectMapper.readValue("{\n" +
+                "  \"data\" : {\n" +
+                "    \"type\" : \"SimpleObject\",\n" +
+                "    \"id\" : \"7\",\n" +
+                "    \"attributes\" : {\n" +
+                "      \"objectId\" : 8,\n" +
+                "      \"objectAttribute\" : \"attribute\"\n" +
+                "    }\n" +
+                "  }\n" +
+                "}", JsonApiEnvelope.class);
+        Assert.assertEquals(Long.valueOf(7l), notAnAttribute.getData().getId());
+        Assert.assertEquals("attribute", notAnAttribute.getData().getAttribute());
+    }
+
     @Test
     public void complexRelationshipSerializationTest() throws Exception {
         SimpleNestedSubObject simpleNestedSubObject = new SimpleNestedSubObject();
@@ -206,21 +786,6 @@ public class SerializationTests {
                 "      }\n" +
                 "    }\n" +
                 "  }, {\n" +
-                "    \"id\" : \"54321\",\n" +
-                "    \"type\" : \"SimpleNestedSubObject\",\n" +
-                "    \"attributes\" : {\n" +
-                "      \"aNestedTHING\" : \"qwerty\"\n" +
-                "    },\n" +
-                "    \"meta\" : {\n" +
-                "      \"SOMEmetaSIMPLEobjectttttt\" : {\n" +
-                "        \"objectId\" : 4567,\n" +
-                "        \"objectAttribute\" : \"simpleObject2\",\n" +
-                "        \"ignoredThing\" : \"THIS SHOULDN'T BE HERE\",\n" +
-                "        \"objectBlah\" : \"blah!\",\n" +
-                "        \"catchAllThing\" : \"this should ahve been caught\"\n" +
-                "      }\n" +
-                "    }\n" +
-                "  }, {\n" +
                 "    \"id\" : \"1\",\n" +
                 "    \"type\" : \"SimpleNestedSubObject\",\n" +
                 "    \"attributes\" : {\n" +
@@ -276,6 +841,21 @@ public class SerializationTests {
                 "      \"aNestedTHING\" : \"Loooooooogan #9\"\n" +
                 "    },\n" +
                 "    \"meta\" : { }\n" +
+                "  }, {\n" +
+                "    \"id\" : \"54321\",\n" +
+                "    \"type\" : \"SimpleNestedSubObject\",\n" +
+                "    \"attributes\" : {\n" +
+                "      \"aNestedTHING\" : \"qwerty\"\n" +
+                "    },\n" +
+                "    \"meta\" : {\n" +
+                "      \"SOMEmetaSIMPLEobjectttttt\" : {\n" +
+                "        \"objectId\" : 4567,\n" +
+                "        \"objectAttribute\" : \"simpleObject2\",\n" +
+                "        \"ignoredThing\" : \"THIS SHOULDN'T BE HERE\",\n" +
+                "        \"objectBlah\" : \"blah!\",\n" +
+                "        \"catchAllThing\" : \"this should ahve been caught\"\n" +
+                "      }\n" +
+                "    }\n" +
                 "  } ]\n" +
                 "}"));
     }
@@ -529,6 +1109,41 @@ public class SerializationTests {
                 "}"));
     }
 
+    @Test
+    public void attributeJacksonAnnotationsTest() throws Exception {
+        // Init Test Objects (a polymorphic attribute takes a different type on every object) //
+        TypeWithFormattedAttributes first = new TypeWithFormattedAttributes();
+        first.setId(1l);
+        first.setSerial(12345678901l);
+        first.setCreated(new Date(0l));
+        first.setAnything(Arrays.asList(1, 2));
+        TypeWithFormattedAttributes second = new TypeWithFormattedAttributes();
+        second.setId(2l);
+        second.setAnything("two");
+
+        // Serialize and Verify (@JsonSerialize and @JsonFormat on the members apply) //
+        String json = objectMapper.writeValueAsString(
+                new JsonApiEnvelope<List<TypeWithFormattedAttributes>>(Arrays.asList(first, second)));
+        Assert.assertNotNull(json);
+        Assert.assertEquals("{\n" +
+                "  \"data\" : [ {\n" +
+                "    \"id\" : \"1\",\n" +
+                "    \"type\" : \"formatted\",\n" +
+                "    \"attributes\" : {\n" +
+                "      \"anything\" : [ 1, 2 ],\n" +
+                "      \"created\" : \"1970-01-01\",\n" +
+                "      \"serial\" : \"12345678901\"\n" +
+                "    }\n" +
+                "  }, {\n" +
+                "    \"id\" : \"2\",\n" +
+                "    \"type\" : \"formatted\",\n" +
+                "    \"attributes\" : {\n" +
+                "      \"anything\" : \"two\"\n" +
+                "    }\n" +
+                "  } ]\n" +
+                "}", json);
+    }
+
     @Test
     public void listOfObjectsWithIncludedsTest() throws Exception {
         // Init Test Objects //
@@ -624,10 +1239,10 @@ public class SerializationTests {
                 "    }\n" +
                 "  } ],\n" +
                 "  \"included\" : [ {\n" +
-                "    \"id\" : \"Object Number 3\",\n" +
+                "    \"id\" : \"Object Number 0\",\n" +
                 "    \"type\" : \"TypeOverride\",\n" +
                 "    \"attributes\" : {\n" +
-                "      \"BAZ\" : \"Baz 9\"\n" +
+                "      \"BAZ\" : \"Baz 0\"\n" +
                 "    },\n" +
                 "    \"relationships\" : {\n" +
                 "      \"NESTEDnestedNESTED\" : {\n" +
@@ -635,10 +1250,10 @@ public class SerializationTests {
                 "      }\n" +
                 "    }\n" +
                 "  }, {\n" +
-                "    \"id\" : \"Object Number 2\",\n" +
+                "    \"id\" : \"Object Number 1\",\n" +
                 "    \"type\" : \"TypeOverride\",\n" +
                 "    \"attributes\" : {\n" +
-                "      \"BAZ\" : \"Baz 4\"\n" +
+                "      \"BAZ\" : \"Baz 1\"\n" +
                 "    },\n" +
                 "    \"relationships\" : {\n" +
                 "      \"NESTEDnestedNESTED\" : {\n" +
@@ -646,10 +1261,10 @@ public class SerializationTests {
                 "      }\n" +
                 "    }\n" +
                 "  }, {\n" +
-                "    \"id\" : \"Object Number 0\",\n" +
+                "    \"id\" : \"Object Number 2\",\n" +
                 "    \"type\" : \"TypeOverride\",\n" +
                 "    \"attributes\" : {\n" +
-                "      \"BAZ\" : \"Baz 0\"\n" +
+                "      \"BAZ\" : \"Baz 4\"\n" +
                 "    },\n" +
                 "    \"relationships\" : {\n" +
                 "      \"NESTEDnestedNESTED\" : {\n" +
@@ -657,10 +1272,10 @@ public class SerializationTests {
                 "      }\n" +
                 "    }\n" +
                 "  }, {\n" +
-                "    \"id\" : \"Object Number 1\",\n" +
+                "    \"id\" : \"Object Number 3\",\n" +
                 "    \"type\" : \"TypeOverride\",\n" +
                 "    \"attributes\" : {\n" +
-                "      \"BAZ\" : \"Baz 1\"\n" +
+                "      \"BAZ\" : \"Baz 9\"\n" +
                 "    },\n" +
                 "    \"relationships\" : {\n" +
                 "      \"NESTEDnestedNESTED\" : {\n" +
@@ -747,6 +1362,118 @@ public class SerializationTests {
         String json = objectMapper.writeValueAsString(new JsonApiEnvelope<TypeWithALink>(typeWithALink));
     }
 
+    @Test
+    public void typeWithLinkObjectTest() throws Exception {
+        // Init Test Objects //
+        TypeWithALink typeWithALink = new TypeWithALink();
+        typeWithALink.setId("abcd-efgh-ijkl-mnop");
+        typeWithALink.setLink(new Link("https://cradlepoint.com/").withMeta("count", 10));
+
+        JsonApiEnvelope<TypeWithALink> jsonApiEnvelope = new JsonApiEnvelope<TypeWithALink>(typeWithALink);
+        jsonApiEnvelope.addLink("self", "/things/abcd-efgh-ijkl-mnop");
+
+        // Serialize and Verify (links with meta are written as link objects) //
+        String json = objectMapper.writeValueAsString(jsonApiEnvelope);
+        Assert.assertEquals("{\n" +
+                "  \"data\" : {\n" +
+                "    \"id\" : \"abcd-efgh-ijkl-mnop\",\n" +
+                "    \"type\" : \"LoganWasHere\",\n" +
+                "    \"links\" : {\n" +
+                "      \"LinkForLogan\" : {\n" +
+                "        \"href\" : \"https://cradlepoint.com/\",\n" +
+                "        \"meta\" : {\n" +
+                "          \"count\" : 10\n" +
+                "        }\n" +
+                "      }\n" +
+                "    }\n" +
+                "  },\n" +
+                "  \"links\" : {\n" +
+                "    \"self\" : \"/things/abcd-efgh-ijkl-mnop\"\n" +
+                "  }\n" +
+                "}", json);
+    }
+
+    @Test
+    public void typeWithLinkValidationDisabledTest() throws Exception {
+        // Init Test Objects //
+        TypeWithALink typeWithALink = new TypeWithALink();
+        typeWithALink.setId("abcd-efgh-ijkl-mnop");
+        typeWithALink.setLink("things/abcd-efgh-ijkl-mnop");
+
+        ObjectMapper unvalidatedObjectMapper = new ObjectMapper();
+        unvalidatedObjectMapper.registerModule(new JsonApiModule(TypeWithALink.class).disableLinkValidation());
+
+        // Serialize and Verify (relative links are written out as they are) //
+        String json = unvalidatedObjectMapper.writeValueAsString(new JsonApiEnvelope<TypeWithALink>(typeWithALink));
+        Assert.assertTrue(json.contains("\"links\":{\"LinkForLogan\":\"things/abcd-efgh-ijkl-mnop\"}"));
+    }
+
+    @Test
+    public void typeWithLinkTemplateTest() throws Exception {
+        // Init Test Objects //
+        TypeWithALink owner = new TypeWithALink();
+        owner.setId("abcd-efgh-ijkl-mnop");
+
+        TypeWithALinkTemplate peer = new TypeWithALinkTemplate();
+        peer.setId(-8l);
+        peer.setName("peer");
+
+        TypeWithALinkTemplate device = new TypeWithALinkTemplate();
+        device.setId(7l);
+        device.setName("device");
+        device.setOwner(owner);
+        device.setPeers(Arrays.asList(peer));
+
+        ObjectMapper templatedObjectMapper = new ObjectMapper();
+        templatedObjectMapper.registerModule(new JsonApiModule(TypeWithALinkTemplate.class, TypeWithALink.class)
+                .withLinkBaseUrl("https://api.example.com/"));
+
+        // Serialize and Verify //
+        String json = templatedObjectMapper.writeValueAsString(new JsonApiEnvelope<TypeWithALinkTemplate>(device));
+        Assert.assertTrue(json.contains("\"id\":\"7\",\"type\":\"devices\",\"attributes\":{\"name\":\"device\"}," +
+                "\"links\":{\"self\":\"https://api.example.com/devices/7\"}"));
+        Assert.assertTrue(json.contains("\"owner\":{\"data\":{\"id\":\"abcd-efgh-ijkl-mnop\",\"type\":\"LoganWasHere\"}," +
+                "\"links\":{\"self\":\"https://api.example.com/devices/7/relationships/owner\"," +
+                "\"related\":\"https://api.example.com/devices/7/owner\"}}"));
+        Assert.assertTrue(json.contains("\"peers\":{\"data\":[{\"id\":\"-8\",\"type\":\"devices\"}]," +
+                "\"links\":{\"self\":\"https://api.example.com/devices/7/relationships/peers\"," +
+                "\"related\":\"https://api.example.com/devices/7/peers\"}}"));
+        Assert.assertTrue(json.contains("\"links\":{\"self\":\"https://api.example.com/devices/-8\"}"));
+
+        // Types without a template (and their relationships) get no templated links //
+        Assert.assertFalse(json.contains("LoganWasHere/"));
+    }
+
+    @Test
+    public void typeWithLinkTemplateRelatedSelfLinkTest() throws Exception {
+        // Init Test Objects //
+        TypeWithASelfLink manager = new TypeWithASelfLink();
+        manager.setId("m/1");
+        manager.setSelf("https://api.example.com/managers/m%2F1");
+
+        TypeWithALinkTemplate device = new TypeWithALinkTemplate();
+        device.setId(7l);
+        device.setName("device");
+        device.setManager(manager);
+
+        ObjectMapper templatedObjectMapper = new ObjectMapper();
+        templatedObjectMapper.registerModule(new JsonApiModule(TypeWithALinkTemplate.class, TypeWithASelfLink.class)
+                .withLinkBaseUrl("https://api.example.com/"));
+
+        // Serialize and Verify //
+        String json = templatedObjectMapper.writeValueAsString(new JsonApiEnvelope<TypeWithALinkTemplate>(device));
+        Assert.assertTrue(json.contains("\"line manager\":{\"data\":{\"id\":\"m/1\",\"type\":\"managers\"}," +
+                "\"links\":{\"self\":\"https://api.example.com/devices/7/relationships/line%20manager\"," +
+                "\"related\":\"https://api.example.com/devices/7/line%20manager\"}}"));
+
+        // The related resource's own "self" link is only written out with the resource itself //
+        Assert.assertTrue(json.contains("\"included\":[{\"id\":\"m/1\",\"type\":\"managers\"," +
+                "\"links\":{\"self\":\"https://api.example.com/managers/m%2F1\"}}]"));
+        Assert.assertEquals(json.indexOf("managers/m%2F1"), json.lastIndexOf("managers/m%2F1"));
+        templatedObjectMapper.readTree(templatedObjectMapper.getFactory().createParser(json)
+                .enable(JsonParser.Feature.STRICT_DUPLICATE_DETECTION));
+    }
+
     @Test
     public void readmeTest() throws Exception {
         // Init Test Objects //
@@ -826,4 +1553,22 @@ public class SerializationTests {
                 "}"));
     }
 
+    /////////////////////
+    // Private Methods //
+    /////////////////////
+
+    private static List<SingleLinkNode> createSingleLinkNodeLoop(int size) {
+        List<SingleLinkNode> singleLinkNodes = new ArrayList<SingleLinkNode>();
+        for(int i1 = 1; i1 <= size; i1++) {
+            SingleLinkNode singleLinkNode = new SingleLinkNode();
+            singleLinkNode.setId((long) i1);
+            singleLinkNode.setValue("node " + i1);
+            singleLinkNodes.add(singleLinkNode);
+        }
+        for(int i1 = 0; i1 < size; i1++) {
+            singleLinkNodes.get(i1).setLinkNode(singleLinkNodes.get((i1 + 1) % size));
+        }
+        return singleLinkNodes;
+    }
+
 }
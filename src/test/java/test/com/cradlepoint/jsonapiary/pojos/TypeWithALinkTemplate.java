@@ -0,0 +1,84 @@
+package test.com.cradlepoint.jsonapiary.pojos;
+
+import com.cradlepoint.jsonapiary.annotations.JsonApiAttribute;
+import com.cradlepoint.jsonapiary.annotations.JsonApiId;
+import com.cradlepoint.jsonapiary.annotations.JsonApiLink;
+import com.cradlepoint.jsonapiary.annotations.JsonApiRelationship;
+import com.cradlepoint.jsonapiary.annotations.JsonApiType;
+
+import java.util.List;
+
+@JsonApiType("devices")
+@JsonApiLink(template = "/{type}/{id}")
+public class TypeWithALinkTemplate {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    @JsonApiId
+    private Long id;
+
+    @JsonApiAttribute
+    private String name;
+
+    @JsonApiRelationship
+    private TypeWithALink owner;
+
+    @JsonApiRelationship
+    private List<TypeWithALinkTemplate> peers;
+
+    @JsonApiRelationship("line manager")
+    private TypeWithASelfLink manager;
+
+    /////////////////
+    // Constructor //
+    /////////////////
+
+    public TypeWithALinkTemplate() { }
+
+    /////////////////////////
+    // Getters and Setters //
+    /////////////////////////
+
+    public Long getId() {
+        return this.id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public TypeWithALink getOwner() {
+        return this.owner;
+    }
+
+    public void setOwner(TypeWithALink owner) {
+        this.owner = owner;
+    }
+
+    public List<TypeWithALinkTemplate> getPeers() {
+        return this.peers;
+    }
+
+    public void setPeers(List<TypeWithALinkTemplate> peers) {
+        this.peers = peers;
+    }
+
+    public TypeWithASelfLink getManager() {
+        return this.manager;
+    }
+
+    public void setManager(TypeWithASelfLink manager) {
+        this.manager = manager;
+    }
+
+}
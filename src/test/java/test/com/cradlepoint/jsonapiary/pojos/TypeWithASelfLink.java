@@ -0,0 +1,46 @@
+package test.com.cradlepoint.jsonapiary.pojos;
+
+import com.cradlepoint.jsonapiary.annotations.JsonApiId;
+import com.cradlepoint.jsonapiary.annotations.JsonApiLink;
+import com.cradlepoint.jsonapiary.annotations.JsonApiType;
+
+@JsonApiType("managers")
+public class TypeWithASelfLink {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    @JsonApiId
+    private String id;
+
+    @JsonApiLink("self")
+    private String self;
+
+    /////////////////
+    // Constructor //
+    /////////////////
+
+    public TypeWithASelfLink() { }
+
+    /////////////////////////
+    // Getters and Setters //
+    /////////////////////////
+
+    public String getId() {
+        return this.id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getSelf() {
+        return this.self;
+    }
+
+    public void setSelf(String self) {
+        this.self = self;
+    }
+
+}
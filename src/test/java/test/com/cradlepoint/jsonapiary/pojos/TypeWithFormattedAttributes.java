@@ -0,0 +1,75 @@
+package test.com.cradlepoint.jsonapiary.pojos;
+
+import com.cradlepoint.jsonapiary.annotations.JsonApiAttribute;
+import com.cradlepoint.jsonapiary.annotations.JsonApiId;
+import com.cradlepoint.jsonapiary.annotations.JsonApiType;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+import java.util.Date;
+
+@JsonApiType("formatted")
+public class TypeWithFormattedAttributes {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    @JsonApiId
+    private Long id;
+
+    @JsonApiAttribute
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long serial;
+
+    @JsonApiAttribute
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd", timezone = "UTC")
+    private Date created;
+
+    @JsonApiAttribute
+    private Object anything;
+
+    /////////////////
+    // Constructor //
+    /////////////////
+
+    public TypeWithFormattedAttributes() { }
+
+    /////////////////////////
+    // Getters and Setters //
+    /////////////////////////
+
+    public Long getId() {
+        return this.id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getSerial() {
+        return this.serial;
+    }
+
+    public void setSerial(Long serial) {
+        this.serial = serial;
+    }
+
+    public Date getCreated() {
+        return this.created;
+    }
+
+    public void setCreated(Date created) {
+        this.created = created;
+    }
+
+    public Object getAnything() {
+        return this.anything;
+    }
+
+    public void setAnything(Object anything) {
+        this.anything = anything;
+    }
+
+}
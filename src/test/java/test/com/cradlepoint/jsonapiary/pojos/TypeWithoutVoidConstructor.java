@@ -0,0 +1,49 @@
+package test.com.cradlepoint.jsonapiary.pojos;
+
+import com.cradlepoint.jsonapiary.annotations.JsonApiAttribute;
+import com.cradlepoint.jsonapiary.annotations.JsonApiId;
+import com.cradlepoint.jsonapiary.annotations.JsonApiType;
+
+@JsonApiType("noVoidConstructor")
+public class TypeWithoutVoidConstructor {
+
+    ////////////////
+    // Attributes //
+    ////////////////
+
+    @JsonApiId
+    private String id;
+
+    @JsonApiAttribute
+    private String name;
+
+    /////////////////
+    // Constructor //
+    /////////////////
+
+    public TypeWithoutVoidConstructor(String id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    /////////////////////////
+    // Getters and Setters //
+    /////////////////////////
+
+    public String getId() {
+        return this.id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+}